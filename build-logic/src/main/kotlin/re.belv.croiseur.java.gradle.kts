@@ -47,6 +47,13 @@ tasks.withType<Test> {
     reports {
         html.required = false
     }
+    // Keep the caches of the tested code out of user home, and start each run with empty caches
+    val cacheDir = layout.buildDirectory.dir("tmp/$name/cache").get().asFile
+    systemProperty("re.belv.croiseur.dictionary.hunspell.cache.path", cacheDir.resolve("hunspell").path)
+    systemProperty("re.belv.croiseur.dictionary.catalogue.path", cacheDir.resolve("catalogue").path)
+    doFirst {
+        cacheDir.deleteRecursively()
+    }
 }
 
 tasks.jacocoTestReport {
@@ -32,6 +32,11 @@ tasks.test {
 tasks.nativeTest {
     runtimeArgs.add("-Dre.belv.croiseur.dictionary.path=${resolvedDicPath()}")
     runtimeArgs.add("-Dre.belv.croiseur.puzzle.path=${testRepoPath()}")
+    runtimeArgs.add("-Dre.belv.croiseur.dictionary.hunspell.cache.path=${nativeTestCachePath("hunspell")}")
+    runtimeArgs.add("-Dre.belv.croiseur.dictionary.catalogue.path=${nativeTestCachePath("catalogue")}")
+    doFirst {
+        File(nativeTestCachePath("")).deleteRecursively()
+    }
 }
 
 fun resolvedDicPath(): String {
@@ -42,4 +47,9 @@ fun testRepoPath(): String {
     val tempDir = Files.createTempDirectory("croiseur_test_repo_").toFile()
     tempDir.deleteOnExit()
     return tempDir.path
-}
\ No newline at end of file
+}
+
+/** Returns the given cache directory of native tests, under the build directory. */
+fun nativeTestCachePath(cache: String): String {
+    return layout.buildDirectory.dir("tmp/nativeTest/cache/$cache").get().asFile.path
+}
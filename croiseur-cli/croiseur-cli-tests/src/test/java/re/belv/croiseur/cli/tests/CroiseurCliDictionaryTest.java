@@ -19,6 +19,7 @@ final class CroiseurCliDictionaryTest extends FluentTestHelper {
                          List and print available dictionaries
 
                          Commands:
+                           anagrams        Display dictionary entries made of given letters
                            cat             Display dictionary entries
                            get-default     Return the default dictionary
                            grep, search    Display dictionary entries which match a given pattern
@@ -27,14 +28,31 @@ final class CroiseurCliDictionaryTest extends FluentTestHelper {
                          """).and().exitsWithCode(INPUT_ERROR);
     }
 
+    @Test
+    void dictionaryAnagramsUkacd() {
+        whenOneRunsCli("dictionary", "anagrams", "Local Text Provider:The UK Advanced Cryptics Dictionary", "LISTEN");
+        thenCli().writesToStdOut("""
+                         ENLIST
+                         INLETS
+                         LETSIN
+                         LISTEN
+                         SILENT
+                         TINSEL
+                         """).and().doesNotWriteToStdErr().and().exitsWithCode(SUCCESS);
+    }
+
     @Test
     void dictionaryCat() {
         whenOneRunsCli("dictionary", "cat");
         thenCli().doesNotWriteToStdOut().and().writesToStdErr("""
                          Missing required parameter: 'PROVIDER:DICTIONARY'
-                         Usage: croiseur-cli dictionary cat PROVIDER:DICTIONARY
+                         Usage: croiseur-cli dictionary cat [-l=LENGTH] [-n=COUNT] [-o=COUNT] PROVIDER:
+                                                            DICTIONARY
                          Display dictionary entries
                                PROVIDER:DICTIONARY   The identifier of the dictionary to display
+                           -l, --length=LENGTH       Display only the entries of this length
+                           -n, --limit=COUNT         The maximal number of entries to display
+                           -o, --offset=COUNT        The number of entries to skip
                          """).and().exitsWithCode(INPUT_ERROR);
     }
 
@@ -58,6 +76,37 @@ final class CroiseurCliDictionaryTest extends FluentTestHelper {
                 .exitsWithCode(SUCCESS);
     }
 
+    @Test
+    void dictionaryCatPage() {
+        whenOneRunsCli(
+                "dictionary",
+                "cat",
+                "Local Text Provider:The UK Advanced Cryptics Dictionary",
+                "--length",
+                "5",
+                "--offset",
+                "2",
+                "--limit",
+                "3");
+        thenCli().writesToStdOut("""
+                         ABACA
+                         ABACI
+                         ABACK
+                         """).and().doesNotWriteToStdErr().and().exitsWithCode(SUCCESS);
+    }
+
+    @Test
+    void dictionaryCatNegativeOffset() {
+        whenOneRunsCli(
+                "dictionary", "cat", "Local Text Provider:The UK Advanced Cryptics Dictionary", "--offset", "-1");
+        thenCli()
+                .doesNotWriteToStdOut()
+                .and()
+                .writes(toStdErr().startingWith("Invalid value for option '--offset': Invalid negative value: -1\n"))
+                .and()
+                .exitsWithCode(INPUT_ERROR);
+    }
+
     @Test
     void dictionaryCatUnknown() {
         whenOneRunsCli("dictionary", "cat", "unknown:unknown");
@@ -69,6 +118,45 @@ final class CroiseurCliDictionaryTest extends FluentTestHelper {
                 .exitsWithCode(APPLICATIVE_ERROR);
     }
 
+    @Test
+    void dictionaryGrepNegativeLimit() {
+        whenOneRunsCli(
+                "dictionary",
+                "grep",
+                "Local Text Provider:The UK Advanced Cryptics Dictionary",
+                "AARD.*",
+                "--limit",
+                "-1");
+        thenCli()
+                .doesNotWriteToStdOut()
+                .and()
+                .writes(toStdErr().startingWith("Invalid value for option '--limit': Invalid negative value: -1\n"))
+                .and()
+                .exitsWithCode(INPUT_ERROR);
+    }
+
+    @Test
+    void dictionaryGrepPage() {
+        whenOneRunsCli(
+                "dictionary",
+                "grep",
+                "Local Text Provider:The UK Advanced Cryptics Dictionary",
+                "AARD.*",
+                "--offset",
+                "1",
+                "--limit",
+                "2");
+        thenCli()
+                .writesToStdOut("""
+                         AARDVARKS
+                         AARDWOLF
+                         """)
+                .and()
+                .writesToStdErr("More entries match the pattern (use '--offset' to display them)\n")
+                .and()
+                .exitsWithCode(SUCCESS);
+    }
+
     @Test
     void dictionaryGetDefault() {
         whenOneRunsCli("dictionary", "get-default");
@@ -87,6 +175,7 @@ final class CroiseurCliDictionaryTest extends FluentTestHelper {
         thenCli().writesToStdOut("""
                          Provider        \tDescription                                          \s
                          --------        \t-----------                                          \s
+                         Local Binary Provider\tProvides access to local dictionaries in a compact binary format.
                          Local Hunspell Provider\tProvides access to local dictionaries in the Hunspell format.
                          Local Text Provider\tProvides access to local dictionaries in a simple text format.
                          Local XML Provider\tProvides access to local dictionaries in an XML format.
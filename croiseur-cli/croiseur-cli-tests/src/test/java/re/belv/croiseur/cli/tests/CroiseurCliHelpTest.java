@@ -67,6 +67,7 @@ final class CroiseurCliHelpTest extends FluentTestHelper {
                          List and print available dictionaries
 
                          Commands:
+                           anagrams        Display dictionary entries made of given letters
                            cat             Display dictionary entries
                            get-default     Return the default dictionary
                            grep, search    Display dictionary entries which match a given pattern
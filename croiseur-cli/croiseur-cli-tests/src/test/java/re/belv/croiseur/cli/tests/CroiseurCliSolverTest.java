@@ -46,34 +46,39 @@ final class CroiseurCliSolverTest extends FluentTestHelper {
         whenOneRunsCli("solver", "run");
         thenCli().doesNotWriteToStdOut().and().writesToStdErr("""
                          Missing required option: '--size=INTEGERxINTEGER'
-                         Usage: croiseur-cli solver run [-cpS] [-r[=SEED]] -s=INTEGERxINTEGER [-b=
-                                                        (COORDINATE,LETTER)...]... [-B=COORDINATE...]...
-                                                        [-d=PROVIDER:DICTIONARY...]... [-H=(COORDINATE,
-                                                        WORD)...]... [-V=(COORDINATE,WORD)...]...
-                                                        [SOLVER]
+                         Usage: croiseur-cli solver run [-cpS] [-r[=SEED]] -s=INTEGERxINTEGER
+                                                        [-t=DURATION] [-b=(COORDINATE,LETTER)...]...
+                                                        [-B=COORDINATE...]... [-d=PROVIDER:
+                                                        DICTIONARY...]... [-H=(COORDINATE,WORD)...]...
+                                                        [-V=(COORDINATE,WORD)...]... [SOLVER]
                          Solve a crossword puzzle
-                               [SOLVER]     The name of the solver to use
+                               [SOLVER]             The name of the solver to use
                            -b, --box, --boxes=(COORDINATE,LETTER)...
-                                            Pre-filled boxes e.g. '--boxes ((1,2),A) ((3,4),B)...'
+                                                    Pre-filled boxes e.g. '--boxes ((1,2),A) ((3,4),
+                                                      B)...'
                            -B, --shaded-box, --shaded-boxes=COORDINATE...
-                                            Shaded boxes, e.g. '--shaded-boxes (1,2) (3,4)...'
-                           -c, --clues      Generate clues if solver finds a solution
+                                                    Shaded boxes, e.g. '--shaded-boxes (1,2) (3,4)...'
+                           -c, --clues              Generate clues if solver finds a solution
                            -d, --dictionary, --dictionaries=PROVIDER:DICTIONARY...
-                                            Dictionary identifiers
+                                                    Dictionary identifiers
                            -H, --across, --horizontal=(COORDINATE,WORD)...
-                                            Pre-filled horizontal slots, e.g. '--horizontal ((0,0),
-                                              hello) ((5,0),world)...'
-                           -p, --progress   Show solver progress
+                                                    Pre-filled horizontal slots, e.g. '--horizontal
+                                                      ((0,0),hello) ((5,0),world)...'
+                           -p, --progress           Show solver progress
                            -r, --random, --shuffle[=SEED]
-                                            Shuffle the dictionaries before solving
+                                                    Shuffle the dictionaries before solving
                            -s, --size=INTEGERxINTEGER
-                                            Grid dimensions, e.g. '--size 7x15' for a grid of width 7
-                                              and height 15
-                           -S, --save       Save the grid. Grid will be saved before solving. Grid will
-                                              then be saved after solving, if solving is successful.
+                                                    Grid dimensions, e.g. '--size 7x15' for a grid of
+                                                      width 7 and height 15
+                           -S, --save               Save the grid. Grid will be saved before solving.
+                                                      Grid will then be saved after solving, if solving
+                                                      is successful.
+                           -t, --timeout=DURATION   Solver time budget, e.g. '--timeout 30s' or
+                                                      '--timeout 500ms'. Solver is interrupted once the
+                                                      budget is exhausted.
                            -V, --down, --vertical=(COORDINATE,WORD)...
-                                            Pre-filled vertical slots, e.g. '--vertical ((0,0),hello)
-                                              ((5,0),world)...'
+                                                    Pre-filled vertical slots, e.g. '--vertical ((0,0),
+                                                      hello) ((5,0),world)...'
 
                          Example:
 
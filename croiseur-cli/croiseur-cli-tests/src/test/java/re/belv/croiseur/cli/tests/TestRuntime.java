@@ -9,6 +9,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.Locale;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import re.belv.croiseur.cli.CroiseurCliApplication;
@@ -84,6 +85,12 @@ abstract class TestRuntime {
         exitCode = null;
     }
 
+    /** Closes the application. */
+    @AfterEach
+    final void closeApplication() {
+        app.close();
+    }
+
     /** Restores standard system output streams and default locale once tests have finished. */
     @AfterAll
     static void tearDown() {
@@ -14,6 +14,7 @@ dependencies {
     implementation(libs.picocli.framework)
     implementation(project(":croiseur"))
     runtimeOnly(project(":croiseur-clue:croiseur-clue-openai-plugin"))
+    runtimeOnly(project(":croiseur-dictionary:croiseur-dictionary-binary-plugin"))
     runtimeOnly(project(":croiseur-dictionary:croiseur-dictionary-hunspell-plugin"))
     runtimeOnly(project(":croiseur-dictionary:croiseur-dictionary-txt-plugin"))
     runtimeOnly(project(":croiseur-dictionary:croiseur-dictionary-xml-plugin"))
@@ -7,8 +7,8 @@ package re.belv.croiseur.cli;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Locale;
-import java.util.Random;
 import java.util.logging.LogManager;
 import picocli.CommandLine;
 import picocli.CommandLine.HelpCommand;
@@ -18,31 +18,36 @@ import re.belv.croiseur.cli.controller.TopLevelCommand;
 import re.belv.croiseur.cli.controller.clue.ClueCommand;
 import re.belv.croiseur.cli.controller.dictionary.DictionaryCommand;
 import re.belv.croiseur.cli.controller.dictionary.parser.DictionaryIdentifierParser;
+import re.belv.croiseur.cli.controller.dictionary.parser.NonNegativeInteger;
 import re.belv.croiseur.cli.controller.puzzle.PuzzleCommand;
 import re.belv.croiseur.cli.controller.puzzle.parser.Clue;
 import re.belv.croiseur.cli.controller.solver.SolverCommand;
 import re.belv.croiseur.cli.controller.solver.SolverRunCommand;
+import re.belv.croiseur.cli.controller.solver.parser.DurationParser;
 import re.belv.croiseur.cli.controller.solver.parser.GridPositionParser;
 import re.belv.croiseur.cli.controller.solver.parser.GridSize;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledBox;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledSlot;
-import re.belv.croiseur.cli.controller.solver.parser.RandomParser;
+import re.belv.croiseur.cli.controller.solver.parser.Shuffle;
 import re.belv.croiseur.cli.l10n.ResourceBundles;
 import re.belv.croiseur.common.puzzle.GridPosition;
 
 /** The CLI Application. */
-public final class CroiseurCliApplication {
+public final class CroiseurCliApplication implements AutoCloseable {
 
     /** The command line interpreter. */
     private final CommandLine command;
 
+    /** The crossword service. */
+    private final CrosswordService crosswordService;
+
     /** Constructor. */
     public CroiseurCliApplication() {
         loadLoggingConfiguration();
 
         command = new CommandLine(new TopLevelCommand());
 
-        final CrosswordService crosswordService = CrosswordService.create();
+        crosswordService = CrosswordService.create();
 
         command.addSubcommand(new HelpCommand())
                 .addSubcommand(new DictionaryCommand(crosswordService.dictionaryService()))
@@ -53,12 +58,14 @@ public final class CroiseurCliApplication {
                 .setResourceBundle(ResourceBundles.messages());
 
         command.registerConverter(DictionaryIdentifier.class, TypeConverter.wrap(DictionaryIdentifierParser::parse))
+                .registerConverter(Duration.class, TypeConverter.wrap(DurationParser::parse))
                 .registerConverter(GridPosition.class, TypeConverter.wrap(GridPositionParser::parse))
                 .registerConverter(GridSize.class, TypeConverter.wrap(GridSize::valueOf))
                 .registerConverter(Locale.class, TypeConverter.wrap(Locale::forLanguageTag))
+                .registerConverter(NonNegativeInteger.class, TypeConverter.wrap(NonNegativeInteger::valueOf))
                 .registerConverter(PrefilledBox.class, TypeConverter.wrap(PrefilledBox::valueOf))
                 .registerConverter(PrefilledSlot.class, TypeConverter.wrap(PrefilledSlot::valueOf))
-                .registerConverter(Random.class, TypeConverter.wrap(RandomParser::parse))
+                .registerConverter(Shuffle.class, TypeConverter.wrap(Shuffle::valueOf))
                 .registerConverter(Clue.class, TypeConverter.wrap(Clue::valueOf));
     }
 
@@ -81,4 +88,10 @@ public final class CroiseurCliApplication {
     public int run(final String[] args) {
         return command.execute(args);
     }
+
+    /** Releases the resources of the application. */
+    @Override
+    public void close() {
+        crosswordService.close();
+    }
 }
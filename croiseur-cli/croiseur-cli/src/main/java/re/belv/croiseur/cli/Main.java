@@ -19,8 +19,10 @@ public final class Main {
      * @param args command-line arguments
      */
     public static void main(final String[] args) {
-        final CroiseurCliApplication app = new CroiseurCliApplication();
-        final int exitCode = app.run(args);
+        final int exitCode;
+        try (final CroiseurCliApplication app = new CroiseurCliApplication()) {
+            exitCode = app.run(args);
+        }
         System.exit(exitCode);
     }
 }
@@ -6,6 +6,7 @@
 package re.belv.croiseur.cli.controller.dictionary;
 
 import java.util.Locale;
+import java.util.OptionalInt;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
@@ -13,7 +14,9 @@ import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
 import re.belv.croiseur.api.dictionary.DictionaryService;
 import re.belv.croiseur.api.dictionary.ListDictionariesRequest;
 import re.belv.croiseur.api.dictionary.ListDictionaryEntriesRequest;
+import re.belv.croiseur.api.dictionary.SearchDictionaryAnagramsRequest;
 import re.belv.croiseur.api.dictionary.SearchDictionaryEntriesRequest;
+import re.belv.croiseur.cli.controller.dictionary.parser.NonNegativeInteger;
 import re.belv.croiseur.cli.status.Status;
 
 /** "dictionary" subcommand: List and print available dictionaries. */
@@ -32,15 +35,60 @@ public final class DictionaryCommand {
         dictionaryService = aDictionaryService;
     }
 
+    /**
+     * Displays dictionary entries made of given letters.
+     *
+     * @param dictionaryId the dictionary identifier
+     * @param letters the letters
+     * @param partial whether to display the entries using only some of the letters
+     * @param length the length of the entries to display
+     * @return the error status
+     */
+    @Command
+    int anagrams(
+            @Parameters(index = "0", paramLabel = "PROVIDER:DICTIONARY") final DictionaryIdentifier dictionaryId,
+            @Parameters(index = "1", paramLabel = "LETTERS") final String letters,
+            @Option(names = {"-p", "--partial"}) final boolean partial,
+            @Option(
+                            names = {"-l", "--length"},
+                            paramLabel = "LENGTH")
+                    final NonNegativeInteger length) {
+        final OptionalInt optionalLength = length != null ? OptionalInt.of(length.value()) : OptionalInt.empty();
+        final SearchDictionaryAnagramsRequest request =
+                SearchDictionaryAnagramsRequest.of(dictionaryId, letters, partial, optionalLength);
+        dictionaryService.searchAnagrams(request);
+        return Status.getAndReset();
+    }
+
     /**
      * Displays dictionary entries.
      *
      * @param dictionaryId the dictionary identifier
+     * @param offset the number of entries to skip
+     * @param limit the maximal number of entries to display
+     * @param length the length of the entries to display
      * @return the error status
      */
     @Command
-    int cat(@Parameters(index = "0", paramLabel = "PROVIDER:DICTIONARY") final DictionaryIdentifier dictionaryId) {
-        final ListDictionaryEntriesRequest request = ListDictionaryEntriesRequest.of(dictionaryId);
+    int cat(
+            @Parameters(index = "0", paramLabel = "PROVIDER:DICTIONARY") final DictionaryIdentifier dictionaryId,
+            @Option(
+                            names = {"-o", "--offset"},
+                            paramLabel = "COUNT",
+                            defaultValue = "0")
+                    final NonNegativeInteger offset,
+            @Option(
+                            names = {"-n", "--limit"},
+                            paramLabel = "COUNT")
+                    final NonNegativeInteger limit,
+            @Option(
+                            names = {"-l", "--length"},
+                            paramLabel = "LENGTH")
+                    final NonNegativeInteger length) {
+        final OptionalInt optionalLimit = limit != null ? OptionalInt.of(limit.value()) : OptionalInt.empty();
+        final OptionalInt optionalLength = length != null ? OptionalInt.of(length.value()) : OptionalInt.empty();
+        final ListDictionaryEntriesRequest request =
+                ListDictionaryEntriesRequest.of(dictionaryId, offset.value(), optionalLimit, optionalLength);
         dictionaryService.listEntries(request);
         return Status.getAndReset();
     }
@@ -59,13 +107,28 @@ public final class DictionaryCommand {
     /**
      * Greps the dictionary content.
      *
+     * @param dictionaryId the dictionary identifier
+     * @param pattern the pattern to search
+     * @param offset the number of matching entries to skip
+     * @param limit the maximal number of entries to display
      * @return the error status
      */
     @Command(aliases = {"search"})
     int grep(
             @Parameters(index = "0", paramLabel = "PROVIDER:DICTIONARY") final DictionaryIdentifier dictionaryId,
-            @Parameters(index = "1", paramLabel = "PATTERN") final String pattern) {
-        final SearchDictionaryEntriesRequest request = SearchDictionaryEntriesRequest.of(dictionaryId, pattern);
+            @Parameters(index = "1", paramLabel = "PATTERN") final String pattern,
+            @Option(
+                            names = {"-o", "--offset"},
+                            paramLabel = "COUNT",
+                            defaultValue = "0")
+                    final NonNegativeInteger offset,
+            @Option(
+                            names = {"-n", "--limit"},
+                            paramLabel = "COUNT")
+                    final NonNegativeInteger limit) {
+        final OptionalInt optionalLimit = limit != null ? OptionalInt.of(limit.value()) : OptionalInt.empty();
+        final SearchDictionaryEntriesRequest request =
+                SearchDictionaryEntriesRequest.of(dictionaryId, pattern, offset.value(), optionalLimit);
         dictionaryService.searchEntries(request);
         return Status.getAndReset();
     }
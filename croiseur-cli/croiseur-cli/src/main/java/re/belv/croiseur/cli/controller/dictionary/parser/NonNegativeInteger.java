@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.cli.controller.dictionary.parser;
+
+/**
+ * A non-negative integer, e.g. a number of entries to skip or an entry length.
+ *
+ * @param value the value
+ */
+public record NonNegativeInteger(int value) {
+
+    /**
+     * Constructor.
+     *
+     * @param value the value
+     */
+    public NonNegativeInteger {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid negative value: " + value);
+        }
+    }
+
+    /**
+     * Create a new {@link NonNegativeInteger} from its textual representation.
+     *
+     * @param text the textual representation
+     * @return the value
+     * @throws IllegalArgumentException if given string is not an integer or is negative
+     */
+    public static NonNegativeInteger valueOf(final String text) {
+        return new NonNegativeInteger(Integer.parseInt(text));
+    }
+}
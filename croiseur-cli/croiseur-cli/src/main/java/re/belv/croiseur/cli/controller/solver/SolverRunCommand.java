@@ -5,7 +5,7 @@
 
 package re.belv.croiseur.cli.controller.solver;
 
-import java.util.Random;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -17,6 +17,7 @@ import re.belv.croiseur.cli.controller.solver.adapter.CliSolveRequest;
 import re.belv.croiseur.cli.controller.solver.parser.GridSize;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledBox;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledSlot;
+import re.belv.croiseur.cli.controller.solver.parser.Shuffle;
 import re.belv.croiseur.cli.status.Status;
 import re.belv.croiseur.common.puzzle.GridPosition;
 
@@ -76,12 +77,19 @@ public final class SolverRunCommand implements Callable<Integer> {
             paramLabel = "(COORDINATE," + "WORD)")
     private PrefilledSlot[] prefilledVerticalSlots = {};
 
-    /** The randomness source for shuffling dictionary. */
+    /** The dictionary shuffle. */
     @Option(
             names = {"-r", "--random", "--shuffle"},
             arity = "0..1",
             paramLabel = "SEED")
-    private Random random;
+    private Shuffle shuffle;
+
+    /** The solver time budget. */
+    @Option(
+            names = {"-t", "--timeout"},
+            arity = "1",
+            paramLabel = "DURATION")
+    private Duration timeout;
 
     /** Flag to show solver progress. */
     @Option(names = {"-p", "--progress"})
@@ -114,7 +122,8 @@ public final class SolverRunCommand implements Callable<Integer> {
                 .prefilledHorizontalSlots(prefilledHorizontalSlots)
                 .prefilledVerticalSlots(prefilledVerticalSlots)
                 .dictionaryIds(dictionaryIds)
-                .random(random)
+                .shuffle(shuffle)
+                .timeout(timeout)
                 .progress(progress)
                 .clues(clues)
                 .save(save)
@@ -8,11 +8,13 @@ package re.belv.croiseur.cli.controller.solver.adapter;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Random;
 import java.util.function.BinaryOperator;
 import java.util.stream.Stream;
@@ -21,6 +23,7 @@ import re.belv.croiseur.api.solver.SolveRequest;
 import re.belv.croiseur.cli.controller.solver.parser.GridSize;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledBox;
 import re.belv.croiseur.cli.controller.solver.parser.PrefilledSlot;
+import re.belv.croiseur.cli.controller.solver.parser.Shuffle;
 import re.belv.croiseur.common.puzzle.GridPosition;
 import re.belv.croiseur.common.puzzle.PuzzleGrid;
 
@@ -37,7 +40,8 @@ public final class CliSolveRequest implements SolveRequest {
         private PrefilledSlot[] prefilledHorizontalSlots;
         private PrefilledSlot[] prefilledVerticalSlots;
         private DictionaryIdentifier[] dictionaryIds;
-        private Random random;
+        private Shuffle shuffle;
+        private Duration timeout;
         private boolean progress;
         private boolean clues;
         private boolean save;
@@ -125,13 +129,24 @@ public final class CliSolveRequest implements SolveRequest {
         }
 
         /**
-         * Specifies the randomness source, if any. May be {@code null}.
+         * Specifies the dictionary shuffle, if any. May be {@code null}.
          *
-         * @param randomArg the randomness source
+         * @param shuffleArg the dictionary shuffle
          * @return this builder for chaining
          */
-        public Builder random(final Random randomArg) {
-            random = randomArg;
+        public Builder shuffle(final Shuffle shuffleArg) {
+            shuffle = shuffleArg;
+            return this;
+        }
+
+        /**
+         * Specifies the solver time budget, if any. May be {@code null}.
+         *
+         * @param timeoutArg the solver time budget
+         * @return this builder for chaining
+         */
+        public Builder timeout(final Duration timeoutArg) {
+            timeout = timeoutArg;
             return this;
         }
 
@@ -183,7 +198,7 @@ public final class CliSolveRequest implements SolveRequest {
             final var solverProgress =
                     progress ? SolverProgressNotificationMethod.PERIODICAL : SolverProgressNotificationMethod.NONE;
 
-            return new CliSolveRequest(solver, puzzleGrid, dictionaries, random, solverProgress, clues, save);
+            return new CliSolveRequest(solver, puzzleGrid, dictionaries, shuffle, timeout, solverProgress, clues, save);
         }
 
         /**
@@ -223,6 +238,8 @@ public final class CliSolveRequest implements SolveRequest {
     private final PuzzleGrid puzzleGrid;
     private final Collection<DictionaryIdentifier> dictionaryIds;
     private final Random random;
+    private final OptionalLong seed;
+    private final Duration timeout;
     private final SolverProgressNotificationMethod progress;
     private final boolean clues;
     private final boolean save;
@@ -233,7 +250,8 @@ public final class CliSolveRequest implements SolveRequest {
      * @param solverArg the solver name
      * @param puzzleGridArg the puzzle grid
      * @param dictionaryIdArg the dictionary identifiers
-     * @param randomArg the randomness source to shuffle dictionaries
+     * @param shuffleArg the dictionary shuffle, may be {@code null}
+     * @param timeoutArg the solver time budget
      * @param progressArg whether progress should be notified
      * @param cluesArg whether to generate clues for result slot words
      * @param saveArg whether given grid shall be saved
@@ -242,14 +260,17 @@ public final class CliSolveRequest implements SolveRequest {
             final String solverArg,
             final PuzzleGrid puzzleGridArg,
             final Collection<DictionaryIdentifier> dictionaryIdArg,
-            final Random randomArg,
+            final Shuffle shuffleArg,
+            final Duration timeoutArg,
             final SolverProgressNotificationMethod progressArg,
             final boolean cluesArg,
             final boolean saveArg) {
         solver = solverArg;
         puzzleGrid = puzzleGridArg;
         dictionaryIds = dictionaryIdArg;
-        random = randomArg;
+        random = shuffleArg != null ? shuffleArg.random() : null;
+        seed = shuffleArg != null ? shuffleArg.seed() : OptionalLong.empty();
+        timeout = timeoutArg;
         progress = progressArg;
         clues = cluesArg;
         save = saveArg;
@@ -275,6 +296,16 @@ public final class CliSolveRequest implements SolveRequest {
         return Optional.ofNullable(random);
     }
 
+    @Override
+    public OptionalLong dictionariesShuffleSeed() {
+        return seed;
+    }
+
+    @Override
+    public Optional<Duration> timeout() {
+        return Optional.ofNullable(timeout);
+    }
+
     @Override
     public Optional<String> solver() {
         return Optional.ofNullable(solver);
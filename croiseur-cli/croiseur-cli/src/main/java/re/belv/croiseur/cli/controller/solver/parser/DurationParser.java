@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.cli.controller.solver.parser;
+
+import java.time.Duration;
+
+/**
+ * Parser for {@link Duration}. Expects an integer followed by a unit among "ms", "s", "m" and "h", e.g. "500ms" or
+ * "30s". An integer without unit is a number of seconds.
+ */
+public final class DurationParser {
+
+    /** Private constructor to prevent instantiation. */
+    private DurationParser() {
+        // Nothing to do.
+    }
+
+    /**
+     * Parses the textual representation of a {@link Duration}.
+     *
+     * @param durationValue the duration value to parse
+     * @return the parsed {@link Duration}
+     * @throws IllegalArgumentException if given string cannot be parsed or represents a negative duration
+     */
+    public static Duration parse(final String durationValue) {
+        final Duration duration;
+        if (durationValue.endsWith("ms")) {
+            duration = Duration.ofMillis(parseAmount(durationValue, 2));
+        } else if (durationValue.endsWith("s")) {
+            duration = Duration.ofSeconds(parseAmount(durationValue, 1));
+        } else if (durationValue.endsWith("m")) {
+            duration = Duration.ofMinutes(parseAmount(durationValue, 1));
+        } else if (durationValue.endsWith("h")) {
+            duration = Duration.ofHours(parseAmount(durationValue, 1));
+        } else {
+            duration = Duration.ofSeconds(parseAmount(durationValue, 0));
+        }
+        return duration;
+    }
+
+    /**
+     * Parses the amount part of a duration.
+     *
+     * @param durationValue the duration value to parse
+     * @param unitLength the length of the unit suffix
+     * @return the amount
+     * @throws IllegalArgumentException if amount is not a non-negative integer
+     */
+    private static long parseAmount(final String durationValue, final int unitLength) {
+        final long amount = Long.parseLong(durationValue.substring(0, durationValue.length() - unitLength));
+        if (amount < 0) {
+            throw new IllegalArgumentException("Invalid duration: " + durationValue);
+        }
+        return amount;
+    }
+}
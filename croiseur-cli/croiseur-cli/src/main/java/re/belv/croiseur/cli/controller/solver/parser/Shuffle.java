@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.cli.controller.solver.parser;
+
+import java.util.OptionalLong;
+import java.util.Random;
+
+/**
+ * Dictionary shuffle. Textual representation is the value of the seed, or the empty string for an unseeded shuffle.
+ *
+ * @param seed the seed, if any
+ */
+public record Shuffle(OptionalLong seed) {
+
+    /**
+     * Create a new {@link Shuffle} from its textual representation.
+     *
+     * @param text the textual representation
+     * @return the value
+     * @throws IllegalArgumentException if given string cannot be parsed
+     */
+    public static Shuffle valueOf(final String text) {
+        if (text.isEmpty()) {
+            return new Shuffle(OptionalLong.empty());
+        }
+        return new Shuffle(OptionalLong.of(Long.parseLong(text)));
+    }
+
+    /**
+     * Creates the randomness source of this shuffle.
+     *
+     * @return a new randomness source, seeded with {@link #seed()} if present
+     */
+    public Random random() {
+        return seed.isPresent() ? new Random(seed.getAsLong()) : new Random();
+    }
+}
@@ -12,6 +12,7 @@ import re.belv.croiseur.cli.l10n.ResourceBundles;
 import re.belv.croiseur.cli.status.Status;
 import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
 import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
@@ -84,6 +85,15 @@ final class CliDictionaryPresenter implements DictionaryPresenter {
     @Override
     public void presentDictionarySearchResult(final DictionarySearchResult searchResult) {
         printWords(searchResult.words());
+        if (searchResult.truncated()) {
+            // Not on standard output, which may be piped
+            System.err.println($("search.truncated"));
+        }
+    }
+
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        printWords(anagrams.words());
     }
 
     @Override
@@ -5,6 +5,7 @@
 
 package re.belv.croiseur.cli.presenter;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,7 @@ import re.belv.croiseur.common.puzzle.PuzzleCodecDetails;
 import re.belv.croiseur.common.puzzle.SavedPuzzle;
 import re.belv.croiseur.spi.presenter.Presenter;
 import re.belv.croiseur.spi.presenter.clue.ClueProviderDescription;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 import re.belv.croiseur.spi.presenter.solver.SolverDescription;
@@ -69,6 +71,11 @@ public final class CliPresenter implements Presenter {
         cliSolverPresenter.presentSolverError(error);
     }
 
+    @Override
+    public void presentSolverTimeout(final Duration timeBudget) {
+        cliSolverPresenter.presentSolverTimeout(timeBudget);
+    }
+
     @Override
     public void presentDictionaryProviders(final Collection<DictionaryProviderDetails> providers) {
         cliDictionaryPresenter.presentDictionaryProviders(providers);
@@ -89,6 +96,11 @@ public final class CliPresenter implements Presenter {
         cliDictionaryPresenter.presentDictionarySearchResult(searchResult);
     }
 
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        cliDictionaryPresenter.presentDictionaryAnagrams(anagrams);
+    }
+
     @Override
     public void presentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
         cliDictionaryPresenter.presentDefaultDictionary(defaultDictionary);
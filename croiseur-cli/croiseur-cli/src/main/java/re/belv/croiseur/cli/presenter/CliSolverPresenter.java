@@ -7,6 +7,7 @@ package re.belv.croiseur.cli.presenter;
 
 import static re.belv.croiseur.cli.presenter.CliPresenterUtil.lineOf;
 
+import java.time.Duration;
 import java.util.List;
 import re.belv.croiseur.cli.l10n.ResourceBundles;
 import re.belv.croiseur.cli.status.Status;
@@ -68,9 +69,9 @@ final class CliSolverPresenter implements SolverPresenter {
     @Override
     public void presentSolverProgress(final SolverProgress solverProgress) {
         final short completionPercentage = solverProgress.completionPercentage();
-        if (completionPercentage > bestCompletionPercentage) {
-            bestCompletionPercentage = completionPercentage;
-        }
+        // Best percentage reported by solver, if any, accounts for the steps between two progress notifications
+        bestCompletionPercentage = (short) Math.max(
+                bestCompletionPercentage, Math.max(completionPercentage, solverProgress.bestCompletionPercentage()));
         System.err.printf(PROGRESS_FORMAT, completionPercentage, bestCompletionPercentage);
     }
 
@@ -87,4 +88,10 @@ final class CliSolverPresenter implements SolverPresenter {
         System.err.println(error);
         Status.setGeneralApplicativeError();
     }
+
+    @Override
+    public void presentSolverTimeout(final Duration timeBudget) {
+        System.err.printf($("timeout.format") + "%n", timeBudget.toMillis());
+        Status.setSolverTimeout();
+    }
 }
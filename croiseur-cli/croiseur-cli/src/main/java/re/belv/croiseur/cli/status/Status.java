@@ -41,4 +41,9 @@ public final class Status {
     public static void setNoSolutionFound() {
         status = StatusCodes.NO_SOLUTION_FOUND;
     }
+
+    /** Sets the current status to "solver timeout". */
+    public static void setSolverTimeout() {
+        status = StatusCodes.SOLVER_TIMEOUT;
+    }
 }
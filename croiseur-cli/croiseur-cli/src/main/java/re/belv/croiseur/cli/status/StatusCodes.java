@@ -23,6 +23,9 @@ public final class StatusCodes {
     /** The solver did not find a solution to a grid. */
     public static final int NO_SOLUTION_FOUND = 4;
 
+    /** The solver did not finish within its time budget. */
+    public static final int SOLVER_TIMEOUT = 5;
+
     /** Private constructor to prevent instantiation. */
     private StatusCodes() {
         // Nothing to do.
@@ -0,0 +1,482 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.common.dictionary;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A pool of words, storing each distinct word once, compactly.
+ *
+ * <p>Words are identified by a non-negative int. They are stored as bytes in large pages: One byte per character for
+ * words made of ISO-8859-1 characters, which is the case of the normalised crossword entries, two bytes per character
+ * otherwise. Storing a word costs its bytes and a few ints, instead of a string object, a byte array and the entry of a
+ * hash set for each dictionary containing it.
+ *
+ * <p>Instances are thread-safe. Words are spread over shards according to their hash: Interning a new word only locks
+ * its shard, so that words can be interned by several threads at once. Looking up a word, by id or by value, never
+ * locks.
+ *
+ * <p>Words are never removed from a pool: A pool lives as long as a {@link WordSet} refers to it. The {@link #shared()
+ * shared} pool can be {@link #renewShared() renewed}, e.g. when dictionaries are reloaded, so that the words of
+ * discarded dictionaries are released once the sets referring to the previous shared pool are discarded too.
+ *
+ * @see WordSet
+ */
+public final class WordPool {
+
+    /** The number of bits of the shard index, in the id of a word. */
+    private static final int SHARD_BITS = 4;
+
+    /** The number of shards. */
+    private static final int SHARD_COUNT = 1 << SHARD_BITS;
+
+    /** The mask giving the shard index, from the id of a word. */
+    private static final int SHARD_MASK = SHARD_COUNT - 1;
+
+    /** The maximal number of words of a shard, so that ids stay positive. */
+    private static final int MAX_SHARD_SIZE = 1 << (Integer.SIZE - 1 - SHARD_BITS);
+
+    /** The size of a page, in bytes. Larger words get a page of their own. */
+    private static final int PAGE_SIZE = 1 << 16;
+
+    /** The number of bits of the offset of a word in its page, in the location of a word. */
+    private static final int OFFSET_BITS = 16;
+
+    /** The mask giving the offset of a word in its page, from the location of a word. */
+    private static final int OFFSET_MASK = (1 << OFFSET_BITS) - 1;
+
+    /** The maximal number of pages of a shard, so that locations stay positive. */
+    private static final int MAX_PAGE_COUNT = 1 << (Integer.SIZE - 1 - OFFSET_BITS);
+
+    /** The initial capacity of a shard, in words. */
+    private static final int INITIAL_CAPACITY = 1 << 6;
+
+    /** Gives access to the slots of a table with memory ordering effects. */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    /** The shared pool. */
+    private static volatile WordPool shared = new WordPool();
+
+    /** The shards. */
+    private final Shard[] shards;
+
+    /** Constructs an empty pool. */
+    public WordPool() {
+        shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Returns the pool shared by all dictionaries.
+     *
+     * @return the pool shared by all dictionaries
+     */
+    public static WordPool shared() {
+        return shared;
+    }
+
+    /**
+     * Replaces the shared pool by a new, empty one.
+     *
+     * <p>Sets built afterward with the shared pool use the new pool; Existing sets are not affected. The previous pool
+     * is released once no set refers to it anymore. Words common to sets of the previous and of the new pools are
+     * stored in both pools meanwhile, and merging such sets decodes the words.
+     */
+    public static void renewShared() {
+        shared = new WordPool();
+    }
+
+    /**
+     * Returns the id of the given word, adding the word to the pool if needed.
+     *
+     * @param word the word
+     * @return the id of the given word
+     * @throws IllegalStateException if the pool is full
+     */
+    public int intern(final String word) {
+        final int hash = word.hashCode();
+        final int shardIndex = shardOf(hash);
+        return idOf(shards[shardIndex].intern(word, hash), shardIndex);
+    }
+
+    /**
+     * Returns the id of the given word, if in the pool.
+     *
+     * @param word the word
+     * @return the id of the given word, or -1 if given word is not in the pool
+     */
+    public int find(final String word) {
+        final int hash = word.hashCode();
+        final int shardIndex = shardOf(hash);
+        final int index = shards[shardIndex].find(word, hash);
+        return index < 0 ? -1 : idOf(index, shardIndex);
+    }
+
+    /**
+     * Returns the word with the given id.
+     *
+     * <p>A new string is created on each call: Callers needing repeated access to the same word should keep it.
+     *
+     * @param id the id of the word
+     * @return the word with the given id
+     * @throws IndexOutOfBoundsException if given id is not the id of a word of this pool
+     */
+    public String word(final int id) {
+        final Shard shard = shardOfId(id);
+        return shard.word(id >>> SHARD_BITS);
+    }
+
+    /**
+     * Returns the hash of the word with the given id, as given by {@link String#hashCode()}.
+     *
+     * @param id the id of the word
+     * @return the hash of the word with the given id
+     * @throws IndexOutOfBoundsException if given id is not the id of a word of this pool
+     */
+    public int hash(final int id) {
+        final Shard shard = shardOfId(id);
+        return shard.hashes[id >>> SHARD_BITS];
+    }
+
+    /**
+     * Returns the number of words of the pool.
+     *
+     * @return the number of words of the pool
+     */
+    public int size() {
+        int size = 0;
+        for (final Shard shard : shards) {
+            size += shard.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the shard of the given id, checking that the id is the id of a word of the shard.
+     *
+     * @param id the id of a word
+     * @return the shard of the given id
+     * @throws IndexOutOfBoundsException if given id is not the id of a word of this pool
+     */
+    private Shard shardOfId(final int id) {
+        final Shard shard = shards[id & SHARD_MASK];
+        // Reading size first makes the words it counts visible
+        if (id < 0 || (id >>> SHARD_BITS) >= shard.size) {
+            throw new IndexOutOfBoundsException("Unknown word id " + id);
+        }
+        return shard;
+    }
+
+    /**
+     * Returns the index of the shard of the words with the given hash.
+     *
+     * <p>Shard is given by the highest bits of the mixed hash, slots of the shard tables by the lowest ones, so that
+     * words of a shard do not cluster in its table.
+     *
+     * @param hash the hash of a word
+     * @return the index of the shard of the words with the given hash
+     */
+    private static int shardOf(final int hash) {
+        return mix(hash) >>> (Integer.SIZE - SHARD_BITS);
+    }
+
+    /**
+     * Returns the id of a word, given its index in its shard.
+     *
+     * @param index the index of the word in its shard
+     * @param shardIndex the index of the shard
+     * @return the id of the word
+     */
+    private static int idOf(final int index, final int shardIndex) {
+        return (index << SHARD_BITS) | shardIndex;
+    }
+
+    /**
+     * Spreads the bits of the given hash, so that similar hashes do not cluster in the table.
+     *
+     * @param hash the hash
+     * @return the mixed hash
+     */
+    static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A part of the pool, holding the words whose hash leads to it.
+     *
+     * <p>Writes are made under the lock of the shard. Reads do not lock: Arrays are published through volatile fields,
+     * and a word is published by writing its slot in the table, after everything else about the word has been written,
+     * so that a reader finding a word in the table, or reading a size counting it, sees all its data.
+     */
+    private static final class Shard {
+
+        /** The pages storing the encoded words. Only the last page is written. */
+        private volatile byte[][] pages;
+
+        /** The locations of the words, by index: Index of the page, then offset in page. */
+        private volatile int[] locations;
+
+        /** The hashes of the words, by index, as given by {@link String#hashCode()}. */
+        private volatile int[] hashes;
+
+        /**
+         * The indexes of the words plus one, by mixed hash, with linear probing; 0 for empty slots. Replaced by a
+         * larger table, fully filled before being published, when more than half full.
+         */
+        private volatile int[] table;
+
+        /** The number of pages in use. Guarded by {@code this}. */
+        private int pageCount;
+
+        /** The number of bytes used in the last page. Guarded by {@code this}. */
+        private int pageFill;
+
+        /** The number of words. Written after the words it counts. */
+        private volatile int size;
+
+        /** Constructs an empty shard. */
+        Shard() {
+            pages = new byte[4][];
+            locations = new int[INITIAL_CAPACITY];
+            hashes = new int[INITIAL_CAPACITY];
+            table = new int[INITIAL_CAPACITY * 2];
+        }
+
+        /**
+         * Returns the index of the given word, adding the word to the shard if needed.
+         *
+         * @param word the word
+         * @param hash the hash of the word
+         * @return the index of the given word
+         * @throws IllegalStateException if the shard is full
+         */
+        int intern(final String word, final int hash) {
+            final int found = find(word, hash);
+            if (found >= 0) {
+                return found;
+            }
+            synchronized (this) {
+                final int[] currentTable = table;
+                final int slot = slotOf(currentTable, word, hash);
+                final int entry = currentTable[slot];
+                if (entry != 0) {
+                    // Added concurrently
+                    return entry - 1;
+                }
+                final int index = size;
+                if (index == MAX_SHARD_SIZE) {
+                    throw new IllegalStateException("Word pool is full");
+                }
+                if (index == locations.length) {
+                    locations = Arrays.copyOf(locations, index * 2);
+                    hashes = Arrays.copyOf(hashes, index * 2);
+                }
+                locations[index] = store(word);
+                hashes[index] = hash;
+                size = index + 1;
+                SLOT.setRelease(currentTable, slot, index + 1);
+                if ((index + 1) * 2 > currentTable.length) {
+                    rehash(currentTable);
+                }
+                return index;
+            }
+        }
+
+        /**
+         * Returns the index of the given word, if in the shard.
+         *
+         * @param word the word
+         * @param hash the hash of the word
+         * @return the index of the given word, or -1 if given word is not in the shard
+         */
+        int find(final String word, final int hash) {
+            final int[] currentTable = table;
+            return (int) SLOT.getAcquire(currentTable, slotOf(currentTable, word, hash)) - 1;
+        }
+
+        /**
+         * Returns the word with the given index.
+         *
+         * @param index the index of the word, known to be in the shard
+         * @return the word with the given index
+         */
+        String word(final int index) {
+            final int location = locations[index];
+            final byte[] page = pages[location >>> OFFSET_BITS];
+            int position = location & OFFSET_MASK;
+            int header = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = page[position++];
+                header |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            final int length = header >>> 1;
+            if ((header & 1) == 0) {
+                return new String(page, position, length, StandardCharsets.ISO_8859_1);
+            }
+            final char[] characters = new char[length];
+            for (int i = 0; i < length; i++) {
+                characters[i] = (char) (((page[position + 2 * i] & 0xFF) << 8) | (page[position + 2 * i + 1] & 0xFF));
+            }
+            return new String(characters);
+        }
+
+        /**
+         * Finds the slot of the given word in the given table: Either the slot holding its index or the empty slot
+         * where its index shall be inserted.
+         *
+         * @param currentTable the table
+         * @param word the word
+         * @param hash the hash of the word
+         * @return the slot of the given word in the given table
+         */
+        private int slotOf(final int[] currentTable, final String word, final int hash) {
+            final int mask = currentTable.length - 1;
+            int slot = mix(hash) & mask;
+            int[] currentHashes = null;
+            int entry;
+            while ((entry = (int) SLOT.getAcquire(currentTable, slot)) != 0) {
+                final int index = entry - 1;
+                if (currentHashes == null || index >= currentHashes.length) {
+                    // Read after the slot, so that the hash of the word is in the array
+                    currentHashes = hashes;
+                }
+                if (currentHashes[index] == hash && matches(index, word)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Returns whether the word with the given index is the given word, without creating a string.
+         *
+         * @param index the index of the word
+         * @param word the word to compare
+         * @return {@code true} if the word with the given index is the given word
+         */
+        private boolean matches(final int index, final String word) {
+            final int location = locations[index];
+            final byte[] page = pages[location >>> OFFSET_BITS];
+            int position = location & OFFSET_MASK;
+            int header = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = page[position++];
+                header |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            final int length = header >>> 1;
+            if (length != word.length()) {
+                return false;
+            }
+            final boolean wide = (header & 1) != 0;
+            for (int i = 0; i < length; i++) {
+                final char c = wide
+                        ? (char) (((page[position + 2 * i] & 0xFF) << 8) | (page[position + 2 * i + 1] & 0xFF))
+                        : (char) (page[position + i] & 0xFF);
+                if (c != word.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Stores the given word in the pages. Called under the lock of the shard.
+         *
+         * <p>A word is stored as a header followed by its characters. The header is the length of the word, shifted
+         * left by one bit, whose lowest bit tells whether characters take two bytes; It is stored on as few bytes as
+         * possible, seven bits per byte, least significant bits first.
+         *
+         * @param word the word
+         * @return the location of the stored word
+         * @throws IllegalStateException if the shard is full
+         */
+        private int store(final String word) {
+            final boolean wide = !isLatin1(word);
+            final int header = (word.length() << 1) | (wide ? 1 : 0);
+            final int headerSize = (32 - Integer.numberOfLeadingZeros(header | 1) + 6) / 7;
+            final int encodedSize = headerSize + word.length() * (wide ? 2 : 1);
+
+            byte[][] currentPages = pages;
+            if (pageCount == 0 || pageFill + encodedSize > currentPages[pageCount - 1].length) {
+                if (pageCount == MAX_PAGE_COUNT) {
+                    throw new IllegalStateException("Word pool is full");
+                }
+                if (pageCount == currentPages.length) {
+                    currentPages = Arrays.copyOf(currentPages, pageCount * 2);
+                }
+                currentPages[pageCount++] = new byte[Math.max(PAGE_SIZE, encodedSize)];
+                pages = currentPages;
+                pageFill = 0;
+            }
+            final byte[] page = currentPages[pageCount - 1];
+            final int location = ((pageCount - 1) << OFFSET_BITS) | pageFill;
+
+            int position = pageFill;
+            int remainingHeader = header;
+            while (remainingHeader >= 0x80) {
+                page[position++] = (byte) ((remainingHeader & 0x7F) | 0x80);
+                remainingHeader >>>= 7;
+            }
+            page[position++] = (byte) remainingHeader;
+            for (int i = 0; i < word.length(); i++) {
+                final char c = word.charAt(i);
+                if (wide) {
+                    page[position++] = (byte) (c >>> 8);
+                }
+                page[position++] = (byte) c;
+            }
+            pageFill = position;
+            return location;
+        }
+
+        /**
+         * Publishes a table of twice the capacity of the given one. Called under the lock of the shard.
+         *
+         * @param currentTable the current table
+         */
+        private void rehash(final int[] currentTable) {
+            final int[] newTable = new int[currentTable.length * 2];
+            final int mask = newTable.length - 1;
+            final int[] currentHashes = hashes;
+            for (int index = 0; index < size; index++) {
+                int slot = mix(currentHashes[index]) & mask;
+                while (newTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable[slot] = index + 1;
+            }
+            table = newTable;
+        }
+
+        /**
+         * Returns whether the given word is made of ISO-8859-1 characters only.
+         *
+         * @param word the word
+         * @return {@code true} if the given word is made of ISO-8859-1 characters only
+         */
+        private static boolean isLatin1(final String word) {
+            for (int i = 0; i < word.length(); i++) {
+                if (word.charAt(i) > 0xFF) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
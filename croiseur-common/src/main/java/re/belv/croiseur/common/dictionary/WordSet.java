@@ -0,0 +1,324 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.common.dictionary;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, ordered set of words stored in a {@link WordPool}.
+ *
+ * <p>A word set only holds the ids of its words, i.e. about a dozen bytes per word. Words common to several sets, for
+ * instance the same entry in several dictionaries or in a dictionary and in a union of dictionaries, are stored once.
+ * Words are decoded from the pool on iteration: Iteration creates strings, which can be discarded right after use.
+ *
+ * <p>Iteration order is insertion order. Null elements are not supported.
+ */
+public final class WordSet extends AbstractSet<String> {
+
+    /** Builds a {@link WordSet}. Instances are not thread-safe. */
+    public static final class Builder {
+
+        /** The pool. */
+        private final WordPool pool;
+
+        /** The ids of the words added so far, in insertion order. */
+        private int[] ids;
+
+        /** The number of words added so far. */
+        private int size;
+
+        /** The membership table of the words added so far, see {@link WordSet#table}. */
+        private int[] table;
+
+        /** Whether {@link #build()} has been called: Arrays are then shared with the built set and must be copied. */
+        private boolean built;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param poolArg the pool
+         */
+        private Builder(final WordPool poolArg) {
+            pool = poolArg;
+            ids = new int[16];
+            table = new int[32];
+        }
+
+        /**
+         * Adds the given word, if not already added.
+         *
+         * @param word the word
+         * @return {@code true} if the word was not already added
+         */
+        public boolean add(final String word) {
+            return addId(pool.intern(Objects.requireNonNull(word)));
+        }
+
+        /**
+         * Adds the given words, in their iteration order. Words already added are ignored.
+         *
+         * <p>Adding the words of a {@link WordSet} of the same pool does not decode them.
+         *
+         * @param words the words
+         * @return this builder
+         */
+        public Builder addAll(final Collection<String> words) {
+            if (words instanceof final WordSet wordSet && wordSet.pool == pool) {
+                for (int i = 0; i < wordSet.ids.length; i++) {
+                    addId(wordSet.ids[i]);
+                }
+            } else {
+                words.forEach(this::add);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of words added so far.
+         *
+         * @return the number of words added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Builds the set.
+         *
+         * <p>Builder can still be used afterward; Built set is not affected.
+         *
+         * @return the built set
+         */
+        public WordSet build() {
+            built = true;
+            return new WordSet(pool, size == ids.length ? ids : Arrays.copyOf(ids, size), table);
+        }
+
+        /**
+         * Adds the given id, if not already added.
+         *
+         * @param id the id
+         * @return {@code true} if the id was not already added
+         */
+        private boolean addId(final int id) {
+            if (built) {
+                ids = ids.clone();
+                table = table.clone();
+                built = false;
+            }
+            final int slot = slotOf(table, id);
+            if (table[slot] != 0) {
+                return false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+            table[slot] = id + 1;
+            if (size * 2 > table.length) {
+                final int[] newTable = new int[table.length * 2];
+                for (int i = 0; i < size; i++) {
+                    newTable[slotOf(newTable, ids[i])] = ids[i] + 1;
+                }
+                table = newTable;
+            }
+            return true;
+        }
+    }
+
+    /** The ids of an empty set. */
+    private static final int[] NO_IDS = {};
+
+    /** The membership table of an empty set. */
+    private static final int[] EMPTY_TABLE = {0};
+
+    /** The pool. */
+    private final WordPool pool;
+
+    /** The ids of the words, in iteration order. */
+    private final int[] ids;
+
+    /**
+     * The membership table: The ids of the words plus one, by hash of id, with linear probing; 0 for empty slots. Its
+     * length is a power of two, at least twice the number of words.
+     */
+    private final int[] table;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param poolArg the pool
+     * @param idsArg the ids of the words, in iteration order
+     * @param tableArg the membership table
+     */
+    private WordSet(final WordPool poolArg, final int[] idsArg, final int[] tableArg) {
+        pool = poolArg;
+        ids = idsArg;
+        table = tableArg;
+    }
+
+    /**
+     * Returns a new builder of sets of the {@link WordPool#shared() shared} pool.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return builder(WordPool.shared());
+    }
+
+    /**
+     * Returns a new builder of sets of the given pool.
+     *
+     * @param pool the pool
+     * @return a new builder
+     */
+    public static Builder builder(final WordPool pool) {
+        return new Builder(Objects.requireNonNull(pool));
+    }
+
+    /**
+     * Returns an empty set of the {@link WordPool#shared() shared} pool.
+     *
+     * @return an empty set
+     */
+    public static WordSet of() {
+        // Not a constant, which would keep the first shared pool alive once renewed
+        return new WordSet(WordPool.shared(), NO_IDS, EMPTY_TABLE);
+    }
+
+    /**
+     * Returns a set of the {@link WordPool#shared() shared} pool containing the given words, in their iteration order.
+     *
+     * @param words the words
+     * @return a set containing the given words
+     */
+    public static WordSet copyOf(final Collection<String> words) {
+        if (words instanceof final WordSet wordSet && wordSet.pool == WordPool.shared()) {
+            return wordSet;
+        }
+        return builder().addAll(words).build();
+    }
+
+    /**
+     * Returns a collector accumulating words into a set of the {@link WordPool#shared() shared} pool, in encounter
+     * order.
+     *
+     * @return a collector accumulating words into a {@link WordSet}
+     */
+    public static Collector<String, ?, WordSet> toWordSet() {
+        return Collector.of(
+                WordSet::builder, Builder::add, (left, right) -> left.addAll(right.build()), Builder::build);
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof final String word)) {
+            return false;
+        }
+        final int id = pool.find(word);
+        return id >= 0 && table[slotOf(table, id)] != 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public String next() {
+                if (next >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return pool.word(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(
+                iterator(), ids.length, Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Stream<String> stream() {
+        return IntStream.of(ids).mapToObj(pool::word);
+    }
+
+    @Override
+    public Stream<String> parallelStream() {
+        return stream().parallel();
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (c instanceof final WordSet other && other.pool == pool) {
+            for (final int id : other.ids) {
+                if (table[slotOf(table, id)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.containsAll(c);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof final WordSet other && other.pool == pool) {
+            return other.ids.length == ids.length && containsAll(other);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as AbstractSet#hashCode(), without decoding words
+        int hash = 0;
+        for (final int id : ids) {
+            hash += pool.hash(id);
+        }
+        return hash;
+    }
+
+    /**
+     * Finds the slot of the given id in the given membership table: Either the slot holding the id or the empty slot
+     * where it shall be inserted.
+     *
+     * @param table the membership table
+     * @param id the id
+     * @return the slot of the given id in the given membership table
+     */
+    private static int slotOf(final int[] table, final int id) {
+        final int mask = table.length - 1;
+        int slot = WordPool.mix(id) & mask;
+        while (table[slot] != 0 && table[slot] != id + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
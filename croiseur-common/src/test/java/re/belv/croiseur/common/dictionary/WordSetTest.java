@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.common.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/** Tests on {@link WordSet} and {@link WordPool}. */
+final class WordSetTest {
+
+    private final WordPool pool = new WordPool();
+
+    @Test
+    void intern() {
+        final int hello = pool.intern("HELLO");
+        final int world = pool.intern("WORLD");
+
+        assertEquals(hello, pool.intern("HELLO"));
+        assertNotEquals(hello, world);
+        assertEquals(hello, pool.find("HELLO"));
+        assertEquals(-1, pool.find("FOO"));
+        assertEquals("HELLO", pool.word(hello));
+        assertEquals("WORLD", pool.word(world));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void intern_nonLatin1() {
+        final int id = pool.intern("ŒUVRE€");
+
+        assertEquals("ŒUVRE€", pool.word(id));
+        assertEquals(id, pool.find("ŒUVRE€"));
+    }
+
+    @Test
+    void intern_many() {
+        final List<String> words =
+                IntStream.range(0, 200_000).mapToObj(i -> "WORD" + i).toList();
+        final int[] ids = words.stream().mapToInt(pool::intern).toArray();
+
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(words.get(i), pool.word(ids[i]));
+            assertEquals(ids[i], pool.find(words.get(i)));
+        }
+    }
+
+    @Test
+    void intern_concurrent() throws InterruptedException {
+        final List<String> words =
+                IntStream.range(0, 100_000).mapToObj(i -> "WORD" + i).toList();
+        final int[][] ids = new int[4][];
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < ids.length; t++) {
+            final int thread = t;
+            threads.add(Thread.ofPlatform()
+                    .start(() ->
+                            ids[thread] = words.stream().mapToInt(pool::intern).toArray()));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(words.size(), pool.size());
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(ids[0][i], ids[1][i]);
+            assertEquals(ids[0][i], ids[2][i]);
+            assertEquals(ids[0][i], ids[3][i]);
+            assertEquals(words.get(i), pool.word(ids[0][i]));
+        }
+    }
+
+    @Test
+    void intern_large() {
+        final String large = "A".repeat(100_000);
+        final int id = pool.intern(large);
+        final int next = pool.intern("B");
+
+        assertEquals(large, pool.word(id));
+        assertEquals("B", pool.word(next));
+    }
+
+    @Test
+    void builder() {
+        final WordSet.Builder builder = WordSet.builder(pool);
+
+        assertTrue(builder.add("HELLO"));
+        assertTrue(builder.add("WORLD"));
+        assertFalse(builder.add("HELLO"));
+        final WordSet words = builder.build();
+
+        assertEquals(List.of("HELLO", "WORLD"), new ArrayList<>(words));
+        assertEquals(2, words.size());
+        assertTrue(words.contains("WORLD"));
+        assertFalse(words.contains("FOO"));
+        assertFalse(words.contains(42));
+    }
+
+    @Test
+    void builder_afterBuild() {
+        final WordSet.Builder builder = WordSet.builder(pool);
+        builder.add("HELLO");
+        final WordSet first = builder.build();
+
+        builder.add("WORLD");
+        final WordSet second = builder.build();
+
+        assertEquals(Set.of("HELLO"), first);
+        assertEquals(Set.of("HELLO", "WORLD"), second);
+    }
+
+    @Test
+    void contains_otherSetWords() {
+        final WordSet hello = WordSet.builder(pool).addAll(List.of("HELLO")).build();
+        WordSet.builder(pool).addAll(List.of("WORLD")).build();
+
+        assertFalse(hello.contains("WORLD"));
+    }
+
+    @Test
+    void union() {
+        final WordSet first =
+                WordSet.builder(pool).addAll(List.of("HELLO", "WORLD")).build();
+        final WordSet second =
+                WordSet.builder(pool).addAll(List.of("FOO", "WORLD", "BAR")).build();
+
+        final WordSet union = WordSet.builder(pool).addAll(first).addAll(second).build();
+
+        assertEquals(List.of("HELLO", "WORLD", "FOO", "BAR"), List.copyOf(union));
+        assertEquals(4, pool.size());
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        final WordSet words =
+                WordSet.builder(pool).addAll(List.of("HELLO", "WORLD")).build();
+        final WordSet reversed =
+                WordSet.builder(pool).addAll(List.of("WORLD", "HELLO")).build();
+        final Set<String> expected = new LinkedHashSet<>(List.of("HELLO", "WORLD"));
+
+        assertEquals(expected, words);
+        assertEquals(words, expected);
+        assertEquals(reversed, words);
+        assertEquals(expected.hashCode(), words.hashCode());
+        assertNotEquals(WordSet.builder(pool).addAll(List.of("HELLO")).build(), words);
+    }
+
+    @Test
+    void renewShared() {
+        final WordPool previousPool = WordPool.shared();
+        final WordSet previous = WordSet.copyOf(List.of("HELLO", "WORLD"));
+
+        WordPool.renewShared();
+        final WordSet current = WordSet.copyOf(previous);
+
+        assertNotEquals(previousPool, WordPool.shared());
+        assertEquals(-1, WordPool.shared().find("FOO"));
+        assertEquals(List.of("HELLO", "WORLD"), List.copyOf(previous));
+        assertTrue(previous.contains("HELLO"));
+        assertEquals(List.of("HELLO", "WORLD"), List.copyOf(current));
+        assertTrue(current.contains("WORLD"));
+        assertEquals(previous, current);
+        assertEquals(previous.hashCode(), current.hashCode());
+    }
+
+    @Test
+    void toWordSet() {
+        final WordSet words = Stream.of("HELLO", "WORLD", "HELLO").collect(WordSet.toWordSet());
+        final WordSet parallelWords = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> "WORD" + (i % 5_000))
+                .collect(WordSet.toWordSet());
+
+        assertEquals(List.of("HELLO", "WORLD"), List.copyOf(words));
+        assertEquals(IntStream.range(0, 5_000).mapToObj(i -> "WORD" + i).toList(), List.copyOf(parallelWords));
+        assertEquals(List.copyOf(parallelWords), parallelWords.stream().toList());
+    }
+}
@@ -0,0 +1,8 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+plugins {
+    id("re.belv.croiseur.java-library")
+}
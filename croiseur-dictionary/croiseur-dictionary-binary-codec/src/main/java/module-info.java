@@ -0,0 +1,9 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+/** Library which allows to read and write dictionaries in a compact binary format, readable without parsing. */
+module re.belv.croiseur.dictionary.binary.codec {
+    exports re.belv.croiseur.dictionary.binary.codec;
+}
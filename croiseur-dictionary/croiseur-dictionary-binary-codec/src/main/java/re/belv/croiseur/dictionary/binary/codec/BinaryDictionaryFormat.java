@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Description of the binary dictionary format.
+ *
+ * <p>All numbers are big-endian. The layout is:
+ *
+ * <pre>
+ * offset  size  content
+ * 0       4     magic number, {@value #MAGIC} ("CRBD")
+ * 4       2     format version, {@value #VERSION}
+ * 6       1     character width in bytes: 1 (ISO-8859-1) or 2 (UTF-16BE)
+ * 7       1     reserved, 0
+ * 8       8     content fingerprint
+ * 16      4     header size in bytes (H)
+ * 20      4     number of word length groups (G)
+ * 24      H     header: locale, names, descriptions (see below)
+ * 24+H    16*G  group table, by increasing word length: word length (4), word count (4), data offset (8)
+ * ...     ...   group data: the words of the group, sorted, each one on exactly word length characters
+ * </pre>
+ *
+ * <p>The header is a sequence of strings and counts: locale language tag, number of names, (name language tag, name)
+ * pairs, number of descriptions, (description language tag, description) pairs. Counts are 4-byte integers; Strings are
+ * encoded in UTF-8 and prefixed by their size in bytes, as a 4-byte integer.
+ *
+ * <p>Since words of a group all have the same length and are sorted, a word can be located by index or searched by
+ * dichotomy without any per-word offset.
+ *
+ * <p>The content fingerprint is the first 8 bytes of the SHA-256 digest of the group data, each group being prefixed by
+ * its word length and word count, as 4-byte integers, and each character being encoded in UTF-16BE, whatever the
+ * character width of the file.
+ */
+final class BinaryDictionaryFormat {
+
+    /** The magic number, identifying a binary dictionary file. */
+    static final int MAGIC = 0x43524244;
+
+    /** The format version. */
+    static final short VERSION = 1;
+
+    /** The size in bytes of the fixed part at the beginning of the file. */
+    static final int PREAMBLE_SIZE = 24;
+
+    /** The size in bytes of a group table entry. */
+    static final int GROUP_ENTRY_SIZE = 16;
+
+    /** The character width when all characters of all words are ISO-8859-1 characters. */
+    static final byte NARROW_CHAR_WIDTH = 1;
+
+    /** The character width when at least one character is not an ISO-8859-1 character. */
+    static final byte WIDE_CHAR_WIDTH = 2;
+
+    /** The greatest character which can be represented with {@link #NARROW_CHAR_WIDTH}. */
+    static final char MAX_NARROW_CHAR = 0xFF;
+
+    /** Private constructor to prevent instantiation. */
+    private BinaryDictionaryFormat() {
+        // Nothing to do.
+    }
+
+    /**
+     * Creates the digest used to compute content fingerprint.
+     *
+     * @return a new digest
+     */
+    static MessageDigest newFingerprintDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be supported by all Java platforms
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Extracts the fingerprint from a finished digest.
+     *
+     * @param digest the digest
+     * @return the fingerprint
+     */
+    static long fingerprintOf(final MessageDigest digest) {
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+}
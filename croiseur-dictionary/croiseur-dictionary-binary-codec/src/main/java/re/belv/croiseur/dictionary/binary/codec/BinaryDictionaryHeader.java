@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The header of a binary dictionary.
+ *
+ * @param locale the dictionary language
+ * @param names the names of the dictionary in various languages
+ * @param descriptions the descriptions of the dictionary in various languages
+ */
+public record BinaryDictionaryHeader(Locale locale, Map<Locale, String> names, Map<Locale, String> descriptions) {
+
+    /**
+     * Validates parameters.
+     *
+     * @param locale the dictionary language
+     * @param names the names of the dictionary in various languages
+     * @param descriptions the descriptions of the dictionary in various languages
+     * @throws NullPointerException if any parameter is {@code null}
+     * @throws IllegalArgumentException if names or descriptions are empty
+     */
+    public BinaryDictionaryHeader {
+        Objects.requireNonNull(locale);
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least one dictionary name");
+        }
+        if (descriptions.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least one dictionary description");
+        }
+        names = Map.copyOf(names);
+        descriptions = Map.copyOf(descriptions);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A stateless binary dictionary reader.
+ *
+ * <p>The dictionary file is mapped in memory: Only the fixed-size preamble, the header and the group table are read
+ * when opening the dictionary; Words are decoded from the mapped file when accessed, without ever being parsed nor
+ * copied as a whole. Loading a dictionary is thus nearly instantaneous, whatever its size.
+ */
+public final class BinaryDictionaryReader {
+
+    /** Private constructor to prevent instantiation. */
+    private BinaryDictionaryReader() {
+        // Nothing to do.
+    }
+
+    /**
+     * Opens the binary dictionary at the given path.
+     *
+     * <p>The file is mapped in memory and must not be modified while the returned dictionary is in use.
+     *
+     * @param path the path to the binary dictionary
+     * @return the dictionary
+     * @throws BinaryDictionaryReadException if the file cannot be read or is not a valid binary dictionary
+     */
+    public static MappedDictionary read(final Path path) throws BinaryDictionaryReadException {
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new BinaryDictionaryReadException("Dictionary too large: " + fileSize + " bytes");
+            }
+            // Mapping remains valid after channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        } catch (final IOException e) {
+            throw new BinaryDictionaryReadException(e);
+        }
+        return read(buffer);
+    }
+
+    /**
+     * Reads the binary dictionary from the given buffer.
+     *
+     * <p>The buffer content is not copied: It must not be modified while the returned dictionary is in use.
+     *
+     * @param buffer the buffer containing the binary dictionary, from position 0 to its limit
+     * @return the dictionary
+     * @throws BinaryDictionaryReadException if the buffer does not contain a valid binary dictionary
+     */
+    public static MappedDictionary read(final ByteBuffer buffer) throws BinaryDictionaryReadException {
+        // Duplicate is big-endian, whatever the byte order of the given buffer
+        final ByteBuffer in = buffer.duplicate().position(0);
+        try {
+            final int magic = in.getInt();
+            if (magic != BinaryDictionaryFormat.MAGIC) {
+                throw new BinaryDictionaryReadException("Not a binary dictionary");
+            }
+            final short version = in.getShort();
+            if (version != BinaryDictionaryFormat.VERSION) {
+                throw new BinaryDictionaryReadException("Unsupported binary dictionary version: " + version);
+            }
+            final byte charWidth = in.get();
+            if (charWidth != BinaryDictionaryFormat.NARROW_CHAR_WIDTH
+                    && charWidth != BinaryDictionaryFormat.WIDE_CHAR_WIDTH) {
+                throw new BinaryDictionaryReadException("Invalid character width: " + charWidth);
+            }
+            in.get(); // Reserved
+            final long fingerprint = in.getLong();
+            final int headerSize = in.getInt();
+            final int groupCount = in.getInt();
+            if (headerSize < 0 || groupCount < 0) {
+                throw new BinaryDictionaryReadException("Corrupted binary dictionary preamble");
+            }
+
+            final BinaryDictionaryHeader header = readHeader(in.slice(in.position(), headerSize));
+            in.position(in.position() + headerSize);
+
+            final int[] lengths = new int[groupCount];
+            final int[] counts = new int[groupCount];
+            final int[] offsets = new int[groupCount];
+            for (int group = 0; group < groupCount; group++) {
+                lengths[group] = in.getInt();
+                counts[group] = in.getInt();
+                final long offset = in.getLong();
+                final long end = offset + (long) lengths[group] * counts[group] * charWidth;
+                if (lengths[group] <= 0
+                        || counts[group] < 0
+                        || (group > 0 && lengths[group] <= lengths[group - 1])
+                        || offset < 0
+                        || end > in.limit()) {
+                    throw new BinaryDictionaryReadException("Corrupted binary dictionary group table");
+                }
+                offsets[group] = (int) offset;
+            }
+
+            // Absolute accesses only: Position of the shared duplicate does not matter
+            return new MappedDictionary(in, header, fingerprint, charWidth, lengths, counts, offsets);
+        } catch (final BufferUnderflowException
+                | IndexOutOfBoundsException
+                | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            // Truncated or corrupted header
+            throw new BinaryDictionaryReadException(e);
+        }
+    }
+
+    /**
+     * Reads the dictionary header.
+     *
+     * @param in the buffer containing the header
+     * @return the dictionary header
+     */
+    private static BinaryDictionaryHeader readHeader(final ByteBuffer in) {
+        final Locale locale = Locale.forLanguageTag(readString(in));
+        final Map<Locale, String> names = readTranslations(in);
+        final Map<Locale, String> descriptions = readTranslations(in);
+        return new BinaryDictionaryHeader(locale, names, descriptions);
+    }
+
+    /**
+     * Reads translated strings.
+     *
+     * @param in the input buffer
+     * @return the strings, indexed by language
+     */
+    private static Map<Locale, String> readTranslations(final ByteBuffer in) {
+        final int count = in.getInt();
+        final Map<Locale, String> translations = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            final Locale language = Locale.forLanguageTag(readString(in));
+            translations.put(language, readString(in));
+        }
+        return translations;
+    }
+
+    /**
+     * Reads a string encoded in UTF-8 and prefixed by its size in bytes.
+     *
+     * @param in the input buffer
+     * @return the string
+     */
+    private static String readString(final ByteBuffer in) {
+        final int size = in.getInt();
+        final byte[] bytes = new byte[size];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
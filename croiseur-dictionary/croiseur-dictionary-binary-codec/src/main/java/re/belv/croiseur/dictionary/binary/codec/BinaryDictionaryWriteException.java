@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+/** Exception raised when a binary dictionary cannot be written. */
+public final class BinaryDictionaryWriteException extends Exception {
+
+    /**
+     * Constructs an instance.
+     *
+     * @param cause the cause (which is saved for later retrieval by the getCause() method). (A null value is permitted,
+     *     and indicates that the cause is nonexistent or unknown.)
+     */
+    BinaryDictionaryWriteException(final Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/** A stateless binary dictionary writer. */
+public final class BinaryDictionaryWriter {
+
+    /** Private constructor to prevent instantiation. */
+    private BinaryDictionaryWriter() {
+        // Nothing to do.
+    }
+
+    /**
+     * Writes the given dictionary to the given {@link OutputStream}.
+     *
+     * <p>Words are written as is: They are expected to be already normalised, e.g. with
+     * {@code StringTransformers.toAcceptableCrosswordEntry()}. Duplicates are removed. Words are grouped by length and
+     * sorted, hence the order of the given collection is not preserved.
+     *
+     * @param os the output stream to write into; It is closed once dictionary is written
+     * @param header the dictionary header
+     * @param words the dictionary words
+     * @throws BinaryDictionaryWriteException if write fails
+     * @throws IllegalArgumentException if a word is empty
+     */
+    public static void write(final OutputStream os, final BinaryDictionaryHeader header, final Collection<String> words)
+            throws BinaryDictionaryWriteException {
+        final TreeMap<Integer, SortedSet<String>> groups = group(words);
+        final byte charWidth = charWidthOf(groups);
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            final byte[] headerBytes = encode(header);
+
+            out.writeInt(BinaryDictionaryFormat.MAGIC);
+            out.writeShort(BinaryDictionaryFormat.VERSION);
+            out.writeByte(charWidth);
+            out.writeByte(0);
+            out.writeLong(fingerprintOf(groups));
+            out.writeInt(headerBytes.length);
+            out.writeInt(groups.size());
+            out.write(headerBytes);
+
+            long dataOffset = BinaryDictionaryFormat.PREAMBLE_SIZE
+                    + headerBytes.length
+                    + (long) groups.size() * BinaryDictionaryFormat.GROUP_ENTRY_SIZE;
+            for (final Map.Entry<Integer, SortedSet<String>> group : groups.entrySet()) {
+                final int wordLength = group.getKey();
+                final int wordCount = group.getValue().size();
+                out.writeInt(wordLength);
+                out.writeInt(wordCount);
+                out.writeLong(dataOffset);
+                dataOffset += (long) wordLength * wordCount * charWidth;
+            }
+
+            for (final SortedSet<String> group : groups.values()) {
+                for (final String word : group) {
+                    writeWord(out, word, charWidth);
+                }
+            }
+        } catch (final IOException e) {
+            throw new BinaryDictionaryWriteException(e);
+        }
+    }
+
+    /**
+     * Groups the given words by length, sorting and deduplicating them.
+     *
+     * @param words the words
+     * @return the words, grouped by length
+     * @throws IllegalArgumentException if a word is empty
+     */
+    private static TreeMap<Integer, SortedSet<String>> group(final Collection<String> words) {
+        final TreeMap<Integer, SortedSet<String>> groups = new TreeMap<>();
+        for (final String word : words) {
+            if (word.isEmpty()) {
+                throw new IllegalArgumentException("Empty words cannot be written");
+            }
+            groups.computeIfAbsent(word.length(), length -> new TreeSet<>()).add(word);
+        }
+        return groups;
+    }
+
+    /**
+     * Determines the narrowest character width able to represent all the given words.
+     *
+     * @param groups the words, grouped by length
+     * @return the character width
+     */
+    private static byte charWidthOf(final Map<Integer, SortedSet<String>> groups) {
+        for (final SortedSet<String> group : groups.values()) {
+            for (final String word : group) {
+                for (int i = 0; i < word.length(); i++) {
+                    if (word.charAt(i) > BinaryDictionaryFormat.MAX_NARROW_CHAR) {
+                        return BinaryDictionaryFormat.WIDE_CHAR_WIDTH;
+                    }
+                }
+            }
+        }
+        return BinaryDictionaryFormat.NARROW_CHAR_WIDTH;
+    }
+
+    /**
+     * Computes the content fingerprint.
+     *
+     * @param groups the words, grouped by length
+     * @return the content fingerprint
+     * @see BinaryDictionaryFormat
+     */
+    private static long fingerprintOf(final Map<Integer, SortedSet<String>> groups) {
+        final MessageDigest digest = BinaryDictionaryFormat.newFingerprintDigest();
+        for (final Map.Entry<Integer, SortedSet<String>> group : groups.entrySet()) {
+            digest.update(intToBytes(group.getKey()));
+            digest.update(intToBytes(group.getValue().size()));
+            for (final String word : group.getValue()) {
+                digest.update(word.getBytes(StandardCharsets.UTF_16BE));
+            }
+        }
+        return BinaryDictionaryFormat.fingerprintOf(digest);
+    }
+
+    /**
+     * Encodes the given header.
+     *
+     * @param header the header
+     * @return the encoded header
+     * @throws IOException if encoding fails
+     */
+    private static byte[] encode(final BinaryDictionaryHeader header) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, header.locale().toLanguageTag());
+            writeTranslations(out, header.names());
+            writeTranslations(out, header.descriptions());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the given translated strings.
+     *
+     * @param out the output
+     * @param translations the strings, indexed by language
+     * @throws IOException if write fails
+     */
+    private static void writeTranslations(final DataOutputStream out, final Map<Locale, String> translations)
+            throws IOException {
+        out.writeInt(translations.size());
+        for (final Map.Entry<Locale, String> translation : translations.entrySet()) {
+            writeString(out, translation.getKey().toLanguageTag());
+            writeString(out, translation.getValue());
+        }
+    }
+
+    /**
+     * Writes the given string, in UTF-8, prefixed by its size in bytes.
+     *
+     * @param out the output
+     * @param string the string to write
+     * @throws IOException if write fails
+     */
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the given word.
+     *
+     * @param out the output
+     * @param word the word to write
+     * @param charWidth the character width
+     * @throws IOException if write fails
+     */
+    private static void writeWord(final DataOutputStream out, final String word, final byte charWidth)
+            throws IOException {
+        if (charWidth == BinaryDictionaryFormat.NARROW_CHAR_WIDTH) {
+            out.write(word.getBytes(StandardCharsets.ISO_8859_1));
+        } else {
+            out.writeChars(word);
+        }
+    }
+
+    /**
+     * Converts the given integer to its big-endian representation.
+     *
+     * @param value the integer
+     * @return the big-endian representation of the integer
+     */
+    private static byte[] intToBytes(final int value) {
+        return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+}
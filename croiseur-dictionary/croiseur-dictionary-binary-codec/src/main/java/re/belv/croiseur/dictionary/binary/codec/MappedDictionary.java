@@ -0,0 +1,313 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A binary dictionary, whose words are read directly from the underlying buffer, typically a file mapped in memory.
+ *
+ * <p>Words are never copied nor cached: They are decoded from the buffer on access. Accessing a word is cheap but
+ * allocates a new string; Callers needing repeated random access to the same words should copy them.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @see BinaryDictionaryReader
+ */
+public final class MappedDictionary {
+
+    /** The view of all the words of the dictionary. */
+    private final class WordSet extends AbstractSet<String> {
+
+        /** Constructs an instance. */
+        WordSet() {
+            // Nothing to do.
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+
+                /** The group of the next word. */
+                private int group;
+
+                /** The index of the next word in its group. */
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    while (group < counts.length && index == counts[group]) {
+                        group++;
+                        index = 0;
+                    }
+                    return group < counts.length;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return word(group, index++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof String word && MappedDictionary.this.contains(word);
+        }
+    }
+
+    /** The view of the words of a given length. */
+    private final class WordList extends AbstractList<String> implements RandomAccess {
+
+        /** The group of the words. */
+        private final int group;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param groupArg the group of the words
+         */
+        WordList(final int groupArg) {
+            group = groupArg;
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= counts[group]) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return word(group, index);
+        }
+
+        @Override
+        public int size() {
+            return counts[group];
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof String word
+                    && word.length() == lengths[group]
+                    && MappedDictionary.this.indexOf(group, word) >= 0;
+        }
+    }
+
+    /** The underlying buffer. Only absolute accesses are used, so that buffer can be shared between threads. */
+    private final ByteBuffer buffer;
+
+    /** The dictionary header. */
+    private final BinaryDictionaryHeader header;
+
+    /** The content fingerprint. */
+    private final long fingerprint;
+
+    /** The character width, in bytes. */
+    private final int charWidth;
+
+    /** The word length of each group, in increasing order. */
+    private final int[] lengths;
+
+    /** The word count of each group. */
+    private final int[] counts;
+
+    /** The offset of the data of each group in the buffer. */
+    private final int[] offsets;
+
+    /** The total number of words. */
+    private final int size;
+
+    /** The view of all the words. */
+    private final Set<String> words;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param bufferArg the underlying buffer
+     * @param headerArg the dictionary header
+     * @param fingerprintArg the content fingerprint
+     * @param charWidthArg the character width, in bytes
+     * @param lengthsArg the word length of each group, in increasing order
+     * @param countsArg the word count of each group
+     * @param offsetsArg the offset of the data of each group in the buffer
+     */
+    MappedDictionary(
+            final ByteBuffer bufferArg,
+            final BinaryDictionaryHeader headerArg,
+            final long fingerprintArg,
+            final int charWidthArg,
+            final int[] lengthsArg,
+            final int[] countsArg,
+            final int[] offsetsArg) {
+        buffer = bufferArg;
+        header = headerArg;
+        fingerprint = fingerprintArg;
+        charWidth = charWidthArg;
+        lengths = lengthsArg;
+        counts = countsArg;
+        offsets = offsetsArg;
+        size = Arrays.stream(countsArg).sum();
+        words = new WordSet();
+    }
+
+    /**
+     * Returns the dictionary header.
+     *
+     * @return the dictionary header
+     */
+    public BinaryDictionaryHeader header() {
+        return header;
+    }
+
+    /**
+     * Returns the content fingerprint, a hash of the dictionary words.
+     *
+     * <p>Two dictionaries with the same words have the same fingerprint, whatever their headers.
+     *
+     * @return the content fingerprint
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of words of this dictionary.
+     *
+     * @return the number of words of this dictionary
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a view of all the words of this dictionary, ordered by length then in lexicographic order.
+     *
+     * <p>{@link Set#contains(Object)} is performed by dichotomy on the underlying buffer, without decoding words.
+     *
+     * @return an unmodifiable view of all the words of this dictionary
+     */
+    public Set<String> words() {
+        return words;
+    }
+
+    /**
+     * Returns a view of the words of the given length, in lexicographic order.
+     *
+     * @param length the word length
+     * @return an unmodifiable view of the words of the given length; Empty if there is no such word
+     */
+    public List<String> words(final int length) {
+        final int group = Arrays.binarySearch(lengths, length);
+        return group >= 0 ? new WordList(group) : List.of();
+    }
+
+    /**
+     * Returns whether this dictionary contains the given word.
+     *
+     * @param word the word
+     * @return {@code true} if this dictionary contains the given word
+     */
+    public boolean contains(final String word) {
+        final int group = Arrays.binarySearch(lengths, word.length());
+        return group >= 0 && indexOf(group, word) >= 0;
+    }
+
+    /**
+     * Searches the given word in the given group.
+     *
+     * @param group the group, whose word length is the length of the searched word
+     * @param word the searched word
+     * @return the index of the word in the group, or a negative value if not found
+     */
+    private int indexOf(final int group, final String word) {
+        int low = 0;
+        int high = counts[group] - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compare(group, middle, word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Compares the word at given index with the given word, without decoding it.
+     *
+     * @param group the group of the word
+     * @param index the index of the word in its group
+     * @param word the word to compare with, of the same length
+     * @return a negative integer, zero, or a positive integer as the word at given index is less than, equal to, or
+     *     greater than the given word
+     */
+    private int compare(final int group, final int index, final String word) {
+        final int length = lengths[group];
+        final int wordOffset = offsets[group] + index * length * charWidth;
+        for (int i = 0; i < length; i++) {
+            final int comparison = Character.compare(charAt(wordOffset, i), word.charAt(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the character at given position of the word at given offset.
+     *
+     * @param wordOffset the offset of the word in the buffer
+     * @param i the position of the character in the word
+     * @return the character
+     */
+    private char charAt(final int wordOffset, final int i) {
+        return charWidth == BinaryDictionaryFormat.NARROW_CHAR_WIDTH
+                ? (char) (buffer.get(wordOffset + i) & 0xFF)
+                : buffer.getChar(wordOffset + i * BinaryDictionaryFormat.WIDE_CHAR_WIDTH);
+    }
+
+    /**
+     * Decodes the word at given index.
+     *
+     * @param group the group of the word
+     * @param index the index of the word in its group
+     * @return the decoded word
+     */
+    private String word(final int group, final int index) {
+        final int length = lengths[group];
+        final int wordOffset = offsets[group] + index * length * charWidth;
+        if (charWidth == BinaryDictionaryFormat.NARROW_CHAR_WIDTH) {
+            final byte[] bytes = new byte[length];
+            buffer.get(wordOffset, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(wordOffset + i * BinaryDictionaryFormat.WIDE_CHAR_WIDTH);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests on {@link BinaryDictionaryReader}, using dictionaries written by {@link BinaryDictionaryWriter}. */
+final class BinaryDictionaryReaderTest {
+
+    /** A header for tests. */
+    private static final BinaryDictionaryHeader HEADER = new BinaryDictionaryHeader(
+            Locale.ENGLISH,
+            Map.of(Locale.ENGLISH, "Dictionary example", Locale.FRANCE, "Exemple de dictionnaire"),
+            Map.of(Locale.ENGLISH, "A dictionary for tests"));
+
+    /** A temporary directory for tests. */
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void readHeader() throws BinaryDictionaryReadException, BinaryDictionaryWriteException, IOException {
+        final MappedDictionary dictionary = writeThenRead(List.of("HELLO", "WORLD"));
+
+        final BinaryDictionaryHeader header = dictionary.header();
+
+        assertEquals(Locale.ENGLISH, header.locale());
+        assertEquals("Dictionary example", header.names().get(Locale.ENGLISH));
+        assertEquals("Exemple de dictionnaire", header.names().get(Locale.FRANCE));
+        assertEquals("A dictionary for tests", header.descriptions().get(Locale.ENGLISH));
+    }
+
+    @Test
+    void readWords() throws BinaryDictionaryReadException, BinaryDictionaryWriteException, IOException {
+        final MappedDictionary dictionary = writeThenRead(List.of("WORLD", "HELLO", "A", "HELLO", "ZA", "AB"));
+
+        assertEquals(5, dictionary.size());
+        assertEquals(List.of("A", "AB", "ZA", "HELLO", "WORLD"), new ArrayList<>(dictionary.words()));
+        assertEquals(List.of("AB", "ZA"), dictionary.words(2));
+        assertEquals(List.of(), dictionary.words(3));
+    }
+
+    @Test
+    void contains() throws BinaryDictionaryReadException, BinaryDictionaryWriteException, IOException {
+        final MappedDictionary dictionary = writeThenRead(List.of("WORLD", "HELLO", "A", "ZA", "AB"));
+
+        assertTrue(dictionary.words().contains("HELLO"));
+        assertTrue(dictionary.words().contains("A"));
+        assertTrue(dictionary.words(2).contains("ZA"));
+        assertFalse(dictionary.words().contains("HELLA"));
+        assertFalse(dictionary.words().contains("B"));
+        assertFalse(dictionary.words().contains("ABC"));
+        assertFalse(dictionary.words(5).contains("ZA"));
+    }
+
+    @Test
+    void readWideCharacters() throws BinaryDictionaryReadException, BinaryDictionaryWriteException, IOException {
+        final MappedDictionary dictionary = writeThenRead(List.of("ŒUF", "ÉTÉ", "ABC"));
+
+        assertEquals(List.of("ABC", "ÉTÉ", "ŒUF"), new ArrayList<>(dictionary.words()));
+        assertTrue(dictionary.contains("ŒUF"));
+        assertFalse(dictionary.contains("OEUF"));
+    }
+
+    @Test
+    void fingerprint() throws BinaryDictionaryReadException, BinaryDictionaryWriteException, IOException {
+        final long fingerprint = writeThenRead(List.of("HELLO", "WORLD")).fingerprint();
+        final long sameWordsFingerprint =
+                writeThenRead(List.of("WORLD", "HELLO", "WORLD")).fingerprint();
+        final long otherWordsFingerprint = writeThenRead(List.of("HELLO")).fingerprint();
+
+        assertEquals(fingerprint, sameWordsFingerprint);
+        assertNotEquals(fingerprint, otherWordsFingerprint);
+    }
+
+    @Test
+    void readFromBuffer() throws BinaryDictionaryReadException, BinaryDictionaryWriteException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryDictionaryWriter.write(bytes, HEADER, List.of("HELLO", "WORLD"));
+
+        final MappedDictionary dictionary = BinaryDictionaryReader.read(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertEquals(List.of("HELLO", "WORLD"), new ArrayList<>(dictionary.words()));
+    }
+
+    @Test
+    void readInvalid() throws IOException {
+        final Path file = tempDir.resolve("invalid.bdic");
+        Files.writeString(file, "HELLO\nWORLD\n");
+
+        assertThrows(BinaryDictionaryReadException.class, () -> BinaryDictionaryReader.read(file));
+    }
+
+    @Test
+    void readTruncated() throws BinaryDictionaryWriteException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryDictionaryWriter.write(bytes, HEADER, List.of("HELLO", "WORLD"));
+        final byte[] truncated = new byte[bytes.size() - 1];
+        System.arraycopy(bytes.toByteArray(), 0, truncated, 0, truncated.length);
+
+        assertThrows(
+                BinaryDictionaryReadException.class, () -> BinaryDictionaryReader.read(ByteBuffer.wrap(truncated)));
+    }
+
+    /**
+     * Writes a dictionary with the given words to a file, then reads it.
+     *
+     * @param words the words to write
+     * @return the read dictionary
+     * @throws BinaryDictionaryWriteException if write fails
+     * @throws BinaryDictionaryReadException if read fails
+     * @throws IOException if temporary file cannot be created
+     */
+    private MappedDictionary writeThenRead(final Collection<String> words)
+            throws BinaryDictionaryWriteException, BinaryDictionaryReadException, IOException {
+        final Path file = Files.createTempFile(tempDir, "dictionary", ".bdic");
+        try (final OutputStream os = Files.newOutputStream(file)) {
+            BinaryDictionaryWriter.write(os, HEADER, words);
+        }
+        return BinaryDictionaryReader.read(file);
+    }
+}
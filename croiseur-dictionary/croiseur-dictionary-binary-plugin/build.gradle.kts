@@ -0,0 +1,14 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+plugins {
+    id("re.belv.croiseur.java-library")
+}
+
+dependencies {
+    api(project(":croiseur-spi:croiseur-spi-dictionary"))
+    implementation(project(":croiseur-dictionary:croiseur-dictionary-binary-codec"))
+    implementation(project(":croiseur-dictionary:croiseur-dictionary-common"))
+}
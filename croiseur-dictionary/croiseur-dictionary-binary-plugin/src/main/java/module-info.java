@@ -0,0 +1,19 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+import re.belv.croiseur.dictionary.binary.plugin.BinaryDictionaryProvider;
+import re.belv.croiseur.spi.dictionary.DictionaryProvider;
+
+/** Dictionary provider of local word lists written in a compact binary format. */
+module re.belv.croiseur.dictionary.binary.plugin {
+    requires re.belv.croiseur.dictionary.binary.codec;
+    requires re.belv.croiseur.dictionary.common;
+    requires transitive re.belv.croiseur.spi.dictionary;
+    requires java.logging;
+
+    provides DictionaryProvider with
+            BinaryDictionaryProvider;
+// No API exposed, only a provider
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.plugin;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryHeader;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryReadException;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryReader;
+import re.belv.croiseur.dictionary.binary.codec.MappedDictionary;
+import re.belv.croiseur.dictionary.common.util.Lazy;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+
+/**
+ * A binary dictionary.
+ *
+ * <p>Words are already normalised in binary dictionaries: They are exposed as is, directly from the mapped file.
+ */
+final class BinaryDictionary implements Dictionary {
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(BinaryDictionary.class.getName());
+
+    /** The mapped dictionary, lazily opened. Empty if dictionary cannot be read. */
+    private final Lazy<Optional<MappedDictionary>> dictionary;
+
+    /** Details about the dictionary, lazily read. */
+    private final Lazy<DictionaryDetails> details;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param file the dictionary to read
+     */
+    BinaryDictionary(final File file) {
+        dictionary = Lazy.of(() -> open(file));
+        details = Lazy.of(() -> dictionary.get().map(d -> toDetails(d.header())).orElseGet(DictionaryDetails::unknown));
+    }
+
+    /**
+     * Opens the dictionary file.
+     *
+     * @param file the dictionary file
+     * @return the mapped dictionary, or empty if file cannot be read
+     */
+    private static Optional<MappedDictionary> open(final File file) {
+        try {
+            return Optional.of(BinaryDictionaryReader.read(file.toPath()));
+        } catch (final BinaryDictionaryReadException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Failed to read binary dictionary " + file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Converts the given header to dictionary details, selecting name and description in the system's current locale if
+     * present and falling back on English if not present.
+     *
+     * @param header the dictionary header
+     * @return the dictionary details
+     */
+    private static DictionaryDetails toDetails(final BinaryDictionaryHeader header) {
+        return new DictionaryDetails(translate(header.names()), header.locale(), translate(header.descriptions()));
+    }
+
+    /**
+     * Returns the translation in the system's current locale if present, or in English if not present.
+     *
+     * @param translations the translations
+     * @return the translation in system's locale or in English if no translation in system's locale is available
+     */
+    private static String translate(final Map<Locale, String> translations) {
+        return Objects.requireNonNullElseGet(
+                translations.get(Locale.getDefault()), () -> translations.get(Locale.ENGLISH));
+    }
+
+    @Override
+    public DictionaryDetails details() {
+        return details.get();
+    }
+
+    @Override
+    public Set<String> words() {
+        return dictionary.get().map(MappedDictionary::words).orElseGet(Collections::emptySet);
+    }
+}
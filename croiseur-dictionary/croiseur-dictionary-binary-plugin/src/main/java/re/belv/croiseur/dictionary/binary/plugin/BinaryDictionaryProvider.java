@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.binary.plugin;
+
+import java.io.File;
+import java.util.Collection;
+import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
+import re.belv.croiseur.dictionary.common.DictionaryCatalogue;
+import re.belv.croiseur.dictionary.common.DictionaryPath;
+import re.belv.croiseur.dictionary.common.WatchedDictionaries;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChangeListener;
+import re.belv.croiseur.spi.dictionary.DictionaryProvider;
+
+/** A dictionary provider for binary dictionaries. */
+public final class BinaryDictionaryProvider implements DictionaryProvider {
+
+    /** The extension of binary dictionary files. */
+    private static final String EXTENSION = ".bdic";
+
+    /** The catalogue of the dictionaries, caching their details. */
+    private static final DictionaryCatalogue CATALOGUE = DictionaryCatalogue.of("binary");
+
+    /** Details about the dictionary provider. */
+    private final DictionaryProviderDetails details;
+
+    /** The dictionaries, lazily listed. */
+    private final WatchedDictionaries<BinaryDictionary> dictionaries;
+
+    /** Constructs an instance. */
+    public BinaryDictionaryProvider() {
+        details = new DictionaryProviderDetails(
+                "Local Binary Provider", "Provides access to local dictionaries in a compact binary format.");
+        dictionaries = new WatchedDictionaries<>(
+                CATALOGUE,
+                DictionaryPath::getDefault,
+                BinaryDictionaryProvider::isDictionaryFile,
+                BinaryDictionary::new);
+    }
+
+    /**
+     * Returns whether the given file is a dictionary file.
+     *
+     * @param file the file
+     * @return {@code true} if the given file is a dictionary file
+     */
+    private static boolean isDictionaryFile(final File file) {
+        return file.getName().endsWith(EXTENSION);
+    }
+
+    @Override
+    public DictionaryProviderDetails details() {
+        return details;
+    }
+
+    @Override
+    public Collection<Dictionary> get() {
+        return dictionaries.get();
+    }
+
+    @Override
+    public void addChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.removeListener(listener);
+    }
+}
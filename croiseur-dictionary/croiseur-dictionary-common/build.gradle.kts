@@ -6,3 +6,7 @@
 plugins {
     id("re.belv.croiseur.java-library")
 }
+
+dependencies {
+    api(project(":croiseur-spi:croiseur-spi-dictionary"))
+}
@@ -5,6 +5,9 @@
 
 /** Collection of utility classes useful for implementing dictionary providers. */
 module re.belv.croiseur.dictionary.common {
+    requires transitive re.belv.croiseur.spi.dictionary;
+    requires java.logging;
+
     exports re.belv.croiseur.dictionary.common;
     exports re.belv.croiseur.dictionary.common.io;
     exports re.belv.croiseur.dictionary.common.util;
@@ -0,0 +1,372 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+
+/**
+ * A persistent cache of the details of the dictionaries of a provider.
+ *
+ * <p>Listing dictionaries only requires their details, but reading details of local dictionaries means opening and
+ * parsing a header or a companion file for each dictionary. The catalogue keeps the details of the dictionaries of a
+ * directory in a file, along with the modification time and size of the files the details are read from: A catalogue
+ * entry is used as long as these files are unchanged, otherwise details are read again and the entry is updated.
+ * Details which are not in the catalogue are read in parallel. Dictionary words are never read.
+ *
+ * <p>Catalogue files are stored in a cache directory, defined by the {@value #PATH_SYSTEM_PROPERTY} system property,
+ * and not in dictionary directories, which may be read-only or under version control. Catalogue files are named after
+ * the provider and a digest of the dictionary directory, so that providers sharing a directory do not overwrite each
+ * other's catalogue. Failing to read or write a catalogue file is not an error: Details are then read from the
+ * dictionaries.
+ */
+public final class DictionaryCatalogue {
+
+    /**
+     * The system property defining the directory where catalogue files are stored. Setting it to an empty value
+     * disables the persistence of catalogues.
+     */
+    static final String PATH_SYSTEM_PROPERTY = "re.belv.croiseur.dictionary.catalogue.path";
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(DictionaryCatalogue.class.getName());
+
+    /** The extension of catalogue files. */
+    private static final String FILE_EXTENSION = ".properties";
+
+    /** The suffix of the key of the modification stamp of a dictionary. */
+    private static final String STAMP = ".stamp";
+
+    /** The suffix of the key of the name of a dictionary. */
+    private static final String NAME = ".name";
+
+    /** The suffix of the key of the locale of a dictionary. */
+    private static final String LOCALE = ".locale";
+
+    /** The suffix of the key of the description of a dictionary. */
+    private static final String DESCRIPTION = ".description";
+
+    /** The catalogue entry suffixes. */
+    private static final List<String> SUFFIXES = List.of(STAMP, NAME, LOCALE, DESCRIPTION);
+
+    /**
+     * A dictionary whose details are known in advance.
+     *
+     * @param dictionary the dictionary, whose words are read on demand
+     * @param details the details of the dictionary
+     */
+    private record CataloguedDictionary(Dictionary dictionary, DictionaryDetails details) implements Dictionary {
+
+        @Override
+        public Set<String> words() {
+            return dictionary.words();
+        }
+    }
+
+    /** The catalogue of a directory. */
+    private static final class DirectoryCatalogue {
+
+        /** The dictionary directory. */
+        private final Path directory;
+
+        /** The catalogue file, or {@code null} if catalogue is not persisted. */
+        private final Path file;
+
+        /** The catalogue entries, keyed by dictionary file name and suffix. Thread-safe. */
+        private final Properties entries;
+
+        /** Whether entries have been modified since loaded. */
+        private final AtomicBoolean modified;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param directoryArg the dictionary directory
+         * @param fileArg the catalogue file, or {@code null} if catalogue is not persisted
+         * @param entriesArg the catalogue entries
+         */
+        DirectoryCatalogue(final Path directoryArg, final Path fileArg, final Properties entriesArg) {
+            directory = directoryArg;
+            file = fileArg;
+            entries = entriesArg;
+            modified = new AtomicBoolean();
+        }
+    }
+
+    /** The provider identifier. */
+    private final String providerId;
+
+    /** The directory where catalogue files are stored, or {@code null} if catalogues are not persisted. */
+    private final Path cacheDirectory;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param providerIdArg the provider identifier
+     * @param cacheDirectoryArg the directory where catalogue files are stored, or {@code null} if catalogues are not
+     *     persisted
+     */
+    private DictionaryCatalogue(final String providerIdArg, final Path cacheDirectoryArg) {
+        providerId = Objects.requireNonNull(providerIdArg);
+        cacheDirectory = cacheDirectoryArg;
+    }
+
+    /**
+     * Creates the catalogue of a provider, stored in the directory defined by the {@value #PATH_SYSTEM_PROPERTY} system
+     * property.
+     *
+     * @param providerId a short identifier of the provider, usable in a file name, e.g. "txt"
+     * @return the catalogue of the provider
+     */
+    public static DictionaryCatalogue of(final String providerId) {
+        final String path =
+                System.getProperty(PATH_SYSTEM_PROPERTY, System.getProperty("user.home") + "/croiseur/cache/catalogue");
+        return of(providerId, path.isEmpty() ? null : Path.of(path));
+    }
+
+    /**
+     * Creates the catalogue of a provider, stored in the given directory.
+     *
+     * @param providerId a short identifier of the provider, usable in a file name, e.g. "txt"
+     * @param cacheDirectory the directory where catalogue files are stored, or {@code null} if catalogues shall not be
+     *     persisted
+     * @return the catalogue of the provider
+     */
+    static DictionaryCatalogue of(final String providerId, final Path cacheDirectory) {
+        return new DictionaryCatalogue(providerId, cacheDirectory);
+    }
+
+    /**
+     * Catalogues the given dictionary files.
+     *
+     * <p>Details of each dictionary are read from the given files only.
+     *
+     * @param files the dictionary files
+     * @param factory the function creating the dictionary of a file; Created dictionaries shall read their details and
+     *     their words lazily
+     * @return the dictionaries, in the order of the given files, whose details are known
+     * @see #catalogue(Collection, Function, Function)
+     */
+    public List<Dictionary> catalogue(
+            final Collection<File> files, final Function<File, ? extends Dictionary> factory) {
+        return catalogue(files, List::of, factory);
+    }
+
+    /**
+     * Catalogues the given dictionary files.
+     *
+     * <p>Details of the dictionaries are taken from the catalogues of the directories of the files if the files they
+     * are read from are unchanged; Otherwise, they are read in parallel and catalogues are updated.
+     *
+     * @param files the dictionary files
+     * @param sources the function returning the files the details of a dictionary file are read from
+     * @param factory the function creating the dictionary of a file; Created dictionaries shall read their details and
+     *     their words lazily
+     * @return the dictionaries, in the order of the given files, whose details are known
+     */
+    public List<Dictionary> catalogue(
+            final Collection<File> files,
+            final Function<File, ? extends Collection<File>> sources,
+            final Function<File, ? extends Dictionary> factory) {
+        final Map<Path, DirectoryCatalogue> catalogues = new ConcurrentHashMap<>();
+        final List<Dictionary> dictionaries = files.parallelStream()
+                .<Dictionary>map(file -> {
+                    final DirectoryCatalogue catalogue = catalogues.computeIfAbsent(directoryOf(file), this::load);
+                    return catalogued(file, sources.apply(file), factory.apply(file), catalogue);
+                })
+                .toList();
+        for (final DirectoryCatalogue catalogue : catalogues.values()) {
+            removeMissing(catalogue, files);
+            if (catalogue.file != null && catalogue.modified.get()) {
+                save(catalogue);
+            }
+        }
+        return dictionaries;
+    }
+
+    /**
+     * Returns the given dictionary with its details, taken from the given catalogue if up-to-date.
+     *
+     * @param file the dictionary file
+     * @param sources the files the details of the dictionary are read from
+     * @param dictionary the dictionary
+     * @param catalogue the catalogue of the directory of the dictionary file
+     * @return the given dictionary with its details
+     */
+    private static Dictionary catalogued(
+            final File file,
+            final Collection<File> sources,
+            final Dictionary dictionary,
+            final DirectoryCatalogue catalogue) {
+        final Properties entries = catalogue.entries;
+        final String key = file.getName();
+        final String stamp = stampOf(sources);
+        final String name = entries.getProperty(key + NAME);
+        final String locale = entries.getProperty(key + LOCALE);
+        final String description = entries.getProperty(key + DESCRIPTION);
+        final DictionaryDetails details;
+        if (stamp.equals(entries.getProperty(key + STAMP)) && name != null && locale != null && description != null) {
+            details = new DictionaryDetails(name, Locale.forLanguageTag(locale), description);
+        } else {
+            details = dictionary.details();
+            if (!details.equals(DictionaryDetails.unknown())) {
+                // Stamp last, so that a concurrent reader never sees a valid stamp with outdated details
+                entries.setProperty(key + NAME, details.name());
+                entries.setProperty(key + LOCALE, details.locale().toLanguageTag());
+                entries.setProperty(key + DESCRIPTION, details.description());
+                entries.setProperty(key + STAMP, stamp);
+                catalogue.modified.set(true);
+            }
+        }
+        return new CataloguedDictionary(dictionary, details);
+    }
+
+    /**
+     * Computes the stamp of the given files, i.e. a string which changes when any of the files changes.
+     *
+     * @param files the files
+     * @return the stamp of the given files
+     */
+    static String stampOf(final Collection<File> files) {
+        return files.stream().map(f -> f.lastModified() + "/" + f.length()).collect(joining(","));
+    }
+
+    /**
+     * Returns the absolute directory of the given file.
+     *
+     * @param file the file
+     * @return the absolute directory of the given file
+     */
+    private static Path directoryOf(final File file) {
+        return file.getAbsoluteFile().toPath().getParent();
+    }
+
+    /**
+     * Loads the catalogue of the given directory.
+     *
+     * @param directory the directory
+     * @return the catalogue of the given directory; An empty catalogue if catalogue file does not exist or cannot be
+     *     read, or if catalogues are not persisted
+     */
+    private DirectoryCatalogue load(final Path directory) {
+        final Properties entries = new Properties();
+        if (cacheDirectory == null) {
+            return new DirectoryCatalogue(directory, null, entries);
+        }
+        final Path file = cacheDirectory.resolve(providerId + "-" + digest(directory.toString()) + FILE_EXTENSION);
+        try (final InputStream is = Files.newInputStream(file)) {
+            entries.load(is);
+        } catch (final NoSuchFileException e) {
+            // No catalogue yet, will be created
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.log(Level.FINE, e, () -> "Ignoring unreadable dictionary catalogue " + file);
+            entries.clear();
+        }
+        return new DirectoryCatalogue(directory, file, entries);
+    }
+
+    /**
+     * Computes the digest of the given string.
+     *
+     * @param string the string
+     * @return the digest of the given string, as an hexadecimal string
+     */
+    private static String digest(final String string) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(string.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be supported by all Java platforms
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Removes the entries of the dictionaries which are not in the given files from the given catalogue.
+     *
+     * @param catalogue the catalogue
+     * @param files the dictionary files
+     */
+    private static void removeMissing(final DirectoryCatalogue catalogue, final Collection<File> files) {
+        final Set<String> present = files.stream()
+                .filter(f -> directoryOf(f).equals(catalogue.directory))
+                .map(File::getName)
+                .collect(toSet());
+        for (final String key : catalogue.entries.stringPropertyNames()) {
+            final boolean missing = SUFFIXES.stream()
+                    .filter(key::endsWith)
+                    .findFirst()
+                    .map(suffix -> !present.contains(key.substring(0, key.length() - suffix.length())))
+                    .orElse(true);
+            if (missing) {
+                catalogue.entries.remove(key);
+                catalogue.modified.set(true);
+            }
+        }
+    }
+
+    /**
+     * Saves the given catalogue.
+     *
+     * <p>Catalogue is written to a temporary file first, then moved, so that a concurrent reader never reads a partial
+     * catalogue.
+     *
+     * @param catalogue the catalogue to save
+     */
+    private static void save(final DirectoryCatalogue catalogue) {
+        final Path file = catalogue.file;
+        // Temporary file is specific to this process, in case another process saves the same catalogue
+        final Path temporaryFile = file.resolveSibling(
+                file.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (final OutputStream os = Files.newOutputStream(temporaryFile)) {
+                catalogue.entries.store(
+                        os, "Catalogue of dictionaries of " + catalogue.directory + ", generated by croiseur");
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, e, () -> "Failed to save dictionary catalogue " + file);
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (final IOException deletionFailure) {
+                LOGGER.log(Level.FINE, deletionFailure, () -> "Failed to delete " + temporaryFile);
+            }
+        }
+    }
+}
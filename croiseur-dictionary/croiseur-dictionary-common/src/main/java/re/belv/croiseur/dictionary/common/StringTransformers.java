@@ -6,6 +6,7 @@
 package re.belv.croiseur.dictionary.common;
 
 import java.text.Normalizer;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /** Common transformations performed on dictionary entries so that it suits crossword usage. */
@@ -27,6 +28,25 @@ public final class StringTransformers {
 
     private static final StringTransformer REMOVE_BLANKS = in -> in.replace(" ", "");
 
+    /** Marks ASCII characters removed from crossword entries in {@link #ASCII_CROSSWORD_ENTRY_CHARACTERS}. */
+    private static final char REMOVED = '\uFFFF';
+
+    /**
+     * The transformation of each ASCII character by {@link #toAcceptableCrosswordEntry()}: Blanks and punctuation are
+     * {@link #REMOVED}, lower case letters are converted to upper case, other characters are left untouched.
+     */
+    private static final char[] ASCII_CROSSWORD_ENTRY_CHARACTERS = asciiCrosswordEntryCharacters();
+
+    /**
+     * The transformation applied by {@link #toAcceptableCrosswordEntry()} to strings not handled by
+     * {@link #toAcceptableAsciiCrosswordEntry(String)}.
+     */
+    private static final StringTransformer TO_ACCEPTABLE_CROSSWORD_ENTRY = s -> REMOVE_BLANKS
+            .andThen(REMOVE_ACCENTUATION)
+            .andThen(REMOVE_PUNCTUATION)
+            .andThen(toUpperCase())
+            .apply(s);
+
     /** Private constructor to prevent instantiation. */
     private StringTransformers() {
         // Nothing to do.
@@ -72,13 +92,83 @@ public final class StringTransformers {
      * Returns a {@link StringTransformer} applying all known transformations so that transformed string is an
      * acceptable crossword entry.
      *
+     * <p>Result is the same as applying {@link #removeBlanks()}, {@link #removeAccentuation()},
+     * {@link #removePunctuation()} and {@link #toUpperCase()} in sequence, but pure ASCII strings are transformed in a
+     * single pass, without Unicode normalisation nor regular expression.
+     *
      * @return a {@link StringTransformer} applying all known transformations
      */
     public static StringTransformer toAcceptableCrosswordEntry() {
-        return s -> removeBlanks()
-                .andThen(removeAccentuation())
-                .andThen(removePunctuation())
-                .andThen(toUpperCase())
-                .apply(s);
+        return s -> {
+            final String asciiEntry = toAcceptableAsciiCrosswordEntry(s);
+            return asciiEntry != null ? asciiEntry : TO_ACCEPTABLE_CROSSWORD_ENTRY.apply(s);
+        };
+    }
+
+    /**
+     * Transforms the given string into an acceptable crossword entry, if it is a pure ASCII string.
+     *
+     * <p>Upper case conversion depends on the default locale: Languages whose upper case of ASCII letters is not ASCII
+     * (Turkish and Azerbaijani dotted i) are not handled.
+     *
+     * @param in the string to transform
+     * @return the transformed string, or {@code null} if given string is not handled
+     */
+    private static String toAcceptableAsciiCrosswordEntry(final String in) {
+        if (hasNonAsciiUpperCase()) {
+            return null;
+        }
+        final int length = in.length();
+        char[] out = null;
+        int outLength = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = in.charAt(i);
+            if (c >= ASCII_CROSSWORD_ENTRY_CHARACTERS.length) {
+                return null;
+            }
+            final char transformed = ASCII_CROSSWORD_ENTRY_CHARACTERS[c];
+            if (out == null) {
+                if (transformed == c) {
+                    // Unchanged so far, no need to copy
+                    continue;
+                }
+                out = new char[length];
+                in.getChars(0, i, out, 0);
+                outLength = i;
+            }
+            if (transformed != REMOVED) {
+                out[outLength++] = transformed;
+            }
+        }
+        return out == null ? in : new String(out, 0, outLength);
+    }
+
+    /**
+     * Whether upper case conversion in the default locale may turn ASCII letters into non-ASCII letters.
+     *
+     * @return {@code true} if upper case conversion in the default locale may turn ASCII letters into non-ASCII letters
+     */
+    private static boolean hasNonAsciiUpperCase() {
+        final String language = Locale.getDefault().getLanguage();
+        return language.equals("tr") || language.equals("az");
+    }
+
+    /**
+     * Computes the transformation of each ASCII character.
+     *
+     * @return the transformation of each ASCII character
+     */
+    private static char[] asciiCrosswordEntryCharacters() {
+        final char[] characters = new char[128];
+        for (char c = 0; c < characters.length; c++) {
+            if (c == ' ' || PUNCTUATION.matcher(String.valueOf(c)).matches()) {
+                characters[c] = REMOVED;
+            } else if (c >= 'a' && c <= 'z') {
+                characters[c] = (char) (c - 'a' + 'A');
+            } else {
+                characters[c] = c;
+            }
+        }
+        return characters;
     }
 }
@@ -0,0 +1,413 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import re.belv.croiseur.common.dictionary.WordPool;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChange;
+import re.belv.croiseur.spi.dictionary.DictionaryChangeListener;
+
+/**
+ * The dictionaries of a local filesystem provider, reloaded when their files change.
+ *
+ * <p>Dictionary files are listed from a {@link DictionaryPath} and {@link DictionaryCatalogue catalogued} on first
+ * access. Once a listener is added, the directories of the dictionary path are watched: When files are created, deleted
+ * or modified, dictionary files are listed again and only the dictionaries whose files have changed are created again.
+ * Unchanged dictionaries are kept as is, along with their loaded words. Listeners are then notified of each change.
+ * When the dictionaries which are modified or removed held most of the words of the {@link WordPool#shared() shared
+ * word pool}, the pool is {@link WordPool#renewShared() renewed}, so that these words can be released. The pool is kept
+ * otherwise: Renewing it would not release anything as long as the kept dictionaries refer to it, and the words of the
+ * kept dictionaries would be stored again in the new pool when merged with other words.
+ *
+ * <p>A provider may support appending: When the file of a dictionary whose words are loaded has only been appended to,
+ * the provider may extend the loaded words with the appended ones rather than reading the whole file again. The change
+ * is then notified with the appended words, so that dependents can update their indexes incrementally.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @param <D> the type of the dictionaries created by the provider
+ */
+public final class WatchedDictionaries<D extends Dictionary> {
+
+    /**
+     * A dictionary extended with appended words.
+     *
+     * @param dictionary the extended dictionary, whose words are the words of the original dictionary, in the same
+     *     order, followed by the appended words
+     * @param appendedWords the appended words, i.e. the words which were not in the original dictionary
+     * @param <D> the dictionary type
+     */
+    public record Appended<D>(D dictionary, List<String> appendedWords) {
+        // Nothing to add.
+    }
+
+    /**
+     * A listed dictionary.
+     *
+     * @param file the dictionary file
+     * @param stamp the stamp of the dictionary file and of its sources when dictionary was created
+     * @param dictionary the dictionary, as created by the provider
+     * @param published the dictionary, as published, i.e. with its catalogued details
+     * @param <D> the dictionary type
+     */
+    private record Entry<D>(File file, String stamp, D dictionary, Dictionary published) {
+        // Nothing to add.
+    }
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(WatchedDictionaries.class.getName());
+
+    /** The delay without file events after which dictionaries are listed again, in milliseconds. */
+    private static final long QUIET_PERIOD = 200L;
+
+    /** The catalogue of the dictionaries. */
+    private final DictionaryCatalogue catalogue;
+
+    /** The dictionary path supplier. */
+    private final Supplier<DictionaryPath> path;
+
+    /** The filter of the dictionary files. */
+    private final Predicate<File> filter;
+
+    /** The function returning the files the details of a dictionary file are read from. */
+    private final Function<File, ? extends Collection<File>> sources;
+
+    /** The function creating the dictionary of a file. */
+    private final Function<File, ? extends D> factory;
+
+    /** The function extending a dictionary with the words appended to its file, if possible. */
+    private final Function<? super D, Optional<Appended<D>>> appender;
+
+    /** The function returning the number of words of a dictionary stored in the shared word pool. */
+    private final ToIntFunction<? super D> pooledWordCount;
+
+    /** The change listeners. */
+    private final List<DictionaryChangeListener> listeners;
+
+    /** The listed dictionaries, in listing order; {@code null} until first listed. Guarded by {@code this}. */
+    private List<Entry<D>> entries;
+
+    /** Whether dictionary directories are watched. Guarded by {@code this}. */
+    private boolean watching;
+
+    /**
+     * Constructs an instance, for dictionaries which do not support appending and whose words are not stored in the
+     * {@link WordPool#shared() shared word pool}.
+     *
+     * @param catalogueArg the catalogue of the dictionaries
+     * @param pathArg the dictionary path supplier
+     * @param filterArg the filter of the dictionary files
+     * @param factoryArg the function creating the dictionary of a file; Created dictionaries shall read their details
+     *     and their words lazily
+     */
+    public WatchedDictionaries(
+            final DictionaryCatalogue catalogueArg,
+            final Supplier<DictionaryPath> pathArg,
+            final Predicate<File> filterArg,
+            final Function<File, ? extends D> factoryArg) {
+        this(catalogueArg, pathArg, filterArg, List::of, factoryArg, dictionary -> Optional.empty(), dictionary -> 0);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param catalogueArg the catalogue of the dictionaries
+     * @param pathArg the dictionary path supplier
+     * @param filterArg the filter of the dictionary files
+     * @param sourcesArg the function returning the files the details of a dictionary file are read from; A dictionary
+     *     is created again when its file or any of these files is modified
+     * @param factoryArg the function creating the dictionary of a file; Created dictionaries shall read their details
+     *     and their words lazily
+     * @param appenderArg the function extending a dictionary with the words appended to its file; Shall return an empty
+     *     optional if dictionary words are not loaded or if the file has been modified otherwise than by appending
+     * @param pooledWordCountArg the function returning the number of words of a dictionary stored in the
+     *     {@link WordPool#shared() shared word pool}; Shall return 0 if dictionary words are not loaded and shall not
+     *     load them
+     */
+    public WatchedDictionaries(
+            final DictionaryCatalogue catalogueArg,
+            final Supplier<DictionaryPath> pathArg,
+            final Predicate<File> filterArg,
+            final Function<File, ? extends Collection<File>> sourcesArg,
+            final Function<File, ? extends D> factoryArg,
+            final Function<? super D, Optional<Appended<D>>> appenderArg,
+            final ToIntFunction<? super D> pooledWordCountArg) {
+        catalogue = Objects.requireNonNull(catalogueArg);
+        path = Objects.requireNonNull(pathArg);
+        filter = Objects.requireNonNull(filterArg);
+        sources = Objects.requireNonNull(sourcesArg);
+        factory = Objects.requireNonNull(factoryArg);
+        appender = Objects.requireNonNull(appenderArg);
+        pooledWordCount = Objects.requireNonNull(pooledWordCountArg);
+        listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the dictionaries, listing them if needed.
+     *
+     * @return the dictionaries, in listing order
+     */
+    public synchronized List<Dictionary> get() {
+        if (entries == null) {
+            entries = list(Map.of(), new ArrayList<>());
+        }
+        return entries.stream().map(Entry::published).toList();
+    }
+
+    /**
+     * Adds a change listener.
+     *
+     * <p>Dictionary directories are watched from the first added listener on, until the virtual machine exits.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(final DictionaryChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        synchronized (this) {
+            if (!watching) {
+                watching = true;
+                Thread.ofPlatform().name("croiseur-dictionary-watcher").daemon().start(this::watch);
+            }
+        }
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(final DictionaryChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Lists the dictionaries again and notifies the listeners of the changes.
+     *
+     * <p>Nothing happens if dictionaries have never been listed, since no one can depend on them.
+     */
+    void refresh() {
+        final List<DictionaryChange> changes = new ArrayList<>();
+        final boolean renewPool;
+        synchronized (this) {
+            if (entries == null) {
+                return;
+            }
+            final Map<File, Entry<D>> previousEntries = new HashMap<>();
+            entries.forEach(entry -> previousEntries.put(entry.file(), entry));
+            final List<Entry<D>> previousList = entries;
+            entries = list(previousEntries, changes);
+            renewPool = mostlyDiscarded(previousList, entries);
+        }
+        if (renewPool) {
+            // Words of the previous dictionaries are released once nothing refers to them anymore
+            WordPool.renewShared();
+        }
+        for (final DictionaryChange change : changes) {
+            LOGGER.fine(() -> "Dictionary change: " + change.type() + " " + change);
+            for (final DictionaryChangeListener listener : listeners) {
+                try {
+                    listener.dictionaryChanged(change);
+                } catch (final RuntimeException e) {
+                    LOGGER.log(Level.WARNING, e, () -> "Dictionary change listener failed");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the words of the shared word pool are mostly words of discarded dictionaries.
+     *
+     * <p>The words still in use are estimated as the sum of the pooled words of the listed dictionaries: Words common
+     * to several dictionaries are counted several times, so that the pool is renewed only if it is certainly worth it.
+     *
+     * @param previousEntries the previously listed dictionaries
+     * @param currentEntries the listed dictionaries
+     * @return {@code true} if some words of discarded dictionaries are in the shared word pool and if the words of the
+     *     listed dictionaries are at most half of the words of the pool
+     */
+    private boolean mostlyDiscarded(final List<Entry<D>> previousEntries, final List<Entry<D>> currentEntries) {
+        final Set<D> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        long usedWords = 0;
+        for (final Entry<D> entry : currentEntries) {
+            current.add(entry.dictionary());
+            usedWords += pooledWordCount.applyAsInt(entry.dictionary());
+        }
+        long discardedWords = 0;
+        for (final Entry<D> entry : previousEntries) {
+            if (!current.contains(entry.dictionary())) {
+                discardedWords += pooledWordCount.applyAsInt(entry.dictionary());
+            }
+        }
+        final int poolSize = WordPool.shared().size();
+        final long used = usedWords;
+        final long discarded = discardedWords;
+        LOGGER.fine(() -> "Shared word pool: " + poolSize + " words, " + used + " used by listed dictionaries, "
+                + discarded + " used by discarded dictionaries");
+        return discarded > 0 && used * 2 <= poolSize;
+    }
+
+    /**
+     * Lists the dictionaries.
+     *
+     * @param previousEntries the previously listed dictionaries, by file
+     * @param changes the list where the changes since previous listing are added
+     * @return the listed dictionaries, in listing order
+     */
+    private List<Entry<D>> list(final Map<File, Entry<D>> previousEntries, final List<DictionaryChange> changes) {
+        final List<File> files = path.get().list().stream().filter(filter).toList();
+        final Map<File, String> stamps = new HashMap<>();
+        files.forEach(file -> stamps.put(file, stampOf(file)));
+
+        final Map<File, D> dictionaries = new ConcurrentHashMap<>();
+        final Map<File, List<String>> appendedWords = new ConcurrentHashMap<>();
+        final List<Dictionary> catalogued = catalogue.catalogue(files, sources, file -> {
+            final Entry<D> previous = previousEntries.get(file);
+            final D dictionary;
+            if (previous == null) {
+                dictionary = factory.apply(file);
+            } else if (previous.stamp().equals(stamps.get(file))) {
+                dictionary = previous.dictionary();
+            } else {
+                final Optional<Appended<D>> appended = appender.apply(previous.dictionary());
+                appended.ifPresent(a -> appendedWords.put(file, a.appendedWords()));
+                dictionary = appended.map(Appended::dictionary).orElseGet(() -> factory.apply(file));
+            }
+            dictionaries.put(file, dictionary);
+            return dictionary;
+        });
+
+        final List<Entry<D>> newEntries = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final File file = files.get(i);
+            final Entry<D> previous = previousEntries.get(file);
+            final D dictionary = dictionaries.get(file);
+            if (previous == null) {
+                newEntries.add(new Entry<>(file, stamps.get(file), dictionary, catalogued.get(i)));
+                changes.add(DictionaryChange.added(catalogued.get(i)));
+            } else if (previous.dictionary() == dictionary) {
+                // Unchanged: Keep published dictionary as is
+                newEntries.add(previous);
+            } else {
+                newEntries.add(new Entry<>(file, stamps.get(file), dictionary, catalogued.get(i)));
+                final List<String> appended = appendedWords.get(file);
+                changes.add(
+                        appended != null
+                                ? DictionaryChange.appended(previous.published(), catalogued.get(i), appended)
+                                : DictionaryChange.modified(previous.published(), catalogued.get(i)));
+            }
+        }
+        final Set<File> listedFiles = Set.copyOf(files);
+        previousEntries.values().stream()
+                .filter(previous -> !listedFiles.contains(previous.file()))
+                .forEach(previous -> changes.add(DictionaryChange.removed(previous.published())));
+
+        return newEntries;
+    }
+
+    /**
+     * Computes the stamp of the given dictionary file and of its sources.
+     *
+     * @param file the dictionary file
+     * @return the stamp of the given dictionary file and of its sources
+     */
+    private String stampOf(final File file) {
+        return DictionaryCatalogue.stampOf(Stream.concat(Stream.of(file), sources.apply(file).stream())
+                .distinct()
+                .toList());
+    }
+
+    /** Watches the dictionary directories and lists dictionaries again when files change. */
+    private void watch() {
+        try (final WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            boolean registered = false;
+            for (final Path directory : directories()) {
+                try {
+                    directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                    registered = true;
+                } catch (final IOException e) {
+                    LOGGER.log(Level.FINE, e, () -> "Cannot watch dictionary directory " + directory);
+                }
+            }
+            while (registered) {
+                // Wait for files to be quiet, so that a file being written triggers a single listing
+                boolean relevant = drain(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(key);
+                }
+                if (relevant) {
+                    refresh();
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Failed to watch dictionary directories, changes will not be detected");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the directories to watch, i.e. the existing directories of the dictionary path and the directories of the
+     * files of the dictionary path.
+     *
+     * @return the directories to watch
+     */
+    private Set<Path> directories() {
+        final Set<Path> directories = new LinkedHashSet<>();
+        for (final String entry : path.get().split()) {
+            final File file = new File(entry).getAbsoluteFile();
+            if (file.isDirectory()) {
+                directories.add(file.toPath());
+            } else if (file.isFile() && file.getParentFile() != null) {
+                directories.add(file.getParentFile().toPath());
+            }
+        }
+        return directories;
+    }
+
+    /**
+     * Consumes the events of the given watch key.
+     *
+     * @param key the watch key
+     * @return {@code true} if there was any event
+     */
+    private static boolean drain(final WatchKey key) {
+        final boolean relevant = !key.pollEvents().isEmpty();
+        key.reset();
+        return relevant;
+    }
+}
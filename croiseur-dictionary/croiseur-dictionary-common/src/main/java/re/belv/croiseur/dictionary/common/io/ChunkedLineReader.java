@@ -0,0 +1,410 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads the lines of a large UTF-8 text file in parallel.
+ *
+ * <p>The file is mapped in memory and split into line-aligned chunks. Chunks are decoded, filtered and transformed in
+ * parallel, then merged in file order: Results are the same as those of a sequential read with
+ * {@link java.nio.file.Files#lines(Path)}, including the order of the lines.
+ *
+ * <p>Compressed files (see {@link CompressedFiles}) cannot be mapped: They are decompressed on the fly and read
+ * sequentially.
+ */
+public final class ChunkedLineReader {
+
+    /**
+     * Distinct lines read from a range of a file, with the checksums of the read chunks.
+     *
+     * @param lines the distinct transformed lines, in order of first occurrence in range
+     * @param checksums the checksums of the read chunks
+     */
+    public record ChecksummedLines(LinkedHashSet<String> lines, RangeChecksums checksums) {
+        // Nothing to add.
+    }
+
+    /** The minimal size of a chunk, in bytes. Smaller files are read in a single chunk. */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    /** The number of chunks per available processor, to balance load between processors. */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    /** The size of the window read when looking for the end of a line at a chunk boundary. */
+    private static final int BOUNDARY_WINDOW_SIZE = 8192;
+
+    /** Private constructor to prevent instantiation. */
+    private ChunkedLineReader() {
+        // Nothing to do.
+    }
+
+    /**
+     * Reads all the lines of the given file, transformed.
+     *
+     * @param path the file to read
+     * @param transformer the transformation to apply to each line
+     * @return the transformed lines, in file order
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    public static List<String> readLines(final Path path, final Function<? super String, String> transformer)
+            throws IOException {
+        return readLines(path, line -> true, transformer);
+    }
+
+    /**
+     * Reads the lines of the given file matching the given filter, transformed.
+     *
+     * @param path the file to read
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @return the transformed lines, in file order
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    public static List<String> readLines(
+            final Path path, final Predicate<? super String> filter, final Function<? super String, String> transformer)
+            throws IOException {
+        return readLines(path, filter, transformer, chunkSizeOf(path));
+    }
+
+    /**
+     * Reads the distinct lines of the given file matching the given filter, transformed.
+     *
+     * <p>Lines are deduplicated after transformation. Each chunk is deduplicated in parallel; Chunk results are then
+     * merged in file order, so that the order of the returned set is the order of first occurrence in file.
+     *
+     * @param path the file to read
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @return the distinct transformed lines, in order of first occurrence in file
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    public static LinkedHashSet<String> readDistinctLines(
+            final Path path, final Predicate<? super String> filter, final Function<? super String, String> transformer)
+            throws IOException {
+        return readDistinctLines(path, filter, transformer, chunkSizeOf(path));
+    }
+
+    /**
+     * Reads the distinct lines of the given range of the given file matching the given filter, transformed, and
+     * computes the checksums of the read chunks.
+     *
+     * <p>Each chunk is checksummed by the thread decoding it, so that file is read once. Typically used to read a file,
+     * then the lines appended to it, while being able to verify later that the read part is unchanged. Same as
+     * {@link #readDistinctLines(Path, Predicate, Function)} otherwise.
+     *
+     * @param path the file to read, not compressed
+     * @param offset the offset to start reading at, in bytes; Must be the start of a line
+     * @param end the offset to stop reading at, exclusive, in bytes; Must be the end of a line or the file size, which
+     *     it is reduced to if greater
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @return the distinct transformed lines of the given range, in order of first occurrence in file, and the
+     *     checksums of the read range
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     * @throws IllegalArgumentException if file is compressed or if offset is negative or greater than end
+     */
+    public static ChecksummedLines readDistinctLines(
+            final Path path,
+            final long offset,
+            final long end,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer)
+            throws IOException {
+        if (offset < 0
+                || offset > end
+                || CompressedFiles.isCompressed(path.getFileName().toString())) {
+            throw new IllegalArgumentException("Cannot read " + path + " from offset " + offset + " to " + end);
+        }
+        final List<ByteBuffer> chunks = map(path, offset, end, chunkSizeOf(path));
+        final long[] ends = new long[chunks.size()];
+        long position = offset;
+        for (int i = 0; i < ends.length; i++) {
+            position += chunks.get(i).capacity();
+            ends[i] = position;
+        }
+        final int[] checksums = new int[chunks.size()];
+        final List<LinkedHashSet<String>> lines =
+                read(chunks, filter, transformer, Collectors.toCollection(LinkedHashSet::new), checksums);
+        return new ChecksummedLines(merge(lines), new RangeChecksums(offset, ends, checksums));
+    }
+
+    /**
+     * Reads the lines of the given file matching the given filter, transformed, with the given chunk size.
+     *
+     * @param path the file to read
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @param chunkSize the target chunk size, in bytes
+     * @return the transformed lines, in file order
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    static List<String> readLines(
+            final Path path,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer,
+            final long chunkSize)
+            throws IOException {
+        final List<List<String>> chunks =
+                read(path, 0L, filter, transformer, Collectors.toCollection(ArrayList::new), chunkSize);
+        final List<String> lines =
+                new ArrayList<>(chunks.stream().mapToInt(List::size).sum());
+        chunks.forEach(lines::addAll);
+        return lines;
+    }
+
+    /**
+     * Reads the distinct lines of the given file matching the given filter, transformed, with the given chunk size.
+     *
+     * @param path the file to read
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @param chunkSize the target chunk size, in bytes
+     * @return the distinct transformed lines, in order of first occurrence in file
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    static LinkedHashSet<String> readDistinctLines(
+            final Path path,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer,
+            final long chunkSize)
+            throws IOException {
+        final List<LinkedHashSet<String>> chunks =
+                read(path, 0L, filter, transformer, Collectors.toCollection(LinkedHashSet::new), chunkSize);
+        return merge(chunks);
+    }
+
+    /**
+     * Merges the given chunks of distinct lines, in order.
+     *
+     * @param chunks the chunks of distinct lines, in file order
+     * @return the distinct lines, in order of first occurrence in file
+     */
+    private static LinkedHashSet<String> merge(final List<LinkedHashSet<String>> chunks) {
+        final LinkedHashSet<String> lines = LinkedHashSet.newLinkedHashSet(
+                chunks.stream().mapToInt(LinkedHashSet::size).sum());
+        chunks.forEach(lines::addAll);
+        return lines;
+    }
+
+    /**
+     * Reads the given file by chunks, in parallel.
+     *
+     * @param path the file to read
+     * @param offset the offset to start reading at, in bytes; Ignored if file is compressed
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @param collector the collector of the transformed lines of a chunk
+     * @param chunkSize the target chunk size, in bytes
+     * @param <C> the type of the chunk result
+     * @return the chunk results, in file order
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    private static <C> List<C> read(
+            final Path path,
+            final long offset,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer,
+            final Collector<String, ?, C> collector,
+            final long chunkSize)
+            throws IOException {
+        if (CompressedFiles.isCompressed(path.getFileName().toString())) {
+            return List.of(readSequentially(path, filter, transformer, collector));
+        }
+        return read(map(path, offset, Long.MAX_VALUE, chunkSize), filter, transformer, collector, null);
+    }
+
+    /**
+     * Reads the given chunks, in parallel.
+     *
+     * @param chunks the chunks to read, in file order
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @param collector the collector of the transformed lines of a chunk
+     * @param checksums the array where the CRC-32C checksum of each chunk is written, {@code null} if not needed
+     * @param <C> the type of the chunk result
+     * @return the chunk results, in file order
+     * @throws IOException if chunks are not valid UTF-8
+     */
+    private static <C> List<C> read(
+            final List<ByteBuffer> chunks,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer,
+            final Collector<String, ?, C> collector,
+            final int[] checksums)
+            throws IOException {
+        try {
+            return IntStream.range(0, chunks.size())
+                    .parallel()
+                    .mapToObj(i -> {
+                        final ByteBuffer chunk = chunks.get(i);
+                        if (checksums != null) {
+                            final CRC32C checksum = new CRC32C();
+                            checksum.update(chunk.duplicate());
+                            checksums[i] = (int) checksum.getValue();
+                        }
+                        return decode(chunk)
+                                .lines()
+                                .filter(filter)
+                                .map(transformer)
+                                .collect(collector);
+                    })
+                    .toList();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the given compressed file sequentially, as a single chunk.
+     *
+     * @param path the file to read
+     * @param filter the filter to apply to each line, before transformation
+     * @param transformer the transformation to apply to each line
+     * @param collector the collector of the transformed lines
+     * @param <C> the type of the result
+     * @return the collected lines
+     * @throws IOException if file cannot be read or is not valid UTF-8
+     */
+    private static <C> C readSequentially(
+            final Path path,
+            final Predicate<? super String> filter,
+            final Function<? super String, String> transformer,
+            final Collector<String, ?, C> collector)
+            throws IOException {
+        try (final BufferedReader reader =
+                        new BufferedReader(new InputStreamReader(CompressedFiles.newInputStream(path), newDecoder()));
+                final Stream<String> lines = reader.lines()) {
+            return lines.filter(filter).map(transformer).collect(collector);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Maps the given range of the given file in memory, as line-aligned chunks.
+     *
+     * @param path the file to map
+     * @param offset the offset to start mapping at, in bytes
+     * @param end the offset to stop mapping at, exclusive, in bytes; Reduced to the file size if greater
+     * @param chunkSize the target chunk size, in bytes
+     * @return the chunks, in file order
+     * @throws IOException if file cannot be mapped
+     */
+    private static List<ByteBuffer> map(final Path path, final long offset, final long end, final long chunkSize)
+            throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long limit = Math.min(channel.size(), end);
+            final List<ByteBuffer> chunks = new ArrayList<>();
+            long start = offset;
+            while (start < limit) {
+                final long chunkEnd = endOfLine(channel, Math.min(start + chunkSize, limit) - 1, limit);
+                if (chunkEnd - start > Integer.MAX_VALUE) {
+                    throw new IOException("Line too long at offset " + start + " of " + path);
+                }
+                // Mappings remain valid after channel is closed
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, chunkEnd - start));
+                start = chunkEnd;
+            }
+            return chunks;
+        }
+    }
+
+    /**
+     * Finds the end of the line containing the given position.
+     *
+     * <p>Lines are split after line feeds: Since a line feed byte cannot be part of a multibyte UTF-8 sequence, this
+     * never splits a character, nor a carriage return - line feed sequence.
+     *
+     * @param channel the file channel
+     * @param position the position
+     * @param limit the end of the read range, at most the file size
+     * @return the position following the line feed ending the line, or the limit if line is the last one of the range
+     * @throws IOException if file cannot be read
+     */
+    private static long endOfLine(final FileChannel channel, final long position, final long limit) throws IOException {
+        final ByteBuffer window = ByteBuffer.allocate(BOUNDARY_WINDOW_SIZE);
+        long windowStart = position;
+        while (windowStart < limit) {
+            window.clear().limit((int) Math.min(BOUNDARY_WINDOW_SIZE, limit - windowStart));
+            final int read = channel.read(window, windowStart);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return windowStart + i + 1;
+                }
+            }
+            windowStart += read;
+        }
+        return limit;
+    }
+
+    /**
+     * Decodes the given chunk.
+     *
+     * @param chunk the chunk
+     * @return the decoded chunk
+     * @throws UncheckedIOException if chunk is not valid UTF-8
+     */
+    private static String decode(final ByteBuffer chunk) {
+        try {
+            return newDecoder().decode(chunk).toString();
+        } catch (final CharacterCodingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a strict UTF-8 decoder, reporting malformed input instead of replacing it.
+     *
+     * @return a new strict UTF-8 decoder
+     */
+    private static CharsetDecoder newDecoder() {
+        return StandardCharsets.UTF_8
+                .newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    /**
+     * Computes the target chunk size for the given file, so that file is split in a few chunks per available processor,
+     * none of them being smaller than {@link #MIN_CHUNK_SIZE}.
+     *
+     * @param path the file
+     * @return the target chunk size
+     * @throws IOException if file size cannot be read
+     */
+    private static long chunkSizeOf(final Path path) throws IOException {
+        final long fileSize = Files.size(path);
+        final int chunkCount = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        return Math.max(MIN_CHUNK_SIZE, fileSize / chunkCount + 1);
+    }
+}
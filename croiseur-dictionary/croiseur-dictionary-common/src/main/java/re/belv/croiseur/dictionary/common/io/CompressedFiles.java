@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Transparent access to gzip-compressed dictionary files.
+ *
+ * <p>A file is considered compressed if its name ends with {@value #GZIP_EXTENSION}, e.g. {@code words.txt.gz}. Streams
+ * opened by this class are decompressed or compressed on the fly, with buffers large enough to keep reads and writes on
+ * slow volumes efficient.
+ */
+public final class CompressedFiles {
+
+    /** The extension of gzip-compressed files. */
+    public static final String GZIP_EXTENSION = ".gz";
+
+    /** The buffer size, in bytes. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Private constructor to prevent instantiation. */
+    private CompressedFiles() {
+        // Nothing to do.
+    }
+
+    /**
+     * Returns whether the given file name denotes a gzip-compressed file.
+     *
+     * @param fileName the file name
+     * @return {@code true} if the given file name denotes a gzip-compressed file
+     */
+    public static boolean isCompressed(final String fileName) {
+        return fileName.endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns whether the given file name has the given extension, possibly followed by {@value #GZIP_EXTENSION}.
+     *
+     * @param fileName the file name
+     * @param extension the extension, e.g. {@code .txt}
+     * @return {@code true} if the given file name has the given extension, compressed or not
+     */
+    public static boolean hasExtension(final String fileName, final String extension) {
+        return uncompressedName(fileName).endsWith(extension);
+    }
+
+    /**
+     * Returns the given file name without its {@value #GZIP_EXTENSION} extension, if any.
+     *
+     * @param fileName the file name
+     * @return the given file name without its {@value #GZIP_EXTENSION} extension, if any
+     */
+    public static String uncompressedName(final String fileName) {
+        return isCompressed(fileName) ? fileName.substring(0, fileName.length() - GZIP_EXTENSION.length()) : fileName;
+    }
+
+    /**
+     * Opens the given file for reading, decompressing it if needed.
+     *
+     * <p>Returned stream is buffered and supports {@link InputStream#mark(int)}.
+     *
+     * @param file the file to read
+     * @return an input stream on the decompressed content of the file
+     * @throws IOException if file cannot be opened
+     */
+    public static InputStream newInputStream(final Path file) throws IOException {
+        return decompressIfNeeded(Files.newInputStream(file), file.getFileName().toString());
+    }
+
+    /**
+     * Opens the given URL for reading, decompressing its content if needed.
+     *
+     * <p>Returned stream is buffered and supports {@link InputStream#mark(int)}.
+     *
+     * @param url the URL to read
+     * @return an input stream on the decompressed content of the URL
+     * @throws IOException if URL cannot be opened
+     */
+    public static InputStream newInputStream(final URL url) throws IOException {
+        return decompressIfNeeded(url.openStream(), url.getPath());
+    }
+
+    /**
+     * Opens the given file for writing, compressing written data if file name ends with {@value #GZIP_EXTENSION}.
+     *
+     * @param file the file to write
+     * @return an output stream to the file
+     * @throws IOException if file cannot be opened
+     */
+    public static OutputStream newOutputStream(final Path file) throws IOException {
+        final OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        if (!isCompressed(file.getFileName().toString())) {
+            return out;
+        }
+        try {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        } catch (final IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps the given input stream into a buffered, decompressing if needed, input stream.
+     *
+     * @param in the raw input stream
+     * @param name the name of the source
+     * @return the decompressed input stream
+     * @throws IOException if stream is not a valid gzip stream
+     */
+    private static InputStream decompressIfNeeded(final InputStream in, final String name) throws IOException {
+        if (!isCompressed(name)) {
+            return new BufferedInputStream(in, BUFFER_SIZE);
+        }
+        try {
+            return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+        } catch (final IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
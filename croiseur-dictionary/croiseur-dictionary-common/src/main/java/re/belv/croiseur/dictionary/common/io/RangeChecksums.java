@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The CRC-32C checksums of consecutive ranges of a file, as computed by {@link ChunkedLineReader} while reading them.
+ *
+ * <p>Ranges are the chunks read in parallel: A checksum per range avoids reading the file again to compute a single
+ * checksum. Checksums can be {@link #matches verified} later, to check that the ranges are unchanged.
+ *
+ * <p>Instances are immutable.
+ */
+public final class RangeChecksums {
+
+    /** The size of the buffer used to verify checksums, in bytes. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The start of the first range, inclusive. */
+    private final long start;
+
+    /** The end of each range, exclusive, in file order. Each range starts at the end of the previous one. */
+    private final long[] ends;
+
+    /** The checksum of each range. */
+    private final int[] checksums;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param startArg the start of the first range, inclusive
+     * @param endsArg the end of each range, exclusive, in file order
+     * @param checksumsArg the checksum of each range
+     */
+    RangeChecksums(final long startArg, final long[] endsArg, final int[] checksumsArg) {
+        start = startArg;
+        ends = endsArg;
+        checksums = checksumsArg;
+    }
+
+    /**
+     * Returns the start of the first range.
+     *
+     * @return the start of the first range, inclusive, in bytes
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the last range.
+     *
+     * @return the end of the last range, exclusive, in bytes; {@link #start()} if there is no range
+     */
+    public long end() {
+        return ends.length == 0 ? start : ends[ends.length - 1];
+    }
+
+    /**
+     * Returns the checksums of the ranges of this instance followed by the ranges of the given instance.
+     *
+     * @param next the checksums of the ranges following the ranges of this instance
+     * @return the checksums of the ranges of this instance followed by the ranges of the given instance
+     * @throws IllegalArgumentException if given ranges do not start at the end of the ranges of this instance
+     */
+    public RangeChecksums append(final RangeChecksums next) {
+        if (next.start != end()) {
+            throw new IllegalArgumentException("Expected ranges starting at " + end() + ", got " + next.start);
+        }
+        final long[] newEnds = Arrays.copyOf(ends, ends.length + next.ends.length);
+        System.arraycopy(next.ends, 0, newEnds, ends.length, next.ends.length);
+        final int[] newChecksums = Arrays.copyOf(checksums, checksums.length + next.checksums.length);
+        System.arraycopy(next.checksums, 0, newChecksums, checksums.length, next.checksums.length);
+        return new RangeChecksums(start, newEnds, newChecksums);
+    }
+
+    /**
+     * Verifies the checksums against the given file.
+     *
+     * @param channel the file
+     * @return {@code true} if the ranges of the given file have the recorded checksums
+     * @throws IOException if file cannot be read
+     */
+    public boolean matches(final FileChannel channel) throws IOException {
+        if (channel.size() < end()) {
+            return false;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        final CRC32C checksum = new CRC32C();
+        long position = start;
+        for (int i = 0; i < ends.length; i++) {
+            checksum.reset();
+            while (position < ends[i]) {
+                buffer.clear().limit((int) Math.min(BUFFER_SIZE, ends[i] - position));
+                final int read = channel.read(buffer, position);
+                if (read < 0) {
+                    return false;
+                }
+                checksum.update(buffer.flip());
+                position += read;
+            }
+            if ((int) checksum.getValue() != checksums[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
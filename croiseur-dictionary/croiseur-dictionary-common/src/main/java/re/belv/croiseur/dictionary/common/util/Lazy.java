@@ -7,6 +7,7 @@ package re.belv.croiseur.dictionary.common.util;
 
 import java.lang.ref.SoftReference;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -54,12 +55,37 @@ public final class Lazy<T> implements Supplier<T> {
         return new Lazy<>(supplierArg);
     }
 
+    /**
+     * Creates a new {@link Lazy} value, already evaluated.
+     *
+     * <p>The given supplier is used to evaluate the value again if the given value is garbage-collected.
+     *
+     * @param value the value
+     * @param supplierArg the value supplier
+     * @param <T> the value type
+     * @return a new {@link Lazy} value, already evaluated
+     */
+    public static <T> Lazy<T> of(final T value, final Supplier<T> supplierArg) {
+        final Lazy<T> lazy = new Lazy<>(supplierArg);
+        lazy.cached = new SoftReference<>(Objects.requireNonNull(value));
+        return lazy;
+    }
+
     @Override
     public T get() {
         final T cachedValue = cachedValue();
         return cachedValue != null ? cachedValue : retrieveValue();
     }
 
+    /**
+     * Returns the value if it has already been evaluated, without evaluating it.
+     *
+     * @return the value if it has already been evaluated and has not been garbage-collected since
+     */
+    public Optional<T> peek() {
+        return Optional.ofNullable(cachedValue());
+    }
+
     /**
      * Retrieves the cached value.
      *
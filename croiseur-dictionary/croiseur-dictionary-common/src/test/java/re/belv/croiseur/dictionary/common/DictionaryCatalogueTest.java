@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+
+/** Tests on {@link DictionaryCatalogue}. */
+final class DictionaryCatalogueTest {
+
+    /** A dictionary counting the reads of its details, whose words must not be read. */
+    private static final class CountingDictionary implements Dictionary {
+
+        /** The details. */
+        private final DictionaryDetails details;
+
+        /** The number of reads of the details. */
+        private final AtomicInteger detailsReads;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param detailsArg the details
+         * @param detailsReadsArg the number of reads of the details
+         */
+        CountingDictionary(final DictionaryDetails detailsArg, final AtomicInteger detailsReadsArg) {
+            details = detailsArg;
+            detailsReads = detailsReadsArg;
+        }
+
+        @Override
+        public DictionaryDetails details() {
+            detailsReads.incrementAndGet();
+            return details;
+        }
+
+        @Override
+        public Set<String> words() {
+            throw new AssertionError("Words shall not be read when cataloguing dictionaries");
+        }
+    }
+
+    @TempDir
+    private Path directory;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private AtomicInteger detailsReads;
+
+    private File dictionaryFile;
+
+    @BeforeEach
+    void before() throws IOException {
+        detailsReads = new AtomicInteger();
+        dictionaryFile =
+                Files.writeString(directory.resolve("example.dic"), "HELLO").toFile();
+    }
+
+    @Test
+    void catalogue_readsDetailsOnlyOnce() {
+        final DictionaryDetails details = new DictionaryDetails("Example", Locale.FRENCH, "An example");
+
+        final List<Dictionary> first = catalogue(details);
+        final List<Dictionary> second = catalogue(details);
+
+        assertEquals(1, detailsReads.get());
+        assertEquals(List.of(details), first.stream().map(Dictionary::details).toList());
+        assertEquals(List.of(details), second.stream().map(Dictionary::details).toList());
+        assertEquals(1, catalogueFiles().size());
+        assertEquals(List.of("example.dic"), directoryFiles());
+    }
+
+    @Test
+    void catalogue_modifiedFile() throws IOException {
+        catalogue(new DictionaryDetails("Example", Locale.FRENCH, "An example"));
+        Files.writeString(dictionaryFile.toPath(), "HELLO WORLD");
+        final DictionaryDetails newDetails = new DictionaryDetails("New example", Locale.ENGLISH, "A new example");
+
+        final List<Dictionary> dictionaries = catalogue(newDetails);
+
+        assertEquals(2, detailsReads.get());
+        assertEquals(
+                List.of(newDetails),
+                dictionaries.stream().map(Dictionary::details).toList());
+    }
+
+    @Test
+    void catalogue_unknownDetailsNotCatalogued() {
+        catalogue(DictionaryDetails.unknown());
+        catalogue(DictionaryDetails.unknown());
+
+        assertEquals(2, detailsReads.get());
+        assertEquals(List.of(), catalogueFiles());
+    }
+
+    @Test
+    void catalogue_removedFile() throws IOException {
+        final File otherDictionaryFile =
+                Files.writeString(directory.resolve("other.dic"), "WORLD").toFile();
+        final DictionaryDetails details = new DictionaryDetails("Example", Locale.FRENCH, "An example");
+        DictionaryCatalogue.of("test", cacheDirectory)
+                .catalogue(
+                        List.of(dictionaryFile, otherDictionaryFile),
+                        file -> new CountingDictionary(details, detailsReads));
+        Files.delete(otherDictionaryFile.toPath());
+
+        catalogue(details);
+
+        assertEquals(2, detailsReads.get());
+        final String catalogueContent = Files.readString(catalogueFiles().getFirst());
+        assertTrue(catalogueContent.contains("example.dic"));
+        assertFalse(catalogueContent.contains("other.dic"));
+    }
+
+    @Test
+    void catalogue_notPersisted() {
+        final DictionaryDetails details = new DictionaryDetails("Example", Locale.FRENCH, "An example");
+
+        final List<Dictionary> dictionaries = DictionaryCatalogue.of("test", null)
+                .catalogue(List.of(dictionaryFile), file -> new CountingDictionary(details, detailsReads));
+
+        assertEquals(1, detailsReads.get());
+        assertEquals(
+                List.of(details), dictionaries.stream().map(Dictionary::details).toList());
+        assertEquals(List.of(), catalogueFiles());
+        assertEquals(List.of("example.dic"), directoryFiles());
+    }
+
+    /**
+     * Catalogues {@link #dictionaryFile}.
+     *
+     * @param details the details of the dictionary, if read
+     * @return the catalogued dictionaries
+     */
+    private List<Dictionary> catalogue(final DictionaryDetails details) {
+        return DictionaryCatalogue.of("test", cacheDirectory)
+                .catalogue(List.of(dictionaryFile), file -> new CountingDictionary(details, detailsReads));
+    }
+
+    /**
+     * Lists the files of {@link #cacheDirectory}.
+     *
+     * @return the catalogue files
+     */
+    private List<Path> catalogueFiles() {
+        try (final Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lists the file names of {@link #directory}.
+     *
+     * @return the file names of the dictionary directory
+     */
+    private List<String> directoryFiles() {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,12 +6,34 @@
 package re.belv.croiseur.dictionary.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 /** Tests for {@link StringTransformers}. */
 final class StringTransformersTest {
 
+    /** The directories containing the dictionaries bundled with the application, relative to this module. */
+    private static final List<Path> BUNDLED_DICTIONARY_DIRECTORIES =
+            List.of(Path.of("../croiseur-dictionary-txt-data"), Path.of("../croiseur-dictionary-hunspell-data"));
+
+    /** The transformations applied by {@link StringTransformers#toAcceptableCrosswordEntry()}, one after another. */
+    private static final StringTransformer SEQUENTIAL_TRANSFORMATIONS = s -> StringTransformers.removeBlanks()
+            .andThen(StringTransformers.removeAccentuation())
+            .andThen(StringTransformers.removePunctuation())
+            .andThen(StringTransformers.toUpperCase())
+            .apply(s);
+
     @Test
     void punctuation() {
         assertEquals("DVDRW", StringTransformers.removePunctuation().apply("DVD+RW"));
@@ -21,4 +43,77 @@ final class StringTransformersTest {
     void acceptableCrosswordEntry() {
         assertEquals("DVDRW", StringTransformers.toAcceptableCrosswordEntry().apply("dvd+rw"));
     }
+
+    @Test
+    void acceptableCrosswordEntryBlanks() {
+        assertEquals("NEWYORK", StringTransformers.toAcceptableCrosswordEntry().apply("new york"));
+    }
+
+    @Test
+    void acceptableCrosswordEntryAccents() {
+        assertEquals(
+                "CREMEBRULEE", StringTransformers.toAcceptableCrosswordEntry().apply("crème brûlée"));
+    }
+
+    @Test
+    void acceptableCrosswordEntryAlreadyAcceptable() {
+        final String entry = "HELLO";
+        assertSame(entry, StringTransformers.toAcceptableCrosswordEntry().apply(entry));
+    }
+
+    @Test
+    void acceptableCrosswordEntryTurkishLocale() {
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals(
+                    SEQUENTIAL_TRANSFORMATIONS.apply("istanbul"),
+                    StringTransformers.toAcceptableCrosswordEntry().apply("istanbul"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Verifies that {@link StringTransformers#toAcceptableCrosswordEntry()} gives the same result as the sequential
+     * transformations for all the lines of the given bundled dictionary.
+     *
+     * @param dictionary the path to the bundled dictionary
+     * @throws IOException if dictionary cannot be read
+     */
+    @ParameterizedTest
+    @MethodSource("bundledDictionaries")
+    void acceptableCrosswordEntryIsIdenticalToSequentialTransformations(final Path dictionary) throws IOException {
+        final StringTransformer transformer = StringTransformers.toAcceptableCrosswordEntry();
+        // Dictionaries have various encodings, decoding errors only produce more non-ASCII strings to test
+        final List<String> lines = new String(Files.readAllBytes(dictionary), StandardCharsets.UTF_8)
+                .lines()
+                .toList();
+        assertFalse(lines.isEmpty());
+        for (final String line : lines) {
+            assertEquals(SEQUENTIAL_TRANSFORMATIONS.apply(line), transformer.apply(line), line);
+        }
+    }
+
+    /**
+     * Lists the bundled dictionaries.
+     *
+     * @return the paths to the bundled dictionaries
+     * @throws IOException if bundled dictionary directories cannot be read
+     */
+    private static Stream<Path> bundledDictionaries() throws IOException {
+        Stream<Path> dictionaries = Stream.empty();
+        for (final Path directory : BUNDLED_DICTIONARY_DIRECTORIES) {
+            try (final Stream<Path> files = Files.walk(directory)) {
+                final List<Path> directoryDictionaries = files.filter(file -> {
+                            final String fileName = file.getFileName().toString();
+                            return fileName.endsWith(".txt") || fileName.endsWith(".dic");
+                        })
+                        .filter(file -> !file.startsWith(directory.resolve("build")))
+                        .toList();
+                dictionaries = Stream.concat(dictionaries, directoryDictionaries.stream());
+            }
+        }
+        return dictionaries;
+    }
 }
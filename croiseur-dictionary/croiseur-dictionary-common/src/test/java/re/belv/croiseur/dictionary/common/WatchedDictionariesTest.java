@@ -0,0 +1,333 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.common.dictionary.WordPool;
+import re.belv.croiseur.common.dictionary.WordSet;
+import re.belv.croiseur.dictionary.common.util.Lazy;
+import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChange;
+
+/** Tests on {@link WatchedDictionaries}. */
+final class WatchedDictionariesTest {
+
+    /** A dictionary whose words are the lines of a file, lazily read. */
+    private static final class LinesDictionary implements Dictionary {
+
+        /** The file. */
+        private final File file;
+
+        /** The words, stored in the shared word pool. */
+        private final Lazy<WordSet> words;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param fileArg the file
+         */
+        LinesDictionary(final File fileArg) {
+            file = fileArg;
+            words = Lazy.of(() -> WordSet.copyOf(lines(file)));
+        }
+
+        /**
+         * Constructs an instance, whose words are already read.
+         *
+         * @param fileArg the file
+         * @param wordsArg the words
+         */
+        LinesDictionary(final File fileArg, final WordSet wordsArg) {
+            file = fileArg;
+            words = Lazy.of(wordsArg, () -> WordSet.copyOf(lines(file)));
+        }
+
+        /**
+         * Returns this dictionary extended with the appended lines, if its words are loaded and if the file starts with
+         * the words of this dictionary.
+         *
+         * @return this dictionary extended with the appended lines, if possible
+         */
+        Optional<WatchedDictionaries.Appended<LinesDictionary>> appended() {
+            final Optional<WordSet> loaded = words.peek();
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            final WordSet previousWords = loaded.get();
+            final List<String> lines = lines(file);
+            if (lines.size() <= previousWords.size()
+                    || !lines.subList(0, previousWords.size()).equals(List.copyOf(previousWords))) {
+                return Optional.empty();
+            }
+            final WordSet.Builder newWords = WordSet.builder().addAll(previousWords);
+            final List<String> appendedWords = new ArrayList<>();
+            for (final String line : lines.subList(previousWords.size(), lines.size())) {
+                if (newWords.add(line)) {
+                    appendedWords.add(line);
+                }
+            }
+            return Optional.of(
+                    new WatchedDictionaries.Appended<>(new LinesDictionary(file, newWords.build()), appendedWords));
+        }
+
+        /**
+         * Returns the number of loaded words.
+         *
+         * @return the number of words if loaded, 0 otherwise
+         */
+        int loadedWordCount() {
+            return words.peek().map(Set::size).orElse(0);
+        }
+
+        /**
+         * Reads the lines of the given file.
+         *
+         * @param file the file
+         * @return the lines of the given file
+         */
+        private static List<String> lines(final File file) {
+            try {
+                return Files.readAllLines(file.toPath());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public DictionaryDetails details() {
+            return new DictionaryDetails(file.getName(), Locale.ENGLISH, "A test dictionary");
+        }
+
+        @Override
+        public Set<String> words() {
+            return words.get();
+        }
+    }
+
+    @TempDir
+    private Path directory;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private WatchedDictionaries<LinesDictionary> dictionaries;
+
+    private List<DictionaryChange> changes;
+
+    /**
+     * Whether the loaded words of the test dictionaries are reported as pooled. Not set by tests watching directories,
+     * whose watcher may refresh dictionaries during other tests and would renew the shared pool meanwhile.
+     */
+    private boolean pooled;
+
+    @BeforeEach
+    void before() throws IOException {
+        Files.writeString(directory.resolve("a.lst"), "HELLO\nWORLD\n");
+        dictionaries = new WatchedDictionaries<>(
+                DictionaryCatalogue.of("test", cacheDirectory),
+                () -> DictionaryPath.of(directory.toString()),
+                file -> file.getName().endsWith(".lst"),
+                List::of,
+                LinesDictionary::new,
+                LinesDictionary::appended,
+                dictionary -> pooled ? dictionary.loadedWordCount() : 0);
+        changes = new ArrayList<>();
+    }
+
+    @Test
+    void refresh_unchanged() {
+        final Dictionary dictionary = dictionaries.get().getFirst();
+        dictionaries.addListener(changes::add);
+
+        dictionaries.refresh();
+
+        assertEquals(List.of(), changes);
+        assertSame(dictionary, dictionaries.get().getFirst());
+    }
+
+    @Test
+    void refresh_added() throws IOException {
+        final Dictionary unchanged = dictionaries.get().getFirst();
+        dictionaries.addListener(changes::add);
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+
+        dictionaries.refresh();
+
+        assertEquals(1, changes.size());
+        assertEquals(DictionaryChange.Type.ADDED, changes.getFirst().type());
+        assertEquals(Set.of("FOO"), changes.getFirst().current().words());
+        assertEquals(2, dictionaries.get().size());
+        assertTrue(dictionaries.get().contains(unchanged));
+    }
+
+    @Test
+    void refresh_removed() throws IOException {
+        final Dictionary dictionary = dictionaries.get().getFirst();
+        dictionaries.addListener(changes::add);
+        Files.delete(directory.resolve("a.lst"));
+
+        dictionaries.refresh();
+
+        assertEquals(List.of(DictionaryChange.removed(dictionary)), changes);
+        assertEquals(List.of(), dictionaries.get());
+    }
+
+    @Test
+    void refresh_modified() throws IOException {
+        final Dictionary dictionary = dictionaries.get().getFirst();
+        dictionaries.addListener(changes::add);
+        Files.writeString(directory.resolve("a.lst"), "GOODBYE\n");
+
+        dictionaries.refresh();
+
+        final Dictionary modified = dictionaries.get().getFirst();
+        assertEquals(List.of(DictionaryChange.modified(dictionary, modified)), changes);
+        assertEquals(Set.of("GOODBYE"), modified.words());
+    }
+
+    @Test
+    void refresh_appended() throws IOException {
+        final Dictionary dictionary = dictionaries.get().getFirst();
+        dictionary.words();
+        dictionaries.addListener(changes::add);
+        Files.writeString(directory.resolve("a.lst"), "HELLO\nFOO\n", StandardOpenOption.APPEND);
+
+        dictionaries.refresh();
+
+        final Dictionary appended = dictionaries.get().getFirst();
+        assertEquals(List.of(DictionaryChange.appended(dictionary, appended, List.of("FOO"))), changes);
+        assertEquals(List.of("HELLO", "WORLD", "FOO"), List.copyOf(appended.words()));
+    }
+
+    @Test
+    void refresh_modifiedSmallDictionary_keepsPool() throws IOException {
+        pooled = true;
+        WordPool.renewShared();
+        Files.write(directory.resolve("a.lst"), words("LARGE", 1_000));
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+        dictionaries.get().forEach(Dictionary::words);
+        final WordPool pool = WordPool.shared();
+        Files.writeString(directory.resolve("b.lst"), "BAR\n");
+
+        dictionaries.refresh();
+        final List<Dictionary> reloaded = dictionaries.get();
+        reloaded.forEach(Dictionary::words);
+        final int poolSize = pool.size();
+        final WordSet merged = merge(reloaded);
+
+        assertSame(pool, WordPool.shared());
+        assertEquals(1_001, merged.size());
+        // Merging words of the same pool interns nothing
+        assertEquals(poolSize, pool.size());
+    }
+
+    @Test
+    void refresh_modifiedLargeDictionary_renewsPool() throws IOException {
+        pooled = true;
+        WordPool.renewShared();
+        Files.write(directory.resolve("a.lst"), words("LARGE", 1_000));
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+        dictionaries.get().forEach(Dictionary::words);
+        final WordPool pool = WordPool.shared();
+        Files.write(directory.resolve("a.lst"), words("RENEWED", 1_000));
+
+        dictionaries.refresh();
+        final WordSet merged = merge(dictionaries.get());
+
+        assertNotSame(pool, WordPool.shared());
+        assertEquals(1_001, merged.size());
+        // New pool only holds the words of the listed dictionaries
+        assertEquals(1_001, WordPool.shared().size());
+    }
+
+    @Test
+    void refresh_removedUnloadedDictionary_keepsPool() throws IOException {
+        pooled = true;
+        WordPool.renewShared();
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+        dictionaries.get();
+        final WordPool pool = WordPool.shared();
+        Files.delete(directory.resolve("b.lst"));
+
+        dictionaries.refresh();
+
+        assertSame(pool, WordPool.shared());
+    }
+
+    @Test
+    void refresh_neverListed() throws IOException {
+        dictionaries.addListener(changes::add);
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+
+        dictionaries.refresh();
+
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    void watch() throws IOException, InterruptedException {
+        dictionaries.get();
+        final BlockingQueue<DictionaryChange> notifiedChanges = new LinkedBlockingQueue<>();
+        dictionaries.addListener(notifiedChanges::add);
+        // Let watcher register directory before modifying it
+        Thread.sleep(500);
+
+        Files.writeString(directory.resolve("b.lst"), "FOO\n");
+        final DictionaryChange change = notifiedChanges.poll(30, TimeUnit.SECONDS);
+
+        assertEquals(DictionaryChange.Type.ADDED, change != null ? change.type() : null);
+        assertEquals(Set.of("FOO"), change.current().words());
+    }
+
+    /**
+     * Creates distinct words.
+     *
+     * @param prefix the prefix of the words
+     * @param count the number of words
+     * @return the words
+     */
+    private static List<String> words(final String prefix, final int count) {
+        final List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(prefix + i);
+        }
+        return words;
+    }
+
+    /**
+     * Merges the words of the given dictionaries, as dependents merging dictionaries do.
+     *
+     * @param dictionaries the dictionaries
+     * @return the merged words, stored in the shared word pool
+     */
+    private static WordSet merge(final List<Dictionary> dictionaries) {
+        final WordSet.Builder words = WordSet.builder();
+        dictionaries.forEach(dictionary -> words.addAll(dictionary.words()));
+        return words.build();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Tests for {@link ChunkedLineReader}. */
+final class ChunkedLineReaderTest {
+
+    /** The bundled UKACD dictionary, relative to this module. */
+    private static final Path UKACD = Path.of("../croiseur-dictionary-txt-data/ukacd/UKACD18plus.txt");
+
+    /** A temporary directory. */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Writes the given content to a temporary file.
+     *
+     * @param content the content
+     * @return the temporary file
+     * @throws IOException if write fails
+     */
+    private Path write(final String content) throws IOException {
+        final Path file = tempDir.resolve("lines.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void empty() throws IOException {
+        final Path file = write("");
+        assertEquals(List.of(), ChunkedLineReader.readLines(file, Function.identity()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 8, 1 << 20})
+    void order(final long chunkSize) throws IOException {
+        final Path file = write("one\ntwo\n\nthree\nfour\nfive\nsix\n");
+        assertEquals(
+                List.of("ONE", "TWO", "", "THREE", "FOUR", "FIVE", "SIX"),
+                ChunkedLineReader.readLines(file, line -> true, String::toUpperCase, chunkSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 8, 1 << 20})
+    void distinct(final long chunkSize) throws IOException {
+        final Path file = write("b\na\nB\nc\n\na\nb\nd");
+        assertEquals(
+                List.of("B", "A", "C", "D"),
+                List.copyOf(ChunkedLineReader.readDistinctLines(
+                        file, line -> !line.isEmpty(), String::toUpperCase, chunkSize)));
+    }
+
+    @Test
+    void distinctFromOffset() throws IOException {
+        final Path file = write("a\nb\nc\nb\nd\n");
+        assertEquals(
+                List.of("C", "B", "D"),
+                List.copyOf(
+                        ChunkedLineReader.readDistinctLines(file, 4L, Long.MAX_VALUE, line -> true, String::toUpperCase)
+                                .lines()));
+    }
+
+    @Test
+    void distinctRange() throws IOException {
+        final Path file = write("a\nb\nc\nb\nd\ne");
+        final ChunkedLineReader.ChecksummedLines read =
+                ChunkedLineReader.readDistinctLines(file, 2L, 8L, line -> true, String::toUpperCase);
+        assertEquals(List.of("B", "C"), List.copyOf(read.lines()));
+        assertEquals(2L, read.checksums().start());
+        assertEquals(8L, read.checksums().end());
+    }
+
+    @Test
+    void checksums() throws IOException {
+        final Path file = write("a\nb\n");
+        final RangeChecksums first = ChunkedLineReader.readDistinctLines(
+                        file, 0L, Long.MAX_VALUE, line -> true, String::toUpperCase)
+                .checksums();
+        Files.writeString(file, "c\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        final RangeChecksums all = first.append(ChunkedLineReader.readDistinctLines(
+                        file, first.end(), Long.MAX_VALUE, line -> true, String::toUpperCase)
+                .checksums());
+
+        assertEquals(6L, all.end());
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertTrue(first.matches(channel));
+            assertTrue(all.matches(channel));
+        }
+        write("a\nB\nc\n");
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertFalse(all.matches(channel));
+        }
+        write("a\n");
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertFalse(first.matches(channel));
+        }
+    }
+
+    @Test
+    void distinctFromOffsetCompressed() throws IOException {
+        final Path file = tempDir.resolve("lines.txt.gz");
+        try (final OutputStream os = CompressedFiles.newOutputStream(file)) {
+            os.write("a\nb\n".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ChunkedLineReader.readDistinctLines(file, 2L, Long.MAX_VALUE, line -> true, String::toUpperCase));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 8, 1 << 20})
+    void carriageReturns(final long chunkSize) throws IOException {
+        final Path file = write("one\r\ntwo\rthree\r\nfour");
+        assertEquals(
+                List.of("one", "two", "three", "four"),
+                ChunkedLineReader.readLines(file, line -> true, Function.identity(), chunkSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 8, 1 << 20})
+    void multibyteCharacters(final long chunkSize) throws IOException {
+        final Path file = write("crème\nbrûlée\n😀\nœuf\n");
+        assertEquals(
+                List.of("crème", "brûlée", "😀", "œuf"),
+                ChunkedLineReader.readLines(file, line -> true, Function.identity(), chunkSize));
+    }
+
+    @Test
+    void compressed() throws IOException {
+        final Path file = tempDir.resolve("lines.txt.gz");
+        try (final OutputStream os = CompressedFiles.newOutputStream(file)) {
+            os.write("b\na\n\nb\ncrème\n".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(
+                List.of("B", "A", "CRÈME"),
+                List.copyOf(ChunkedLineReader.readDistinctLines(file, line -> !line.isEmpty(), String::toUpperCase)));
+    }
+
+    @Test
+    void malformed() throws IOException {
+        final Path file = tempDir.resolve("malformed.txt");
+        Files.write(file, new byte[] {'a', '\n', (byte) 0xC3, '\n'});
+        assertThrows(IOException.class, () -> ChunkedLineReader.readLines(file, Function.identity()));
+    }
+
+    @Test
+    void sameAsSequentialRead() throws IOException {
+        final Function<String, String> transformer = String::toUpperCase;
+        final List<String> expectedLines;
+        try (final Stream<String> lines = Files.lines(UKACD)) {
+            expectedLines = lines.map(transformer).toList();
+        }
+        final LinkedHashSet<String> expectedDistinctLines;
+        try (final Stream<String> lines = Files.lines(UKACD)) {
+            expectedDistinctLines = lines.filter(line -> !line.isEmpty())
+                    .map(transformer)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        assertEquals(expectedLines, ChunkedLineReader.readLines(UKACD, transformer));
+        assertEquals(expectedLines, ChunkedLineReader.readLines(UKACD, line -> true, transformer, 4096));
+        assertEquals(
+                List.copyOf(expectedDistinctLines),
+                List.copyOf(ChunkedLineReader.readDistinctLines(UKACD, line -> !line.isEmpty(), transformer, 4096)));
+    }
+}
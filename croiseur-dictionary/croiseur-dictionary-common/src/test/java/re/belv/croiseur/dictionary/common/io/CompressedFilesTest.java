@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.common.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link CompressedFiles}. */
+final class CompressedFilesTest {
+
+    /** Some content to write and read. */
+    private static final byte[] CONTENT = "HELLO\nWORLD\n".getBytes(StandardCharsets.UTF_8);
+
+    /** A temporary directory. */
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void names() {
+        assertTrue(CompressedFiles.isCompressed("words.txt.gz"));
+        assertFalse(CompressedFiles.isCompressed("words.txt"));
+        assertTrue(CompressedFiles.hasExtension("words.txt.gz", ".txt"));
+        assertTrue(CompressedFiles.hasExtension("words.txt", ".txt"));
+        assertFalse(CompressedFiles.hasExtension("words.xml.gz", ".txt"));
+        assertEquals("words.txt", CompressedFiles.uncompressedName("words.txt.gz"));
+        assertEquals("words.txt", CompressedFiles.uncompressedName("words.txt"));
+    }
+
+    @Test
+    void roundTripCompressed() throws IOException {
+        final Path file = tempDir.resolve("words.txt.gz");
+        try (final OutputStream os = CompressedFiles.newOutputStream(file)) {
+            os.write(CONTENT);
+        }
+
+        try (final InputStream is = new GZIPInputStream(Files.newInputStream(file))) {
+            assertArrayEquals(CONTENT, is.readAllBytes());
+        }
+        try (final InputStream is = CompressedFiles.newInputStream(file)) {
+            assertArrayEquals(CONTENT, is.readAllBytes());
+        }
+        try (final InputStream is = CompressedFiles.newInputStream(file.toUri().toURL())) {
+            assertArrayEquals(CONTENT, is.readAllBytes());
+        }
+    }
+
+    @Test
+    void roundTripUncompressed() throws IOException {
+        final Path file = tempDir.resolve("words.txt");
+        try (final OutputStream os = CompressedFiles.newOutputStream(file)) {
+            os.write(CONTENT);
+        }
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+        try (final InputStream is = CompressedFiles.newInputStream(file)) {
+            assertTrue(is.markSupported());
+            assertArrayEquals(CONTENT, is.readAllBytes());
+        }
+    }
+}
@@ -5,9 +5,22 @@
 
 plugins {
     id("re.belv.croiseur.java-library")
+    id("re.belv.croiseur.java-benchmark")
 }
 
 dependencies {
     api(project(":croiseur-common"))
     implementation(project(":croiseur-dictionary:croiseur-dictionary-common"))
-}
\ No newline at end of file
+}
+
+// Bundled Hunspell dictionaries are used as benchmark data
+tasks.named<ProcessResources>("processJmhResources") {
+    from(
+        project(":croiseur-dictionary:croiseur-dictionary-hunspell-data")
+            .layout
+            .projectDirectory
+            .dir("libreoffice-dictionaries-edited")
+    ) {
+        include("**/*.dic", "**/*.aff")
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.codec.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import re.belv.croiseur.dictionary.common.io.BomInputStream;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.Aff;
+import re.belv.croiseur.dictionary.hunspell.codec.model.dic.Dic;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.aff.AffParser;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.common.ParserException;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.dic.DicParser;
+
+/**
+ * Benchmark for the Hunspell parsers, over the bundled dictionaries.
+ *
+ * <p>Files are read in memory during setup: Only decoding and parsing are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HunspellParserBenchmark {
+
+    /** The bundled dictionary to parse, as a resource path without extension. */
+    @Param({"fr_FR/fr", "es_ES/es_ES", "it_IT/it_IT"})
+    public String dictionary;
+
+    /** The raw content of the affix file. */
+    private byte[] affContent;
+
+    /** The raw content of the dictionary file. */
+    private byte[] dicContent;
+
+    /** The encoding of the dictionary. */
+    private Charset encoding;
+
+    /** The parsed affix file. */
+    private Aff aff;
+
+    /**
+     * Reads the bundled dictionary in memory.
+     *
+     * <p>This method is not meant to be overridden, it is public and not final only for the JMH instrumentation to
+     * work.
+     *
+     * @throws IOException if dictionary cannot be read
+     * @throws ParserException if affix file cannot be parsed
+     */
+    @Setup
+    public void setup() throws IOException, ParserException {
+        affContent = read(dictionary + ".aff");
+        dicContent = read(dictionary + ".dic");
+        encoding = AffParser.identifyEncoding(
+                new String(affContent, StandardCharsets.ISO_8859_1).lines().iterator());
+        aff = new AffParser().parse(new String(affContent, encoding).lines().iterator());
+    }
+
+    /**
+     * Reads the given resource, without its byte order mark.
+     *
+     * @param resource the resource path
+     * @return the content of the resource
+     * @throws IOException if resource cannot be read
+     */
+    private static byte[] read(final String resource) throws IOException {
+        try (final InputStream in = new BomInputStream(
+                CompressedFiles.newInputStream(HunspellParserBenchmark.class.getResource("/" + resource)))) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Benchmarks the parsing of the affix file.
+     *
+     * @return the parsed affix file
+     * @throws ParserException if parsing fails
+     */
+    @Benchmark
+    public Aff parseAff() throws ParserException {
+        final Charset affEncoding = AffParser.identifyEncoding(
+                new String(affContent, StandardCharsets.ISO_8859_1).lines().iterator());
+        return new AffParser().parse(new String(affContent, affEncoding).lines().iterator());
+    }
+
+    /**
+     * Benchmarks the parsing of the dictionary file, line by line.
+     *
+     * @return the parsed dictionary file
+     * @throws ParserException if parsing fails
+     */
+    @Benchmark
+    public Dic parseDicLines() throws ParserException {
+        return new DicParser(aff.flagType())
+                .parse(new String(dicContent, encoding).lines().iterator());
+    }
+
+    /**
+     * Benchmarks the parsing of the dictionary file, by chunks in parallel.
+     *
+     * @return the parsed dictionary file
+     * @throws ParserException if parsing fails
+     */
+    @Benchmark
+    public Dic parseDicContent() throws ParserException {
+        return new DicParser(aff.flagType()).parse(new String(dicContent, encoding));
+    }
+}
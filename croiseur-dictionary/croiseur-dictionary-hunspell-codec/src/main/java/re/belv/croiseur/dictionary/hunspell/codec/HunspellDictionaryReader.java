@@ -5,9 +5,8 @@
 
 package re.belv.croiseur.dictionary.hunspell.codec;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -22,6 +21,7 @@ import java.util.stream.Stream;
 import re.belv.croiseur.common.dictionary.DictionaryDetails;
 import re.belv.croiseur.dictionary.common.SegmentableUrl;
 import re.belv.croiseur.dictionary.common.io.BomInputStream;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.Aff;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.Dic;
 import re.belv.croiseur.dictionary.hunspell.codec.parser.aff.AffParser;
@@ -29,7 +29,12 @@ import re.belv.croiseur.dictionary.hunspell.codec.parser.common.ParserException;
 import re.belv.croiseur.dictionary.hunspell.codec.parser.dic.DicParser;
 import re.belv.croiseur.dictionary.hunspell.codec.wordforms.WordFormGenerator;
 
-/** Dictionary relying on local text files in Hunspell format. */
+/**
+ * Dictionary relying on local text files in Hunspell format.
+ *
+ * <p>Files may be gzip-compressed (e.g. {@code en_GB.dic.gz}), in which case they are decompressed on the fly. Affix
+ * file is expected to be compressed the same way as the dictionary file (e.g. {@code en_GB.aff.gz}).
+ */
 // TODO better API: No need to mimic crossword-dictionary SPI now that plugin has been split
 public final class HunspellDictionaryReader {
 
@@ -45,21 +50,50 @@ public final class HunspellDictionaryReader {
     /** URL of dictionary. */
     private final URL dicURL;
 
+    /** The maximal length of the useful word forms, bounding the compounds to generate. */
+    private final int maxWordLength;
+
     /**
      * Constructor.
      *
-     * @param aDicURL URL to Hunspell dictionary (.dic); affix file is expected to have same basename and extension .aff
+     * @param aDicURL URL to Hunspell dictionary (.dic or .dic.gz); affix file is expected to have same basename and
+     *     extension .aff (or .aff.gz)
      */
     public HunspellDictionaryReader(final URL aDicURL) {
-        dicURL = Objects.requireNonNull(aDicURL);
+        this(aDicURL, Integer.MAX_VALUE);
     }
 
-    private static Stream<String> streamer(URL url) throws IOException {
-        return streamer(url, StandardCharsets.US_ASCII);
+    /**
+     * Constructor for a dictionary whose words are bounded in length.
+     *
+     * <p>Compounds which cannot give a form of the given length are not generated, which skips most of the generation
+     * of long compounds. The bound is not exact: Longer forms are still generated, since a form may fit once
+     * normalised, e.g. "aujourd'hui" becomes "AUJOURDHUI". Callers shall filter forms on their normalised length.
+     *
+     * @param aDicURL URL to Hunspell dictionary (.dic or .dic.gz); affix file is expected to have same basename and
+     *     extension .aff (or .aff.gz)
+     * @param aMaxWordLength the maximal length of the useful word forms, in characters
+     * @throws IllegalArgumentException if given maximal length is not strictly positive
+     */
+    public HunspellDictionaryReader(final URL aDicURL, final int aMaxWordLength) {
+        if (aMaxWordLength <= 0) {
+            throw new IllegalArgumentException("Invalid maximal word length: " + aMaxWordLength);
+        }
+        dicURL = Objects.requireNonNull(aDicURL);
+        maxWordLength = aMaxWordLength;
     }
 
-    private static Stream<String> streamer(URL url, Charset charset) throws IOException {
-        return new BufferedReader(new InputStreamReader(new BomInputStream(url.openStream()), charset)).lines();
+    /**
+     * Reads the whole content of the given URL, removing byte order mark if any.
+     *
+     * @param url the URL to read
+     * @return the content of the URL
+     * @throws IOException if URL cannot be read
+     */
+    private static byte[] read(final URL url) throws IOException {
+        try (final InputStream in = new BomInputStream(CompressedFiles.newInputStream(url))) {
+            return in.readAllBytes();
+        }
     }
 
     /**
@@ -86,7 +120,7 @@ public final class HunspellDictionaryReader {
     }
 
     private String name() {
-        return "Hunspell Dictionary " + new SegmentableUrl(dicURL).lastPathSegment();
+        return "Hunspell Dictionary " + dicFileName();
     }
 
     private String description() {
@@ -105,31 +139,36 @@ public final class HunspellDictionaryReader {
             return Stream.empty();
         }
 
-        return WordFormGenerator.of(optAff.get(), optDic.get()).generate();
+        return WordFormGenerator.of(optAff.get(), optDic.get(), maxWordLength).generate();
     }
 
     private Optional<Aff> readAff() {
         final URL affUrl = affUrl();
-        final Charset encoding;
-        try (final Stream<String> lines = streamer(affUrl)) {
-            encoding = AffParser.identifyEncoding(lines.iterator());
+        final byte[] content;
+        try {
+            content = read(affUrl);
         } catch (final IOException e) {
             LOGGER.log(Level.WARNING, "Failed to read aff file at " + affUrl, e);
             return Optional.empty();
         }
+        // Encoding option only uses ASCII characters, any ASCII-compatible charset can read it
+        final Charset encoding = AffParser.identifyEncoding(
+                new String(content, StandardCharsets.ISO_8859_1).lines().iterator());
         LOGGER.fine(() -> "Detected encoding " + encoding);
-        try (final Stream<String> lines = streamer(affUrl, encoding)) {
-            final Aff aff = new AffParser().parse(lines.iterator());
+        try {
+            final Aff aff =
+                    new AffParser().parse(new String(content, encoding).lines().iterator());
             return Optional.of(aff);
-        } catch (final IOException | ParserException e) {
+        } catch (final ParserException e) {
             LOGGER.log(Level.WARNING, "Failed to read aff file at " + affUrl, e);
             return Optional.empty();
         }
     }
 
     private Optional<Dic> readDic(final Aff aff) {
-        try (final Stream<String> lines = streamer(dicURL, aff.encoding())) {
-            final Dic dic = new DicParser(aff.flagType()).parse(lines.iterator());
+        try {
+            final String content = new String(read(dicURL), aff.encoding());
+            final Dic dic = new DicParser(aff.flagType()).parse(content);
             return Optional.of(dic);
         } catch (final IOException | ParserException e) {
             LOGGER.log(Level.WARNING, "Failed to read dic file at " + dicURL, e);
@@ -137,11 +176,26 @@ public final class HunspellDictionaryReader {
         }
     }
 
-    private URL affUrl() {
+    /**
+     * Returns the URL of the dictionary file.
+     *
+     * @return the URL of the dictionary file
+     */
+    public URL dicUrl() {
+        return dicURL;
+    }
+
+    /**
+     * Returns the URL of the affix file, deduced from the URL of the dictionary file.
+     *
+     * @return the URL of the affix file
+     */
+    public URL affUrl() {
         try {
-            final String affUrlExternalForm = Pattern.compile(DIC_EXTENSION + "$")
+            final String affUrlExternalForm = Pattern.compile(
+                            DIC_EXTENSION + "(" + CompressedFiles.GZIP_EXTENSION + ")?$")
                     .matcher(dicURL.toExternalForm())
-                    .replaceFirst(AFF_EXTENSION);
+                    .replaceFirst(AFF_EXTENSION + "$1");
             return new URL(affUrlExternalForm);
         } catch (final MalformedURLException e) {
             throw new IllegalArgumentException(e);
@@ -149,7 +203,10 @@ public final class HunspellDictionaryReader {
     }
 
     private String languageTag() {
-        final String dicFileName = new SegmentableUrl(dicURL).lastPathSegment();
-        return dicFileName.replace(DIC_EXTENSION, "").replace("_", "-");
+        return dicFileName().replace(DIC_EXTENSION, "").replace("_", "-");
+    }
+
+    private String dicFileName() {
+        return CompressedFiles.uncompressedName(new SegmentableUrl(dicURL).lastPathSegment());
     }
 }
@@ -88,16 +88,16 @@ public final class AffParser {
      * <p>Typically caller should:
      *
      * <ol>
-     *   <li>Open the aff file using its preferred charset
+     *   <li>Read the aff file once, decoding it with an ASCII-compatible charset
      *   <li>Identify the declared encoding using this method
-     *   <li>Reopen the file with the detected encoding and parse the file with {@link #parse(Iterator)}
+     *   <li>Decode the file content with the detected encoding and parse it with {@link #parse(Iterator)}
      * </ol>
      *
      * @param lines iterator on the lines of the file
      * @return the identified charset
      */
     public static Charset identifyEncoding(final Iterator<String> lines) {
-        for (int i = 1; i <= ENCODING_OPTION_SEARCH_LIMIT; i++) {
+        for (int i = 1; i <= ENCODING_OPTION_SEARCH_LIMIT && lines.hasNext(); i++) {
             final String line = lines.next();
             if (AffItemKind.identify(line)
                     .filter(AffItemKind.GENERAL_ENCODING::equals)
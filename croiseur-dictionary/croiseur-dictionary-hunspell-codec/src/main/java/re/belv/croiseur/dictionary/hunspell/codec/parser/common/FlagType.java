@@ -8,33 +8,31 @@ package re.belv.croiseur.dictionary.hunspell.codec.parser.common;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 
-/** An affix flag type. */
+/**
+ * An affix flag type.
+ *
+ * <p>Flag vectors are split by a hand-written scanner rather than a regular expression, since they are split for every
+ * dictionary entry.
+ */
 public enum FlagType {
 
     /** Affix name is composed of a single extended-ASCII character. */
-    SINGLE_ASCII("[\\x00-\\xFF]"),
+    SINGLE_ASCII,
     /** Affix name is composed of 2 extended-ASCII characters. */
-    LONG_ASCII("[\\x00-\\xFF]{2}"),
+    LONG_ASCII,
     /** Affix name is composed of a number between 1 and 65000. */
-    NUMERICAL("[1-9][0-9]{0,4}"),
+    NUMERICAL,
     /** Affix name is a UTF-8 character. */
-    UTF_8(".");
+    UTF_8;
 
-    /** The pattern matching a flag of this flag type. */
-    private final Pattern pattern;
+    /** The greatest extended-ASCII character. */
+    private static final char MAX_EXTENDED_ASCII = '\u00FF';
 
-    /**
-     * Constructs an instance.
-     *
-     * @param regex the regex matching a flag of this flag type
-     */
-    FlagType(final String regex) {
-        pattern = Pattern.compile(regex);
-    }
+    /** The maximal number of digits of a numerical flag. */
+    private static final int MAX_NUMERICAL_FLAG_DIGITS = 5;
 
     /**
      * Returns the default flag type.
@@ -48,21 +46,85 @@ public enum FlagType {
     /**
      * Splits flag vector according to given flag type.
      *
+     * <p>Characters which cannot be part of a flag of this type are skipped.
+     *
      * @param flags the flag vector
      * @return the flags as string
      */
     public Collection<Flag> split(final String flags) {
-        final Collection<Flag> splitFlags;
-        if (flags != null) {
-            splitFlags = new ArrayList<>();
-            final Matcher matcher = pattern.matcher(flags);
-            while (matcher.find()) {
-                final Flag flag = new Flag(matcher.group());
-                splitFlags.add(flag);
+        if (flags == null) {
+            return Collections.emptyList();
+        }
+        final List<Flag> splitFlags = new ArrayList<>(flags.length());
+        final int length = flags.length();
+        int index = 0;
+        while (index < length) {
+            final int end = endOfFlag(flags, index);
+            if (end > index) {
+                splitFlags.add(new Flag(flags.substring(index, end)));
+                index = end;
+            } else {
+                index++;
             }
-        } else {
-            splitFlags = Collections.emptyList();
         }
         return splitFlags;
     }
+
+    /**
+     * Finds the end of the flag starting at the given index.
+     *
+     * @param flags the flag vector
+     * @param start the start index
+     * @return the end index (exclusive) of the flag, or {@code start} if no flag of this type starts at this index
+     */
+    private int endOfFlag(final String flags, final int start) {
+        final char first = flags.charAt(start);
+        return switch (this) {
+            case SINGLE_ASCII -> first <= MAX_EXTENDED_ASCII ? start + 1 : start;
+            case LONG_ASCII ->
+                start + 1 < flags.length()
+                                && first <= MAX_EXTENDED_ASCII
+                                && flags.charAt(start + 1) <= MAX_EXTENDED_ASCII
+                        ? start + 2
+                        : start;
+            case NUMERICAL -> {
+                if (first < '1' || first > '9') {
+                    yield start;
+                }
+                int end = start + 1;
+                while (end < flags.length() && end - start < MAX_NUMERICAL_FLAG_DIGITS && isDigit(flags.charAt(end))) {
+                    end++;
+                }
+                yield end;
+            }
+            case UTF_8 -> {
+                final int codePoint = flags.codePointAt(start);
+                yield isLineTerminator(codePoint) ? start : start + Character.charCount(codePoint);
+            }
+        };
+    }
+
+    /**
+     * Returns whether the given character is an ASCII digit.
+     *
+     * @param character the character
+     * @return {@code true} iff the given character is an ASCII digit
+     */
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Returns whether the given character is a line terminator, which is never part of a flag.
+     *
+     * @param codePoint the character
+     * @return {@code true} iff the given character is a line terminator
+     */
+    private static boolean isLineTerminator(final int codePoint) {
+        return codePoint == '\n'
+                || codePoint == '\r'
+                || codePoint == '\u0085'
+                || codePoint == '\u2028'
+                || codePoint == '\u2029';
+    }
 }
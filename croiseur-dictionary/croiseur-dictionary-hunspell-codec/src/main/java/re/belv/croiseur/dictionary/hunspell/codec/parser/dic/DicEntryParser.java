@@ -6,20 +6,24 @@
 package re.belv.croiseur.dictionary.hunspell.codec.parser.dic;
 
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
 import re.belv.croiseur.dictionary.hunspell.codec.parser.common.FlagType;
 
-/** Parses {@link DicEntry}. */
+/**
+ * Parses {@link DicEntry}.
+ *
+ * <p>An entry has the form {@code [*]word[/flags][<separator>morphology]}, where separator is a space or a tab and
+ * where trailing spaces and tabs are ignored. Entries are read with a hand-written scanner, as there are hundreds of
+ * thousands of them in a typical dictionary.
+ */
 final class DicEntryParser {
 
-    /** The pattern of a dictionary entry. */
-    private static final Pattern PATTERN = Pattern.compile("^(?<forbidden>\\*)?" + "(?<word>[^ /\t]+)"
-            + "(/(?<flags>[^ /\t]+))?"
-            + "([\t| ]+(?<morphology>.+))?"
-            + "[ \t]*$"); // trailing spaces or tabs should not cause parsing failure
+    /** The prefix of a forbidden word. */
+    private static final char FORBIDDEN_MARKER = '*';
+
+    /** The separator between word and flags. */
+    private static final char FLAGS_SEPARATOR = '/';
 
     /** Private constructor to prevent instantiation, static methods only. */
     private DicEntryParser() {
@@ -46,16 +50,89 @@ final class DicEntryParser {
      * @throws InvalidDicEntryException if parsing goes wrong
      */
     static DicEntry parse(final String line, final FlagType flagType) throws InvalidDicEntryException {
+        return parse(line, 0, line.length(), flagType);
+    }
 
-        final Matcher matcher = PATTERN.matcher(line);
-        if (!matcher.matches()) {
-            throw new InvalidDicEntryException("Not a dic entry: " + line);
+    /**
+     * Parses the {@link DicEntry} on the given line of the given text.
+     *
+     * @param text the text containing the line to parse
+     * @param start the start index of the line in the text
+     * @param end the end index (exclusive) of the line in the text
+     * @param flagType the flag type
+     * @return a {@link DicEntry}
+     * @throws InvalidDicEntryException if parsing goes wrong
+     */
+    static DicEntry parse(final String text, final int start, final int end, final FlagType flagType)
+            throws InvalidDicEntryException {
+
+        // A lone '*' is a word, not a forbidden marker
+        final boolean isForbidden =
+                text.charAt(start) == FORBIDDEN_MARKER && start + 1 < end && isWordCharacter(text.charAt(start + 1));
+        final int wordStart = isForbidden ? start + 1 : start;
+        final int wordEnd = endOfToken(text, wordStart, end);
+        if (wordEnd == wordStart) {
+            throw invalidEntry(text, start, end);
         }
+        final String word = text.substring(wordStart, wordEnd);
 
-        final boolean isForbidden = matcher.group("forbidden") != null;
-        final String word = matcher.group("word");
-        final Collection<Flag> flags = flagType.split(matcher.group("flags"));
+        final Collection<Flag> flags;
+        final int restStart;
+        if (wordEnd < end && text.charAt(wordEnd) == FLAGS_SEPARATOR) {
+            final int flagsEnd = endOfToken(text, wordEnd + 1, end);
+            if (flagsEnd == wordEnd + 1) {
+                throw invalidEntry(text, start, end);
+            }
+            flags = flagType.split(text.substring(wordEnd + 1, flagsEnd));
+            restStart = flagsEnd;
+        } else {
+            flags = flagType.split(null);
+            restStart = wordEnd;
+        }
+
+        // Rest is either empty or starts with a separator, e.g. not with a second '/'
+        if (restStart < end && text.charAt(restStart) == FLAGS_SEPARATOR) {
+            throw invalidEntry(text, start, end);
+        }
 
         return new DicEntry(isForbidden, word, flags);
     }
+
+    /**
+     * Finds the end of the word or flag vector starting at the given index.
+     *
+     * @param text the text
+     * @param start the start index of the token
+     * @param end the end index (exclusive) of the line
+     * @return the end index (exclusive) of the token
+     */
+    private static int endOfToken(final String text, final int start, final int end) {
+        int index = start;
+        while (index < end && isWordCharacter(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns whether the given character can be part of a word or of a flag vector.
+     *
+     * @param character the character
+     * @return {@code true} iff the given character can be part of a word or of a flag vector
+     */
+    private static boolean isWordCharacter(final char character) {
+        return character != ' ' && character != '\t' && character != FLAGS_SEPARATOR;
+    }
+
+    /**
+     * Creates the exception for the given invalid line.
+     *
+     * @param text the text containing the line
+     * @param start the start index of the line in the text
+     * @param end the end index (exclusive) of the line in the text
+     * @return the exception for the given invalid line
+     */
+    private static InvalidDicEntryException invalidEntry(final String text, final int start, final int end) {
+        return new InvalidDicEntryException("Not a dic entry: " + text.substring(start, end));
+    }
 }
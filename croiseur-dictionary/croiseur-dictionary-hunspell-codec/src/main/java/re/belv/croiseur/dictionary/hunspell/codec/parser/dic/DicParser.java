@@ -5,21 +5,54 @@
 
 package re.belv.croiseur.dictionary.hunspell.codec.parser.dic;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.regex.Pattern;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.Dic;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
 import re.belv.croiseur.dictionary.hunspell.codec.parser.common.FlagType;
 import re.belv.croiseur.dictionary.hunspell.codec.parser.common.ParserException;
 
-/** Parses a Hunspell ".dic" file. */
+/**
+ * Parses a Hunspell ".dic" file.
+ *
+ * <p>The whole content of a file, once decoded, can be parsed at once: It is then split into line-aligned chunks which
+ * are parsed in parallel. Entries keep the order of the file.
+ */
 public final class DicParser {
 
     /** Pattern for the number of entries at the start of the "*.dic" file. */
     private static final Pattern NUMBER_OF_ENTRIES = Pattern.compile("^[0-9]+$");
 
-    /** Pattern for comments that should be ignored: Lines starting with / or #. */
-    private static final Pattern COMMENT = Pattern.compile("^[/#].*$");
+    /** The minimal size of a chunk, in characters. Smaller files are parsed in a single chunk. */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    /** The number of chunks per available processor, to balance load between processors. */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    /** A range of lines of the file content. */
+    private record Chunk(int start, int end) {
+        // Nothing to add.
+    }
+
+    /** Unchecked wrapper of {@link InvalidDicEntryException}, to cross parallel stream boundaries. */
+    private static final class UncheckedInvalidDicEntryException extends RuntimeException {
+
+        /**
+         * Constructs an instance.
+         *
+         * @param cause the wrapped exception
+         */
+        UncheckedInvalidDicEntryException(final InvalidDicEntryException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized InvalidDicEntryException getCause() {
+            return (InvalidDicEntryException) super.getCause();
+        }
+    }
 
     /** The form of an affix flag, as defined in .aff file. */
     private final FlagType flagType;
@@ -45,7 +78,18 @@ public final class DicParser {
         if (!lines.hasNext()) {
             throw new MissingEstimatedNumberOfEntriesException();
         }
-        final String firstLine = lines.next();
+        return readEstimatedNumberOfEntries(lines.next());
+    }
+
+    /**
+     * Reads the estimated number of entries from the given first line of the dic file.
+     *
+     * @param firstLine the first line
+     * @return the estimated number of entries
+     * @throws MissingEstimatedNumberOfEntriesException if the estimated number of entries is missing
+     */
+    private static int readEstimatedNumberOfEntries(final String firstLine)
+            throws MissingEstimatedNumberOfEntriesException {
         if (!NUMBER_OF_ENTRIES.matcher(firstLine).matches()) {
             throw new MissingEstimatedNumberOfEntriesException(firstLine);
         }
@@ -53,13 +97,61 @@ public final class DicParser {
     }
 
     /**
-     * Returns {@code true} iff line looks like a comment.
+     * Returns {@code true} iff the given line looks like a comment or is blank.
+     *
+     * <p>Comments are lines starting with / or #.
+     *
+     * @param text the text containing the line to assess
+     * @param start the start index of the line in the text
+     * @param end the end index (exclusive) of the line in the text
+     * @return {@code true} iff line looks like a comment or is blank
+     */
+    private static boolean isCommentedOrBlank(final String text, final int start, final int end) {
+        if (start < end && (text.charAt(start) == '/' || text.charAt(start) == '#')) {
+            return true;
+        }
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the end of the line starting at the given index.
+     *
+     * @param text the text
+     * @param start the start index of the line
+     * @param limit the index (exclusive) where to stop the search
+     * @return the index of the line terminator ending the line, or {@code limit} if there is none
+     */
+    private static int endOfLine(final String text, final int start, final int limit) {
+        int index = start;
+        while (index < limit && text.charAt(index) != '\n' && text.charAt(index) != '\r') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the start of the line following the line ending at the given index.
+     *
+     * <p>Lines are terminated by a line feed, a carriage return or a carriage return followed by a line feed.
      *
-     * @param line the line to assess
-     * @return {@code true} iff line looks like a comment
+     * @param text the text
+     * @param lineEnd the index of the line terminator
+     * @param limit the end index (exclusive) of the text to consider
+     * @return the start index of the next line
      */
-    private static boolean isCommented(final String line) {
-        return COMMENT.matcher(line).matches();
+    private static int nextLine(final String text, final int lineEnd, final int limit) {
+        if (lineEnd >= limit) {
+            return limit;
+        }
+        if (text.charAt(lineEnd) == '\r' && lineEnd + 1 < limit && text.charAt(lineEnd + 1) == '\n') {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
     }
 
     /**
@@ -74,6 +166,89 @@ public final class DicParser {
         return readEntries(estimatedNumberOfEntries, lines);
     }
 
+    /**
+     * Parses the whole content of a ".dic" file.
+     *
+     * <p>Content is parsed by chunks in parallel; Result is the same as if lines were parsed one after another.
+     *
+     * @param content the decoded content of the file
+     * @return a {@link Dic}
+     * @throws ParserException if parsing goes wrong
+     */
+    public Dic parse(final String content) throws ParserException {
+        if (content.isEmpty()) {
+            throw new MissingEstimatedNumberOfEntriesException();
+        }
+        final int firstLineEnd = endOfLine(content, 0, content.length());
+        final int estimatedNumberOfEntries = readEstimatedNumberOfEntries(content.substring(0, firstLineEnd));
+        final List<Chunk> chunks = chunks(content, nextLine(content, firstLineEnd, content.length()));
+        final List<List<DicEntry>> parsedChunks;
+        try {
+            parsedChunks = chunks.parallelStream()
+                    .map(chunk -> parseChunk(content, chunk))
+                    .toList();
+        } catch (final UncheckedInvalidDicEntryException e) {
+            throw e.getCause();
+        }
+        final DicBuilder builder = new DicBuilder(estimatedNumberOfEntries);
+        for (final List<DicEntry> parsedChunk : parsedChunks) {
+            parsedChunk.forEach(builder::add);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Splits the given content into line-aligned chunks.
+     *
+     * @param content the content
+     * @param start the index where to start splitting
+     * @return the chunks, in content order
+     */
+    private static List<Chunk> chunks(final String content, final int start) {
+        final int chunkCount = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, (content.length() - start) / chunkCount + 1);
+        final List<Chunk> chunks = new ArrayList<>();
+        int chunkStart = start;
+        while (chunkStart < content.length()) {
+            final int chunkEnd;
+            if (content.length() - chunkStart <= chunkSize) {
+                chunkEnd = content.length();
+            } else {
+                // Split after a line feed, so that a carriage return - line feed sequence is never split
+                final int lineFeed = content.indexOf('\n', chunkStart + chunkSize);
+                chunkEnd = lineFeed >= 0 ? lineFeed + 1 : content.length();
+            }
+            chunks.add(new Chunk(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+    /**
+     * Parses the entries of the given chunk.
+     *
+     * @param content the content
+     * @param chunk the chunk to parse
+     * @return the entries of the chunk, in content order
+     * @throws UncheckedInvalidDicEntryException if an invalid entry is encountered
+     */
+    private List<DicEntry> parseChunk(final String content, final Chunk chunk) {
+        final List<DicEntry> entries = new ArrayList<>();
+        int lineStart = chunk.start();
+        while (lineStart < chunk.end()) {
+            final int lineEnd = endOfLine(content, lineStart, chunk.end());
+            if (!isCommentedOrBlank(content, lineStart, lineEnd)) {
+                try {
+                    entries.add(DicEntryParser.parse(content, lineStart, lineEnd, flagType));
+                } catch (final InvalidDicEntryException e) {
+                    throw new UncheckedInvalidDicEntryException(e);
+                }
+            } // else ignore comment or blank lines
+            lineStart = nextLine(content, lineEnd, chunk.end());
+        }
+        return entries;
+    }
+
     /**
      * Reads the dic file entries.
      *
@@ -87,7 +262,7 @@ public final class DicParser {
         final DicBuilder builder = new DicBuilder(estimatedNumberOfEntries);
         while (lines.hasNext()) {
             final String line = lines.next();
-            if (!isCommented(line) && !line.isBlank()) {
+            if (!isCommentedOrBlank(line, 0, line.length())) {
                 final DicEntry dicEntry = DicEntryParser.parse(line, flagType);
                 builder.add(dicEntry);
             } // else ignore comment or blank lines
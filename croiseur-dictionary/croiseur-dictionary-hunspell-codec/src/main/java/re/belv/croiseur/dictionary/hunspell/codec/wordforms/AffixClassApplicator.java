@@ -5,19 +5,18 @@
 
 package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixClass;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixRule;
-import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
 
-/** Applies an affix class to a word. */
+/**
+ * Applies an affix class to a word.
+ *
+ * <p>Instances are stateless: They can be applied from several threads concurrently.
+ */
 final class AffixClassApplicator implements Function<DicEntry, Stream<String>> {
 
     /** The affix class. */
@@ -26,8 +25,8 @@ final class AffixClassApplicator implements Function<DicEntry, Stream<String>> {
     /** Access to the other affix classes (for continuation). */
     private final AffixClasses affixClasses;
 
-    /** Affix applicators indexed by affix rule, lazily populated. */
-    private final Map<AffixRule, AffixRuleApplicator> affixApplicators;
+    /** The compiled matcher of the affix class. */
+    private final AffixClassMatcher matcher;
 
     /**
      * Constructs an instance.
@@ -38,33 +37,32 @@ final class AffixClassApplicator implements Function<DicEntry, Stream<String>> {
     AffixClassApplicator(final AffixClass affixClassArg, final AffixClasses affixClassesArg) {
         affixClass = affixClassArg;
         affixClasses = affixClassesArg;
-        affixApplicators = new HashMap<>();
+        matcher = affixClasses.matcherOf(affixClass);
     }
 
     @Override
     public Stream<String> apply(final DicEntry entry) {
-        return affixClass.rules().stream().mapMulti((rule, accumulator) -> applyRule(rule, entry, accumulator));
+        return Stream.of(entry)
+                .mapMulti((stem, accumulator) -> matcher.apply(
+                        stem.word(), (rule, affixedForm) -> applyRule(rule, affixedForm, stem, accumulator)));
     }
 
     /**
-     * Applies the given rule to given stem, accumulating the generated strings in the given accumulator.
+     * Accumulates the given affixed form and the forms derived from it.
      *
-     * @param affixRule the rule to apply
+     * @param affixRule the rule applied
+     * @param affixedForm the form produced by the rule applied on the given entry
      * @param entry the dictionary entry
      * @param accumulator the accumulator where to add new affixed forms
      */
-    private void applyRule(final AffixRule affixRule, final DicEntry entry, final Consumer<String> accumulator) {
-
-        final Optional<String> optAffixedForm = applyAffixRule(affixRule, entry.word());
-
-        if (optAffixedForm.isPresent()) {
-            final String affixedForm = optAffixedForm.get();
-            accumulator.accept(affixedForm);
-            applyCrossProductAffixRules(entry, affixedForm, accumulator);
-            applyContinuationAffixRules(affixRule, affixedForm, accumulator);
-        } else {
-            // Rule not applicable, no affixed form
-        }
+    private void applyRule(
+            final AffixRule affixRule,
+            final String affixedForm,
+            final DicEntry entry,
+            final Consumer<String> accumulator) {
+        accumulator.accept(affixedForm);
+        applyCrossProductAffixRules(entry, affixedForm, accumulator);
+        applyContinuationAffixRules(affixRule, affixedForm, accumulator);
     }
 
     /**
@@ -76,9 +74,9 @@ final class AffixClassApplicator implements Function<DicEntry, Stream<String>> {
      */
     private void applyContinuationAffixRules(
             final AffixRule affixRule, final String affixedForm, final Consumer<String> accumulator) {
-        affixRulesOf(affixRule.continuationClasses())
-                .flatMap(rule -> applyAffixRule(rule, affixedForm).stream())
-                .forEach(accumulator);
+        affixClasses
+                .referencedBy(affixRule.continuationClasses())
+                .forEach(cls -> applyAffixClass(cls, affixedForm, accumulator));
     }
 
     /**
@@ -104,59 +102,35 @@ final class AffixClassApplicator implements Function<DicEntry, Stream<String>> {
      */
     private void applyCrossProductAffixRules(
             final DicEntry entry, final String affixedForm, final Consumer<String> accumulator) {
-        crossProductAffixRulesOf(entry)
-                .flatMap(rule -> applyAffixRule(rule, affixedForm).stream())
-                .forEach(accumulator);
+        crossProductAffixClassesOf(entry).forEach(cls -> applyAffixClass(cls, affixedForm, accumulator));
     }
 
     /**
-     * Gets the {@link AffixRuleApplicator} for the given rule.
+     * Applies the rules of the given affix class to the given word.
      *
-     * <p>Creates it if it is not cached yet.
-     *
-     * @param affixRule the affix rule
-     * @return the corresponding {@link AffixRuleApplicator}
-     */
-    private AffixRuleApplicator applicatorOf(final AffixRule affixRule) {
-        return affixApplicators.computeIfAbsent(affixRule, rule -> AffixRuleApplicators.ofRule(affixRule));
-    }
-
-    /**
-     * Applies the given affix rule to the given word.
-     *
-     * @param affixRule the affix rule to apply
+     * @param otherAffixClass the affix class to apply
      * @param word the word to affix
-     * @return the affixed word, if rule is applicable
-     */
-    private Optional<String> applyAffixRule(final AffixRule affixRule, final String word) {
-        return applicatorOf(affixRule).apply(word);
-    }
-
-    /**
-     * Helper to get the affix rules of the affix classes identified by the given flags.
-     *
-     * @param flags the flags of the affix classes to get the affix rules from
-     * @return the affix rules of the affix classes identified by the given flags
+     * @param accumulator the accumulator where to add new affixed forms
      */
-    private Stream<AffixRule> affixRulesOf(final Collection<Flag> flags) {
-        return affixClasses.referencedBy(flags).flatMap(cls -> cls.rules().stream());
+    private void applyAffixClass(
+            final AffixClass otherAffixClass, final String word, final Consumer<String> accumulator) {
+        affixClasses.matcherOf(otherAffixClass).apply(word, (rule, affixedForm) -> accumulator.accept(affixedForm));
     }
 
     /**
-     * Helper to get the cross-product rules of this affix class for the given entry.
+     * Helper to get the cross-product classes of this affix class for the given entry.
      *
-     * @return the cross-product rules of this affix class for the given entry
+     * @return the cross-product classes of this affix class for the given entry
      */
-    private Stream<AffixRule> crossProductAffixRulesOf(final DicEntry entry) {
-        final Stream<AffixRule> crossProductAffixRules;
+    private Stream<AffixClass> crossProductAffixClassesOf(final DicEntry entry) {
+        final Stream<AffixClass> crossProductAffixClasses;
         if (affixClass.crossProduct()) {
-            crossProductAffixRules = affixClasses
+            crossProductAffixClasses = affixClasses
                     .referencedBy(entry.flags())
-                    .filter(cls -> cls.crossProduct() && cls.kind() != affixClass.kind())
-                    .flatMap(cls -> cls.rules().stream());
+                    .filter(cls -> cls.crossProduct() && cls.kind() != affixClass.kind());
         } else {
-            crossProductAffixRules = Stream.empty();
+            crossProductAffixClasses = Stream.empty();
         }
-        return crossProductAffixRules;
+        return crossProductAffixClasses;
     }
 }
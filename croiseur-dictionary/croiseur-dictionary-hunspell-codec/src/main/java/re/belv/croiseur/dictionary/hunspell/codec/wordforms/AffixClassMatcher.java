@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixClass;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixKind;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixRule;
+
+/**
+ * Applies the rules of an affix class whose condition is satisfied by a word, finding them in a single pass over the
+ * word.
+ *
+ * <p>The conditions of the rules are compiled into a trie, read from the start of the word for a prefix class and from
+ * its end for a suffix class. Walking the trie along the word marks the rules whose condition is satisfied: Matching a
+ * word costs a time proportional to the word length instead of the number of rules of the class.
+ *
+ * <p>Hunspell conditions are made of characters, wildcards ({@code .}) and character sets ({@code [abc]} or
+ * {@code [^abc]}). Rules whose condition uses another syntax are not compiled: Their condition is tested with their
+ * {@link AffixRuleApplicator} for each word.
+ *
+ * <p>Instances are immutable, hence safe to use from several threads.
+ */
+final class AffixClassMatcher {
+
+    /**
+     * A set of characters, matching a single character of a condition.
+     *
+     * @param members the characters of the set
+     * @param negated whether the set matches the characters which are not members
+     */
+    private record CharacterSet(String members, boolean negated) {
+
+        /** The wildcard, matching any character. */
+        static final CharacterSet ANY = new CharacterSet("", true);
+
+        /**
+         * Returns whether this set matches the given character.
+         *
+         * @param codePoint the character
+         * @return {@code true} iff this set matches the given character
+         */
+        boolean matches(final int codePoint) {
+            return members.indexOf(codePoint) >= 0 != negated;
+        }
+    }
+
+    /** A node of the condition trie. */
+    private static final class Node {
+
+        /** The children reached by a single character. */
+        private final Map<Integer, Node> characterChildren = new HashMap<>();
+
+        /** The children reached by a character set. */
+        private final Map<CharacterSet, Node> characterSetChildren = new HashMap<>();
+
+        /** The indices of the rules whose condition ends at this node. */
+        private final BitSet rules = new BitSet();
+    }
+
+    /** The affix rules, in class order. */
+    private final AffixRule[] rules;
+
+    /** The applicators of the affix rules, in class order. */
+    private final AffixRuleApplicator[] applicators;
+
+    /** Whether affixes are prefixes, i.e. whether conditions are read from the start of the words. */
+    private final boolean prefix;
+
+    /** The root of the condition trie. */
+    private final Node root;
+
+    /** The indices of the rules whose condition could not be compiled. */
+    private final BitSet uncompiledRules;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param affixClass the affix class to compile
+     */
+    AffixClassMatcher(final AffixClass affixClass) {
+        rules = affixClass.rules().toArray(AffixRule[]::new);
+        applicators = new AffixRuleApplicator[rules.length];
+        prefix = affixClass.kind() == AffixKind.PFX;
+        root = new Node();
+        uncompiledRules = new BitSet();
+        for (int i = 0; i < rules.length; i++) {
+            final AffixRule rule = rules[i];
+            applicators[i] = AffixRuleApplicators.ofRule(rule);
+            final Optional<List<CharacterSet>> condition =
+                    rule.isPrefix() == prefix ? compile(rule.condition()) : Optional.empty();
+            if (condition.isPresent()) {
+                insert(condition.get(), i);
+            } else {
+                uncompiledRules.set(i);
+            }
+        }
+    }
+
+    /**
+     * Applies the rules whose condition is satisfied by the given word, in class order.
+     *
+     * @param word the word to affix
+     * @param accumulator the consumer of the applied rules and of the affixed forms they produced
+     */
+    void apply(final String word, final BiConsumer<AffixRule, String> accumulator) {
+        final BitSet matchingRules = match(word);
+        matchingRules.or(uncompiledRules);
+        for (int i = matchingRules.nextSetBit(0); i >= 0; i = matchingRules.nextSetBit(i + 1)) {
+            final AffixRule rule = rules[i];
+            final Optional<String> affixedForm =
+                    uncompiledRules.get(i) ? applicators[i].apply(word) : applicators[i].applyToMatching(word);
+            affixedForm.ifPresent(form -> accumulator.accept(rule, form));
+        }
+    }
+
+    /**
+     * Walks the condition trie along the given word.
+     *
+     * @param word the word
+     * @return the indices of the compiled rules whose condition is satisfied by the given word
+     */
+    private BitSet match(final String word) {
+        final BitSet matchingRules = (BitSet) root.rules.clone();
+        List<Node> nodes = List.of(root);
+        int index = prefix ? 0 : word.length();
+        while (!nodes.isEmpty() && (prefix ? index < word.length() : index > 0)) {
+            final int codePoint = prefix ? word.codePointAt(index) : word.codePointBefore(index);
+            index += prefix ? Character.charCount(codePoint) : -Character.charCount(codePoint);
+            final List<Node> nextNodes = new ArrayList<>();
+            for (final Node node : nodes) {
+                final Node characterChild = node.characterChildren.get(codePoint);
+                if (characterChild != null) {
+                    nextNodes.add(characterChild);
+                }
+                node.characterSetChildren.forEach((characterSet, child) -> {
+                    if (characterSet.matches(codePoint)) {
+                        nextNodes.add(child);
+                    }
+                });
+            }
+            nextNodes.forEach(node -> matchingRules.or(node.rules));
+            nodes = nextNodes;
+        }
+        return matchingRules;
+    }
+
+    /**
+     * Inserts the given compiled condition in the trie.
+     *
+     * @param condition the compiled condition, in reading order
+     * @param ruleIndex the index of the rule holding the condition
+     */
+    private void insert(final List<CharacterSet> condition, final int ruleIndex) {
+        Node node = root;
+        for (final CharacterSet characterSet : condition) {
+            if (!characterSet.negated()
+                    && characterSet
+                                    .members()
+                                    .codePointCount(0, characterSet.members().length())
+                            == 1) {
+                node = node.characterChildren.computeIfAbsent(
+                        characterSet.members().codePointAt(0), codePoint -> new Node());
+            } else {
+                node = node.characterSetChildren.computeIfAbsent(characterSet, set -> new Node());
+            }
+        }
+        node.rules.set(ruleIndex);
+    }
+
+    /**
+     * Compiles the given condition, in reading order.
+     *
+     * @param condition the condition, absent if rule is unconditional
+     * @return the character sets matched by the condition, in reading order, or {@link Optional#empty()} if condition
+     *     uses unsupported syntax
+     */
+    private Optional<List<CharacterSet>> compile(final Optional<String> condition) {
+        if (condition.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        final String pattern = condition.get();
+        final List<CharacterSet> characterSets = new ArrayList<>();
+        int index = 0;
+        while (index < pattern.length()) {
+            final int codePoint = pattern.codePointAt(index);
+            index += Character.charCount(codePoint);
+            if (codePoint == '.') {
+                characterSets.add(CharacterSet.ANY);
+            } else if (codePoint == '[') {
+                final int end = pattern.indexOf(']', index);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                final boolean negated = pattern.startsWith("^", index);
+                final String members = pattern.substring(negated ? index + 1 : index, end);
+                if (members.isEmpty() || members.chars().anyMatch(AffixClassMatcher::isMetaCharacter)) {
+                    return Optional.empty();
+                }
+                characterSets.add(new CharacterSet(members, negated));
+                index = end + 1;
+            } else if (isMetaCharacter(codePoint)) {
+                return Optional.empty();
+            } else {
+                characterSets.add(new CharacterSet(Character.toString(codePoint), false));
+            }
+        }
+        if (!prefix) {
+            // Suffix conditions are read from the end of the word
+            Collections.reverse(characterSets);
+        }
+        return Optional.of(characterSets);
+    }
+
+    /**
+     * Returns whether the given character has a special meaning in a regular expression, other than the supported
+     * wildcard and character sets.
+     *
+     * @param character the character
+     * @return {@code true} iff the given character has a special meaning in a regular expression
+     */
+    private static boolean isMetaCharacter(final int character) {
+        return "\\^$|?*+()[]{}&-.".indexOf(character) >= 0;
+    }
+}
@@ -16,12 +16,20 @@ import re.belv.croiseur.dictionary.hunspell.codec.model.aff.Aff;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixClass;
 import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 
-/** Access to all the affix classes. */
+/**
+ * Access to all the affix classes.
+ *
+ * <p>The matchers of all the affix classes are compiled upon construction: Instances are immutable, hence safe to use
+ * from several threads.
+ */
 final class AffixClasses implements Iterable<AffixClass> {
 
     /** The affix classes, indexed by their identifying flags. */
     private final Map<Flag, AffixClass> affixClasses;
 
+    /** The compiled matchers of the affix classes, indexed by their identifying flags. */
+    private final Map<Flag, AffixClassMatcher> affixClassMatchers;
+
     /**
      * Constructs an instance.
      *
@@ -32,6 +40,20 @@ final class AffixClasses implements Iterable<AffixClass> {
         for (final AffixClass affixClass : aff.affixClasses()) {
             affixClasses.put(affixClass.flag(), affixClass);
         }
+        affixClassMatchers = new HashMap<>();
+        for (final AffixClass affixClass : affixClasses.values()) {
+            affixClassMatchers.put(affixClass.flag(), new AffixClassMatcher(affixClass));
+        }
+    }
+
+    /**
+     * Returns the compiled matcher of the given affix class.
+     *
+     * @param affixClass one of the affix classes
+     * @return the compiled matcher of the given affix class
+     */
+    AffixClassMatcher matcherOf(final AffixClass affixClass) {
+        return affixClassMatchers.get(affixClass.flag());
     }
 
     /**
@@ -10,5 +10,14 @@ import java.util.function.Function;
 
 /** Applies an affix to a word. */
 interface AffixRuleApplicator extends Function<String, Optional<String>> {
-    // Marker interface
+
+    /**
+     * Applies the affix to a word already known to satisfy the rule condition, skipping the condition check.
+     *
+     * @param stem a word satisfying the rule condition
+     * @return the affixed word, if rule produces one
+     */
+    default Optional<String> applyToMatching(final String stem) {
+        return apply(stem);
+    }
 }
@@ -6,20 +6,21 @@
 package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
 
 import static java.util.stream.Collectors.toSet;
-import static re.belv.croiseur.dictionary.hunspell.codec.util.MoreCollections.pairs;
 
 import java.util.Collection;
-import java.util.Set;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
-import re.belv.croiseur.dictionary.hunspell.codec.util.Pair;
 
 /**
  * Creates compounds based on the compound flag option.
  *
  * <p>Every entry referencing the compound flag can be compounded with each other, in any order.
+ *
+ * <p>Compounds are generated lazily, by iterating over the pairs of compoundable entries rather than collecting them.
+ * Pairs whose compound is too long are skipped.
  */
 final class BeginEndCompounder implements Compounder {
 
@@ -29,26 +30,35 @@ final class BeginEndCompounder implements Compounder {
     /** The function to create affix forms. */
     private final Affixer affixer;
 
+    /** The maximal length of the compounds to generate, before affixation. */
+    private final int maxCompoundLength;
+
     /**
      * Creates an instance.
      *
      * @param compoundFlagArg the compound flag
      * @param affixerArg the affixer
+     * @param maxCompoundLengthArg the maximal length of the compounds to generate, before affixation
      */
-    BeginEndCompounder(final Flag compoundFlagArg, final Affixer affixerArg) {
+    BeginEndCompounder(final Flag compoundFlagArg, final Affixer affixerArg, final int maxCompoundLengthArg) {
         compoundFlag = compoundFlagArg;
         affixer = affixerArg;
+        maxCompoundLength = maxCompoundLengthArg;
     }
 
     @Override
     public Stream<String> apply(final Collection<DicEntry> entries) {
-        final Set<DicEntry> compoundableEntries = entries.stream()
+        final List<DicEntry> compoundableEntries = List.copyOf(entries.stream()
                 .filter(entry -> entry.isFlaggedWith(compoundFlag))
-                .collect(toSet());
+                .collect(toSet()));
 
-        return pairs(compoundableEntries).stream().mapMulti((compoundParts, accumulator) -> {
-            final BeginEndCompound compound = compound(compoundParts, accumulator);
-            applyAffixes(compound, accumulator);
+        return compoundableEntries.parallelStream().mapMulti((begin, accumulator) -> {
+            for (final DicEntry end : compoundableEntries) {
+                if (begin.word().length() + end.word().length() <= maxCompoundLength) {
+                    final BeginEndCompound compound = compound(begin, end, accumulator);
+                    applyAffixes(compound, accumulator);
+                }
+            }
         });
     }
 
@@ -57,13 +67,13 @@ final class BeginEndCompounder implements Compounder {
      *
      * <p>The created compounded is added to the accumulator.
      *
-     * @param compoundParts the compound parts
+     * @param begin the begin part
+     * @param end the end part
      * @param accumulator the accumulator where the compound is added
      * @return the created compound
      */
-    private BeginEndCompound compound(
-            final Pair<DicEntry, DicEntry> compoundParts, final Consumer<String> accumulator) {
-        final BeginEndCompound compound = new BeginEndCompound(compoundParts.left(), compoundParts.right());
+    private BeginEndCompound compound(final DicEntry begin, final DicEntry end, final Consumer<String> accumulator) {
+        final BeginEndCompound compound = new BeginEndCompound(begin, end);
         accumulator.accept(compound.word());
         return compound;
     }
@@ -7,6 +7,7 @@ package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -14,14 +15,15 @@ import java.util.stream.Stream;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.ThreePartsCompoundFlags;
 import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
-import re.belv.croiseur.dictionary.hunspell.codec.util.MoreCollections;
-import re.belv.croiseur.dictionary.hunspell.codec.util.Triplet;
 
 /**
  * Creates compounds based on the compound begin/middle/end flag options.
  *
  * <p>Every triplet of entries (word1,word2,word3) referencing respectively the compound begin flag, compound middle
  * flag and compound end flags can be compounded as "word1word2word3".
+ *
+ * <p>Compounds are generated lazily, by iterating over the triplets of compoundable entries rather than collecting
+ * them. Triplets whose compound is too long are skipped, as soon as their begin and middle parts are too long.
  */
 final class BeginMiddleEndCompounder implements Compounder {
 
@@ -37,17 +39,22 @@ final class BeginMiddleEndCompounder implements Compounder {
     /** The function to create affix form. */
     private final Affixer affixer;
 
+    /** The maximal length of the compounds to generate, before affixation. */
+    private final int maxCompoundLength;
+
     /**
      * Constructs an instance.
      *
      * @param flags the compound flags
      * @param affixerArg the affixer
+     * @param maxCompoundLengthArg the maximal length of the compounds to generate, before affixation
      */
-    BeginMiddleEndCompounder(ThreePartsCompoundFlags flags, final Affixer affixerArg) {
+    BeginMiddleEndCompounder(ThreePartsCompoundFlags flags, final Affixer affixerArg, final int maxCompoundLengthArg) {
         beginFlag = flags.begin();
         middleFlag = flags.middle();
         endFlag = flags.end();
         affixer = affixerArg;
+        maxCompoundLength = maxCompoundLengthArg;
     }
 
     @Override
@@ -55,13 +62,24 @@ final class BeginMiddleEndCompounder implements Compounder {
 
         final Map<Flag, Set<DicEntry>> compoundableEntries = groupCompoundableEntries(dicEntries);
 
-        final Set<DicEntry> beginnings = compoundableEntries.get(beginFlag);
-        final Set<DicEntry> middles = compoundableEntries.get(middleFlag);
-        final Set<DicEntry> ends = compoundableEntries.get(endFlag);
+        final List<DicEntry> beginnings = List.copyOf(compoundableEntries.get(beginFlag));
+        final List<DicEntry> middles = List.copyOf(compoundableEntries.get(middleFlag));
+        final List<DicEntry> ends = List.copyOf(compoundableEntries.get(endFlag));
 
-        return MoreCollections.triplets(beginnings, middles, ends).stream().mapMulti((compoundParts, accumulator) -> {
-            final BeginMiddleEndCompound compound = compound(compoundParts, accumulator);
-            applyAffixes(compound, accumulator);
+        return beginnings.parallelStream().mapMulti((begin, accumulator) -> {
+            for (final DicEntry middle : middles) {
+                final int beginMiddleLength =
+                        begin.word().length() + middle.word().length();
+                if (beginMiddleLength > maxCompoundLength) {
+                    continue;
+                }
+                for (final DicEntry end : ends) {
+                    if (beginMiddleLength + end.word().length() <= maxCompoundLength) {
+                        final BeginMiddleEndCompound compound = compound(begin, middle, end, accumulator);
+                        applyAffixes(compound, accumulator);
+                    }
+                }
+            }
         });
     }
 
@@ -87,14 +105,15 @@ final class BeginMiddleEndCompounder implements Compounder {
      *
      * <p>The created compounded is added to the accumulator.
      *
-     * @param compoundParts the compound parts
+     * @param begin the begin part
+     * @param middle the middle part
+     * @param end the end part
      * @param accumulator the accumulator where the compound is added
      * @return the created compound
      */
     private BeginMiddleEndCompound compound(
-            final Triplet<DicEntry, DicEntry, DicEntry> compoundParts, final Consumer<String> accumulator) {
-        final BeginMiddleEndCompound compound =
-                new BeginMiddleEndCompound(compoundParts.left(), compoundParts.middle(), compoundParts.right());
+            final DicEntry begin, final DicEntry middle, final DicEntry end, final Consumer<String> accumulator) {
+        final BeginMiddleEndCompound compound = new BeginMiddleEndCompound(begin, middle, end);
         accumulator.accept(compound.word());
         return compound;
     }
@@ -71,6 +71,11 @@ final class PrefixRuleApplicator implements AffixRuleApplicator {
         return isApplicable(stem) ? Optional.of(rule.affix() + strip(stem)) : Optional.empty();
     }
 
+    @Override
+    public Optional<String> applyToMatching(final String stem) {
+        return Optional.of(rule.affix() + strip(stem));
+    }
+
     private boolean isApplicable(final String stem) {
         return conditionPattern.map(p -> p.matcher(stem).find()).orElse(true);
     }
@@ -71,6 +71,11 @@ final class SuffixRuleApplicator implements AffixRuleApplicator {
         return isApplicable(stem) ? Optional.of(strip(stem) + rule.affix()) : Optional.empty();
     }
 
+    @Override
+    public Optional<String> applyToMatching(final String stem) {
+        return Optional.of(strip(stem) + rule.affix());
+    }
+
     private boolean isApplicable(final String stem) {
         return conditionPattern.map(p -> p.matcher(stem).find()).orElse(true);
     }
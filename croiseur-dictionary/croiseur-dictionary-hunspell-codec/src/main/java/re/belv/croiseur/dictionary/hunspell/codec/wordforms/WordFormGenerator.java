@@ -21,7 +21,28 @@ public interface WordFormGenerator extends Supplier<Stream<String>> {
      * @return a new {@link WordFormGenerator}
      */
     static WordFormGenerator of(final Aff aff, final Dic dic) {
-        return new WordFormGeneratorImpl(aff, dic);
+        return of(aff, dic, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a new {@link WordFormGenerator} whose compounding is bounded by the given length.
+     *
+     * <p>Compounds whose parts are already too long are not even built, which saves most of the compounding work when
+     * length is bounded by the size of a grid. The bound is not exact: Forms longer than the given length, e.g. forms
+     * whose length only fits once normalised, are still generated; It is up to the caller to filter forms on their
+     * final length.
+     *
+     * @param aff an Aff file
+     * @param dic a Dic file
+     * @param maxLength the maximal length, in characters, of the useful forms
+     * @return a new {@link WordFormGenerator}
+     * @throws IllegalArgumentException if given maximal length is not strictly positive
+     */
+    static WordFormGenerator of(final Aff aff, final Dic dic, final int maxLength) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("Invalid maximal length: " + maxLength);
+        }
+        return new WordFormGeneratorImpl(aff, dic, maxLength);
     }
 
     @Override
@@ -32,6 +53,9 @@ public interface WordFormGenerator extends Supplier<Stream<String>> {
     /**
      * Generate all the valid forms.
      *
+     * <p>Returned stream may be parallel. Its encounter order is deterministic: Use ordered terminal operations (e.g.
+     * {@link Stream#forEachOrdered}, {@link Stream#collect}) to get forms in generation order.
+     *
      * @return all the valid forms
      */
     Stream<String> generate();
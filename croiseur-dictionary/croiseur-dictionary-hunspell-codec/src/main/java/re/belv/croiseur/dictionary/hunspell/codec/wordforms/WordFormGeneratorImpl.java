@@ -7,6 +7,7 @@ package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
 
 import java.util.stream.Stream;
 import re.belv.croiseur.dictionary.hunspell.codec.model.aff.Aff;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixRule;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.Dic;
 import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
 
@@ -14,9 +15,19 @@ import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
  * Pure Java implementation of {@link WordFormGenerator}.
  *
  * <p>Note: This implements a minimal amount of Hunspell options.
+ *
+ * <p>Word forms are generated in parallel: Affixes are applied on chunks of dictionary entries while compounds are
+ * generated, by the common fork-join pool. Affixers and compounders are stateless, and the generated stream is ordered:
+ * Collecting it gives the same result as a sequential generation.
  */
 final class WordFormGeneratorImpl implements WordFormGenerator {
 
+    /**
+     * The maximal number of affix rules applied in chain on a stem: An affix rule and either a cross-product rule or a
+     * continuation rule.
+     */
+    private static final int MAX_CHAINED_AFFIX_RULES = 2;
+
     /** The parsed dictionary file. */
     private final Dic dic;
 
@@ -37,19 +48,43 @@ final class WordFormGeneratorImpl implements WordFormGenerator {
      *
      * @param affArg the parsed affix file
      * @param dicArg the parsed dictionary file
+     * @param maxLengthArg the maximal length of the useful forms, bounding the compounds to build
      */
-    WordFormGeneratorImpl(final Aff affArg, final Dic dicArg) {
+    WordFormGeneratorImpl(final Aff affArg, final Dic dicArg, final int maxLengthArg) {
         dic = dicArg;
         affixer = new Affixer(new AffixClasses(affArg));
+        final int maxCompoundLength = maxCompoundLength(affArg, maxLengthArg);
         beginEndCompounder = affArg.compoundFlag()
-                .<Compounder>map(flag -> new BeginEndCompounder(flag, affixer))
+                .<Compounder>map(flag -> new BeginEndCompounder(flag, affixer, maxCompoundLength))
                 .orElse(dicEntries -> Stream.empty());
         beginMiddleEndCompounder = affArg.threePartsCompoundFlags()
                 .<Compounder>map(compoundBeginMiddleEndFlags ->
-                        new BeginMiddleEndCompounder(compoundBeginMiddleEndFlags, affixer))
+                        new BeginMiddleEndCompounder(compoundBeginMiddleEndFlags, affixer, maxCompoundLength))
                 .orElse(dicEntries -> Stream.empty());
     }
 
+    /**
+     * Computes the maximal length of the compounds to build, before affixation.
+     *
+     * <p>Affix rules may strip characters from a compound: A compound longer than the maximal length of the forms may
+     * still give short enough affixed forms. The maximal compound length takes the longest possible stripping into
+     * account.
+     *
+     * @param aff the parsed affix file
+     * @param maxLength the maximal length of the useful forms
+     * @return the maximal length of the compounds to build
+     */
+    private static int maxCompoundLength(final Aff aff, final int maxLength) {
+        final int maxStrippedLength = aff.affixClasses().stream()
+                .flatMap(affixClass -> affixClass.rules().stream())
+                .map(AffixRule::strippingCharacters)
+                .mapToInt(strippingCharacters ->
+                        strippingCharacters.map(String::length).orElse(0))
+                .max()
+                .orElse(0);
+        return (int) Math.min(Integer.MAX_VALUE, (long) maxLength + (long) MAX_CHAINED_AFFIX_RULES * maxStrippedLength);
+    }
+
     @Override
     public Stream<String> generate() {
         final Stream<String> affixed = applyAffixes();
@@ -64,7 +99,7 @@ final class WordFormGeneratorImpl implements WordFormGenerator {
     }
 
     private Stream<String> applyAffixes() {
-        return dic.entries().stream().flatMap((final DicEntry entry) -> {
+        return dic.entries().parallelStream().flatMap((final DicEntry entry) -> {
             final Stream<String> nonAffixedForm = Stream.of(entry.word());
             final Stream<String> affixedForms = affixer.apply(entry);
             return Stream.concat(nonAffixedForm, affixedForms);
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.codec.parser.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
+
+/** Tests for {@link FlagType}. */
+final class FlagTypeTest {
+
+    /**
+     * Creates the flags with the given identifiers.
+     *
+     * @param identifiers the flag identifiers
+     * @return the flags
+     */
+    private static List<Flag> flags(final String... identifiers) {
+        return Arrays.stream(identifiers).map(Flag::new).toList();
+    }
+
+    @Test
+    void splitNull() {
+        assertTrue(FlagType.SINGLE_ASCII.split(null).isEmpty());
+    }
+
+    @Test
+    void splitSingleAscii() {
+        assertEquals(flags("A", "b", "é", "1"), FlagType.SINGLE_ASCII.split("Abé1"));
+    }
+
+    @Test
+    void splitSingleAsciiSkipsNonExtendedAscii() {
+        assertEquals(flags("A", "B"), FlagType.SINGLE_ASCII.split("AœB"));
+    }
+
+    @Test
+    void splitLongAscii() {
+        assertEquals(flags("Aa", "Bb", "p+"), FlagType.LONG_ASCII.split("AaBbp+"));
+    }
+
+    @Test
+    void splitLongAsciiIgnoresIncompleteFlag() {
+        assertEquals(flags("Aa", "Bb"), FlagType.LONG_ASCII.split("AaBbC"));
+    }
+
+    @Test
+    void splitLongAsciiSkipsNonExtendedAscii() {
+        assertEquals(flags("Aa", "Bb"), FlagType.LONG_ASCII.split("AaœBb"));
+    }
+
+    @Test
+    void splitNumerical() {
+        assertEquals(flags("1", "23", "456", "12345", "6"), FlagType.NUMERICAL.split("1,23,0456,123456"));
+    }
+
+    @Test
+    void splitUtf8() {
+        assertEquals(flags("A", "é", "😀", "œ"), FlagType.UTF_8.split("Aé😀œ"));
+    }
+}
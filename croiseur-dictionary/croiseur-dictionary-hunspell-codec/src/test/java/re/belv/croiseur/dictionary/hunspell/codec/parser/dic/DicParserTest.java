@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.codec.parser.dic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import re.belv.croiseur.dictionary.common.io.BomInputStream;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.Aff;
+import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
+import re.belv.croiseur.dictionary.hunspell.codec.model.dic.Dic;
+import re.belv.croiseur.dictionary.hunspell.codec.model.dic.DicEntry;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.aff.AffParser;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.common.FlagType;
+import re.belv.croiseur.dictionary.hunspell.codec.parser.common.ParserException;
+
+/** Tests for {@link DicParser}. */
+final class DicParserTest {
+
+    /** The directory containing the bundled Hunspell dictionaries, relative to this module. */
+    private static final Path BUNDLED_DICTIONARIES =
+            Path.of("../croiseur-dictionary-hunspell-data/libreoffice-dictionaries-edited");
+
+    /**
+     * Reads the given file, without its byte order mark.
+     *
+     * @param file the file to read
+     * @return the content of the file
+     * @throws IOException if file cannot be read
+     */
+    private static byte[] read(final Path file) throws IOException {
+        try (final InputStream in = new BomInputStream(CompressedFiles.newInputStream(file))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void parseContent() throws ParserException {
+        final String content = "4\r\n# comment\r\nhello/AB\rworld\n\n  \n*foo po:noun\n/comment\nbar/C\t";
+
+        final Dic dic = new DicParser(FlagType.SINGLE_ASCII).parse(content);
+
+        assertEquals(
+                List.of(
+                        new DicEntry(false, "hello", List.of(new Flag("A"), new Flag("B"))),
+                        new DicEntry(false, "world", List.of()),
+                        new DicEntry(true, "foo", List.of()),
+                        new DicEntry(false, "bar", List.of(new Flag("C")))),
+                List.copyOf(dic.entries()));
+    }
+
+    @Test
+    void parseEmptyContent() {
+        assertThrows(
+                MissingEstimatedNumberOfEntriesException.class, () -> new DicParser(FlagType.SINGLE_ASCII).parse(""));
+    }
+
+    @Test
+    void parseContentWithoutNumberOfEntries() {
+        assertThrows(MissingEstimatedNumberOfEntriesException.class, () -> new DicParser(FlagType.SINGLE_ASCII)
+                .parse("hello\nworld\n"));
+    }
+
+    @Test
+    void parseInvalidContent() {
+        assertThrows(InvalidDicEntryException.class, () -> new DicParser(FlagType.SINGLE_ASCII)
+                .parse("2\nhello\nworld/A/B\n"));
+    }
+
+    /**
+     * Verifies that parsing the whole content of a bundled dictionary, by chunks, gives the same entries as parsing its
+     * lines one after another.
+     *
+     * @param dictionary the path to the dictionary files, without extension
+     * @throws IOException if dictionary cannot be read
+     * @throws ParserException if dictionary cannot be parsed
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"en_GB/en_GB", "es_ES/es_ES", "fr_FR/fr", "it_IT/it_IT"})
+    void sameAsLineByLineParsing(final String dictionary) throws IOException, ParserException {
+        final byte[] affContent = read(BUNDLED_DICTIONARIES.resolve(dictionary + ".aff"));
+        final Charset encoding = AffParser.identifyEncoding(
+                new String(affContent, StandardCharsets.ISO_8859_1).lines().iterator());
+        final Aff aff =
+                new AffParser().parse(new String(affContent, encoding).lines().iterator());
+        final String dicContent = new String(read(BUNDLED_DICTIONARIES.resolve(dictionary + ".dic")), encoding);
+        final DicParser parser = new DicParser(aff.flagType());
+
+        final Dic expected = parser.parse(dicContent.lines().iterator());
+        final Dic actual = parser.parse(dicContent);
+
+        assertEquals(List.copyOf(expected.entries()), List.copyOf(actual.entries()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixClass;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixClassHeader;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixKind;
+import re.belv.croiseur.dictionary.hunspell.codec.model.aff.AffixRule;
+import re.belv.croiseur.dictionary.hunspell.codec.model.common.Flag;
+
+/** Tests for {@link AffixClassMatcher}. */
+final class AffixClassMatcherTest {
+
+    /** The flag of the tested affix classes. */
+    private static final Flag FLAG = new Flag("A");
+
+    /** Words to affix, exercising the conditions of the tested rules. */
+    private static final List<String> WORDS =
+            List.of("", "a", "y", "ay", "by", "boy", "cry", "try", "sh", "wish", "bus", "éy", "😀y", "ré", "re");
+
+    /**
+     * Creates an affix rule.
+     *
+     * @param kind the affix kind
+     * @param strip the stripping characters, or {@code null}
+     * @param affix the affix
+     * @param condition the condition, or {@code null}
+     * @return the affix rule
+     */
+    private static AffixRule rule(
+            final AffixKind kind, final String strip, final String affix, final String condition) {
+        return new AffixRule(kind, FLAG, Optional.ofNullable(strip), affix, List.of(), Optional.ofNullable(condition));
+    }
+
+    /**
+     * Applies the rules one by one, as reference.
+     *
+     * @param affixClass the affix class
+     * @param word the word to affix
+     * @return the affixed forms, in rule order
+     */
+    private static List<String> applyOneByOne(final AffixClass affixClass, final String word) {
+        final List<String> affixedForms = new ArrayList<>();
+        for (final AffixRule rule : affixClass.rules()) {
+            AffixRuleApplicators.ofRule(rule).apply(word).ifPresent(affixedForms::add);
+        }
+        return affixedForms;
+    }
+
+    /**
+     * Applies the rules using {@link AffixClassMatcher}.
+     *
+     * @param affixClass the affix class
+     * @param word the word to affix
+     * @return the affixed forms, in rule order
+     */
+    private static List<String> applyWithMatcher(final AffixClass affixClass, final String word) {
+        final List<String> affixedForms = new ArrayList<>();
+        new AffixClassMatcher(affixClass).apply(word, (rule, affixedForm) -> affixedForms.add(affixedForm));
+        return affixedForms;
+    }
+
+    @Test
+    void suffixes() {
+        final List<AffixRule> rules = List.of(
+                rule(AffixKind.SFX, "y", "ies", "[^aeiou]y"),
+                rule(AffixKind.SFX, null, "s", "[aeiou]y"),
+                rule(AffixKind.SFX, null, "es", "sh"),
+                rule(AffixKind.SFX, null, "es", "[sxz]"),
+                rule(AffixKind.SFX, null, "s", "[^sxzhy]"),
+                rule(AffixKind.SFX, null, "ing", null),
+                rule(AffixKind.SFX, null, "0", "."),
+                rule(AffixKind.SFX, null, "er", ".y"),
+                rule(AffixKind.SFX, null, "x", "(a|b)y"));
+        final AffixClass affixClass =
+                new AffixClass(new AffixClassHeader(AffixKind.SFX, FLAG, true, rules.size()), rules);
+
+        for (final String word : WORDS) {
+            assertEquals(applyOneByOne(affixClass, word), applyWithMatcher(affixClass, word), word);
+        }
+    }
+
+    @Test
+    void prefixes() {
+        final List<AffixRule> rules = List.of(
+                rule(AffixKind.PFX, null, "re", null),
+                rule(AffixKind.PFX, "b", "un", "b"),
+                rule(AffixKind.PFX, null, "in", "[^aeiouy]."),
+                rule(AffixKind.PFX, null, "dé", "[aé]"),
+                rule(AffixKind.PFX, null, "x", "r[éa-z]"));
+        final AffixClass affixClass =
+                new AffixClass(new AffixClassHeader(AffixKind.PFX, FLAG, true, rules.size()), rules);
+
+        for (final String word : WORDS) {
+            assertEquals(applyOneByOne(affixClass, word), applyWithMatcher(affixClass, word), word);
+        }
+    }
+}
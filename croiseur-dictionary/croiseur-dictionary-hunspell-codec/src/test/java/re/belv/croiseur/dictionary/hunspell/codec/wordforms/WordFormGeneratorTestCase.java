@@ -7,6 +7,7 @@ package re.belv.croiseur.dictionary.hunspell.codec.wordforms;
 
 import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,10 +50,11 @@ abstract class WordFormGeneratorTestCase {
         }
     }
 
-    private static WordFormGenerator createGenerator(final Path affPath, final Path dicPath, final Charset charset) {
+    private static WordFormGenerator createGenerator(
+            final Path affPath, final Path dicPath, final Charset charset, final int maxLength) {
         final Aff aff = createAff(affPath, charset);
         final Dic dic = createDic(aff, dicPath, charset);
-        return new WordFormGeneratorImpl(aff, dic);
+        return WordFormGenerator.of(aff, dic, maxLength);
     }
 
     private static Optional<Path> pathOf(final String resourcePath) throws URISyntaxException {
@@ -110,6 +112,21 @@ abstract class WordFormGeneratorTestCase {
         return Charset.defaultCharset();
     }
 
+    /**
+     * Generates the forms of the test dictionary, with compounding bounded by the given length.
+     *
+     * @param maxLength the maximal length of the useful forms
+     * @return the generated forms
+     * @throws URISyntaxException should not happen
+     */
+    private Set<String> generate(final int maxLength) throws URISyntaxException {
+        final Path affFile = pathOf(name() + ".aff").orElseThrow();
+        final Path dicFile = pathOf(name() + ".dic").orElseThrow();
+        return createGenerator(affFile, dicFile, charset(), maxLength)
+                .generate()
+                .collect(toSet());
+    }
+
     @Test
     final void generate() throws URISyntaxException {
 
@@ -120,9 +137,22 @@ abstract class WordFormGeneratorTestCase {
                 .map(WordFormGeneratorTestCase::wordsOf)
                 .orElseGet(Collections::emptySet);
 
-        final Set<String> actual =
-                createGenerator(affFile, dicFile, charset()).generate().collect(toSet());
+        final Set<String> actual = createGenerator(affFile, dicFile, charset(), Integer.MAX_VALUE)
+                .generate()
+                .collect(toSet());
 
         assertAll(() -> assertContainsAll(goods, actual), () -> assertContainsNone(wrongs, actual));
     }
+
+    @Test
+    final void generateBounded() throws URISyntaxException {
+        final int maxLength = 6;
+        final Set<String> unbounded = generate(Integer.MAX_VALUE);
+        final Set<String> bounded = generate(maxLength);
+
+        assertTrue(unbounded.containsAll(bounded));
+        assertEquals(
+                unbounded.stream().filter(word -> word.length() <= maxLength).collect(toSet()),
+                bounded.stream().filter(word -> word.length() <= maxLength).collect(toSet()));
+    }
 }
@@ -5,13 +5,10 @@
 
 package re.belv.croiseur.dictionary.hunspell.plugin;
 
-import static java.util.stream.Collectors.toCollection;
-
 import java.net.URL;
-import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Set;
 import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.common.dictionary.WordSet;
 import re.belv.croiseur.dictionary.common.StringFilters;
 import re.belv.croiseur.dictionary.common.StringTransformers;
 import re.belv.croiseur.dictionary.common.util.Lazy;
@@ -25,20 +22,49 @@ final class HunspellDictionary implements Dictionary {
     private final Lazy<DictionaryDetails> details;
 
     /** The dictionary words, lazily read. */
-    private final Lazy<Set<String>> words;
+    private final Lazy<WordSet> words;
 
     /**
      * Constructs an instance.
      *
      * @param aDicURL URL to Hunspell dictionary (.dic); affix file is expected to have same basename and extension .aff
+     * @param maxWordLength the maximal length of the words, once normalised
+     * @param cache the cache of expanded dictionaries
      */
-    public HunspellDictionary(final URL aDicURL) {
-        final HunspellDictionaryReader dictionary = new HunspellDictionaryReader(aDicURL);
+    public HunspellDictionary(final URL aDicURL, final int maxWordLength, final HunspellWordCache cache) {
+        final HunspellDictionaryReader dictionary = new HunspellDictionaryReader(aDicURL, maxWordLength);
         details = Lazy.of(dictionary::details);
-        words = Lazy.of(() -> dictionary.stream()
+        words = Lazy.of(() -> cache.get(
+                dictionary.dicUrl(),
+                dictionary.affUrl(),
+                maxWordLength,
+                () -> generateWords(dictionary, maxWordLength)));
+    }
+
+    /**
+     * Generates all the word forms of the given dictionary, normalised.
+     *
+     * <p>The maximal length is applied after normalisation, since normalisation may shorten a form.
+     *
+     * @param dictionary the dictionary
+     * @param maxWordLength the maximal length of the words, once normalised
+     * @return the normalised word forms, in generation order, stored in the shared word pool
+     */
+    static WordSet generateWords(final HunspellDictionaryReader dictionary, final int maxWordLength) {
+        return dictionary.stream()
                 .filter(StringFilters.notEmpty())
                 .map(StringTransformers.toAcceptableCrosswordEntry())
-                .collect(toCollection(LinkedHashSet::new)));
+                .filter(word -> word.length() <= maxWordLength)
+                .collect(WordSet.toWordSet());
+    }
+
+    /**
+     * Returns the number of words of this dictionary stored in the shared word pool, without loading them.
+     *
+     * @return the number of words of this dictionary if they are loaded, 0 otherwise
+     */
+    int pooledWordCount() {
+        return words.peek().map(Set::size).orElse(0);
     }
 
     @Override
@@ -48,6 +74,6 @@ final class HunspellDictionary implements Dictionary {
 
     @Override
     public Set<String> words() {
-        return Collections.unmodifiableSet(words.get());
+        return words.get();
     }
 }
@@ -9,41 +9,99 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
 import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
+import re.belv.croiseur.dictionary.common.DictionaryCatalogue;
 import re.belv.croiseur.dictionary.common.DictionaryPath;
+import re.belv.croiseur.dictionary.common.WatchedDictionaries;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
 import re.belv.croiseur.dictionary.common.util.Lazy;
 import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChangeListener;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
 
 /** Hunspell dictionary provider. */
 public final class HunspellDictionaryProvider implements DictionaryProvider {
 
+    /**
+     * The system property defining the maximal length of the generated word forms. Word length is not bounded if
+     * property is not set.
+     */
+    static final String MAX_LENGTH_SYSTEM_PROPERTY = "re.belv.croiseur.dictionary.hunspell.max.length";
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(HunspellDictionaryProvider.class.getName());
+
+    /** The catalogue of the dictionaries, caching their details. */
+    private static final DictionaryCatalogue CATALOGUE = DictionaryCatalogue.of("hunspell");
+
     /** Details about the dictionary provider. */
     private final DictionaryProviderDetails details;
 
-    /** The dictionaries, lazily evaluated */
-    private final Lazy<Collection<Dictionary>> dictionaries;
+    /** The dictionaries, lazily listed. */
+    private final WatchedDictionaries<HunspellDictionary> dictionaries;
 
     /** Constructor. */
     public HunspellDictionaryProvider() {
         details = new DictionaryProviderDetails(
                 "Local Hunspell Provider", "Provides access to local dictionaries in the Hunspell format.");
-        dictionaries = Lazy.of(
-                () -> dictionaryFiles().<Dictionary>map(HunspellDictionary::new).toList());
+        final Lazy<HunspellWordCache> cache = Lazy.of(HunspellWordCache::fromSystemProperties);
+        final Lazy<Integer> maxWordLength = Lazy.of(HunspellDictionaryProvider::maxWordLengthFromSystemProperties);
+        // Words depend on the affix file too
+        dictionaries = new WatchedDictionaries<>(
+                CATALOGUE,
+                DictionaryPath::getDefault,
+                HunspellDictionaryProvider::isDictionaryFile,
+                dic -> List.of(dic, affFileOf(dic)),
+                dic -> new HunspellDictionary(urlFrom(dic), maxWordLength.get(), cache.get()),
+                dictionary -> Optional.empty(),
+                HunspellDictionary::pooledWordCount);
     }
 
     /**
-     * Retrieves the dictionary files.
+     * Reads the maximal word length from system property {@value #MAX_LENGTH_SYSTEM_PROPERTY}.
      *
-     * @return the dictionary files
+     * @return the maximal word length, or {@link Integer#MAX_VALUE} if property is not set or invalid
      */
-    private static Stream<URL> dictionaryFiles() {
-        return DictionaryPath.getDefault().list().stream()
-                .filter(f -> f.getName().endsWith(".dic"))
-                .map(HunspellDictionaryProvider::urlFrom)
-                .filter(Objects::nonNull);
+    private static int maxWordLengthFromSystemProperties() {
+        final String property = System.getProperty(MAX_LENGTH_SYSTEM_PROPERTY);
+        if (property == null) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            final int maxWordLength = Integer.parseInt(property.strip());
+            if (maxWordLength > 0) {
+                return maxWordLength;
+            }
+        } catch (final NumberFormatException e) {
+            // Handled below
+        }
+        LOGGER.warning(() -> "Ignoring invalid " + MAX_LENGTH_SYSTEM_PROPERTY + ": " + property);
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether the given file is a dictionary file, possibly compressed.
+     *
+     * @param file the file
+     * @return {@code true} if the given file is a dictionary file
+     */
+    private static boolean isDictionaryFile(final File file) {
+        return CompressedFiles.hasExtension(file.getName(), ".dic") && urlFrom(file) != null;
+    }
+
+    /**
+     * Returns the affix file of the given dictionary file, compressed the same way.
+     *
+     * @param dic the dictionary file, possibly compressed
+     * @return the affix file of the given dictionary file
+     */
+    private static File affFileOf(final File dic) {
+        final String path = dic.getPath();
+        final int extensionIndex = path.lastIndexOf(".dic");
+        return new File(path.substring(0, extensionIndex) + ".aff" + path.substring(extensionIndex + ".dic".length()));
     }
 
     /**
@@ -70,4 +128,14 @@ public final class HunspellDictionaryProvider implements DictionaryProvider {
     public Collection<Dictionary> get() {
         return dictionaries.get();
     }
+
+    @Override
+    public void addChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.removeListener(listener);
+    }
 }
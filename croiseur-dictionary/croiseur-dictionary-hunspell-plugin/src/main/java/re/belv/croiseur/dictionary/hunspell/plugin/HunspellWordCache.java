@@ -0,0 +1,240 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.plugin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.dictionary.WordSet;
+
+/**
+ * A persistent cache of expanded Hunspell dictionaries.
+ *
+ * <p>Generating all the word forms of a Hunspell dictionary is expensive. This cache stores the generated, normalised
+ * words on disk, so that next loads only consist in a sequential read. Words are stored in generation order, so that
+ * cached and generated word lists are iterated in the same order.
+ *
+ * <p>Entries are keyed by the location, size and last modification time of the dictionary and affix files, and by the
+ * maximal word length: Modifying any of these files or the maximal word length invalidates the entry. Entry files are
+ * named after the location of the dictionary only, so that an invalidated entry is replaced rather than left behind.
+ * Only local files can be cached.
+ *
+ * <p>Instances are thread-safe.
+ */
+final class HunspellWordCache {
+
+    /**
+     * The system property defining the directory where expanded dictionaries are persisted. Setting it to an empty
+     * value disables the cache.
+     */
+    static final String PATH_SYSTEM_PROPERTY = "re.belv.croiseur.dictionary.hunspell.cache.path";
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(HunspellWordCache.class.getName());
+
+    /** The magic number, identifying a cache entry file. */
+    private static final int MAGIC = 0x43524857;
+
+    /**
+     * The cache format version. To be incremented whenever entry format, word form generation or word normalisation
+     * changes, since cached words would differ from generated words.
+     */
+    private static final int VERSION = 2;
+
+    /** The extension of cache entry files. */
+    private static final String FILE_EXTENSION = ".words";
+
+    /** The buffer size, in bytes. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The directory where expanded dictionaries are persisted, or {@code null} if cache is disabled. */
+    private final Path directory;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param directoryArg the directory where expanded dictionaries are persisted, or {@code null} to disable cache
+     */
+    HunspellWordCache(final Path directoryArg) {
+        directory = directoryArg;
+    }
+
+    /**
+     * Creates a cache configured with system property {@value #PATH_SYSTEM_PROPERTY}, defaulting to a directory under
+     * user home.
+     *
+     * @return a cache configured with system property
+     */
+    static HunspellWordCache fromSystemProperties() {
+        final String path =
+                System.getProperty(PATH_SYSTEM_PROPERTY, System.getProperty("user.home") + "/croiseur/cache/hunspell");
+        return new HunspellWordCache(path.isEmpty() ? null : Path.of(path));
+    }
+
+    /**
+     * Returns the words of the given dictionary from cache if present, otherwise generates them and stores them in
+     * cache.
+     *
+     * @param dicUrl the dictionary file URL
+     * @param affUrl the affix file URL
+     * @param maxWordLength the maximal length of the generated words
+     * @param generator the word generator, called on cache miss
+     * @return the words of the dictionary
+     */
+    WordSet get(final URL dicUrl, final URL affUrl, final int maxWordLength, final Supplier<WordSet> generator) {
+        final String key = directory != null ? key(dicUrl, affUrl, maxWordLength) : null;
+        if (key == null) {
+            return generator.get();
+        }
+        final Path file =
+                directory.resolve(digest(dicUrl.toExternalForm() + "|" + affUrl.toExternalForm()) + FILE_EXTENSION);
+        final WordSet cachedWords = read(file, key);
+        if (cachedWords != null) {
+            LOGGER.fine(() -> "Hunspell word cache hit for " + dicUrl);
+            return cachedWords;
+        }
+        LOGGER.fine(() -> "Hunspell word cache miss for " + dicUrl);
+        final WordSet words = generator.get();
+        if (!words.isEmpty()) {
+            // Empty means generation failed, e.g. unreadable affix file: Do not persist failure
+            write(file, key, words);
+        }
+        return words;
+    }
+
+    /**
+     * Computes the canonical key of the given dictionary.
+     *
+     * @param dicUrl the dictionary file URL
+     * @param affUrl the affix file URL
+     * @param maxWordLength the maximal length of the generated words
+     * @return the canonical key, or {@code null} if dictionary cannot be cached
+     */
+    private static String key(final URL dicUrl, final URL affUrl, final int maxWordLength) {
+        final String dicKey = fileKey(dicUrl);
+        final String affKey = fileKey(affUrl);
+        return dicKey != null && affKey != null ? VERSION + "|" + dicKey + "|" + affKey + "|" + maxWordLength : null;
+    }
+
+    /**
+     * Computes the key part of the given file.
+     *
+     * @param url the file URL
+     * @return the key part of the given file, or {@code null} if URL is not a readable local file
+     */
+    private static String fileKey(final URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            final Path path = Path.of(url.toURI()).toAbsolutePath();
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return path + "|" + attributes.size() + "|"
+                    + attributes.lastModifiedTime().toMillis();
+        } catch (final URISyntaxException | IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Cannot cache " + url, e);
+            return null;
+        }
+    }
+
+    /**
+     * Computes the digest of the given string, used as file name.
+     *
+     * @param string the string
+     * @return the digest of the given string, as an hexadecimal string
+     */
+    private static String digest(final String string) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(string.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be supported by all Java platforms
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the given cache entry.
+     *
+     * @param file the cache entry file
+     * @param key the expected canonical key
+     * @return the cached words, or {@code null} if entry is absent, invalid or stale
+     */
+    private static WordSet read(final Path file, final String key) {
+        try (final DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || !in.readUTF().equals(key)) {
+                // Stale entry, to be replaced
+                return null;
+            }
+            final int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Invalid word count: " + count);
+            }
+            final WordSet.Builder words = WordSet.builder();
+            for (int i = 0; i < count; i++) {
+                words.add(in.readUTF());
+            }
+            return words.build();
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | RuntimeException e) {
+            // Cache is a best effort, an unreadable entry is just a miss
+            LOGGER.log(Level.WARNING, "Failed to read cached Hunspell words " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given cache entry.
+     *
+     * @param file the cache entry file
+     * @param key the canonical key
+     * @param words the words to cache
+     */
+    private void write(final Path file, final String key, final Set<String> words) {
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file then move it, so that readers never see partially written entries
+            final Path temporaryFile = Files.createTempFile(directory, "hunspell", ".tmp");
+            try {
+                try (final DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE))) {
+                    out.writeInt(MAGIC);
+                    out.writeUTF(key);
+                    out.writeInt(words.size());
+                    for (final String word : words) {
+                        out.writeUTF(word);
+                    }
+                }
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // No-op if move succeeded
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (final IOException e) {
+            // Cache is a best effort, failing to persist an entry should not fail the load
+            LOGGER.log(Level.WARNING, "Failed to persist Hunspell words " + file, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests on {@link HunspellDictionary}. */
+final class HunspellDictionaryTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path dicFile;
+
+    @BeforeEach
+    void before() throws IOException {
+        Files.writeString(directory.resolve("fr_FR.aff"), "SET UTF-8\n");
+        dicFile = Files.writeString(directory.resolve("fr_FR.dic"), """
+                3
+                aujourd'hui
+                bonjour
+                anticonstitutionnellement
+                """);
+    }
+
+    @Test
+    void words() throws IOException {
+        final HunspellDictionary dictionary =
+                new HunspellDictionary(dicFile.toUri().toURL(), Integer.MAX_VALUE, new HunspellWordCache(null));
+
+        assertEquals(List.of("AUJOURDHUI", "BONJOUR", "ANTICONSTITUTIONNELLEMENT"), List.copyOf(dictionary.words()));
+    }
+
+    @Test
+    void words_maxLengthAppliedAfterNormalisation() throws IOException {
+        final HunspellDictionary dictionary =
+                new HunspellDictionary(dicFile.toUri().toURL(), 10, new HunspellWordCache(null));
+
+        assertEquals(List.of("AUJOURDHUI", "BONJOUR"), List.copyOf(dictionary.words()));
+    }
+}
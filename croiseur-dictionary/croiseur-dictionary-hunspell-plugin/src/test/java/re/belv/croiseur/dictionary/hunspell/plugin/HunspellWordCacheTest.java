@@ -0,0 +1,212 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.hunspell.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.common.dictionary.WordSet;
+
+/** Tests on {@link HunspellWordCache}. */
+final class HunspellWordCacheTest {
+
+    /** The words generated by {@link #generator}. */
+    private static final List<String> WORDS = List.of("HELLO", "WORLD", "ÉTÉ", "AUJOURDHUI");
+
+    @TempDir
+    private Path dictionaryDirectory;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private Path dicFile;
+
+    private Path affFile;
+
+    private AtomicInteger generations;
+
+    private HunspellWordCache cache;
+
+    @BeforeEach
+    void before() throws IOException {
+        dicFile = Files.writeString(dictionaryDirectory.resolve("fr_FR.dic"), "1\nhello\n");
+        affFile = Files.writeString(dictionaryDirectory.resolve("fr_FR.aff"), "SET UTF-8\n");
+        generations = new AtomicInteger();
+        cache = new HunspellWordCache(cacheDirectory);
+    }
+
+    @Test
+    void get_miss() throws IOException {
+        final WordSet words = get(cache, 10, generator());
+
+        assertEquals(1, generations.get());
+        assertEquals(WORDS, List.copyOf(words));
+        assertEquals(1, entries(cacheDirectory).size());
+    }
+
+    @Test
+    void get_hit() throws IOException {
+        get(cache, 10, generator());
+
+        final WordSet words = get(new HunspellWordCache(cacheDirectory), 10, generator());
+
+        assertEquals(1, generations.get());
+        assertEquals(WORDS, List.copyOf(words));
+    }
+
+    @Test
+    void get_staleAfterDicModification() throws IOException {
+        get(cache, 10, generator());
+        Files.writeString(dicFile, "2\nhello\nworld\n");
+
+        get(cache, 10, generator());
+
+        assertEquals(2, generations.get());
+        assertEquals(1, entries(cacheDirectory).size());
+    }
+
+    @Test
+    void get_staleAfterAffModification() throws IOException {
+        get(cache, 10, generator());
+        // Same size, different modification time
+        Files.setLastModifiedTime(
+                affFile, FileTime.fromMillis(Files.getLastModifiedTime(affFile).toMillis() + 10_000));
+
+        get(cache, 10, generator());
+
+        assertEquals(2, generations.get());
+    }
+
+    @Test
+    void get_staleAfterMaxLengthModification() throws IOException {
+        get(cache, 10, generator());
+
+        get(cache, 5, generator());
+
+        assertEquals(2, generations.get());
+    }
+
+    @Test
+    void get_truncatedEntry() throws IOException {
+        get(cache, 10, generator());
+        final Path entry = entries(cacheDirectory).getFirst();
+        try (final var channel = Files.newByteChannel(entry, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        final WordSet words = get(cache, 10, generator());
+
+        assertEquals(2, generations.get());
+        assertEquals(WORDS, List.copyOf(words));
+    }
+
+    @Test
+    void get_corruptEntry() throws IOException {
+        get(cache, 10, generator());
+        Files.write(entries(cacheDirectory).getFirst(), new byte[] {0x43, 0x52, 0x48, 0x57, (byte) 0xFF, (byte) 0xFF});
+
+        final WordSet words = get(cache, 10, generator());
+
+        assertEquals(2, generations.get());
+        assertEquals(WORDS, List.copyOf(words));
+        assertEquals(WORDS, List.copyOf(get(cache, 10, generator())));
+        assertEquals(2, generations.get());
+    }
+
+    @Test
+    void get_disabled() throws IOException {
+        final HunspellWordCache disabledCache = new HunspellWordCache(null);
+
+        get(disabledCache, 10, generator());
+        final WordSet words = get(disabledCache, 10, generator());
+
+        assertEquals(2, generations.get());
+        assertEquals(WORDS, List.copyOf(words));
+        assertEquals(List.of(), entries(cacheDirectory));
+    }
+
+    @Test
+    void get_emptyNotPersisted() throws IOException {
+        final Supplier<WordSet> failingGenerator = () -> {
+            generations.incrementAndGet();
+            return WordSet.of();
+        };
+
+        get(cache, 10, failingGenerator);
+        final WordSet words = get(cache, 10, failingGenerator);
+
+        assertEquals(2, generations.get());
+        assertEquals(List.of(), List.copyOf(words));
+        assertEquals(List.of(), entries(cacheDirectory));
+    }
+
+    @Test
+    void get_missingDirectoryCreated() throws IOException {
+        final Path directory = cacheDirectory.resolve("not/yet/created");
+
+        get(new HunspellWordCache(directory), 10, generator());
+        get(new HunspellWordCache(directory), 10, generator());
+
+        assertEquals(1, generations.get());
+        assertEquals(1, entries(directory).size());
+    }
+
+    /**
+     * Gets the words of {@link #dicFile} from the given cache.
+     *
+     * @param wordCache the cache
+     * @param maxWordLength the maximal word length
+     * @param wordGenerator the word generator
+     * @return the words
+     * @throws IOException if URLs cannot be created
+     */
+    private WordSet get(
+            final HunspellWordCache wordCache, final int maxWordLength, final Supplier<WordSet> wordGenerator)
+            throws IOException {
+        final URL dicUrl = dicFile.toUri().toURL();
+        final URL affUrl = affFile.toUri().toURL();
+        return wordCache.get(dicUrl, affUrl, maxWordLength, wordGenerator);
+    }
+
+    /**
+     * Returns a generator of {@link #WORDS}, counting its calls in {@link #generations}.
+     *
+     * @return a generator of {@link #WORDS}
+     */
+    private Supplier<WordSet> generator() {
+        return () -> {
+            generations.incrementAndGet();
+            return WordSet.copyOf(WORDS);
+        };
+    }
+
+    /**
+     * Lists the files of the given cache directory.
+     *
+     * @param directory the cache directory
+     * @return the cache entry files
+     */
+    private static List<Path> entries(final Path directory) {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
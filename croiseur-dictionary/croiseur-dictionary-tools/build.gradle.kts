@@ -8,6 +8,7 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":croiseur-dictionary:croiseur-dictionary-binary-codec"))
     implementation(project(":croiseur-dictionary:croiseur-dictionary-common"))
     implementation(project(":croiseur-dictionary:croiseur-dictionary-hunspell-codec"))
     implementation(project(":croiseur-dictionary:croiseur-dictionary-xml-codec"))
@@ -21,6 +22,14 @@ tasks.register<JavaExec>("basicScorer") {
     classpath = sourceSets.getByName("main").runtimeClasspath
 }
 
+tasks.register<JavaExec>("dictionaryToBinary") {
+    group = "Dictionary"
+    description = "Convert a given text, XML or Hunspell dictionary into a binary dictionary"
+    mainClass.set("re.belv.croiseur.dictionary.tools.DictionaryToBinary")
+    mainModule.set("re.belv.croiseur.dictionary.tools")
+    classpath = sourceSets.getByName("main").runtimeClasspath
+}
+
 tasks.register<JavaExec>("squareSolutionEstimator") {
     group = "Dictionary"
     description = "Give an estimated number of solutions for various square grids for the given dictionary"
@@ -28,3 +37,34 @@ tasks.register<JavaExec>("squareSolutionEstimator") {
     mainModule.set("re.belv.croiseur.dictionary.tools")
     classpath = sourceSets.getByName("main").runtimeClasspath
 }
+
+tasks.register<JavaExec>("dictionaryAnalytics") {
+    group = "Dictionary"
+    description = "Compute quality statistics of a given dictionary and given slot patterns in a single parallel pass, as JSON"
+    mainClass.set("re.belv.croiseur.dictionary.tools.DictionaryAnalytics")
+    mainModule.set("re.belv.croiseur.dictionary.tools")
+    classpath = sourceSets.getByName("main").runtimeClasspath
+}
+
+tasks.register<JavaExec>("convertDictionaries") {
+    group = "Dictionary"
+    description = "Convert the given dictionaries concurrently into the given output directory and format"
+    mainClass.set("re.belv.croiseur.dictionary.tools.ConvertDictionaries")
+    mainModule.set("re.belv.croiseur.dictionary.tools")
+    classpath = sourceSets.getByName("main").runtimeClasspath
+}
+
+tasks.register<JavaExec>("regenerateDictionaryData") {
+    group = "Dictionary"
+    description = "Regenerate the bundled XML dictionaries from the bundled Hunspell dictionaries, using all cores"
+    mainClass.set("re.belv.croiseur.dictionary.tools.ConvertDictionaries")
+    mainModule.set("re.belv.croiseur.dictionary.tools")
+    classpath = sourceSets.getByName("main").runtimeClasspath
+    val dictionaries = rootProject.layout.projectDirectory.dir("croiseur-dictionary")
+    val hunspellData = dictionaries.dir("croiseur-dictionary-hunspell-data/libreoffice-dictionaries-edited")
+    val xmlData = dictionaries.dir("croiseur-dictionary-xml-data")
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(xmlData.asFile.path, "xml") +
+            hunspellData.asFileTree.matching { include("**/*.dic") }.files.map { it.path }.sorted()
+    })
+}
@@ -5,6 +5,7 @@
 
 /** Tools for manipulating dictionaries. */
 module re.belv.croiseur.dictionary.tools {
+    requires re.belv.croiseur.dictionary.binary.codec;
     requires re.belv.croiseur.dictionary.common;
     requires re.belv.croiseur.dictionary.hunspell.codec;
     requires re.belv.croiseur.dictionary.xml.codec;
@@ -6,14 +6,13 @@
 package re.belv.croiseur.dictionary.tools;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.stream.Stream;
 import re.belv.croiseur.dictionary.common.StringTransformers;
+import re.belv.croiseur.dictionary.common.io.ChunkedLineReader;
 
 /**
  * For a given word list, computes a score corresponding to the capability of the words to cross with each other: A
@@ -102,9 +101,9 @@ public final class BasicScorer implements Callable<Double> {
             System.exit(1);
         }
         final Path wordListPath = Path.of(args[0]);
-        try (final Stream<String> lines = Files.lines(wordListPath)) {
+        try {
             final List<String> words =
-                    lines.map(StringTransformers.toAcceptableCrosswordEntry()).toList();
+                    ChunkedLineReader.readLines(wordListPath, StringTransformers.toAcceptableCrosswordEntry());
             final Double result = new BasicScorer(words).call();
             System.out.printf("%.2f%n", result);
         } catch (final IOException e) {
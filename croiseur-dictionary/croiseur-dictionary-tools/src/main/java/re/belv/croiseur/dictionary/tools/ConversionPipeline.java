@@ -0,0 +1,388 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import re.belv.croiseur.dictionary.common.StringFilters;
+import re.belv.croiseur.dictionary.common.StringTransformers;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+
+/**
+ * Converts a dictionary from a {@link DictionarySource} to a {@link DictionarySink}, without intermediate file.
+ *
+ * <p>Conversion is made of three stages running concurrently:
+ *
+ * <ol>
+ *   <li>A reader thread streams the source entries and groups them into batches;
+ *   <li>Each batch is filtered and normalised by a task of the given executor, so that normalisation uses as many cores
+ *       as the executor has threads;
+ *   <li>The calling thread removes duplicates and writes the normalised entries, batch after batch, in source order.
+ * </ol>
+ *
+ * <p>Stages are connected by a bounded queue: When the writer is the slowest stage, the reader waits, so that memory
+ * usage stays bounded, apart from the entries already written, which are kept to detect duplicates.
+ */
+final class ConversionPipeline {
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(ConversionPipeline.class.getName());
+
+    /** The number of entries of a batch. */
+    private static final int BATCH_SIZE = 8_192;
+
+    /** Marks the end of the queue. */
+    private static final CompletableFuture<List<String>> END = CompletableFuture.completedFuture(null);
+
+    /** The source. */
+    private final DictionarySource source;
+
+    /** The sink. */
+    private final DictionarySink sink;
+
+    /** The executor running normalisation tasks. */
+    private final Executor executor;
+
+    /** The maximum number of batches in flight, between reader and writer. */
+    private final int capacity;
+
+    /** The filter applied to raw entries. */
+    private final Predicate<String> filter;
+
+    /** The transformer applied to filtered entries. */
+    private final Function<String, String> transformer;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param sourceArg the source
+     * @param sinkArg the sink
+     * @param executorArg the executor running normalisation tasks; Tasks never block
+     * @param parallelism the number of threads of the executor, used to size the queue
+     * @param filterArg the filter applied to raw entries
+     * @param transformerArg the transformer applied to filtered entries; Entries empty once transformed are dropped
+     */
+    ConversionPipeline(
+            final DictionarySource sourceArg,
+            final DictionarySink sinkArg,
+            final Executor executorArg,
+            final int parallelism,
+            final Predicate<String> filterArg,
+            final Function<String, String> transformerArg) {
+        source = sourceArg;
+        sink = sinkArg;
+        executor = executorArg;
+        capacity = 2 * Math.max(1, parallelism);
+        filter = filterArg;
+        transformer = transformerArg;
+    }
+
+    /**
+     * Constructs an instance normalising entries as dictionary plugins do.
+     *
+     * @param sourceArg the source
+     * @param sinkArg the sink
+     * @param executorArg the executor running normalisation tasks
+     * @param parallelism the number of threads of the executor, used to size the queue
+     */
+    ConversionPipeline(
+            final DictionarySource sourceArg,
+            final DictionarySink sinkArg,
+            final Executor executorArg,
+            final int parallelism) {
+        this(
+                sourceArg,
+                sinkArg,
+                executorArg,
+                parallelism,
+                StringFilters.notEmpty(),
+                StringTransformers.toAcceptableCrosswordEntry());
+    }
+
+    /**
+     * Creates an executor suitable for normalisation tasks: A fixed pool of daemon threads.
+     *
+     * @param parallelism the number of threads
+     * @return a new executor, to be shut down after use
+     */
+    static ExecutorService newExecutor(final int parallelism) {
+        return Executors.newFixedThreadPool(
+                parallelism,
+                Thread.ofPlatform()
+                        .name("croiseur-dictionary-conversion-worker-", 0)
+                        .daemon()
+                        .factory());
+    }
+
+    /**
+     * Converts the given source to the given sink, normalising entries with all available processors.
+     *
+     * @param source the source
+     * @param sink the sink
+     * @param filter the filter applied to raw entries
+     * @param transformer the transformer applied to filtered entries
+     * @return the number of written entries
+     * @throws IOException if source cannot be read or sink cannot be written
+     * @throws InterruptedException if interrupted while converting
+     */
+    static long convert(
+            final DictionarySource source,
+            final DictionarySink sink,
+            final Predicate<String> filter,
+            final Function<String, String> transformer)
+            throws IOException, InterruptedException {
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = newExecutor(parallelism);
+        try {
+            return new ConversionPipeline(source, sink, executor, parallelism, filter, transformer).run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Converts the given source to the given sink, normalising entries as dictionary plugins do, with all available
+     * processors.
+     *
+     * @param source the source
+     * @param sink the sink
+     * @return the number of written entries
+     * @throws IOException if source cannot be read or sink cannot be written
+     * @throws InterruptedException if interrupted while converting
+     */
+    static long convert(final DictionarySource source, final DictionarySink sink)
+            throws IOException, InterruptedException {
+        return convert(source, sink, StringFilters.notEmpty(), StringTransformers.toAcceptableCrosswordEntry());
+    }
+
+    /**
+     * Runs the conversion.
+     *
+     * @return the number of written entries
+     * @throws IOException if source cannot be read or sink cannot be written
+     * @throws InterruptedException if interrupted while converting
+     */
+    long run() throws IOException, InterruptedException {
+        final DictionaryHeader header = source.header();
+        final BlockingQueue<CompletableFuture<List<String>>> queue = new ArrayBlockingQueue<>(capacity);
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final Thread reader = Thread.ofPlatform()
+                .name("croiseur-dictionary-conversion-reader")
+                .daemon()
+                .start(() -> read(queue, stopped));
+        final Entries entries = new Entries(queue);
+        try {
+            sink.write(header, entries);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } catch (final CancellationException e) {
+            throw new InterruptedException("Conversion interrupted");
+        } finally {
+            // Stop reader if writer stopped early; Source may be parallel, so reader may wait in other threads than
+            // its own: Drain queue until reader ends
+            stopped.set(true);
+            reader.interrupt();
+            while (reader.isAlive()) {
+                queue.clear();
+                reader.join(100);
+            }
+        }
+        LOGGER.fine(() -> "Converted " + entries.count() + " entries");
+        return entries.count();
+    }
+
+    /**
+     * Reads the source entries, submitting their normalisation by batches, until source is exhausted or reading fails.
+     *
+     * @param queue the queue where normalisation results are put, in source order
+     * @param stopped whether writer has stopped
+     */
+    private void read(final BlockingQueue<CompletableFuture<List<String>>> queue, final AtomicBoolean stopped) {
+        try {
+            try (final Stream<String> rawEntries = source.entries()) {
+                final List<String> batch = new ArrayList<>(BATCH_SIZE);
+                rawEntries.forEachOrdered(entry -> {
+                    batch.add(entry);
+                    if (batch.size() == BATCH_SIZE) {
+                        submit(List.copyOf(batch), queue, stopped);
+                        batch.clear();
+                    }
+                });
+                submit(List.copyOf(batch), queue, stopped);
+            }
+            queue.put(END);
+        } catch (final Throwable e) {
+            // Any failure, including errors, must reach the writer, which would otherwise wait forever
+            if (stopped.get()) {
+                // Writer has stopped, nobody is waiting for more entries
+                return;
+            }
+            try {
+                queue.put(CompletableFuture.failedFuture(e));
+            } catch (final InterruptedException ie) {
+                // Writer has stopped
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Submits the normalisation of the given batch.
+     *
+     * @param batch the raw entries
+     * @param queue the queue where normalisation result is put
+     * @param stopped whether writer has stopped
+     */
+    private void submit(
+            final List<String> batch,
+            final BlockingQueue<CompletableFuture<List<String>>> queue,
+            final AtomicBoolean stopped) {
+        if (stopped.get()) {
+            // Abort the stream iteration
+            throw new CancellationException("Conversion stopped");
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            queue.put(CompletableFuture.supplyAsync(() -> normalise(batch), executor));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Abort the stream iteration
+            throw new CancellationException("Conversion interrupted");
+        }
+    }
+
+    /**
+     * Filters and normalises the given entries.
+     *
+     * @param rawEntries the raw entries
+     * @return the normalised entries, in the same order
+     */
+    private List<String> normalise(final List<String> rawEntries) {
+        final List<String> entries = new ArrayList<>(rawEntries.size());
+        for (final String rawEntry : rawEntries) {
+            if (filter.test(rawEntry)) {
+                final String entry = transformer.apply(rawEntry);
+                if (!entry.isEmpty()) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /** The normalised, distinct entries, in source order, as they become available. */
+    private static final class Entries implements Iterator<String> {
+
+        /** The queue of normalisation results, in source order. */
+        private final BlockingQueue<CompletableFuture<List<String>>> queue;
+
+        /** The entries already returned. */
+        private final Set<String> returned;
+
+        /** The batch being iterated. */
+        private Iterator<String> batch;
+
+        /** The next entry to return, or {@code null} if not computed yet. */
+        private String next;
+
+        /** Whether the end of the queue has been reached. */
+        private boolean ended;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param queueArg the queue of normalisation results, in source order
+         */
+        Entries(final BlockingQueue<CompletableFuture<List<String>>> queueArg) {
+            queue = queueArg;
+            returned = new HashSet<>();
+            batch = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !ended) {
+                if (batch.hasNext()) {
+                    final String candidate = batch.next();
+                    if (returned.add(candidate)) {
+                        next = candidate;
+                    }
+                } else {
+                    nextBatch();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String entry = next;
+            next = null;
+            return entry;
+        }
+
+        /**
+         * Returns the number of entries returned so far.
+         *
+         * @return the number of entries returned so far
+         */
+        long count() {
+            return returned.size();
+        }
+
+        /** Waits for the next normalised batch. */
+        private void nextBatch() {
+            try {
+                final CompletableFuture<List<String>> result = queue.take();
+                if (result == END) {
+                    ended = true;
+                } else {
+                    batch = result.join().iterator();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Conversion interrupted");
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof final IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+                if (cause instanceof final UncheckedIOException uncheckedIOException) {
+                    throw uncheckedIOException;
+                }
+                if (cause instanceof final RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+}
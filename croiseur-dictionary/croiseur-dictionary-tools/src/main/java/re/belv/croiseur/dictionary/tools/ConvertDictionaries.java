@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+
+/**
+ * Converts several dictionaries at once, e.g. to regenerate all bundled dictionaries.
+ *
+ * <p>Each input is converted to a file of the output directory, named after the input with the requested extension,
+ * e.g. {@code fr.dic} to {@code fr.xml}. Input formats are the ones of {@link DictionarySource}, output formats the
+ * ones of {@link DictionarySink}. Entries are normalised as dictionary plugins do.
+ *
+ * <p>Conversions run concurrently and share a pool of normalisation threads, sized after the number of available
+ * processors. If an output file already exists, its header is kept, so that hand-written names and descriptions survive
+ * regeneration.
+ */
+public final class ConvertDictionaries {
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(ConvertDictionaries.class.getName());
+
+    /** Private constructor to prevent instantiation. */
+    private ConvertDictionaries() {
+        // Nothing to do.
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args arguments
+     * @throws InterruptedException if interrupted while converting
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            LOGGER.severe("Syntax: program_name output_directory (txt|xml)[.gz]|bdic in.(txt|xml|dic)[.gz]...");
+            return;
+        }
+
+        final Path outputDirectory = Path.of(args[0]);
+        final String outputExtension = args[1];
+        final List<Path> inputs =
+                Arrays.stream(args, 2, args.length).map(Path::of).toList();
+
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        final ExecutorService normalisers = ConversionPipeline.newExecutor(parallelism);
+        final ExecutorService conversions = Executors.newFixedThreadPool(
+                Math.min(inputs.size(), parallelism),
+                Thread.ofPlatform().name("croiseur-dictionary-conversion-", 0).factory());
+        try {
+            Files.createDirectories(outputDirectory);
+            final List<Future<?>> results = new ArrayList<>();
+            for (final Path input : inputs) {
+                final Path output = outputDirectory.resolve(outputNameOf(input, outputExtension));
+                results.add(conversions.submit(() -> convert(input, output, normalisers, parallelism)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (final ExecutionException e) {
+                    // Other conversions are not affected
+                    LOGGER.log(Level.SEVERE, "Failed to convert " + inputs.get(i), e.getCause());
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to create output directory " + outputDirectory, e);
+        } finally {
+            conversions.shutdownNow();
+            normalisers.shutdownNow();
+        }
+    }
+
+    /**
+     * Converts a dictionary.
+     *
+     * @param input the input file
+     * @param output the output file
+     * @param normalisers the executor running normalisation tasks
+     * @param parallelism the number of threads of the executor
+     * @return {@code null}
+     * @throws IOException if conversion fails
+     * @throws InterruptedException if interrupted while converting
+     */
+    private static Void convert(
+            final Path input, final Path output, final ExecutorService normalisers, final int parallelism)
+            throws IOException, InterruptedException {
+        LOGGER.info(() -> "Converting " + input + " to " + output + "...");
+        final long start = System.nanoTime();
+        DictionarySource source = DictionarySource.of(input);
+        final DictionaryHeader existingHeader = existingHeaderOf(output);
+        if (existingHeader != null) {
+            source = source.withHeader(existingHeader);
+        }
+        final long count = new ConversionPipeline(source, DictionarySink.of(output), normalisers, parallelism).run();
+        LOGGER.info(() ->
+                "Wrote " + count + " words to " + output + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return null;
+    }
+
+    /**
+     * Reads the header of the given output file, if it exists and has a header.
+     *
+     * @param output the output file
+     * @return the header of the given output file, or {@code null} if none
+     */
+    private static DictionaryHeader existingHeaderOf(final Path output) {
+        final String fileName = output.getFileName().toString();
+        if (!Files.exists(output) || !CompressedFiles.hasExtension(fileName, ".xml")) {
+            return null;
+        }
+        try {
+            return DictionarySource.xml(output).header();
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Ignoring unreadable header of " + output);
+            return null;
+        }
+    }
+
+    /**
+     * Computes the name of the output file of the given input file.
+     *
+     * @param input the input file
+     * @param outputExtension the extension of the output file, without leading dot
+     * @return the name of the output file
+     */
+    private static String outputNameOf(final Path input, final String outputExtension) {
+        final String inputName =
+                CompressedFiles.uncompressedName(input.getFileName().toString());
+        final int dot = inputName.lastIndexOf('.');
+        return (dot > 0 ? inputName.substring(0, dot) : inputName) + "." + outputExtension;
+    }
+}
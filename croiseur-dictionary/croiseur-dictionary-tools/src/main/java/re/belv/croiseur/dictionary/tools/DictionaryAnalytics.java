@@ -0,0 +1,215 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Analyses the quality of a dictionary for crossword filling and prints the result as JSON.
+ *
+ * <p>The following statistics are computed, in a single parallel pass over the dictionary entries:
+ *
+ * <ul>
+ *   <li>The number of entries of each length;
+ *   <li>The frequency of each letter at each position, by entry length;
+ *   <li>The crossing score, as computed by {@link BasicScorer};
+ *   <li>The estimated number of solutions of square grids, as computed by {@link SquareSolutionEstimator}, for each
+ *       size for which the dictionary has entries;
+ *   <li>The predicted and actual numbers of candidates for the given slot patterns, e.g. {@code A..E.}, where a dot
+ *       stands for an empty cell.
+ * </ul>
+ *
+ * <p>Input formats are the ones of {@link DictionarySource}. Entries are normalised as dictionary plugins do.
+ */
+public final class DictionaryAnalytics {
+
+    /** Private constructor to prevent instantiation. */
+    private DictionaryAnalytics() {
+        // Nothing to do.
+    }
+
+    /**
+     * Computes the statistics of the given entries.
+     *
+     * <p>Entries are split in chunks, each accumulated in its own {@link DictionaryStatistics} by a thread of the
+     * common fork-join pool; Chunk statistics are then merged.
+     *
+     * @param entries the entries, normalised
+     * @param patterns the slot patterns whose candidates to count
+     * @return the statistics of the given entries
+     */
+    static DictionaryStatistics analyse(final List<String> entries, final List<String> patterns) {
+        return entries.parallelStream()
+                .collect(
+                        () -> new DictionaryStatistics(patterns),
+                        DictionaryStatistics::add,
+                        DictionaryStatistics::merge);
+    }
+
+    /**
+     * Formats the given statistics as JSON.
+     *
+     * @param dictionary the dictionary name
+     * @param statistics the statistics
+     * @return the given statistics as JSON
+     */
+    static String toJson(final String dictionary, final DictionaryStatistics statistics) {
+        final StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"dictionary\": ");
+        appendString(json, dictionary);
+        json.append(",\n  \"entries\": ").append(statistics.entries());
+        json.append(",\n  \"crossingScore\": ");
+        appendNumber(json, statistics.crossingScore());
+        json.append(",\n  \"lengths\": [");
+        boolean firstLength = true;
+        for (int length = 1; length <= statistics.maxLength(); length++) {
+            if (statistics.entries(length) == 0) {
+                continue;
+            }
+            json.append(firstLength ? "\n" : ",\n");
+            firstLength = false;
+            appendLength(json, statistics, length);
+        }
+        json.append(firstLength ? "]" : "\n  ]");
+        json.append(",\n  \"patterns\": [");
+        final List<String> patterns = statistics.patterns();
+        for (int p = 0; p < patterns.size(); p++) {
+            json.append(p == 0 ? "\n" : ",\n");
+            json.append("    {\"pattern\": ");
+            appendString(json, patterns.get(p));
+            json.append(", \"predictedCandidates\": ");
+            appendNumber(json, statistics.predictedCandidates(p));
+            json.append(", \"actualCandidates\": ").append(statistics.actualCandidates(p));
+            json.append('}');
+        }
+        json.append(patterns.isEmpty() ? "]" : "\n  ]");
+        json.append("\n}\n");
+        return json.toString();
+    }
+
+    /**
+     * Appends the statistics of entries of the given length.
+     *
+     * @param json the JSON being built
+     * @param statistics the statistics
+     * @param length the entry length
+     */
+    private static void appendLength(
+            final StringBuilder json, final DictionaryStatistics statistics, final int length) {
+        json.append("    {\n      \"length\": ").append(length);
+        json.append(",\n      \"entries\": ").append(statistics.entries(length));
+        final double log10Estimate = statistics.log10SquareEstimate(length);
+        json.append(",\n      \"squareEstimation\": {\"letterFrequenciesPowerSum\": ");
+        appendNumber(json, statistics.letterFrequenciesPowerSum(length));
+        json.append(", \"log10Estimation\": ");
+        appendNumber(json, log10Estimate);
+        json.append(", \"estimation\": ");
+        appendNumber(json, Math.pow(10.0, log10Estimate));
+        json.append("},\n      \"letterFrequencies\": [");
+        for (int position = 0; position < length; position++) {
+            json.append(position == 0 ? "\n        {" : ",\n        {");
+            boolean firstLetter = true;
+            for (final char letter : letters()) {
+                final double frequency = statistics.letterFrequency(length, position, letter);
+                if (frequency > 0.0) {
+                    json.append(firstLetter ? "" : ", ");
+                    firstLetter = false;
+                    appendString(json, String.valueOf(letter));
+                    json.append(": ");
+                    appendNumber(json, frequency);
+                }
+            }
+            json.append('}');
+        }
+        json.append("\n      ]\n    }");
+    }
+
+    /**
+     * Returns the letters whose frequencies are reported: A to Z and {@link DictionaryStatistics#OTHER_LETTER}.
+     *
+     * @return the letters whose frequencies are reported
+     */
+    private static char[] letters() {
+        final char[] letters = new char[27];
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            letters[letter - 'A'] = letter;
+        }
+        letters[26] = DictionaryStatistics.OTHER_LETTER;
+        return letters;
+    }
+
+    /**
+     * Appends the given number, or {@code null} if it is not finite, which JSON cannot represent.
+     *
+     * @param json the JSON being built
+     * @param number the number
+     */
+    private static void appendNumber(final StringBuilder json, final double number) {
+        if (Double.isFinite(number)) {
+            json.append(number);
+        } else {
+            json.append("null");
+        }
+    }
+
+    /**
+     * Appends the given string, quoted and escaped.
+     *
+     * @param json the JSON being built
+     * @param string the string
+     */
+    private static void appendString(final StringBuilder json, final String string) {
+        json.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Usage: {@code analytics path/to/dictionary.(txt|xml|dic)[.gz] [pattern...]}.
+     *
+     * @param args arguments
+     * @throws InterruptedException if interrupted while reading dictionary
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: analytics path/to/dictionary.(txt|xml|dic)[.gz] [pattern...]");
+            System.exit(1);
+        }
+        final Path dictionaryPath = Path.of(args[0]);
+        final List<String> patterns = Arrays.asList(args).subList(1, args.length);
+        final DictionarySource source;
+        try {
+            source = DictionarySource.of(dictionaryPath);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+        try {
+            final List<String> entries = new ArrayList<>();
+            ConversionPipeline.convert(source, (header, normalised) -> normalised.forEachRemaining(entries::add));
+            final DictionaryStatistics statistics = analyse(entries, patterns);
+            System.out.print(toJson(dictionaryPath.getFileName().toString(), statistics));
+        } catch (final IOException e) {
+            System.err.println("Failed to read " + dictionaryPath + ": " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryHeader;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryWriteException;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryWriter;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryWriteException;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryWriter;
+
+/** A converted dictionary, written to a file. */
+interface DictionarySink {
+
+    /**
+     * Writes the given dictionary.
+     *
+     * <p>Entries are consumed as they are written, so that they do not need to be held in memory, except when format
+     * requires all entries to be known before writing.
+     *
+     * @param header the dictionary header
+     * @param entries the dictionary entries, in order
+     * @throws IOException if write fails
+     */
+    void write(final DictionaryHeader header, final Iterator<String> entries) throws IOException;
+
+    /**
+     * Creates the sink writing the given file, whose format is deduced from its extension: {@code .txt} or
+     * {@code .xml}, possibly followed by {@code .gz} for gzip-compressed files, or {@code .bdic}.
+     *
+     * @param file the file to write
+     * @return the sink writing the given file
+     * @throws IllegalArgumentException if file format is not supported
+     */
+    static DictionarySink of(final Path file) {
+        final String fileName = file.getFileName().toString();
+        if (CompressedFiles.hasExtension(fileName, ".txt")) {
+            return text(file);
+        }
+        if (CompressedFiles.hasExtension(fileName, ".xml")) {
+            return xml(file);
+        }
+        if (fileName.endsWith(".bdic")) {
+            return binary(file);
+        }
+        throw new IllegalArgumentException("Unsupported output format: " + fileName);
+    }
+
+    /**
+     * Creates a sink writing a text file, one entry per line. Header is not written.
+     *
+     * @param file the text file, compressed on the fly if its name ends with {@code .gz}
+     * @return a sink writing the given text file
+     */
+    static DictionarySink text(final Path file) {
+        return (header, entries) -> {
+            try (final Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(CompressedFiles.newOutputStream(file), StandardCharsets.UTF_8))) {
+                while (entries.hasNext()) {
+                    writer.write(entries.next());
+                    writer.write('\n');
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a sink writing an XML dictionary.
+     *
+     * @param file the XML dictionary, compressed on the fly if its name ends with {@code .gz}
+     * @return a sink writing the given XML dictionary
+     */
+    static DictionarySink xml(final Path file) {
+        return (header, entries) -> {
+            try {
+                DictionaryWriter.write(file, header, entries);
+            } catch (final DictionaryWriteException e) {
+                throw new IOException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a sink writing a binary dictionary.
+     *
+     * <p>Binary format starts with indexes of all entries: Entries are collected before being written. Output is never
+     * compressed, since binary dictionaries are mapped in memory.
+     *
+     * <p>Dictionary is written to a temporary file which then replaces the given file, so that a running provider which
+     * has mapped the previous dictionary in memory, or which reloads it, never reads a partially written file.
+     *
+     * @param file the binary dictionary
+     * @return a sink writing the given binary dictionary
+     */
+    static DictionarySink binary(final Path file) {
+        return (header, entries) -> {
+            final Set<String> words = new LinkedHashSet<>();
+            entries.forEachRemaining(words::add);
+            final Path directory = file.toAbsolutePath().getParent();
+            final Path temporaryFile =
+                    Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (final OutputStream os = Files.newOutputStream(temporaryFile)) {
+                    BinaryDictionaryWriter.write(
+                            os,
+                            new BinaryDictionaryHeader(header.locale(), header.names(), header.descriptions()),
+                            words);
+                } catch (final BinaryDictionaryWriteException e) {
+                    throw new IOException(e);
+                }
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // No-op if move succeeded
+                Files.deleteIfExists(temporaryFile);
+            }
+        };
+    }
+}
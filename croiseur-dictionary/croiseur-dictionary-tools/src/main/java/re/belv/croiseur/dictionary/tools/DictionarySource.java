@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.hunspell.codec.HunspellDictionaryReader;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryReadException;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryReader;
+import re.belv.croiseur.dictionary.xml.codec.UncheckedDictionaryReadException;
+
+/**
+ * A dictionary to convert, read from a file.
+ *
+ * <p>Entries are streamed as read, raw: Normalisation is left to {@link ConversionPipeline}.
+ */
+interface DictionarySource {
+
+    /**
+     * Reads the dictionary header.
+     *
+     * @return the dictionary header
+     * @throws IOException if header cannot be read
+     */
+    DictionaryHeader header() throws IOException;
+
+    /**
+     * Streams the raw dictionary entries, in file order.
+     *
+     * <p>Returned stream must be closed after use. It may be parallel; Its encounter order is deterministic. Errors
+     * occurring while streaming are thrown as unchecked exceptions.
+     *
+     * @return the raw dictionary entries
+     * @throws IOException if entries cannot be read
+     */
+    Stream<String> entries() throws IOException;
+
+    /**
+     * Returns a source with the entries of this source and the given header.
+     *
+     * @param header the header
+     * @return a source with the entries of this source and the given header
+     */
+    default DictionarySource withHeader(final DictionaryHeader header) {
+        final DictionarySource entriesSource = this;
+        return new DictionarySource() {
+
+            @Override
+            public DictionaryHeader header() {
+                return header;
+            }
+
+            @Override
+            public Stream<String> entries() throws IOException {
+                return entriesSource.entries();
+            }
+        };
+    }
+
+    /**
+     * Creates the source reading the given file, whose format is deduced from its extension: {@code .txt}, {@code .xml}
+     * or {@code .dic}, possibly followed by {@code .gz} for gzip-compressed files.
+     *
+     * @param file the file to read
+     * @return the source reading the given file
+     * @throws IllegalArgumentException if file format is not supported
+     */
+    static DictionarySource of(final Path file) {
+        final String fileName = file.getFileName().toString();
+        if (CompressedFiles.hasExtension(fileName, ".txt")) {
+            return text(file);
+        }
+        if (CompressedFiles.hasExtension(fileName, ".xml")) {
+            return xml(file);
+        }
+        if (CompressedFiles.hasExtension(fileName, ".dic")) {
+            return hunspell(file);
+        }
+        throw new IllegalArgumentException("Unsupported input format: " + fileName);
+    }
+
+    /**
+     * Creates a source reading a text file, one entry per line.
+     *
+     * <p>Header is read from the companion properties file, if any, as done by the text dictionary plugin. Otherwise, a
+     * header is generated, whose locale is deduced from file name, e.g. {@code en_GB.txt}.
+     *
+     * @param file the text file
+     * @return a source reading the given text file
+     */
+    static DictionarySource text(final Path file) {
+        return new DictionarySource() {
+
+            @Override
+            public DictionaryHeader header() throws IOException {
+                final String fileName =
+                        CompressedFiles.uncompressedName(file.getFileName().toString());
+                final Path propertiesPath = file.resolveSibling(fileName + ".properties");
+                if (!Files.exists(propertiesPath)) {
+                    return generatedHeader(
+                            Locale.forLanguageTag(fileName.replace(".txt", "").replace("_", "-")));
+                }
+                final Properties properties = new Properties();
+                try (final InputStream fis = new FileInputStream(propertiesPath.toFile())) {
+                    properties.load(fis);
+                }
+                return new DictionaryHeader(
+                        Locale.forLanguageTag(properties.getProperty("locale", "en")),
+                        translations(properties, "name", "Generated dictionary"),
+                        translations(properties, "description", "Dictionary autogenerated from text file"));
+            }
+
+            @Override
+            public Stream<String> entries() throws IOException {
+                final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(CompressedFiles.newInputStream(file), StandardCharsets.UTF_8));
+                return reader.lines().onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a source reading an XML dictionary.
+     *
+     * @param file the XML dictionary
+     * @return a source reading the given XML dictionary
+     */
+    static DictionarySource xml(final Path file) {
+        final DictionaryReader reader = new DictionaryReader(() -> CompressedFiles.newInputStream(file));
+        return new DictionarySource() {
+
+            @Override
+            public DictionaryHeader header() throws IOException {
+                try {
+                    return reader.readHeader();
+                } catch (final DictionaryReadException e) {
+                    throw new IOException(e);
+                }
+            }
+
+            @Override
+            public Stream<String> entries() throws IOException {
+                try {
+                    return reader.readWords();
+                } catch (final DictionaryReadException | UncheckedDictionaryReadException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a source generating all the word forms of a Hunspell dictionary.
+     *
+     * @param file the Hunspell dictionary (.dic); Affix file is expected to have same basename and extension .aff
+     * @return a source generating all the word forms of the given Hunspell dictionary
+     */
+    static DictionarySource hunspell(final Path file) {
+        return new DictionarySource() {
+
+            /** The reader, created on first use. */
+            private HunspellDictionaryReader reader;
+
+            @Override
+            public DictionaryHeader header() throws IOException {
+                final DictionaryDetails details = reader().details();
+                return new DictionaryHeader(
+                        details.locale(),
+                        Map.of(Locale.ENGLISH, details.name()),
+                        Map.of(Locale.ENGLISH, details.description()));
+            }
+
+            @Override
+            public Stream<String> entries() throws IOException {
+                return reader().stream();
+            }
+
+            /**
+             * Returns the reader.
+             *
+             * @return the reader
+             * @throws IOException if file path cannot be converted to URL
+             */
+            private HunspellDictionaryReader reader() throws IOException {
+                if (reader == null) {
+                    reader = new HunspellDictionaryReader(file.toUri().toURL());
+                }
+                return reader;
+            }
+        };
+    }
+
+    /**
+     * Extracts the translations of the given property, e.g. {@code name} and {@code name[fr]}.
+     *
+     * @param properties the properties
+     * @param key the property key, without translation suffix
+     * @param defaultValue the English value to use if property is absent
+     * @return the translations of the property, indexed by language
+     */
+    private static Map<Locale, String> translations(
+            final Properties properties, final String key, final String defaultValue) {
+        final Map<Locale, String> translations = new HashMap<>();
+        translations.put(Locale.ENGLISH, properties.getProperty(key, defaultValue));
+        for (final String propertyName : properties.stringPropertyNames()) {
+            if (propertyName.startsWith(key + "[") && propertyName.endsWith("]")) {
+                final String languageTag = propertyName.substring(key.length() + 1, propertyName.length() - 1);
+                translations.put(Locale.forLanguageTag(languageTag), properties.getProperty(propertyName));
+            }
+        }
+        return translations;
+    }
+
+    /**
+     * Creates a header for a dictionary without metadata.
+     *
+     * @param locale the dictionary locale
+     * @return the header
+     */
+    private static DictionaryHeader generatedHeader(final Locale locale) {
+        return new DictionaryHeader(
+                locale,
+                Map.of(Locale.ENGLISH, "Generated dictionary"),
+                Map.of(Locale.ENGLISH, "Dictionary autogenerated from text file"));
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Counts gathered on dictionary entries, from which {@link DictionaryAnalytics} derives its statistics.
+ *
+ * <p>All counts are kept in primitive arrays, so that an instance can accumulate a chunk of entries without boxing, and
+ * instances accumulated in parallel can be {@link #merge merged} cheaply. Letters are counted by length and position on
+ * an alphabet made of the letters A to Z plus a single "other" letter standing for any other character.
+ *
+ * <p>Instances are not thread-safe.
+ */
+final class DictionaryStatistics {
+
+    /** The wildcard of slot patterns, matching any letter. */
+    static final char WILDCARD = '.';
+
+    /** A character standing for the "other" letter, i.e. any character other than A to Z. */
+    static final char OTHER_LETTER = '*';
+
+    /** The number of letters of the alphabet: A to Z, plus "other". */
+    private static final int ALPHABET_SIZE = 27;
+
+    /** The index of the "other" letter. */
+    private static final int OTHER = ALPHABET_SIZE - 1;
+
+    /** The initial capacity of arrays indexed by length. */
+    private static final int INITIAL_LENGTH_CAPACITY = 32;
+
+    /** The slot patterns, upper case, with {@link #WILDCARD} for empty cells. */
+    private final char[][] patterns;
+
+    /** The number of entries matching each pattern. */
+    private final long[] patternMatches;
+
+    /** The number of occurrences of each character, in all entries. */
+    private final long[] characters;
+
+    /** The number of entries of each length. */
+    private long[] entriesByLength;
+
+    /**
+     * The number of occurrences of each letter at each position, by entry length: {@code lettersByLength[l][p *
+     * ALPHABET_SIZE + a]} is the number of entries of length l having letter a at position p. Arrays are allocated for
+     * encountered lengths only.
+     */
+    private long[][] lettersByLength;
+
+    /** The sum, over entries, of the number of pairs of positions of the entry holding the same character. */
+    private long sameCharacterPairs;
+
+    /**
+     * Constructs an empty instance.
+     *
+     * @param patternsArg the slot patterns whose candidates to count, with {@link #WILDCARD} for empty cells
+     */
+    DictionaryStatistics(final List<String> patternsArg) {
+        patterns = patternsArg.stream()
+                .map(pattern -> pattern.toUpperCase(Locale.ROOT).toCharArray())
+                .toArray(char[][]::new);
+        patternMatches = new long[patterns.length];
+        characters = new long[Character.MAX_VALUE + 1];
+        entriesByLength = new long[INITIAL_LENGTH_CAPACITY];
+        lettersByLength = new long[INITIAL_LENGTH_CAPACITY][];
+    }
+
+    /**
+     * Accumulates the given entry.
+     *
+     * @param entry the entry, normalised
+     */
+    void add(final String entry) {
+        final int length = entry.length();
+        ensureLengthCapacity(length + 1);
+        entriesByLength[length]++;
+        if (lettersByLength[length] == null) {
+            lettersByLength[length] = new long[length * ALPHABET_SIZE];
+        }
+        final long[] letters = lettersByLength[length];
+        for (int i = 0; i < length; i++) {
+            final char c = entry.charAt(i);
+            letters[i * ALPHABET_SIZE + indexOf(c)]++;
+            characters[c]++;
+            for (int j = 0; j < length; j++) {
+                if (entry.charAt(j) == c) {
+                    sameCharacterPairs++;
+                }
+            }
+        }
+        for (int p = 0; p < patterns.length; p++) {
+            if (matches(patterns[p], entry)) {
+                patternMatches[p]++;
+            }
+        }
+    }
+
+    /**
+     * Merges the given statistics into this one.
+     *
+     * @param other the statistics to merge, gathered for the same patterns
+     */
+    void merge(final DictionaryStatistics other) {
+        ensureLengthCapacity(other.entriesByLength.length);
+        for (int length = 0; length < other.entriesByLength.length; length++) {
+            entriesByLength[length] += other.entriesByLength[length];
+            final long[] otherLetters = other.lettersByLength[length];
+            if (otherLetters == null) {
+                continue;
+            }
+            if (lettersByLength[length] == null) {
+                lettersByLength[length] = otherLetters.clone();
+            } else {
+                final long[] letters = lettersByLength[length];
+                for (int i = 0; i < letters.length; i++) {
+                    letters[i] += otherLetters[i];
+                }
+            }
+        }
+        for (int c = 0; c < characters.length; c++) {
+            characters[c] += other.characters[c];
+        }
+        for (int p = 0; p < patternMatches.length; p++) {
+            patternMatches[p] += other.patternMatches[p];
+        }
+        sameCharacterPairs += other.sameCharacterPairs;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    long entries() {
+        return Arrays.stream(entriesByLength).sum();
+    }
+
+    /**
+     * Returns the maximal length of entries.
+     *
+     * @return the maximal length of entries, 0 if there is no entry
+     */
+    int maxLength() {
+        int maxLength = entriesByLength.length - 1;
+        while (maxLength > 0 && entriesByLength[maxLength] == 0) {
+            maxLength--;
+        }
+        return maxLength;
+    }
+
+    /**
+     * Returns the number of entries of the given length.
+     *
+     * @param length the length
+     * @return the number of entries of the given length
+     */
+    long entries(final int length) {
+        return length < entriesByLength.length ? entriesByLength[length] : 0L;
+    }
+
+    /**
+     * Returns the frequency of the given letter at the given position, among entries of the given length.
+     *
+     * @param length the entry length
+     * @param position the position, from 0 to length - 1
+     * @param letter the letter; Any character other than A to Z stands for the "other" letter
+     * @return the frequency of the given letter at the given position, among entries of the given length
+     */
+    double letterFrequency(final int length, final int position, final char letter) {
+        final long entries = entries(length);
+        if (entries == 0) {
+            return 0.0;
+        }
+        return (double) lettersByLength[length][position * ALPHABET_SIZE + indexOf(letter)] / entries;
+    }
+
+    /**
+     * Returns the crossing score, i.e. the average number of ways two distinct entries cross each other.
+     *
+     * <p>The number of crossings of all pairs is computed from character counts: The sum of the squared counts of each
+     * character is the number of pairs of cells holding the same character, including pairs within a same entry, which
+     * are subtracted.
+     *
+     * @return the crossing score, 0 if there are less than two entries
+     * @see BasicScorer
+     */
+    double crossingScore() {
+        final long entries = entries();
+        if (entries < 2) {
+            return 0.0;
+        }
+        long sameCharacterCells = 0;
+        for (final long count : characters) {
+            sameCharacterCells += count * count;
+        }
+        final double crossings = (sameCharacterCells - sameCharacterPairs) / 2.0;
+        final double pairs = entries * (entries - 1.0) / 2.0;
+        return crossings / pairs;
+    }
+
+    /**
+     * Returns the power sum of the frequencies of letters among entries of the given length.
+     *
+     * @param length the entry length
+     * @return the power sum of the frequencies of letters among entries of the given length
+     * @see SquareSolutionEstimator
+     */
+    double letterFrequenciesPowerSum(final int length) {
+        final long entries = entries(length);
+        if (entries == 0) {
+            return 0.0;
+        }
+        final long[] letters = lettersByLength[length];
+        final double total = (double) entries * length;
+        double powerSum = 0.0;
+        for (int a = 0; a < ALPHABET_SIZE; a++) {
+            long count = 0;
+            for (int position = 0; position < length; position++) {
+                count += letters[position * ALPHABET_SIZE + a];
+            }
+            final double frequency = count / total;
+            powerSum += frequency * frequency;
+        }
+        return powerSum;
+    }
+
+    /**
+     * Returns the decimal logarithm of the estimated number of solutions of a square grid of the given size.
+     *
+     * <p>Estimation is the one of {@link SquareSolutionEstimator}, computed in logarithmic space so that it does not
+     * overflow for large sizes.
+     *
+     * @param size the square size
+     * @return the decimal logarithm of the estimated number of solutions, negative infinity if no entry has the given
+     *     length
+     */
+    double log10SquareEstimate(final int size) {
+        final long entries = entries(size);
+        if (entries == 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return 2.0 * size * Math.log10(entries) + (double) size * size * Math.log10(letterFrequenciesPowerSum(size));
+    }
+
+    /**
+     * Returns the slot patterns.
+     *
+     * @return the slot patterns, upper case
+     */
+    List<String> patterns() {
+        return Arrays.stream(patterns).map(String::new).toList();
+    }
+
+    /**
+     * Returns the predicted number of candidates for the given pattern.
+     *
+     * <p>Prediction assumes letters at distinct positions are independent: It is the number of entries of the pattern
+     * length multiplied by the frequency of each letter of the pattern at its position.
+     *
+     * @param patternIndex the index of the pattern
+     * @return the predicted number of candidates for the pattern
+     */
+    double predictedCandidates(final int patternIndex) {
+        final char[] pattern = patterns[patternIndex];
+        double prediction = entries(pattern.length);
+        for (int position = 0; position < pattern.length && prediction > 0.0; position++) {
+            if (pattern[position] != WILDCARD) {
+                prediction *= letterFrequency(pattern.length, position, pattern[position]);
+            }
+        }
+        return prediction;
+    }
+
+    /**
+     * Returns the actual number of candidates for the given pattern.
+     *
+     * @param patternIndex the index of the pattern
+     * @return the actual number of candidates for the pattern
+     */
+    long actualCandidates(final int patternIndex) {
+        return patternMatches[patternIndex];
+    }
+
+    /**
+     * Grows the arrays indexed by length, if needed.
+     *
+     * @param capacity the minimal capacity
+     */
+    private void ensureLengthCapacity(final int capacity) {
+        if (capacity > entriesByLength.length) {
+            final int newCapacity = Math.max(capacity, 2 * entriesByLength.length);
+            entriesByLength = Arrays.copyOf(entriesByLength, newCapacity);
+            lettersByLength = Arrays.copyOf(lettersByLength, newCapacity);
+        }
+    }
+
+    /**
+     * Returns the alphabet index of the given character.
+     *
+     * @param c the character
+     * @return the alphabet index of the given character
+     */
+    private static int indexOf(final char c) {
+        return c >= 'A' && c <= 'Z' ? c - 'A' : OTHER;
+    }
+
+    /**
+     * Whether the given entry matches the given pattern.
+     *
+     * @param pattern the pattern
+     * @param entry the entry
+     * @return {@code true} if the given entry matches the given pattern
+     */
+    private static boolean matches(final char[] pattern, final String entry) {
+        if (pattern.length != entry.length()) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length; i++) {
+            if (pattern[i] != WILDCARD && pattern[i] != entry.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
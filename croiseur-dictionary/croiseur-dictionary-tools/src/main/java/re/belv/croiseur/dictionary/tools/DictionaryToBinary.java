@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * Text, XML or Hunspell to binary dictionary format converter.
+ *
+ * <p>Source format is deduced from input file extension: {@code .txt}, {@code .xml} or {@code .dic}, possibly followed
+ * by {@code .gz} for gzip-compressed input. Entries are normalised before being written, so that binary dictionary can
+ * be used as is. Output is never compressed, since binary dictionaries are mapped in memory.
+ */
+public final class DictionaryToBinary {
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(DictionaryToBinary.class.getName());
+
+    /** Private constructor to prevent instantiation. */
+    private DictionaryToBinary() {
+        // Nothing to do.
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args arguments
+     * @throws InterruptedException if interrupted while converting
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        if (args.length < 2) {
+            LOGGER.severe("Syntax: program_name in.(txt|xml|dic)[.gz] out.bdic");
+            return;
+        }
+
+        try {
+            final DictionarySource source = DictionarySource.of(Path.of(args[0]));
+            LOGGER.info("Converting " + args[0] + "...");
+            final long count = ConversionPipeline.convert(source, DictionarySink.binary(Path.of(args[1])));
+            LOGGER.info("Wrote binary dictionary with " + count + " words.");
+        } catch (final IllegalArgumentException | IOException e) {
+            LOGGER.severe(e.getMessage());
+        }
+    }
+}
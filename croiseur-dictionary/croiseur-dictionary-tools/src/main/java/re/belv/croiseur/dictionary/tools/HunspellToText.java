@@ -5,19 +5,19 @@
 
 package re.belv.croiseur.dictionary.tools;
 
-import static java.util.stream.Collectors.toSet;
-
-import java.io.FileWriter;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.nio.file.Path;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import re.belv.croiseur.dictionary.hunspell.codec.HunspellDictionaryReader;
 
-/** A tool to deflate a Hunspell dictionary into a big text file containing all valid forms; */
+/**
+ * A tool to deflate a Hunspell dictionary into a big text file containing all valid forms;
+ *
+ * <p>Forms are written as generated, without normalisation, in generation order, without duplicates.
+ *
+ * <p>Input and output files may be gzip-compressed, if their names end with {@code .gz}.
+ */
 public final class HunspellToText {
 
     /** Logger. */
@@ -27,35 +27,24 @@ public final class HunspellToText {
      * Entry point.
      *
      * @param args command arguments
+     * @throws InterruptedException if interrupted while converting
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         if (args.length < 2) {
-            LOGGER.severe("Syntax: program_name in.dic out.txt");
+            LOGGER.severe("Syntax: program_name in.dic[.gz] out.txt[.gz]");
             return;
         }
 
         try {
-            final URL dic = Path.of(args[0]).toUri().toURL();
-            final HunspellDictionaryReader dictionary = new HunspellDictionaryReader(dic);
-
-            LOGGER.info(() -> "Generating all forms for dictionary " + args[0]);
-            final Set<String> words = dictionary.stream().collect(toSet());
-
-            LOGGER.info(() -> "Writing " + words.size() + " words to " + args[1]);
-            writeFile(words, args[1]);
-        } catch (final MalformedURLException e) {
-            LOGGER.severe(e.getMessage());
-        }
-    }
-
-    private static void writeFile(Set<String> words, String path) {
-        try (final FileWriter fw = new FileWriter(path)) {
-            for (String word : words) {
-                fw.write(word);
-                fw.write(System.lineSeparator());
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Failed to write output file. ", e);
+            LOGGER.info(() -> "Generating all forms for dictionary " + args[0] + " to " + args[1]);
+            final long count = ConversionPipeline.convert(
+                    DictionarySource.hunspell(Path.of(args[0])),
+                    DictionarySink.text(Path.of(args[1])),
+                    word -> true,
+                    Function.identity());
+            LOGGER.info(() -> "Wrote " + count + " words to " + args[1]);
+        } catch (final IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to convert dictionary. ", e);
         }
     }
 }
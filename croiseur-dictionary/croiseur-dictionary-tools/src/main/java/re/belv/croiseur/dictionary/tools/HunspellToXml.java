@@ -6,11 +6,16 @@
 package re.belv.croiseur.dictionary.tools;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-/** Hunspell to XML dictionary format converter. */
+/**
+ * Hunspell to XML dictionary format converter.
+ *
+ * <p>Word forms are generated, normalised and written concurrently, without intermediate file. Input and output files
+ * may be gzip-compressed, if their names end with {@code .gz}.
+ */
 public final class HunspellToXml {
 
     /** Logger. */
@@ -20,18 +25,21 @@ public final class HunspellToXml {
      * Entry point.
      *
      * @param args arguments
-     * @throws IOException if temporary text file cannot be deleted
+     * @throws InterruptedException if interrupted while converting
      */
-    public static void main(String[] args) throws IOException {
+    public static void main(String[] args) throws InterruptedException {
         if (args.length < 2) {
-            LOGGER.severe("Syntax: program_name in.dic out.xml");
+            LOGGER.severe("Syntax: program_name in.dic[.gz] out.xml[.gz]");
             return;
         }
 
-        final String tmpTxtFile = args[0].replace(".dic", ".txt");
-        HunspellToText.main(new String[] {args[0], tmpTxtFile});
-        TextToXml.main(new String[] {tmpTxtFile, args[1]});
-
-        Files.delete(Path.of(tmpTxtFile));
+        try {
+            LOGGER.info(() -> "Converting " + args[0] + " to " + args[1] + "...");
+            final long count = ConversionPipeline.convert(
+                    DictionarySource.hunspell(Path.of(args[0])), DictionarySink.xml(Path.of(args[1])));
+            LOGGER.info(() -> "Wrote " + count + " words to " + args[1]);
+        } catch (final IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to convert dictionary. ", e);
+        }
     }
 }
@@ -5,24 +5,19 @@
 
 package re.belv.croiseur.dictionary.tools;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
-import re.belv.croiseur.dictionary.common.StringFilters;
-import re.belv.croiseur.dictionary.common.StringTransformers;
-import re.belv.croiseur.dictionary.xml.codec.Dictionary;
-import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
-import re.belv.croiseur.dictionary.xml.codec.DictionaryWriteException;
-import re.belv.croiseur.dictionary.xml.codec.DictionaryWriter;
 
-/** Text for XML dictionary format converter. */
+/**
+ * Text for XML dictionary format converter.
+ *
+ * <p>Input and output files may be gzip-compressed: Input is decompressed on the fly if its name ends with {@code .gz};
+ * Output is compressed on the fly if its name ends with {@code .gz}.
+ *
+ * <p>Header is read from the companion properties file of the input, if any. Otherwise, a header is generated, whose
+ * locale is deduced from the input file name.
+ */
 public final class TextToXml {
 
     /** Logger. */
@@ -32,42 +27,23 @@ public final class TextToXml {
      * Entry point.
      *
      * @param args arguments
+     * @throws InterruptedException if interrupted while converting
      */
-    public static void main(final String[] args) {
+    public static void main(final String[] args) throws InterruptedException {
         if (args.length < 2) {
-            LOGGER.severe("Syntax: program_name in.txt out.xml");
+            LOGGER.severe("Syntax: program_name in.txt[.gz] out.xml[.gz]");
             return;
         }
 
-        final String output = args[1];
-        final Path inputPath = Path.of(args[0]);
-        final Locale locale = localeOf(inputPath);
-        LOGGER.info("Locale is: " + locale.toLanguageTag());
-
-        final DictionaryHeader header = new DictionaryHeader(
-                locale,
-                Map.of(Locale.ENGLISH, "Generated dictionary"),
-                Map.of(Locale.ENGLISH, "Dictionary autogenerated from " + "text file"));
-
-        try (final OutputStream fos = new FileOutputStream(output);
-                final Stream<String> lines = Files.lines(inputPath)) {
-            LOGGER.info("Reading lines...");
-            // TODO make filtering optional
-            final List<String> entries = lines.filter(StringFilters.notEmpty())
-                    .map(StringTransformers.toAcceptableCrosswordEntry())
-                    .distinct()
-                    .toList();
+        try {
+            final DictionarySource source = DictionarySource.text(Path.of(args[0]));
+            LOGGER.info("Locale is: " + source.header().locale().toLanguageTag());
             LOGGER.info("Writing XML...");
-            final Dictionary dictionary = new Dictionary(header, entries);
-            DictionaryWriter.write(fos, dictionary);
-            LOGGER.info("Wrote XML.");
-        } catch (final IOException | DictionaryWriteException e) {
+            // TODO make filtering optional
+            final long count = ConversionPipeline.convert(source, DictionarySink.xml(Path.of(args[1])));
+            LOGGER.info("Wrote XML with " + count + " words.");
+        } catch (final IOException e) {
             LOGGER.severe(e.getMessage());
         }
     }
-
-    private static Locale localeOf(final Path inputPath) {
-        final String fileName = inputPath.getFileName().toString();
-        return Locale.forLanguageTag(fileName.replace(".txt", "").replace("_", "-"));
-    }
 }
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+
+/** Tests for {@link ConversionPipeline}. */
+final class ConversionPipelineTest {
+
+    /** A source of the given entries. */
+    private record EntriesSource(Stream<String> stream) implements DictionarySource {
+
+        @Override
+        public DictionaryHeader header() {
+            return new DictionaryHeader(Locale.ENGLISH, Map.of(Locale.ENGLISH, "Test"), Map.of());
+        }
+
+        @Override
+        public Stream<String> entries() {
+            return stream;
+        }
+    }
+
+    private final ExecutorService executor = ConversionPipeline.newExecutor(4);
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void normalisedDistinctInOrder() throws IOException, InterruptedException {
+        final List<String> written = new ArrayList<>();
+        final DictionarySource source = new EntriesSource(Stream.of("hello", "", "World", "HELLO", "Éh!", "..."));
+
+        final long count = new ConversionPipeline(
+                        source, (header, entries) -> entries.forEachRemaining(written::add), executor, 4)
+                .run();
+
+        assertEquals(List.of("HELLO", "WORLD", "EH"), written);
+        assertEquals(3, count);
+    }
+
+    @Test
+    void manyBatchesInOrder() throws IOException, InterruptedException {
+        final List<String> expected =
+                IntStream.range(0, 100_000).mapToObj(i -> "WORD" + i).toList();
+        final List<String> written = new ArrayList<>();
+        final DictionarySource source =
+                new EntriesSource(expected.stream().parallel().map(String::toLowerCase));
+
+        new ConversionPipeline(source, (header, entries) -> entries.forEachRemaining(written::add), executor, 4).run();
+
+        assertEquals(expected, written);
+    }
+
+    @Test
+    void textToXmlToText() throws IOException, InterruptedException {
+        final Path text = directory.resolve("en_GB.txt");
+        Files.writeString(text, "hello\nworld\nhello\n");
+        final Path xml = directory.resolve("en_GB.xml.gz");
+        final Path roundTrip = directory.resolve("round-trip.txt");
+
+        new ConversionPipeline(DictionarySource.of(text), DictionarySink.of(xml), executor, 4).run();
+        new ConversionPipeline(DictionarySource.of(xml), DictionarySink.of(roundTrip), executor, 4).run();
+
+        assertEquals(
+                Locale.forLanguageTag("en-GB"),
+                DictionarySource.of(xml).header().locale());
+        assertEquals(List.of("HELLO", "WORLD"), Files.readAllLines(roundTrip));
+    }
+
+    @Test
+    void sourceFailure() {
+        final DictionarySource source = new EntriesSource(Stream.concat(Stream.of("hello"), Stream.generate(() -> {
+            throw new UncheckedIOException(new IOException("Read failure"));
+        })));
+        final ConversionPipeline pipeline =
+                new ConversionPipeline(source, (header, entries) -> entries.forEachRemaining(entry -> {}), executor, 4);
+
+        final IOException exception = assertThrows(IOException.class, pipeline::run);
+
+        assertEquals("Read failure", exception.getMessage());
+    }
+
+    @Test
+    void sinkFailure() {
+        // Infinite parallel source: Reader must stop once sink has failed
+        final DictionarySource source =
+                new EntriesSource(Stream.iterate(0, i -> i + 1).parallel().map(i -> "word" + i));
+        final ConversionPipeline pipeline = new ConversionPipeline(
+                source,
+                (header, entries) -> {
+                    entries.next();
+                    throw new IOException("Write failure");
+                },
+                executor,
+                4);
+
+        final IOException exception =
+                assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThrows(IOException.class, pipeline::run));
+
+        assertEquals("Write failure", exception.getMessage());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link DictionaryAnalytics}. */
+final class DictionaryAnalyticsTest {
+
+    @Test
+    void crossingScore() {
+        final DictionaryStatistics statistics =
+                DictionaryAnalytics.analyse(List.of("HELLO", "CROSS", "WORLD"), List.of());
+
+        assertEquals(2.0, statistics.crossingScore());
+    }
+
+    @Test
+    void crossingScoreSameAsBasicScorer() {
+        final List<String> words =
+                IntStream.range(0, 50_000).mapToObj(i -> "WORD" + i).toList();
+
+        final DictionaryStatistics statistics = DictionaryAnalytics.analyse(words, List.of());
+
+        assertEquals(new BasicScorer(words).call(), statistics.crossingScore(), 1E-9);
+    }
+
+    @Test
+    void lengthsAndLetterFrequencies() {
+        final DictionaryStatistics statistics =
+                DictionaryAnalytics.analyse(List.of("AB", "AC", "BC", "ABC", "É"), List.of());
+
+        assertEquals(5, statistics.entries());
+        assertEquals(3, statistics.maxLength());
+        assertEquals(1, statistics.entries(1));
+        assertEquals(3, statistics.entries(2));
+        assertEquals(1, statistics.entries(3));
+        assertEquals(2.0 / 3.0, statistics.letterFrequency(2, 0, 'A'));
+        assertEquals(2.0 / 3.0, statistics.letterFrequency(2, 1, 'C'));
+        assertEquals(0.0, statistics.letterFrequency(2, 1, 'A'));
+        assertEquals(1.0, statistics.letterFrequency(1, 0, DictionaryStatistics.OTHER_LETTER));
+    }
+
+    @Test
+    void squareEstimation() {
+        final List<String> words = List.of("AB", "AC", "BC", "BD");
+
+        final DictionaryStatistics statistics = DictionaryAnalytics.analyse(words, List.of());
+
+        final double expected = Math.log10(Math.pow(4, 4) * Math.pow(18.0 / 64.0, 4)); // W = 4, p = 18/64
+        assertEquals(expected, statistics.log10SquareEstimate(2), 1E-9);
+        assertEquals(
+                new SquareSolutionEstimator(words, 2).call().letterFrequenciesPowerSum(),
+                statistics.letterFrequenciesPowerSum(2),
+                1E-9);
+    }
+
+    @Test
+    void patterns() {
+        final List<String> words = List.of("AB", "AC", "BC", "BD", "ABC");
+
+        final DictionaryStatistics statistics =
+                DictionaryAnalytics.analyse(words, List.of("a.", "..", ".C", "AD", "..."));
+
+        assertEquals(List.of("A.", "..", ".C", "AD", "..."), statistics.patterns());
+        assertEquals(2.0, statistics.predictedCandidates(0));
+        assertEquals(2, statistics.actualCandidates(0));
+        assertEquals(4.0, statistics.predictedCandidates(1));
+        assertEquals(4, statistics.actualCandidates(1));
+        assertEquals(2.0, statistics.predictedCandidates(2));
+        assertEquals(2, statistics.actualCandidates(2));
+        assertEquals(0.5, statistics.predictedCandidates(3));
+        assertEquals(0, statistics.actualCandidates(3));
+        assertEquals(1.0, statistics.predictedCandidates(4));
+        assertEquals(1, statistics.actualCandidates(4));
+    }
+
+    @Test
+    void json() {
+        final DictionaryStatistics statistics = DictionaryAnalytics.analyse(List.of("AB", "AC"), List.of("A."));
+
+        final String json = DictionaryAnalytics.toJson("test \"dictionary\".txt", statistics);
+
+        assertTrue(json.startsWith("{\n  \"dictionary\": \"test \\\"dictionary\\\".txt\",\n  \"entries\": 2,"));
+        assertTrue(json.contains("\"length\": 2"));
+        assertTrue(json.contains("{\"A\": 1.0}"));
+        assertTrue(json.contains("{\"B\": 0.5, \"C\": 0.5}"));
+        assertTrue(json.contains("{\"pattern\": \"A.\", \"predictedCandidates\": 2.0, \"actualCandidates\": 2}"));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryReadException;
+import re.belv.croiseur.dictionary.binary.codec.BinaryDictionaryReader;
+import re.belv.croiseur.dictionary.binary.codec.MappedDictionary;
+import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
+
+/** Tests for {@link DictionarySink}. */
+final class DictionarySinkTest {
+
+    private static final DictionaryHeader HEADER = new DictionaryHeader(
+            Locale.ENGLISH, Map.of(Locale.ENGLISH, "Test"), Map.of(Locale.ENGLISH, "A test dictionary"));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void binary() throws IOException, BinaryDictionaryReadException {
+        final Path file = directory.resolve("test.bdic");
+
+        DictionarySink.binary(file)
+                .write(HEADER, List.of("WORLD", "HELLO", "FOO").iterator());
+
+        final MappedDictionary dictionary = BinaryDictionaryReader.read(file);
+        assertEquals(Set.of("FOO", "HELLO", "WORLD"), dictionary.words());
+        assertEquals(List.of(file), list());
+    }
+
+    @Test
+    void binary_replacesMappedDictionary() throws IOException, BinaryDictionaryReadException {
+        final Path file = directory.resolve("test.bdic");
+        DictionarySink.binary(file).write(HEADER, List.of("HELLO", "WORLD").iterator());
+        final MappedDictionary previous = BinaryDictionaryReader.read(file);
+
+        DictionarySink.binary(file).write(HEADER, List.of("FOO").iterator());
+
+        // Previous mapping is still readable: File has been replaced, not overwritten
+        assertEquals(Set.of("HELLO", "WORLD"), previous.words());
+        assertEquals(Set.of("FOO"), BinaryDictionaryReader.read(file).words());
+        assertEquals(List.of(file), list());
+    }
+
+    /**
+     * Lists the files of the test directory.
+     *
+     * @return the files of the test directory
+     * @throws IOException if directory cannot be listed
+     */
+    private List<Path> list() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -5,67 +5,250 @@
 
 package re.belv.croiseur.dictionary.txt.plugin;
 
-import static java.util.stream.Collectors.toCollection;
-
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
-import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.common.dictionary.WordSet;
 import re.belv.croiseur.dictionary.common.StringFilters;
 import re.belv.croiseur.dictionary.common.StringTransformers;
+import re.belv.croiseur.dictionary.common.WatchedDictionaries;
+import re.belv.croiseur.dictionary.common.io.ChunkedLineReader;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
+import re.belv.croiseur.dictionary.common.io.RangeChecksums;
 import re.belv.croiseur.dictionary.common.util.Lazy;
 import re.belv.croiseur.spi.dictionary.Dictionary;
 
-/** Dictionary backed by simple text file. */
+/**
+ * Dictionary backed by simple text file.
+ *
+ * <p>Words appended to the file after words have been read can be read alone, see {@link #appended()}.
+ */
 final class TxtDictionary implements Dictionary {
 
+    /**
+     * The words read from the file.
+     *
+     * @param words the words, in file order, stored in the shared word pool
+     * @param checksums the checksums of the read part of the file, computed while reading it; {@code null} if file is
+     *     compressed or has been modified while being read
+     */
+    private record Contents(WordSet words, RangeChecksums checksums) {
+        // Nothing to add.
+    }
+
     /** Logger. */
     private static final Logger LOGGER = Logger.getLogger(TxtDictionary.class.getName());
 
+    /** The size of the window read when looking for the last line feed of a file, in bytes. */
+    private static final int WINDOW_SIZE = 8192;
+
+    /** The text file. */
+    private final File file;
+
     /** Details about the dictionary, lazily read. */
     private final Lazy<DictionaryDetails> details;
 
     /** The dictionary words, lazily read. */
-    private final Lazy<Set<String>> words;
+    private final Lazy<Contents> contents;
 
     /**
      * Constructs an instance.
      *
-     * @param file the text file
+     * @param fileArg the text file
+     */
+    TxtDictionary(final File fileArg) {
+        file = fileArg;
+        details = Lazy.of(() -> readDetails(file));
+        contents = Lazy.of(() -> readContents(file));
+    }
+
+    /**
+     * Constructs an instance, whose words are already read.
+     *
+     * @param fileArg the text file
+     * @param contentsArg the words read from the file
      */
-    TxtDictionary(final File file) {
+    private TxtDictionary(final File fileArg, final Contents contentsArg) {
+        file = fileArg;
         details = Lazy.of(() -> readDetails(file));
-        words = Lazy.of(() -> readWords(file));
+        contents = Lazy.of(contentsArg, () -> readContents(file));
     }
 
     /**
      * Reads the dictionary words.
      *
-     * <p>One word is expected by line.
+     * <p>One word is expected by line. Large files are read in parallel, in file order. Compressed files are
+     * decompressed on the fly.
+     *
+     * <p>The checksums of uncompressed files are computed while reading them and recorded, so that lines appended
+     * afterwards can be read alone.
      *
      * @return the dictionary words
      */
-    private static Set<String> readWords(final File file) {
-        try (final Stream<String> lines = Files.lines(file.toPath())) {
-            return lines.filter(StringFilters.notEmpty())
-                    .map(StringTransformers.toAcceptableCrosswordEntry())
-                    .collect(toCollection(LinkedHashSet::new));
+    private static Contents readContents(final File file) {
+        final Path path = file.toPath();
+        try {
+            if (CompressedFiles.isCompressed(file.getName())) {
+                return new Contents(
+                        WordSet.copyOf(ChunkedLineReader.readDistinctLines(
+                                path, StringFilters.notEmpty(), StringTransformers.toAcceptableCrosswordEntry())),
+                        null);
+            }
+            final BasicFileAttributes before = Files.readAttributes(path, BasicFileAttributes.class);
+            final ChunkedLineReader.ChecksummedLines lines = readLines(path, 0L, before.size());
+            final WordSet words = WordSet.copyOf(lines.lines());
+            return new Contents(words, unchanged(path, before) ? lines.checksums() : null);
         } catch (final IOException e) {
             LOGGER.log(Level.WARNING, e, () -> "Failed to read dictionary words");
-            return Collections.emptySet();
+            return new Contents(WordSet.of(), null);
         }
     }
 
+    /**
+     * Reads the distinct, acceptable lines of the given range of the given uncompressed file, and their checksums.
+     *
+     * @param path the file
+     * @param offset the start of the range, in bytes
+     * @param end the end of the range, exclusive, in bytes
+     * @return the distinct, acceptable lines of the given range, in file order, and the checksums of the range
+     * @throws IOException if file cannot be read
+     */
+    private static ChunkedLineReader.ChecksummedLines readLines(final Path path, final long offset, final long end)
+            throws IOException {
+        return ChunkedLineReader.readDistinctLines(
+                path, offset, end, StringFilters.notEmpty(), StringTransformers.toAcceptableCrosswordEntry());
+    }
+
+    /**
+     * Returns whether the given file is unchanged since the given attributes were read.
+     *
+     * @param path the file
+     * @param before the file attributes
+     * @return {@code true} if the given file is unchanged since the given attributes were read
+     * @throws IOException if file attributes cannot be read
+     */
+    private static boolean unchanged(final Path path, final BasicFileAttributes before) throws IOException {
+        final BasicFileAttributes after = Files.readAttributes(path, BasicFileAttributes.class);
+        return before.size() == after.size() && before.lastModifiedTime().equals(after.lastModifiedTime());
+    }
+
+    /**
+     * Returns the number of words of this dictionary stored in the shared word pool, without loading them.
+     *
+     * @return the number of words of this dictionary if they are loaded, 0 otherwise
+     */
+    int pooledWordCount() {
+        return contents.peek().map(loaded -> loaded.words().size()).orElse(0);
+    }
+
+    /**
+     * Returns this dictionary extended with the lines appended to its file since its words were read.
+     *
+     * <p>Only the appended lines are read. This is possible only if the words of this dictionary are loaded and if the
+     * file has only been appended to since, i.e. if its beginning is unchanged, which is verified by its checksums.
+     *
+     * <p>Appended lines are read up to the last line feed: A last line being written is read once terminated. This
+     * dictionary is returned as is if no line has been terminated since its words were read.
+     *
+     * @return this dictionary extended with the lines appended to its file, if possible
+     */
+    Optional<WatchedDictionaries.Appended<TxtDictionary>> appended() {
+        final Optional<Contents> loaded = contents.peek();
+        if (loaded.isEmpty() || loaded.get().checksums() == null) {
+            return Optional.empty();
+        }
+        final Contents previous = loaded.get();
+        final long previousEnd = previous.checksums().end();
+        final Path path = file.toPath();
+        try {
+            final long end;
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (!endsWithLineAt(channel, previousEnd)
+                        || !previous.checksums().matches(channel)) {
+                    return Optional.empty();
+                }
+                end = lastLineEnd(channel, previousEnd);
+            }
+            if (end == previousEnd) {
+                return Optional.of(new WatchedDictionaries.Appended<>(this, List.of()));
+            }
+            final ChunkedLineReader.ChecksummedLines lines = readLines(path, previousEnd, end);
+            final WordSet.Builder words = WordSet.builder().addAll(previous.words());
+            final List<String> appendedWords = new ArrayList<>();
+            for (final String word : lines.lines()) {
+                if (words.add(word)) {
+                    appendedWords.add(word);
+                }
+            }
+            final RangeChecksums checksums = previous.checksums().append(lines.checksums());
+            LOGGER.fine(() -> "Read " + appendedWords.size() + " words appended to " + file);
+            return Optional.of(new WatchedDictionaries.Appended<>(
+                    new TxtDictionary(file, new Contents(words.build(), checksums)), appendedWords));
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, e, () -> "Failed to read words appended to " + file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns whether the content of the given file up to the given length ends with a line feed.
+     *
+     * @param channel the file
+     * @param length the previous length of the file
+     * @return {@code true} if the content of the given file up to the given length is empty or ends with a line feed,
+     *     i.e. if its last line at given length cannot have been extended
+     * @throws IOException if file cannot be read
+     */
+    private static boolean endsWithLineAt(final FileChannel channel, final long length) throws IOException {
+        if (length == 0L) {
+            return true;
+        }
+        final ByteBuffer lastByte = ByteBuffer.allocate(1);
+        return channel.read(lastByte, length - 1) == 1 && lastByte.get(0) == '\n';
+    }
+
+    /**
+     * Finds the end of the last complete line of the given file, after the given offset.
+     *
+     * @param channel the file
+     * @param from the offset to search from, in bytes
+     * @return the position following the last line feed of the file, or the given offset if there is no line feed after
+     *     it
+     * @throws IOException if file cannot be read
+     */
+    private static long lastLineEnd(final FileChannel channel, final long from) throws IOException {
+        final ByteBuffer window = ByteBuffer.allocate(WINDOW_SIZE);
+        long windowEnd = channel.size();
+        while (windowEnd > from) {
+            final long windowStart = Math.max(from, windowEnd - WINDOW_SIZE);
+            window.clear().limit((int) (windowEnd - windowStart));
+            final int read = channel.read(window, windowStart);
+            for (int i = read - 1; i >= 0; i--) {
+                if (window.get(i) == '\n') {
+                    return windowStart + i + 1;
+                }
+            }
+            windowEnd = windowStart;
+        }
+        return from;
+    }
+
     /**
      * Reads the dictionary details.
      *
@@ -77,9 +260,8 @@ final class TxtDictionary implements Dictionary {
      * @return the dictionary details
      */
     private static DictionaryDetails readDetails(final File file) {
-        final String propertiesPath = file.getPath() + ".properties";
         final Properties properties = new Properties();
-        try (final InputStream fis = new FileInputStream(propertiesPath)) {
+        try (final InputStream fis = new FileInputStream(propertiesFile(file))) {
             properties.load(fis);
             final Locale locale = Locale.forLanguageTag(properties.getProperty("locale", "en"));
             // TODO #63 manage translations
@@ -92,6 +274,19 @@ final class TxtDictionary implements Dictionary {
         }
     }
 
+    /**
+     * Returns the companion properties file of the given dictionary file.
+     *
+     * <p>Properties file is not compressed: The companion properties file of {@code example.txt.gz} is
+     * {@code example.txt.properties}, so that details can be read without decompressing the word list.
+     *
+     * @param file the dictionary file, possibly compressed
+     * @return the companion properties file
+     */
+    static File propertiesFile(final File file) {
+        return new File(CompressedFiles.uncompressedName(file.getPath()) + ".properties");
+    }
+
     @Override
     public DictionaryDetails details() {
         return details.get();
@@ -99,6 +294,6 @@ final class TxtDictionary implements Dictionary {
 
     @Override
     public Set<String> words() {
-        return words.get();
+        return contents.get().words();
     }
 }
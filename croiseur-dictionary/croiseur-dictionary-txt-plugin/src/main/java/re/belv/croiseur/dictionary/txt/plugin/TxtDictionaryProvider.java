@@ -6,41 +6,53 @@
 package re.belv.croiseur.dictionary.txt.plugin;
 
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Collection;
-import java.util.stream.Stream;
+import java.util.List;
 import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
+import re.belv.croiseur.dictionary.common.DictionaryCatalogue;
 import re.belv.croiseur.dictionary.common.DictionaryPath;
-import re.belv.croiseur.dictionary.common.util.Lazy;
+import re.belv.croiseur.dictionary.common.WatchedDictionaries;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
 import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChangeListener;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
 
 /** A dictionary provider of simple text file dictionaries. */
 public final class TxtDictionaryProvider implements DictionaryProvider {
 
+    /** The catalogue of the dictionaries, caching their details. */
+    private static final DictionaryCatalogue CATALOGUE = DictionaryCatalogue.of("txt");
+
     /** Details about the dictionary provider. */
     private final DictionaryProviderDetails details;
 
-    /** The dictionaries, lazily evaluated */
-    private final Lazy<Collection<Dictionary>> dictionaries;
+    /** The dictionaries, lazily listed. */
+    private final WatchedDictionaries<TxtDictionary> dictionaries;
 
     /** Constructs an instance. */
     public TxtDictionaryProvider() {
         details = new DictionaryProviderDetails(
                 "Local Text Provider", "Provides access to local dictionaries in a simple text format.");
-        dictionaries = Lazy.of(
-                () -> dictionaryFiles().<Dictionary>map(TxtDictionary::new).toList());
+        // Details are read from the companion properties file
+        dictionaries = new WatchedDictionaries<>(
+                CATALOGUE,
+                DictionaryPath::getDefault,
+                TxtDictionaryProvider::isDictionaryFile,
+                f -> List.of(TxtDictionary.propertiesFile(f)),
+                TxtDictionary::new,
+                TxtDictionary::appended,
+                TxtDictionary::pooledWordCount);
     }
 
     /**
-     * Retrieves the dictionary files.
+     * Returns whether the given file is a dictionary file, possibly compressed.
      *
-     * @return the dictionary files
+     * @param file the file
+     * @return {@code true} if the given file is a dictionary file
      */
-    private static Stream<File> dictionaryFiles() {
-        return DictionaryPath.getDefault().list().stream()
-                .filter(f -> f.getName().endsWith(".txt") && Files.exists(Path.of(f.getPath() + ".properties")));
+    private static boolean isDictionaryFile(final File file) {
+        return CompressedFiles.hasExtension(file.getName(), ".txt")
+                && TxtDictionary.propertiesFile(file).exists();
     }
 
     @Override
@@ -52,4 +64,14 @@ public final class TxtDictionaryProvider implements DictionaryProvider {
     public Collection<Dictionary> get() {
         return dictionaries.get();
     }
+
+    @Override
+    public void addChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.removeListener(listener);
+    }
 }
@@ -93,17 +93,23 @@ public final class DictionaryReader {
     /**
      * Reads the word list of the dictionary. Output may be very large.
      *
-     * @return the words of the dictionary as a {@link Stream}
+     * <p>Words are read lazily, as the returned stream is consumed, so that memory usage does not depend on the size of
+     * the word list. The dictionary input stream remains open until the returned stream is closed: Callers must close
+     * it, typically with a try-with-resources statement.
+     *
+     * <p>Errors occurring while consuming the returned stream are thrown as {@link UncheckedDictionaryReadException}s.
+     *
+     * @return the words of the dictionary as a {@link Stream}, to be closed after use
      * @throws DictionaryReadException if read fails
      */
     public Stream<String> readWords() throws DictionaryReadException {
         final long before = System.currentTimeMillis();
         try {
-            return dictionaryWordsReader.read();
+            return dictionaryWordsReader
+                    .read()
+                    .onClose(() -> LOGGER.fine(() -> "Read words in " + (System.currentTimeMillis() - before) + " ms"));
         } catch (final IOException | XMLStreamException e) {
             throw new DictionaryReadException(e);
-        } finally {
-            LOGGER.fine(() -> "Read words in " + (System.currentTimeMillis() - before) + " ms");
         }
     }
 }
@@ -7,7 +7,11 @@ package re.belv.croiseur.dictionary.xml.codec;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.xml.stream.StreamFilter;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -16,6 +20,38 @@ import javax.xml.stream.XMLStreamReader;
 /** Reader dedicated to the {@code <word>} elements. */
 final class DictionaryWordsReader {
 
+    /** Reads the {@code <word>} elements one by one, on demand. */
+    private static final class WordSpliterator extends Spliterators.AbstractSpliterator<String> {
+
+        /** The XML reader, filtered on {@code <word>} elements. */
+        private final XMLStreamReader reader;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param readerArg the XML reader, filtered on {@code <word>} elements
+         */
+        WordSpliterator(final XMLStreamReader readerArg) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            reader = readerArg;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super String> action) {
+            try {
+                if (!reader.hasNext()) {
+                    return false;
+                }
+                final String word = reader.getElementText();
+                reader.next();
+                action.accept(word);
+                return true;
+            } catch (final XMLStreamException e) {
+                throw new UncheckedDictionaryReadException(new DictionaryReadException(e));
+            }
+        }
+    }
+
     /** Filter on {@code <word>} element start event. */
     private static final StreamFilter WORDS_STREAM_FILTER =
             reader -> reader.isStartElement() && ElementNames.WORD.equals(reader.getLocalName());
@@ -40,20 +76,43 @@ final class DictionaryWordsReader {
     /**
      * Reads the words of the dictionary.
      *
+     * <p>Words are read lazily, as the returned stream is consumed. The underlying input stream remains open until the
+     * returned stream is closed: Callers must close it, typically with a try-with-resources statement.
+     *
      * @return the words of the dictionary as a {@link Stream}
      * @throws IOException if input stream cannot be opened on given dictionary
      * @throws XMLStreamException if read failed
      */
     Stream<String> read() throws IOException, XMLStreamException {
-        try (final InputStream inputStream = dictionaryStream.get();
-                final AutoCloseableXMLStreamReader reader = createReader(inputStream)) {
-            final Stream.Builder<String> streamBuilder = Stream.builder();
-            while (reader.hasNext()) {
-                final String word = reader.getElementText();
-                streamBuilder.add(word);
-                reader.next();
+        final InputStream inputStream = dictionaryStream.get();
+        final AutoCloseableXMLStreamReader reader;
+        try {
+            reader = createReader(inputStream);
+        } catch (final XMLStreamException | RuntimeException e) {
+            try {
+                inputStream.close();
+            } catch (final IOException suppressed) {
+                e.addSuppressed(suppressed);
             }
-            return streamBuilder.build();
+            throw e;
+        }
+        return StreamSupport.stream(new WordSpliterator(reader), false).onClose(() -> close(reader, inputStream));
+    }
+
+    /**
+     * Closes the given XML reader and its input stream.
+     *
+     * @param reader the XML reader
+     * @param inputStream the input stream
+     * @throws UncheckedDictionaryReadException if close fails
+     */
+    private static void close(final AutoCloseableXMLStreamReader reader, final InputStream inputStream) {
+        // XML reader does not close the input stream
+        try (inputStream;
+                reader) {
+            // Nothing to do, just close.
+        } catch (final IOException | XMLStreamException e) {
+            throw new UncheckedDictionaryReadException(new DictionaryReadException(e));
         }
     }
 
@@ -9,9 +9,12 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -19,6 +22,12 @@ import javax.xml.stream.XMLStreamWriter;
 /** A stateless dictionary writer. */
 public final class DictionaryWriter {
 
+    /** The extension of gzip-compressed files. */
+    private static final String GZIP_EXTENSION = ".gz";
+
+    /** The size of the compression buffer, in bytes. */
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
     /** Private constructor to prevent instantiation. */
     private DictionaryWriter() {
         // Nothing to do.
@@ -111,10 +120,11 @@ public final class DictionaryWriter {
      * @param writer the writer to use
      * @throws XMLStreamException if write fails
      */
-    private static void writeWords(final List<String> words, final XMLStreamWriter writer) throws XMLStreamException {
+    private static void writeWords(final Iterator<String> words, final XMLStreamWriter writer)
+            throws XMLStreamException {
         writer.writeStartElement(ElementNames.WORDS);
-        for (final String word : words) {
-            writeWord(word, writer);
+        while (words.hasNext()) {
+            writeWord(words.next(), writer);
         }
         writer.writeEndElement();
     }
@@ -127,14 +137,29 @@ public final class DictionaryWriter {
      * @throws DictionaryWriteException if write fails
      */
     public static void write(final OutputStream os, final Dictionary dictionary) throws DictionaryWriteException {
+        write(os, dictionary.header(), dictionary.words().iterator());
+    }
+
+    /**
+     * Writes a dictionary made of the given header and words to the given {@link OutputStream}.
+     *
+     * <p>Words are written as they are iterated, so that they do not need to be held in memory.
+     *
+     * @param os the output stream to write into
+     * @param header the header to write
+     * @param words the words to write
+     * @throws DictionaryWriteException if write fails
+     */
+    public static void write(final OutputStream os, final DictionaryHeader header, final Iterator<String> words)
+            throws DictionaryWriteException {
         try (final OutputStream bufferedOutputStream = new BufferedOutputStream(os);
                 final AutocloseableXMLStreamWriter writer = createWriter(bufferedOutputStream)) {
 
             writer.writeStartDocument();
 
             writeDictionaryStartElement(writer);
-            writeHeader(dictionary.header(), writer);
-            writeWords(dictionary.words(), writer);
+            writeHeader(header, writer);
+            writeWords(words, writer);
             writer.writeEndElement();
 
             writer.writeEndDocument();
@@ -144,6 +169,41 @@ public final class DictionaryWriter {
         }
     }
 
+    /**
+     * Writes the given {@link Dictionary} to the given file.
+     *
+     * <p>If file name ends with {@value #GZIP_EXTENSION}, dictionary is gzip-compressed on the fly.
+     *
+     * @param file the file to write into
+     * @param dictionary the dictionary to write
+     * @throws DictionaryWriteException if write fails
+     */
+    public static void write(final Path file, final Dictionary dictionary) throws DictionaryWriteException {
+        write(file, dictionary.header(), dictionary.words().iterator());
+    }
+
+    /**
+     * Writes a dictionary made of the given header and words to the given file.
+     *
+     * <p>Words are written as they are iterated, so that they do not need to be held in memory. If file name ends with
+     * {@value #GZIP_EXTENSION}, dictionary is gzip-compressed on the fly.
+     *
+     * @param file the file to write into
+     * @param header the header to write
+     * @param words the words to write
+     * @throws DictionaryWriteException if write fails
+     */
+    public static void write(final Path file, final DictionaryHeader header, final Iterator<String> words)
+            throws DictionaryWriteException {
+        final boolean compressed = file.getFileName().toString().endsWith(GZIP_EXTENSION);
+        try (final OutputStream fileStream = Files.newOutputStream(file);
+                final OutputStream os = compressed ? new GZIPOutputStream(fileStream, GZIP_BUFFER_SIZE) : fileStream) {
+            write(os, header, words);
+        } catch (final IOException e) {
+            throw new DictionaryWriteException(e);
+        }
+    }
+
     /**
      * Writes the dictionary start element using the given writer.
      *
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.dictionary.xml.codec;
+
+/**
+ * Wraps a {@link DictionaryReadException} occurring while consuming the word stream returned by
+ * {@link DictionaryReader#readWords()}.
+ */
+public final class UncheckedDictionaryReadException extends RuntimeException {
+
+    /**
+     * Constructs an instance.
+     *
+     * @param cause the cause
+     */
+    UncheckedDictionaryReadException(final DictionaryReadException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized DictionaryReadException getCause() {
+        return (DictionaryReadException) super.getCause();
+    }
+}
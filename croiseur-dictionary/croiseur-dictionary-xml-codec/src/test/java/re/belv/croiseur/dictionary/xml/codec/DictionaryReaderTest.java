@@ -6,10 +6,20 @@
 package re.belv.croiseur.dictionary.xml.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 /** Tests on {@link DictionaryReader}. */
@@ -32,8 +42,53 @@ final class DictionaryReaderTest {
         final URL dictionaryUrl = DictionaryReaderTest.class.getResource("/example.xml");
         final DictionaryReader reader = new DictionaryReader(dictionaryUrl::openStream);
 
-        final List<String> words = reader.readWords().toList();
+        final List<String> words;
+        try (final Stream<String> stream = reader.readWords()) {
+            words = stream.toList();
+        }
 
         assertEquals(List.of("Hello", "World"), words);
     }
+
+    @Test
+    void readWordsClosesInputWithStream() throws DictionaryReadException {
+        final URL dictionaryUrl = DictionaryReaderTest.class.getResource("/example.xml");
+        final AtomicBoolean closed = new AtomicBoolean();
+        final DictionaryReader reader = new DictionaryReader(() -> new FilterInputStream(dictionaryUrl.openStream()) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        });
+
+        try (final Stream<String> words = reader.readWords()) {
+            assertEquals(Optional.of("Hello"), words.findFirst());
+            assertFalse(closed.get());
+        }
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void readWordsIsLazy() throws DictionaryReadException {
+        // Document is truncated after first word: Only a full read detects the error
+        final byte[] truncated = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <tns:dictionary xmlns:tns="http://www.example.org/dictionary">
+                    <locale>en</locale>
+                    <words>
+                        <word>Hello</word>
+                        <word>Wor""".getBytes(StandardCharsets.UTF_8);
+        final DictionaryReader reader = new DictionaryReader(() -> new ByteArrayInputStream(truncated));
+
+        try (final Stream<String> words = reader.readWords()) {
+            assertEquals(Optional.of("Hello"), words.findFirst());
+        }
+        try (final Stream<String> words = reader.readWords()) {
+            final UncheckedDictionaryReadException exception =
+                    assertThrows(UncheckedDictionaryReadException.class, words::toList);
+            assertTrue(exception.getCause() instanceof DictionaryReadException);
+        }
+    }
 }
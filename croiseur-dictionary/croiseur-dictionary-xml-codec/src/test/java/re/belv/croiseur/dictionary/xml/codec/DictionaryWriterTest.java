@@ -8,11 +8,17 @@ package re.belv.croiseur.dictionary.xml.codec;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -20,10 +26,15 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /** Tests on {@link DictionaryWriter}. */
 final class DictionaryWriterTest {
 
+    /** A temporary directory. */
+    @TempDir
+    private Path tempDir;
+
     private static String formatXml(final String xml) {
         try {
             final Transformer t = TransformerFactory.newInstance().newTransformer();
@@ -68,4 +79,28 @@ final class DictionaryWriterTest {
                      </tns:dictionary>
                      """, formatXml(outputStream.toString()));
     }
+
+    @Test
+    void writeCompressed() throws DictionaryWriteException, DictionaryReadException, IOException {
+        final Path file = tempDir.resolve("dictionary.xml.gz");
+        final DictionaryHeader header = new DictionaryHeader.Builder()
+                .setLocale(Locale.ENGLISH)
+                .addName(Locale.ENGLISH, "Dictionary example")
+                .addDescription(Locale.ENGLISH, "An example of compressed XML dictionary.")
+                .build();
+        final List<String> words = List.of("Hello", "World");
+
+        DictionaryWriter.write(file, new Dictionary(header, words));
+
+        final DictionaryReader reader = new DictionaryReader(() -> new GZIPInputStream(Files.newInputStream(file)));
+        assertEquals(header, reader.readHeader());
+        try (final Stream<String> readWords = reader.readWords()) {
+            assertEquals(words, readWords.toList());
+        }
+        try (final InputStream is = Files.newInputStream(file)) {
+            // gzip magic number
+            assertEquals(0x1F, is.read());
+            assertEquals(0x8B, is.read());
+        }
+    }
 }
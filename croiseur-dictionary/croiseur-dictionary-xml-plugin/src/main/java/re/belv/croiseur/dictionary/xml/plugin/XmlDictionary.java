@@ -5,25 +5,25 @@
 
 package re.belv.croiseur.dictionary.xml.plugin;
 
-import static java.util.stream.Collectors.toCollection;
-
 import java.io.File;
-import java.io.FileInputStream;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 import re.belv.croiseur.common.dictionary.DictionaryDetails;
+import re.belv.croiseur.common.dictionary.WordSet;
 import re.belv.croiseur.dictionary.common.StringFilters;
 import re.belv.croiseur.dictionary.common.StringTransformers;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
 import re.belv.croiseur.dictionary.common.util.Lazy;
 import re.belv.croiseur.dictionary.xml.codec.DictionaryHeader;
 import re.belv.croiseur.dictionary.xml.codec.DictionaryReadException;
 import re.belv.croiseur.dictionary.xml.codec.DictionaryReader;
+import re.belv.croiseur.dictionary.xml.codec.UncheckedDictionaryReadException;
 import re.belv.croiseur.spi.dictionary.Dictionary;
 
 /** An XML dictionary. */
@@ -41,10 +41,13 @@ final class XmlDictionary implements Dictionary {
     /**
      * Constructs an instance.
      *
-     * @param file the dictionary to read
+     * <p>Compressed dictionaries are decompressed on the fly: Reading details only decompresses the beginning of the
+     * file, up to the word list.
+     *
+     * @param file the dictionary to read, possibly compressed
      */
     XmlDictionary(final File file) {
-        final DictionaryReader reader = new DictionaryReader(() -> new FileInputStream(file));
+        final DictionaryReader reader = new DictionaryReader(() -> CompressedFiles.newInputStream(file.toPath()));
         details = Lazy.of(() -> readDetails(reader));
         words = Lazy.of(() -> readWords(reader));
     }
@@ -102,17 +105,25 @@ final class XmlDictionary implements Dictionary {
      * @return the dictionary words
      */
     private static Set<String> readWords(final DictionaryReader reader) {
-        try {
-            return reader.readWords()
-                    .filter(StringFilters.notEmpty())
+        try (final Stream<String> rawWords = reader.readWords()) {
+            return rawWords.filter(StringFilters.notEmpty())
                     .map(StringTransformers.toAcceptableCrosswordEntry())
-                    .collect(toCollection(LinkedHashSet::new));
-        } catch (final DictionaryReadException e) {
+                    .collect(WordSet.toWordSet());
+        } catch (final DictionaryReadException | UncheckedDictionaryReadException e) {
             LOGGER.log(Level.WARNING, e, () -> "Failed to read dictionary words");
             return Collections.emptySet();
         }
     }
 
+    /**
+     * Returns the number of words of this dictionary stored in the shared word pool, without loading them.
+     *
+     * @return the number of words of this dictionary if they are loaded, 0 otherwise
+     */
+    int pooledWordCount() {
+        return words.peek().map(Set::size).orElse(0);
+    }
+
     @Override
     public DictionaryDetails details() {
         return details.get();
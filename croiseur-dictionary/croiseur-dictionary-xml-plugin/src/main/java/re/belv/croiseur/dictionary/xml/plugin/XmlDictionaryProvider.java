@@ -7,38 +7,51 @@ package re.belv.croiseur.dictionary.xml.plugin;
 
 import java.io.File;
 import java.util.Collection;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Optional;
 import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
+import re.belv.croiseur.dictionary.common.DictionaryCatalogue;
 import re.belv.croiseur.dictionary.common.DictionaryPath;
-import re.belv.croiseur.dictionary.common.util.Lazy;
+import re.belv.croiseur.dictionary.common.WatchedDictionaries;
+import re.belv.croiseur.dictionary.common.io.CompressedFiles;
 import re.belv.croiseur.spi.dictionary.Dictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChangeListener;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
 
 /** A dictionary provider for XML-based dictionaries. */
 public final class XmlDictionaryProvider implements DictionaryProvider {
 
+    /** The catalogue of the dictionaries, caching their details. */
+    private static final DictionaryCatalogue CATALOGUE = DictionaryCatalogue.of("xml");
+
     /** Details about the dictionary provider. */
     private final DictionaryProviderDetails details;
 
-    /** The dictionaries, lazily evaluated */
-    private final Lazy<Collection<Dictionary>> dictionaries;
+    /** The dictionaries, lazily listed. */
+    private final WatchedDictionaries<XmlDictionary> dictionaries;
 
     /** Constructs an instance. */
     public XmlDictionaryProvider() {
         details = new DictionaryProviderDetails(
                 "Local XML Provider", "Provides access to local dictionaries in an XML format.");
-        dictionaries = Lazy.of(
-                () -> dictionaryFiles().<Dictionary>map(XmlDictionary::new).toList());
+        dictionaries = new WatchedDictionaries<>(
+                CATALOGUE,
+                DictionaryPath::getDefault,
+                XmlDictionaryProvider::isDictionaryFile,
+                List::of,
+                XmlDictionary::new,
+                dictionary -> Optional.empty(),
+                XmlDictionary::pooledWordCount);
     }
 
     /**
-     * Retrieves the dictionary files.
+     * Returns whether the given file is a dictionary file, possibly compressed.
      *
-     * @return the dictionary files
+     * @param file the file
+     * @return {@code true} if the given file is a dictionary file
      */
-    private static Stream<File> dictionaryFiles() {
-        return DictionaryPath.getDefault().list().stream()
-                .filter(f -> f.getName().endsWith(".xml"));
+    private static boolean isDictionaryFile(final File file) {
+        return CompressedFiles.hasExtension(file.getName(), ".xml");
     }
 
     @Override
@@ -50,4 +63,14 @@ public final class XmlDictionaryProvider implements DictionaryProvider {
     public Collection<Dictionary> get() {
         return dictionaries.get();
     }
+
+    @Override
+    public void addChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final DictionaryChangeListener listener) {
+        dictionaries.removeListener(listener);
+    }
 }
@@ -5,12 +5,16 @@
 
 package re.belv.croiseur.gui.controller.dictionary;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.concurrent.Task;
 import re.belv.croiseur.api.dictionary.DictionaryService;
+import re.belv.croiseur.gui.view.model.DictionariesViewModel;
 import re.belv.croiseur.gui.view.model.DictionaryViewModel;
+import re.belv.croiseur.gui.view.model.SlotCrossing;
 
 /** Controls calls to the dictionary service. */
 public final class DictionaryController {
@@ -24,6 +28,9 @@ public final class DictionaryController {
     /** The worker executing the dictionary tasks. */
     private final Executor executor;
 
+    /** The last suggestion search, cancelled when a new search is requested. */
+    private FindSuggestionsTask suggestionTask;
+
     /**
      * Constructs an instance.
      *
@@ -44,6 +51,37 @@ public final class DictionaryController {
         execute(new ListDictionaryEntriesTask(dictionaryViewModel, dictionaryService));
     }
 
+    /**
+     * Searches the entries of the given dictionaries made of some of the given letters.
+     *
+     * @param dictionaryViewModels the dictionary view-models
+     * @param letters the letters
+     */
+    public void searchAnagrams(
+            final Collection<? extends DictionaryViewModel> dictionaryViewModels, final String letters) {
+        for (final DictionaryViewModel dictionaryViewModel : dictionaryViewModels) {
+            execute(new SearchDictionaryAnagramsTask(dictionaryViewModel, letters, dictionaryService));
+        }
+    }
+
+    /**
+     * Finds the suggestions matching the current suggestion filter of the given view model, ranked by crossing
+     * viability.
+     *
+     * <p>Search is performed in background; The previous search, if not finished, is cancelled.
+     *
+     * @param dictionariesViewModel the dictionaries view model
+     * @param crossings the slots crossing the non-filled boxes of the slot to find suggestions for
+     */
+    public void findSuggestions(
+            final DictionariesViewModel dictionariesViewModel, final List<SlotCrossing> crossings) {
+        if (suggestionTask != null) {
+            suggestionTask.cancel();
+        }
+        suggestionTask = new FindSuggestionsTask(dictionariesViewModel, crossings);
+        execute(suggestionTask);
+    }
+
     /** Lists the available dictionaries. */
     public void listDictionaries() {
         execute(new ListDictionariesTask(dictionaryService));
@@ -54,7 +92,7 @@ public final class DictionaryController {
      *
      * @param task the task to execute
      */
-    private void execute(final Task<Void> task) {
+    private void execute(final Task<?> task) {
         task.setOnFailed(event -> LOGGER.log(Level.WARNING, "Dictionary task failed.", task.getException()));
         executor.execute(task);
     }
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.controller.dictionary;
+
+import java.util.List;
+import javafx.concurrent.Task;
+import re.belv.croiseur.gui.view.model.DictionariesViewModel;
+import re.belv.croiseur.gui.view.model.SlotCrossing;
+
+/**
+ * Find suggestions task.
+ *
+ * <p>Search stops as soon as possible once the task is cancelled, e.g. when words have changed again.
+ */
+final class FindSuggestionsTask extends Task<List<String>> {
+
+    /** The dictionaries view model. */
+    private final DictionariesViewModel dictionariesViewModel;
+
+    /** The suggestion filter. */
+    private final String filter;
+
+    /** The slots crossing the non-filled boxes of the slot to find suggestions for. */
+    private final List<SlotCrossing> crossings;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param dictionariesViewModelArg the dictionaries view model
+     * @param crossingsArg the slots crossing the non-filled boxes of the slot to find suggestions for
+     */
+    FindSuggestionsTask(final DictionariesViewModel dictionariesViewModelArg, final List<SlotCrossing> crossingsArg) {
+        dictionariesViewModel = dictionariesViewModelArg;
+        filter = dictionariesViewModelArg.suggestionFilterProperty().get();
+        crossings = List.copyOf(crossingsArg);
+    }
+
+    @Override
+    protected List<String> call() {
+        return dictionariesViewModel.findSuggestions(filter, crossings, this::isCancelled);
+    }
+
+    @Override
+    protected void succeeded() {
+        dictionariesViewModel.suggestions(filter, getValue());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.controller.dictionary;
+
+import java.util.OptionalInt;
+import javafx.concurrent.Task;
+import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
+import re.belv.croiseur.api.dictionary.DictionaryService;
+import re.belv.croiseur.api.dictionary.SearchDictionaryAnagramsRequest;
+import re.belv.croiseur.gui.view.model.DictionaryViewModel;
+
+/** Search dictionary anagrams task. */
+final class SearchDictionaryAnagramsTask extends Task<Void> {
+
+    /** The dictionary service. */
+    private final DictionaryService dictionaryService;
+
+    /** The "search dictionary anagrams" request. */
+    private final SearchDictionaryAnagramsRequest searchDictionaryAnagramsRequest;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param dictionaryViewModelArg the dictionary view model
+     * @param lettersArg the letters
+     * @param dictionaryServiceArg the dictionary service
+     */
+    SearchDictionaryAnagramsTask(
+            final DictionaryViewModel dictionaryViewModelArg,
+            final String lettersArg,
+            final DictionaryService dictionaryServiceArg) {
+        final var dictionaryId =
+                new DictionaryIdentifier(dictionaryViewModelArg.provider(), dictionaryViewModelArg.name());
+        // Suggest the words made of some of the letters, not only the exact anagrams
+        searchDictionaryAnagramsRequest =
+                SearchDictionaryAnagramsRequest.of(dictionaryId, lettersArg, true, OptionalInt.empty());
+        dictionaryService = dictionaryServiceArg;
+    }
+
+    @Override
+    protected Void call() {
+        dictionaryService.searchAnagrams(searchDictionaryAnagramsRequest);
+        return null;
+    }
+}
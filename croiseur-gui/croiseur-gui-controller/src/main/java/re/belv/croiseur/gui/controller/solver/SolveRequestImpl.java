@@ -7,6 +7,7 @@ package re.belv.croiseur.gui.controller.solver;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Random;
 import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
 import re.belv.croiseur.api.solver.SolveRequest;
@@ -29,6 +30,9 @@ final class SolveRequestImpl implements SolveRequest {
     /** The selected solver. */
     private final String selectedSolver;
 
+    /** The seed of the source of randomness. */
+    private final long seed;
+
     /** The source of randomness. */
     private final Random random;
 
@@ -41,7 +45,7 @@ final class SolveRequestImpl implements SolveRequest {
      * @param crosswordGridViewModel the crossword model
      * @param dictionariesViewModel the dictionary model
      * @param solverConfigurationViewModel the solver configuration model
-     * @param randomArg the source of randomness
+     * @param randomArg the source of randomness, from which the seed of this request is drawn
      */
     SolveRequestImpl(
             final CrosswordGridViewModel crosswordGridViewModel,
@@ -67,7 +71,9 @@ final class SolveRequestImpl implements SolveRequest {
                 .toList();
 
         selectedSolver = solverConfigurationViewModel.selectedSolver();
-        random = randomArg;
+        // A known seed makes the request reproducible, hence its result cacheable
+        seed = randomArg.nextLong();
+        random = new Random(seed);
         fillCluesOnSuccess = solverConfigurationViewModel.fillCluesOnSuccess();
     }
 
@@ -91,6 +97,11 @@ final class SolveRequestImpl implements SolveRequest {
         return Optional.of(random);
     }
 
+    @Override
+    public OptionalLong dictionariesShuffleSeed() {
+        return OptionalLong.of(seed);
+    }
+
     @Override
     public Optional<String> solver() {
         return Optional.ofNullable(selectedSolver);
@@ -15,6 +15,7 @@ import re.belv.croiseur.gui.view.model.DictionariesViewModel;
 import re.belv.croiseur.gui.view.model.DictionaryKey;
 import re.belv.croiseur.gui.view.model.DictionaryViewModel;
 import re.belv.croiseur.gui.view.model.ErrorsViewModel;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
@@ -64,7 +65,8 @@ final class GuiDictionaryPresenter implements DictionaryPresenter {
     @Override
     public void presentDictionaryEntries(final DictionaryContent content) {
         LOGGER.info(() -> "Received entries of dictionary " + content.details() + ": "
-                + content.words().size() + " words");
+                + content.words().size() + " words" + (content.last() ? " (last chunk)" : ""));
+        // Each chunk is added separately so that the words are displayed incrementally
         Platform.runLater(() -> dictionariesViewModel.addWords(dictionaryKeyFrom(content.details()), content.words()));
     }
 
@@ -73,6 +75,14 @@ final class GuiDictionaryPresenter implements DictionaryPresenter {
         throw new UnsupportedOperationException("Not used");
     }
 
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        LOGGER.info(() -> "Received anagrams of " + anagrams.letters() + " from dictionary " + anagrams.details()
+                + ": " + anagrams.words().size() + " words");
+        Platform.runLater(() -> dictionariesViewModel.addAnagrams(
+                dictionaryKeyFrom(anagrams.details()), anagrams.letters(), anagrams.words()));
+    }
+
     @Override
     public void presentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
         throw new UnsupportedOperationException("Not used");
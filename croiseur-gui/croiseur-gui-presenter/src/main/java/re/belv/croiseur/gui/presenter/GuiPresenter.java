@@ -15,6 +15,7 @@ import re.belv.croiseur.common.puzzle.SavedPuzzle;
 import re.belv.croiseur.gui.view.model.ApplicationViewModel;
 import re.belv.croiseur.spi.presenter.Presenter;
 import re.belv.croiseur.spi.presenter.clue.ClueProviderDescription;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 import re.belv.croiseur.spi.presenter.solver.SolverDescription;
@@ -106,6 +107,11 @@ public final class GuiPresenter implements Presenter {
         dictionaryPresenter.presentDictionarySearchResult(searchResult);
     }
 
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        dictionaryPresenter.presentDictionaryAnagrams(anagrams);
+    }
+
     @Override
     public void presentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
         dictionaryPresenter.presentDefaultDictionary(defaultDictionary);
@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -578,6 +579,37 @@ public final class CrosswordGridViewModel {
         return workingArea.currentSlotContent.get();
     }
 
+    /**
+     * Returns the slots crossing the non-filled boxes of the current slot.
+     *
+     * <p>The list is empty if no slot is selected. Crossing slots are computed from the current grid content and are not
+     * updated afterwards. Crossing slots made of a single box are ignored.
+     *
+     * @return the slots crossing the non-filled boxes of the current slot
+     */
+    public List<SlotCrossing> currentSlotCrossings() {
+        final List<GridCoord> positions = workingArea.currentSlotPositions;
+        final boolean vertical = workingArea.currentSlotVertical.get();
+        final List<SlotCrossing> crossings = new ArrayList<>();
+        for (int position = 0; position < positions.size(); position++) {
+            final GridCoord coord = positions.get(position);
+            if (boxes.get(coord).userContent().isEmpty()) {
+                final Optional<SlotOutline> crossingSlot =
+                        vertical ? slotsViewModel.acrossSlotContaining(coord) : slotsViewModel.downSlotContaining(coord);
+                if (crossingSlot.isPresent() && crossingSlot.get().length() > 1) {
+                    final List<GridCoord> crossingPositions = crossingSlot.get().boxPositions();
+                    final StringBuilder content = new StringBuilder(crossingPositions.size());
+                    for (final GridCoord crossingPosition : crossingPositions) {
+                        final String letter = boxes.get(crossingPosition).userContent();
+                        content.append(letter.isEmpty() ? "." : letter);
+                    }
+                    crossings.add(new SlotCrossing(position, content.toString(), crossingPositions.indexOf(coord)));
+                }
+            }
+        }
+        return crossings;
+    }
+
     /**
      * Sets the value of the current slot content property.
      *
@@ -5,29 +5,29 @@
 
 package re.belv.croiseur.gui.view.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 import javafx.beans.Observable;
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.transformation.FilteredList;
-import re.belv.croiseur.gui.view.model.util.MoreFXCollections;
-import re.belv.croiseur.gui.view.model.util.ObservableAggregateList;
-import re.belv.croiseur.gui.view.model.util.SortedByCopyList;
+import re.belv.croiseur.gui.view.model.util.PositionalWordIndex;
+import re.belv.croiseur.gui.view.model.util.SortedUnionList;
 
 /** The dictionary view model. */
 public final class DictionariesViewModel {
@@ -47,13 +47,17 @@ public final class DictionariesViewModel {
     /** The words of the selected dictionaries matching {@link #suggestionFilter}. */
     private final ReadOnlyListWrapper<String> suggestions;
 
-    /**
-     * Associates a selected dictionary with the identifier of its word list inside {@link #backingAggregateWordList}.
-     */
-    private final Map<DictionaryKey, Integer> dictionaryToWordAggregateIndex;
+    /** The letters whose {@link #anagrams} are looked up. */
+    private final StringProperty anagramLetters;
+
+    /** The words of the selected dictionaries made of {@link #anagramLetters}. */
+    private final ReadOnlyListWrapper<String> anagrams;
 
-    /** An {@link ObservableAggregateList} backing {@link #words}. */
-    private final ObservableAggregateList<String> backingAggregateWordList;
+    /** The sorted union of the words of the selected dictionaries, by dictionary, backing {@link #words}. */
+    private final SortedUnionList<DictionaryKey, String> backingWordUnion;
+
+    /** The index of {@link #words} answering suggestion searches, rebuilt when words change. Guarded by this. */
+    private PositionalWordIndex suggestionIndex;
 
     /** Constructs an instance. */
     public DictionariesViewModel() {
@@ -63,21 +67,18 @@ public final class DictionariesViewModel {
         selectedDictionaries = new ReadOnlyListWrapper<>(
                 this, "selectedDictionaries", new FilteredList<>(dictionaries, DictionaryViewModel::isSelected));
 
-        backingAggregateWordList = MoreFXCollections.observableAggregateList();
-
-        // TODO uniq
-        words = new ReadOnlyListWrapper<>(
-                this, "words", new SortedByCopyList<>(backingAggregateWordList, Comparator.naturalOrder()));
+        backingWordUnion = new SortedUnionList<>(Comparator.naturalOrder());
+        words = new ReadOnlyListWrapper<>(this, "words", backingWordUnion);
 
         suggestionFilter = new SimpleStringProperty(this, "suggestionFilter", "");
+        suggestions = new ReadOnlyListWrapper<>(this, "suggestions", FXCollections.observableArrayList());
 
-        final ObservableValue<Predicate<String>> suggestionPredicate =
-                Bindings.createObjectBinding(this::createSuggestionPredicate, suggestionFilter);
-        final FilteredList<String> filteredSuggestions = new FilteredList<>(words);
-        filteredSuggestions.predicateProperty().bind(suggestionPredicate);
-        suggestions = new ReadOnlyListWrapper<>(this, "suggestions", filteredSuggestions);
+        anagramLetters = new SimpleStringProperty(this, "anagramLetters", "");
+        anagrams = new ReadOnlyListWrapper<>(this, "anagrams", FXCollections.observableArrayList());
+        anagramLetters.addListener((observable, oldLetters, newLetters) -> anagrams.clear());
+
+        suggestionFilter.addListener((observable, oldFilter, newFilter) -> suggestions.clear());
 
-        dictionaryToWordAggregateIndex = new HashMap<>();
         selectedDictionaries.addListener(this::onSelectedDictionaryChange);
     }
 
@@ -104,6 +105,8 @@ public final class DictionariesViewModel {
     /**
      * Returns the words of the selected dictionaries.
      *
+     * <p>Words are sorted and without duplicates.
+     *
      * @return the words of the selected dictionaries
      */
     public ReadOnlyListProperty<String> wordsProperty() {
@@ -131,16 +134,64 @@ public final class DictionariesViewModel {
      * Returns the suggestions of the selected dictionaries, i.e. the words matching the
      * {@link #suggestionFilterProperty()}.
      *
+     * <p>Suggestions are not computed by this view model: They are searched using {@link #findSuggestions},
+     * typically in background, then set using {@link #suggestions(String, List)}. Suggestions are cleared when the
+     * filter changes.
+     *
      * @return the suggestions of the selected dictionaries
      */
     public ReadOnlyListProperty<String> suggestionsProperty() {
         return suggestions.getReadOnlyProperty();
     }
 
+    /**
+     * Returns the anagram letters property.
+     *
+     * <p>Value is the letters the {@link #anagramsProperty() anagrams} are made of. Anagrams are cleared when value
+     * changes.
+     *
+     * @return the anagram letters
+     */
+    public StringProperty anagramLettersProperty() {
+        return anagramLetters;
+    }
+
+    /**
+     * Returns the anagrams, i.e. the words of the selected dictionaries made of the
+     * {@link #anagramLettersProperty() anagram letters}.
+     *
+     * @return the anagrams
+     */
+    public ReadOnlyListProperty<String> anagramsProperty() {
+        return anagrams.getReadOnlyProperty();
+    }
+
+    /**
+     * Adds anagrams found in a selected dictionary.
+     *
+     * <p>If the dictionary is not selected or if the given letters are not the current anagram letters, given anagrams
+     * are ignored. Anagrams are kept sorted and without duplicates.
+     *
+     * @param key the dictionary key
+     * @param letters the letters the anagrams are made of
+     * @param addedAnagrams the anagrams
+     */
+    public void addAnagrams(final DictionaryKey key, final String letters, final Collection<String> addedAnagrams) {
+        if (letters.equals(anagramLetters.get())
+                && selectedDictionaries.stream().anyMatch(dictionary -> dictionary.key().equals(key))) {
+            final SortedSet<String> mergedAnagrams = new TreeSet<>(anagrams);
+            mergedAnagrams.addAll(addedAnagrams);
+            anagrams.setAll(mergedAnagrams);
+        } else {
+            // Anagrams are stale: Letters or selected dictionaries have changed since the search was requested.
+        }
+    }
+
     /**
      * Adds words for a selected dictionary.
      *
-     * <p>If the dictionary is not selected, given words are ignored.
+     * <p>Words of a dictionary may be added by several chunks: Each call adds the given words to the words already
+     * added for the dictionary. If the dictionary is not selected, given words are ignored.
      *
      * @param key the dictionary key
      * @param addedWords the words
@@ -148,9 +199,7 @@ public final class DictionariesViewModel {
     public void addWords(final DictionaryKey key, final Collection<String> addedWords) {
         if (selectedDictionaries.stream()
                 .anyMatch(dictionary -> dictionary.key().equals(key))) {
-            final int aggregateNumber = backingAggregateWordList.aggregateCount();
-            backingAggregateWordList.aggregate(addedWords);
-            dictionaryToWordAggregateIndex.put(key, aggregateNumber);
+            backingWordUnion.aggregate(key, addedWords);
         } else {
             /*
              * Dictionary is not selected. It has probably been selected then unselected before the
@@ -161,66 +210,160 @@ public final class DictionariesViewModel {
     }
 
     /**
-     * Creates a new predicate when {@link #suggestionFilter} changes.
+     * Finds the words of the selected dictionaries matching the given suggestion filter, ranked by crossing viability.
+     *
+     * <p>Words are looked up in an index by length and by position, built on first search after words have changed.
+     * Words which leave the most candidates in the given crossing slots come first, words which leave no candidate in a
+     * crossing slot come last; Words of equal viability are sorted.
      *
-     * @return a new predicate when {@link #suggestionFilter} changes
+     * <p>Search is performed on a snapshot of the words: This method can be called from any thread, typically from a
+     * background thread so that searching the words does not freeze the user interface.
+     *
+     * @param filter the suggestion filter, in the format of {@link #suggestionFilterProperty()}
+     * @param crossings the slots crossing the non-filled boxes of the slot to find suggestions for
+     * @return the words of the selected dictionaries matching the given filter, ranked by crossing viability
      */
-    private Predicate<String> createSuggestionPredicate() {
-        final String regex = suggestionFilter.get();
-        final Predicate<String> predicate;
-        if (regex.isEmpty()) {
-            // Typically, a shaded box, predicate shall never match
-            predicate = word -> false;
+    public List<String> findSuggestions(final String filter, final List<SlotCrossing> crossings) {
+        return findSuggestions(filter, crossings, () -> false);
+    }
+
+    /**
+     * Finds the words of the selected dictionaries matching the given suggestion filter, ranked by crossing viability,
+     * unless search is cancelled.
+     *
+     * <p>Same as {@link #findSuggestions(String, List)}, except that cancellation is checked before building the index,
+     * before searching it and while ranking the candidates: A cancelled search stops as soon as possible and returns no
+     * suggestion. Words are typically added by chunks while a dictionary is loaded, each chunk triggering a new search
+     * which cancels the previous one: Only the search of the last chunk builds the index of the words.
+     *
+     * @param filter the suggestion filter, in the format of {@link #suggestionFilterProperty()}
+     * @param crossings the slots crossing the non-filled boxes of the slot to find suggestions for
+     * @param cancelled whether search has been cancelled
+     * @return the words of the selected dictionaries matching the given filter, ranked by crossing viability, or an
+     *     empty list if search has been cancelled
+     */
+    public List<String> findSuggestions(
+            final String filter, final List<SlotCrossing> crossings, final BooleanSupplier cancelled) {
+        if (filter.isEmpty()) {
+            // Typically, a shaded box, nothing shall match
+            return List.of();
+        }
+        final Optional<PositionalWordIndex> index = suggestionIndex(cancelled);
+        if (index.isEmpty() || cancelled.getAsBoolean()) {
+            return List.of();
+        }
+        final List<String> candidates = index.get().search(filter);
+        return crossings.isEmpty()
+                ? candidates
+                : rankByCrossingViability(index.get(), candidates, crossings, cancelled);
+    }
+
+    /**
+     * Sets the suggestions found for the given filter.
+     *
+     * <p>If the given filter is not the current suggestion filter, given suggestions are ignored.
+     *
+     * @param filter the suggestion filter the suggestions have been found for
+     * @param foundSuggestions the suggestions
+     */
+    public void suggestions(final String filter, final List<String> foundSuggestions) {
+        if (filter.equals(suggestionFilter.get())) {
+            suggestions.setAll(foundSuggestions);
         } else {
-            /*
-             * Predicate is applied on every dictionary word, so for good performances, avoid:
-             * - Pattern compilation: Do it only once
-             * - Matcher creation: Do it only once too
-             * - Matcher reset: Check if word obviously doesn't match first
-             */
-            final Matcher matcher = Pattern.compile(regex).matcher("");
-            predicate = word ->
-                    word.length() == regex.length() && matcher.reset(word).matches();
+            // Suggestions are stale: Filter has changed since the search was requested.
         }
-        return predicate;
     }
 
     /**
-     * Processes dictionary selection change.
+     * Returns the suggestion index of the current words, building it if needed, unless search is cancelled.
      *
-     * <p>It removes words when dictionary is un-selected.
+     * <p>Words are read once the lock is acquired, so that a search which has waited for another one to build the index
+     * gets the index of the latest words.
      *
-     * @param change the dictionary selection change
+     * @param cancelled whether search has been cancelled
+     * @return the suggestion index of the current words, or an empty optional if index needs to be built and search has
+     *     been cancelled
      */
-    private void onSelectedDictionaryChange(final ListChangeListener.Change<? extends DictionaryViewModel> change) {
-        while (change.next()) {
-            if (change.wasRemoved()) {
-                final List<? extends DictionaryViewModel> removedDictionaries = change.getRemoved();
-                for (final DictionaryViewModel removedDictionaryViewModel : removedDictionaries) {
-                    final Integer removedAggregateIndex =
-                            dictionaryToWordAggregateIndex.remove(removedDictionaryViewModel.key());
-                    if (removedAggregateIndex != null) {
-                        backingAggregateWordList.disaggregate(removedAggregateIndex);
-                        refreshAggregateIndexes(removedAggregateIndex);
-                    } else {
-                        // No words for this dictionary, nothing to do.
-                    }
-                }
+    private synchronized Optional<PositionalWordIndex> suggestionIndex(final BooleanSupplier cancelled) {
+        final List<String> wordsSnapshot = backingWordUnion.snapshot();
+        if (suggestionIndex == null || !suggestionIndex.indexes(wordsSnapshot)) {
+            if (cancelled.getAsBoolean()) {
+                // Words have changed again or the filter has changed: A newer search builds the index
+                return Optional.empty();
             }
+            suggestionIndex = PositionalWordIndex.of(wordsSnapshot);
         }
+        return Optional.of(suggestionIndex);
     }
 
     /**
-     * Refreshes aggregate word list indexes after aggregate list has been modified.
+     * Ranks the given candidates by crossing viability.
      *
-     * @param removedAggregateIndex the aggregate word list index that has been removed
+     * <p>The viability of a candidate is the product of the numbers of candidates left in each crossing slot if the
+     * candidate were placed, i.e. an estimation of the number of local solutions after the candidate is placed.
+     *
+     * @param index the word index
+     * @param candidates the candidates, sorted
+     * @param crossings the crossing slots
+     * @param cancelled whether search has been cancelled
+     * @return the candidates ranked by crossing viability, the most viable first, or an empty list if search has been
+     *     cancelled
      */
-    private void refreshAggregateIndexes(final Integer removedAggregateIndex) {
-        for (final Map.Entry<DictionaryKey, Integer> remainingEntry : dictionaryToWordAggregateIndex.entrySet()) {
-            final Integer remainingAggregateIndex = remainingEntry.getValue();
-            if (remainingAggregateIndex > removedAggregateIndex) {
-                final int newRemainingAggregateIndex = remainingAggregateIndex - 1;
-                remainingEntry.setValue(newRemainingAggregateIndex);
+    private static List<String> rankByCrossingViability(
+            final PositionalWordIndex index,
+            final List<String> candidates,
+            final List<SlotCrossing> crossings,
+            final BooleanSupplier cancelled) {
+        // The count of a crossing slot only depends on the letter placed in it: Count once per letter
+        final List<Map<Character, Integer>> crossingCounts = new ArrayList<>(crossings.size());
+        crossings.forEach(crossing -> crossingCounts.add(new HashMap<>()));
+        final double[] viabilities = new double[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            if (cancelled.getAsBoolean()) {
+                return List.of();
+            }
+            final String candidate = candidates.get(i);
+            double viability = 1.0;
+            for (int j = 0; j < crossings.size() && viability > 0.0; j++) {
+                final SlotCrossing crossing = crossings.get(j);
+                final char letter = candidate.charAt(crossing.position());
+                viability *= crossingCounts.get(j).computeIfAbsent(letter, l -> index.count(place(l, crossing)));
+            }
+            viabilities[i] = viability;
+        }
+        return IntStream.range(0, candidates.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> viabilities[i]).reversed())
+                .map(candidates::get)
+                .toList();
+    }
+
+    /**
+     * Places the given letter in the given crossing slot.
+     *
+     * @param letter the letter
+     * @param crossing the crossing slot
+     * @return the content of the crossing slot with the given letter placed in the crossed box
+     */
+    private static String place(final char letter, final SlotCrossing crossing) {
+        final StringBuilder content = new StringBuilder(crossing.content());
+        content.setCharAt(crossing.crossingPosition(), letter);
+        return content.toString();
+    }
+
+    /**
+     * Processes dictionary selection change.
+     *
+     * <p>It removes words when dictionary is un-selected.
+     *
+     * @param change the dictionary selection change
+     */
+    private void onSelectedDictionaryChange(final ListChangeListener.Change<? extends DictionaryViewModel> change) {
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                for (final DictionaryViewModel removedDictionaryViewModel : change.getRemoved()) {
+                    backingWordUnion.disaggregate(removedDictionaryViewModel.key());
+                }
             }
         }
     }
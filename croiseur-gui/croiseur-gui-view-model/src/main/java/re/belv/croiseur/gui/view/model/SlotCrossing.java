@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.view.model;
+
+/**
+ * A slot crossing a non-filled box of the current slot.
+ *
+ * @param position the position of the crossed box in the current slot
+ * @param content the content of the crossing slot; Any non-filled box content is replaced by a dot ('.')
+ * @param crossingPosition the position of the crossed box in the crossing slot
+ */
+public record SlotCrossing(int position, String content, int crossingPosition) {
+    // Nothing to add
+}
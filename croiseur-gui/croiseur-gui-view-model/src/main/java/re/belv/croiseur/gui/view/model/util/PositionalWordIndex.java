@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.view.model.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of words by length and by character position, answering simple patterns.
+ *
+ * <p>A pattern is a string of the length of the searched words, where a dot ('.') matches any character and any other
+ * character matches itself. For each word length and each position, the index holds a bit set of the words having a
+ * given character at this position: Patterns are answered by intersecting the bit sets of their constrained positions,
+ * without scanning the words.
+ *
+ * <p>Instances are immutable, hence safe to use from several threads.
+ */
+public final class PositionalWordIndex {
+
+    /** The wildcard character. */
+    private static final char WILDCARD = '.';
+
+    /**
+     * The words of a given length.
+     *
+     * @param words the words, in index order
+     * @param positions for each position, the bit set of the words by character at this position
+     */
+    private record Bucket(String[] words, List<Map<Character, long[]>> positions) {
+        // Nothing to add.
+    }
+
+    /** The indexed words. */
+    private final List<String> source;
+
+    /** The words by length. */
+    private final Map<Integer, Bucket> buckets;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param sourceArg the indexed words
+     * @param bucketsArg the words by length
+     */
+    private PositionalWordIndex(final List<String> sourceArg, final Map<Integer, Bucket> bucketsArg) {
+        source = sourceArg;
+        buckets = bucketsArg;
+    }
+
+    /**
+     * Indexes the given words.
+     *
+     * @param words the words to index; Search results are given in the order of this list
+     * @return the index of the given words
+     */
+    public static PositionalWordIndex of(final List<String> words) {
+        final Map<Integer, List<String>> wordsByLength = new HashMap<>();
+        for (final String word : words) {
+            wordsByLength.computeIfAbsent(word.length(), k -> new ArrayList<>()).add(word);
+        }
+        final Map<Integer, Bucket> buckets = new HashMap<>();
+        wordsByLength.forEach((length, sameLengthWords) -> buckets.put(length, bucketOf(length, sameLengthWords)));
+        return new PositionalWordIndex(words, buckets);
+    }
+
+    /**
+     * Returns whether this index has been built from the given words.
+     *
+     * @param wordsToCheck the words
+     * @return {@code true} if this index has been built from the given words, in the sense of reference equality
+     */
+    public boolean indexes(final List<String> wordsToCheck) {
+        return source == wordsToCheck;
+    }
+
+    /**
+     * Searches the words matching the given pattern.
+     *
+     * @param pattern the pattern
+     * @return the words matching the given pattern, in index order
+     */
+    public List<String> search(final String pattern) {
+        final Bucket bucket = buckets.get(pattern.length());
+        final List<String> found = new ArrayList<>();
+        if (bucket != null) {
+            final long[] matches = matches(bucket, pattern);
+            if (matches == null) {
+                found.addAll(List.of(bucket.words()));
+            } else {
+                for (int i = 0; i < matches.length; i++) {
+                    for (long bits = matches[i]; bits != 0L; bits &= bits - 1) {
+                        found.add(bucket.words()[i * Long.SIZE + Long.numberOfTrailingZeros(bits)]);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Counts the words matching the given pattern.
+     *
+     * @param pattern the pattern
+     * @return the number of words matching the given pattern
+     */
+    public int count(final String pattern) {
+        final Bucket bucket = buckets.get(pattern.length());
+        int count = 0;
+        if (bucket != null) {
+            final long[] matches = matches(bucket, pattern);
+            if (matches == null) {
+                count = bucket.words().length;
+            } else {
+                for (final long bits : matches) {
+                    count += Long.bitCount(bits);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes the bit set of the words of the given bucket matching the given pattern.
+     *
+     * @param bucket the bucket of the pattern length
+     * @param pattern the pattern
+     * @return the bit set of the matching words, or {@code null} if pattern has no constrained position, i.e. if all the
+     *     words of the bucket match
+     */
+    private static long[] matches(final Bucket bucket, final String pattern) {
+        long[] matches = null;
+        for (int position = 0; position < pattern.length(); position++) {
+            final char character = pattern.charAt(position);
+            if (character != WILDCARD) {
+                final long[] wordsWithCharacter = bucket.positions().get(position).get(character);
+                if (wordsWithCharacter == null) {
+                    return new long[0];
+                }
+                if (matches == null) {
+                    matches = wordsWithCharacter.clone();
+                } else {
+                    for (int i = 0; i < matches.length; i++) {
+                        matches[i] &= wordsWithCharacter[i];
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Builds the bucket of the given words of the same length.
+     *
+     * @param length the length of the words
+     * @param words the words
+     * @return the bucket of the given words
+     */
+    private static Bucket bucketOf(final int length, final List<String> words) {
+        final int bitSetLength = (words.size() + Long.SIZE - 1) / Long.SIZE;
+        final List<Map<Character, long[]>> positions = new ArrayList<>(length);
+        for (int position = 0; position < length; position++) {
+            final Map<Character, long[]> wordsByCharacter = new HashMap<>();
+            for (int i = 0; i < words.size(); i++) {
+                final long[] bitSet =
+                        wordsByCharacter.computeIfAbsent(words.get(i).charAt(position), c -> new long[bitSetLength]);
+                bitSet[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+            positions.add(wordsByCharacter);
+        }
+        return new Bucket(words.toArray(String[]::new), positions);
+    }
+}
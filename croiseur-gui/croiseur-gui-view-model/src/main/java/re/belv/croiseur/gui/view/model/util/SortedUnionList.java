@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.view.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * The sorted union of several collections, without duplicates, as an {@link ObservableList}.
+ *
+ * <p>Each aggregated collection is identified by a key and is kept sorted and without duplicates. The union is
+ * maintained by merging these sorted collections: Aggregating or disaggregating a collection costs a linear merge
+ * instead of a sort of the whole union. Changes are notified as fine-grained events, i.e. only the added or removed
+ * ranges of elements are notified, not a replacement of the whole list.
+ *
+ * <p>This list is unmodifiable with the modifiers of the {@link List} interface. This list is modifiable only by adding
+ * or removing collections using {@link #aggregate} and {@link #disaggregate} methods, which shall be called from a
+ * single thread, typically the JavaFX application thread. {@link #snapshot()} can be called from any thread.
+ *
+ * @param <K> the type of the keys identifying the aggregated collections
+ * @param <E> the element type
+ */
+public final class SortedUnionList<K, E> extends ObservableListBase<E> implements ObservableList<E> {
+
+    /**
+     * A position in a sorted list, used by the k-way merge.
+     *
+     * @param <E> the element type
+     */
+    private static final class Cursor<E> {
+
+        /** The sorted list. */
+        private final List<E> list;
+
+        /** The index of the current element. */
+        private int index;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param listArg the sorted list, not empty
+         */
+        Cursor(final List<E> listArg) {
+            list = listArg;
+        }
+
+        /**
+         * Returns the current element.
+         *
+         * @return the current element
+         */
+        E current() {
+            return list.get(index);
+        }
+
+        /**
+         * Moves to the next element.
+         *
+         * @return {@code true} if there is a next element
+         */
+        boolean advance() {
+            index++;
+            return index < list.size();
+        }
+    }
+
+    /** The element comparator. */
+    private final Comparator<? super E> comparator;
+
+    /** The aggregated collections, sorted and without duplicates, by key. */
+    private final Map<K, List<E>> aggregates;
+
+    /** The union of the aggregated collections, unmodifiable. Never modified: Replaced on every change. */
+    private volatile List<E> union;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param comparatorArg the element comparator; Elements comparing equal are considered duplicates
+     */
+    public SortedUnionList(final Comparator<? super E> comparatorArg) {
+        comparator = Objects.requireNonNull(comparatorArg);
+        aggregates = new HashMap<>();
+        union = List.of();
+    }
+
+    /**
+     * Aggregates the given elements.
+     *
+     * <p>If a collection is already aggregated with the given key, given elements are added to it.
+     *
+     * @param key the key of the aggregated collection
+     * @param elements the elements to aggregate
+     */
+    public void aggregate(final K key, final Collection<? extends E> elements) {
+        final List<E> sortedElements = sortedDistinct(elements);
+        aggregates.merge(key, sortedElements, (existing, added) -> merge(List.of(existing, added)));
+        update(merge(List.of(union, sortedElements)));
+    }
+
+    /**
+     * Disaggregates the collection with the given key.
+     *
+     * <p>Elements which belong to another aggregated collection remain in this list. Nothing happens if no collection
+     * is aggregated with the given key.
+     *
+     * @param key the key of the aggregated collection
+     */
+    public void disaggregate(final K key) {
+        if (aggregates.remove(key) != null) {
+            update(merge(new ArrayList<>(aggregates.values())));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the elements of this list.
+     *
+     * <p>The snapshot is not affected by subsequent changes of this list. As long as this list is not modified, the same
+     * snapshot instance is returned. This method can be called from any thread, e.g. to browse the elements in
+     * background.
+     *
+     * @return an unmodifiable snapshot of the elements of this list
+     */
+    public List<E> snapshot() {
+        return union;
+    }
+
+    @Override
+    public E get(final int index) {
+        return union.get(index);
+    }
+
+    @Override
+    public int size() {
+        return union.size();
+    }
+
+    /**
+     * Sorts the given elements and removes duplicates.
+     *
+     * @param elements the elements
+     * @return the given elements, sorted and without duplicates
+     */
+    private List<E> sortedDistinct(final Collection<? extends E> elements) {
+        final List<E> sorted = new ArrayList<>(elements);
+        sorted.sort(comparator);
+        int distinctCount = 0;
+        for (final E element : sorted) {
+            if (distinctCount == 0 || comparator.compare(sorted.get(distinctCount - 1), element) != 0) {
+                sorted.set(distinctCount++, element);
+            }
+        }
+        sorted.subList(distinctCount, sorted.size()).clear();
+        return sorted;
+    }
+
+    /**
+     * Merges the given sorted lists, removing duplicates (k-way merge).
+     *
+     * @param sortedLists the lists to merge, each one sorted and without duplicates
+     * @return the merged list, sorted and without duplicates
+     */
+    private List<E> merge(final List<List<E>> sortedLists) {
+        final PriorityQueue<Cursor<E>> cursors = new PriorityQueue<>(
+                Math.max(sortedLists.size(), 1), (a, b) -> comparator.compare(a.current(), b.current()));
+        int totalSize = 0;
+        for (final List<E> sortedList : sortedLists) {
+            if (!sortedList.isEmpty()) {
+                cursors.add(new Cursor<>(sortedList));
+                totalSize += sortedList.size();
+            }
+        }
+        final List<E> merged = new ArrayList<>(totalSize);
+        while (!cursors.isEmpty()) {
+            final Cursor<E> cursor = cursors.poll();
+            final E element = cursor.current();
+            if (merged.isEmpty() || comparator.compare(merged.get(merged.size() - 1), element) != 0) {
+                merged.add(element);
+            }
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Replaces the union and notifies the differences with the previous union.
+     *
+     * @param newUnion the new union, sorted and without duplicates
+     */
+    private void update(final List<E> newUnion) {
+        final List<E> oldUnion = union;
+        union = Collections.unmodifiableList(newUnion);
+        beginChange();
+        try {
+            // Walk both unions in order; Index is the position in the list as modified by the changes notified so far
+            int index = 0;
+            int oldIndex = 0;
+            int newIndex = 0;
+            while (oldIndex < oldUnion.size() || newIndex < newUnion.size()) {
+                final int comparison = compare(oldUnion, oldIndex, newUnion, newIndex);
+                if (comparison == 0) {
+                    oldIndex++;
+                    newIndex++;
+                    index++;
+                } else if (comparison < 0) {
+                    final int removedFrom = oldIndex;
+                    do {
+                        oldIndex++;
+                    } while (oldIndex < oldUnion.size() && compare(oldUnion, oldIndex, newUnion, newIndex) < 0);
+                    nextRemove(index, oldUnion.subList(removedFrom, oldIndex));
+                } else {
+                    final int addedFrom = index;
+                    do {
+                        newIndex++;
+                        index++;
+                    } while (newIndex < newUnion.size() && compare(oldUnion, oldIndex, newUnion, newIndex) > 0);
+                    nextAdd(addedFrom, index);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Compares the elements at the given indexes of the given sorted lists.
+     *
+     * <p>A missing element, beyond the end of its list, is considered greater than any element.
+     *
+     * @param oldList the first list
+     * @param oldIndex the index in the first list
+     * @param newList the second list
+     * @param newIndex the index in the second list
+     * @return a negative integer, zero or a positive integer as the element of the first list is less than, equal to
+     *     or greater than the element of the second list
+     */
+    private int compare(final List<E> oldList, final int oldIndex, final List<E> newList, final int newIndex) {
+        final int comparison;
+        if (oldIndex >= oldList.size()) {
+            comparison = 1;
+        } else if (newIndex >= newList.size()) {
+            comparison = -1;
+        } else {
+            comparison = comparator.compare(oldList.get(oldIndex), newList.get(newIndex));
+        }
+        return comparison;
+    }
+}
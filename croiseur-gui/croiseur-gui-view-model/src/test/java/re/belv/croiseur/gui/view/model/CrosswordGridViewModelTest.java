@@ -647,6 +647,33 @@ final class CrosswordGridViewModelTest {
         assertEquals("ABC.", crosswordGridViewModel.currentSlotContent());
     }
 
+    /**
+     * Checks the slots crossing the non-filled boxes of the current slot.
+     *
+     * <p>Grid schema:
+     *
+     * <pre>
+     *     |( )'|(B) |( ) |
+     *     | A  |    | #  |
+     * </pre>
+     *
+     * Expected crossing is ".A" at first box only: Second box is filled and third box is crossed by a single-box slot.
+     */
+    @Test
+    void currentSlotCrossings() {
+        crosswordGridViewModel.addColumn();
+        crosswordGridViewModel.addColumn();
+        crosswordGridViewModel.addColumn();
+        crosswordGridViewModel.addRow();
+        crosswordGridViewModel.box(at(1, 0)).userContent("B");
+        crosswordGridViewModel.box(at(0, 1)).userContent("A");
+        crosswordGridViewModel.box(at(2, 1)).shade();
+
+        crosswordGridViewModel.currentBoxPosition(at(0, 0));
+
+        assertEquals(List.of(new SlotCrossing(0, ".A", 0)), crosswordGridViewModel.currentSlotCrossings());
+    }
+
     /**
      * Verifies that when slot is unselected, the unsolvable status of its boxes is cleared (because only current slot
      * unsolvable status is tracked).
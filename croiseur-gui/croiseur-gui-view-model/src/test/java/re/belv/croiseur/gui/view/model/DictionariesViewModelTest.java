@@ -64,6 +64,32 @@ final class DictionariesViewModelTest {
         assertEquals(List.of("HELLO", "WORLD"), dictionaries.wordsProperty());
     }
 
+    /** Verifies that words added by several chunks are all added to the words property. */
+    @Test
+    void addWords_chunks() {
+        dictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("WORLD"));
+        dictionaries.addWords(dictionary.key(), List.of("HELLO"));
+        assertEquals(List.of("HELLO", "WORLD"), dictionaries.wordsProperty());
+    }
+
+    /** Verifies that deselecting dictionary removes all the chunks of words from the words property. */
+    @Test
+    void deselectDictionary_chunks() {
+        final var otherDictionary =
+                new DictionaryViewModel("Another Provider", "Another Name", Locale.ENGLISH, "Another description");
+        dictionaries.dictionariesProperty().add(otherDictionary);
+        dictionary.select();
+        otherDictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("HELLO"));
+        dictionaries.addWords(otherDictionary.key(), List.of("BONJOUR"));
+        dictionaries.addWords(dictionary.key(), List.of("WORLD"));
+
+        dictionary.deselect();
+
+        assertEquals(List.of("BONJOUR"), dictionaries.wordsProperty());
+    }
+
     /** Verifies that added dictionary words are sorted. */
     @Test
     void addWords_sorted() {
@@ -72,6 +98,24 @@ final class DictionariesViewModelTest {
         assertEquals(List.of("HELLO", "WORLD"), dictionaries.wordsProperty());
     }
 
+    /** Verifies that words shared by several dictionaries or chunks are added only once. */
+    @Test
+    void addWords_distinct() {
+        final var otherDictionary =
+                new DictionaryViewModel("Another Provider", "Another Name", Locale.ENGLISH, "Another description");
+        dictionaries.dictionariesProperty().add(otherDictionary);
+        dictionary.select();
+        otherDictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("HELLO", "WORLD", "HELLO"));
+        dictionaries.addWords(otherDictionary.key(), List.of("WORLD"));
+
+        assertEquals(List.of("HELLO", "WORLD"), dictionaries.wordsProperty());
+
+        dictionary.deselect();
+
+        assertEquals(List.of("WORLD"), dictionaries.wordsProperty());
+    }
+
     /** Verifies that words for unselected dictionaries are not added to the selected dictionaries word list. */
     @Test
     void addWords_discardWordsForUnselectedDictionary() {
@@ -86,6 +130,7 @@ final class DictionariesViewModelTest {
         dictionaries.addWords(dictionary.key(), List.of("HELLO", "WORLD"));
 
         dictionaries.suggestionFilterProperty().set("");
+        dictionaries.suggestions("", dictionaries.findSuggestions("", List.of()));
 
         assertEquals(Collections.emptyList(), dictionaries.suggestionsProperty());
     }
@@ -96,6 +141,7 @@ final class DictionariesViewModelTest {
         dictionaries.addWords(dictionary.key(), List.of("HELLO", "WORLD"));
 
         dictionaries.suggestionFilterProperty().set(".....");
+        dictionaries.suggestions(".....", dictionaries.findSuggestions(".....", List.of()));
 
         assertEquals(List.of("HELLO", "WORLD"), dictionaries.suggestionsProperty());
     }
@@ -106,7 +152,81 @@ final class DictionariesViewModelTest {
         dictionaries.addWords(dictionary.key(), List.of("HELLO", "WORLD"));
 
         dictionaries.suggestionFilterProperty().set(".O...");
+        dictionaries.suggestions(".O...", dictionaries.findSuggestions(".O...", List.of()));
 
         assertEquals(List.of("WORLD"), dictionaries.suggestionsProperty());
     }
+
+    @Test
+    void suggestionFilter_discardStaleSuggestions() {
+        dictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("HELLO", "WORLD"));
+        dictionaries.suggestionFilterProperty().set(".....");
+        final List<String> staleSuggestions = dictionaries.findSuggestions(".....", List.of());
+
+        dictionaries.suggestionFilterProperty().set(".O...");
+        dictionaries.suggestions(".....", staleSuggestions);
+
+        assertTrue(dictionaries.suggestionsProperty().isEmpty());
+    }
+
+    /** Verifies that suggestions leaving the most candidates in crossing slots come first. */
+    @Test
+    void findSuggestions_rankedByCrossingViability() {
+        dictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("ABC", "XAA", "XYZ"));
+        // First box of the slot is crossed by the first box of a slot "..Z" (e.g. "XYZ" fits)
+        final List<SlotCrossing> crossings = List.of(new SlotCrossing(0, "..Z", 0));
+
+        final List<String> suggestions = dictionaries.findSuggestions("...", crossings);
+
+        assertEquals(List.of("XAA", "XYZ", "ABC"), suggestions);
+    }
+
+    /** Verifies that a cancelled search returns no suggestion. */
+    @Test
+    void findSuggestions_cancelled() {
+        dictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("ABC", "XAA", "XYZ"));
+        final List<SlotCrossing> crossings = List.of(new SlotCrossing(0, "..Z", 0));
+
+        final List<String> suggestions = dictionaries.findSuggestions("...", crossings, () -> true);
+
+        assertEquals(List.of(), suggestions);
+    }
+
+    /** Verifies that a search following a cancelled one finds the suggestions of the latest words. */
+    @Test
+    void findSuggestions_afterCancelled() {
+        dictionary.select();
+        dictionaries.addWords(dictionary.key(), List.of("ABC"));
+        dictionaries.findSuggestions("...", List.of(), () -> true);
+        dictionaries.addWords(dictionary.key(), List.of("ABC", "XYZ"));
+
+        final List<String> suggestions = dictionaries.findSuggestions("...", List.of(), () -> false);
+
+        assertEquals(List.of("ABC", "XYZ"), suggestions);
+    }
+
+    @Test
+    void addAnagrams() {
+        dictionary.select();
+        dictionaries.anagramLettersProperty().set("TSAE");
+
+        dictionaries.addAnagrams(dictionary.key(), "TSAE", List.of("SEAT", "EATS", "SEAT"));
+
+        assertEquals(List.of("EATS", "SEAT"), dictionaries.anagramsProperty());
+    }
+
+    @Test
+    void addAnagrams_discardStaleLetters() {
+        dictionary.select();
+        dictionaries.anagramLettersProperty().set("TSAE");
+        dictionaries.addAnagrams(dictionary.key(), "TSAE", List.of("EATS", "SEAT"));
+
+        dictionaries.anagramLettersProperty().set("TSA");
+        dictionaries.addAnagrams(dictionary.key(), "TSAE", List.of("EAST"));
+
+        assertTrue(dictionaries.anagramsProperty().isEmpty());
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.view.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests on {@link PositionalWordIndex}. */
+final class PositionalWordIndexTest {
+
+    private static final List<String> WORDS = List.of("ABC", "ABD", "HELLO", "WORLD", "XBC", "XYZ");
+
+    @Test
+    void search_wildcards() {
+        final PositionalWordIndex index = PositionalWordIndex.of(WORDS);
+        assertEquals(List.of("ABC", "ABD", "XBC", "XYZ"), index.search("..."));
+        assertEquals(4, index.count("..."));
+    }
+
+    @Test
+    void search_constrained() {
+        final PositionalWordIndex index = PositionalWordIndex.of(WORDS);
+        assertEquals(List.of("ABC", "XBC"), index.search(".BC"));
+        assertEquals(2, index.count(".BC"));
+        assertEquals(List.of("WORLD"), index.search(".O..."));
+        assertEquals(1, index.count(".O..."));
+    }
+
+    @Test
+    void search_none() {
+        final PositionalWordIndex index = PositionalWordIndex.of(WORDS);
+        assertEquals(List.of(), index.search("Q.."));
+        assertEquals(0, index.count("Q.."));
+        assertEquals(List.of(), index.search("...."));
+        assertEquals(0, index.count("...."));
+        assertEquals(List.of(), index.search("A.Z"));
+        assertEquals(0, index.count("A.Z"));
+    }
+
+    /** Verifies that bit sets spanning several words of 64 bits are correctly handled. */
+    @Test
+    void search_manyWords() {
+        final List<String> words = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                words.add(String.valueOf(first) + second);
+            }
+        }
+        final PositionalWordIndex index = PositionalWordIndex.of(words);
+        assertEquals(26, index.count("M."));
+        assertEquals(List.of("AZ", "BZ"), index.search(".Z").subList(0, 2));
+        assertEquals(List.of("ZZ"), index.search("ZZ"));
+    }
+
+    @Test
+    void indexes() {
+        final PositionalWordIndex index = PositionalWordIndex.of(WORDS);
+        assertTrue(index.indexes(WORDS));
+        assertFalse(index.indexes(new ArrayList<>(WORDS)));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.gui.view.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+/** Tests on {@link SortedUnionList}. */
+final class SortedUnionListTest {
+
+    @Test
+    void aggregate() throws InterruptedException {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        final CountDownLatch eventFiredLatch = new CountDownLatch(1);
+        list.addListener((ListChangeListener<Integer>) c -> {
+            assertTrue(c.next());
+            assertTrue(c.wasAdded());
+            assertEquals(List.of(1, 2, 3), c.getAddedSubList());
+            assertEquals(0, c.getFrom());
+            assertEquals(3, c.getTo());
+            assertFalse(c.next());
+            eventFiredLatch.countDown();
+        });
+
+        list.aggregate("a", List.of(3, 1, 2, 1));
+        final boolean eventFired = eventFiredLatch.await(100, TimeUnit.MILLISECONDS);
+
+        assertTrue(eventFired);
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void aggregateInterleaved() throws InterruptedException {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        list.aggregate("a", List.of(1, 2, 5, 8));
+        final CountDownLatch eventFiredLatch = new CountDownLatch(1);
+        list.addListener((ListChangeListener<Integer>) c -> {
+            assertTrue(c.next());
+            assertTrue(c.wasAdded());
+            assertEquals(List.of(3, 4), c.getAddedSubList());
+            assertEquals(2, c.getFrom());
+            assertEquals(4, c.getTo());
+            assertTrue(c.next());
+            assertTrue(c.wasAdded());
+            assertEquals(List.of(9), c.getAddedSubList());
+            assertEquals(6, c.getFrom());
+            assertEquals(7, c.getTo());
+            assertFalse(c.next());
+            eventFiredLatch.countDown();
+        });
+
+        list.aggregate("b", List.of(2, 3, 4, 9));
+        final boolean eventFired = eventFiredLatch.await(100, TimeUnit.MILLISECONDS);
+
+        assertTrue(eventFired);
+        assertEquals(List.of(1, 2, 3, 4, 5, 8, 9), list);
+    }
+
+    @Test
+    void disaggregate() throws InterruptedException {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        list.aggregate("a", List.of(1, 2, 5, 8));
+        list.aggregate("b", List.of(2, 3, 4, 9));
+        final CountDownLatch eventFiredLatch = new CountDownLatch(1);
+        list.addListener((ListChangeListener<Integer>) c -> {
+            assertTrue(c.next());
+            assertTrue(c.wasRemoved());
+            assertEquals(List.of(1), c.getRemoved());
+            assertEquals(0, c.getFrom());
+            assertEquals(0, c.getTo());
+            assertTrue(c.next());
+            assertTrue(c.wasRemoved());
+            assertEquals(List.of(5, 8), c.getRemoved());
+            assertEquals(3, c.getFrom());
+            assertEquals(3, c.getTo());
+            assertFalse(c.next());
+            eventFiredLatch.countDown();
+        });
+
+        list.disaggregate("a");
+        final boolean eventFired = eventFiredLatch.await(100, TimeUnit.MILLISECONDS);
+
+        assertTrue(eventFired);
+        assertEquals(List.of(2, 3, 4, 9), list);
+    }
+
+    @Test
+    void aggregateSameKey() {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        list.aggregate("a", List.of(4, 1));
+        list.aggregate("b", List.of(2));
+        list.aggregate("a", List.of(3, 1));
+
+        list.disaggregate("a");
+
+        assertEquals(List.of(2), list);
+    }
+
+    @Test
+    void disaggregateUnknown() {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        list.aggregate("a", List.of(1));
+        list.addListener((ListChangeListener<Integer>) c -> {
+            throw new AssertionError("Unexpected change: " + c);
+        });
+
+        list.disaggregate("b");
+
+        assertEquals(List.of(1), list);
+    }
+
+    @Test
+    void snapshot() {
+        final SortedUnionList<String, Integer> list = new SortedUnionList<>(Comparator.naturalOrder());
+        list.aggregate("a", List.of(1, 2));
+        final List<Integer> snapshot = list.snapshot();
+
+        list.aggregate("b", List.of(3));
+
+        assertEquals(List.of(1, 2), snapshot);
+        assertEquals(List.of(1, 2, 3), list);
+    }
+}
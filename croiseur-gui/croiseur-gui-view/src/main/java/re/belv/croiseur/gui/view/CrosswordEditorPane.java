@@ -19,6 +19,7 @@ import javafx.beans.property.MapProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -366,6 +367,24 @@ public final class CrosswordEditorPane extends BorderPane {
         return dictionariesPane.suggestionsProperty();
     }
 
+    /**
+     * Returns the letters whose anagrams are searched.
+     *
+     * @return the anagram letters
+     */
+    public ReadOnlyStringProperty anagramLettersProperty() {
+        return dictionariesPane.anagramLettersProperty();
+    }
+
+    /**
+     * Returns the anagrams.
+     *
+     * @return the anagrams
+     */
+    public ListProperty<String> anagramsProperty() {
+        return dictionariesPane.anagramsProperty();
+    }
+
     /**
      * Returns the "on suggestion selected" property.
      *
@@ -12,8 +12,11 @@ import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.transformation.FilteredList;
@@ -38,6 +41,12 @@ public final class DictionariesPane extends Accordion {
     /** All the words, filtered by a pattern. */
     private final ListProperty<String> suggestions;
 
+    /** The letters whose anagrams are searched. */
+    private final StringProperty anagramLetters;
+
+    /** The words made of the anagram letters. */
+    private final ListProperty<String> anagrams;
+
     /** The consumer to call when a suggested word is selected by mouse click. */
     private final ObjectProperty<Consumer<String>> onSuggestionSelected;
 
@@ -57,11 +66,21 @@ public final class DictionariesPane extends Accordion {
     @FXML
     private ListView<String> suggestionsListView;
 
+    /** The anagram letters text field. */
+    @FXML
+    private TextField anagramsTextField;
+
+    /** The anagrams list view. */
+    @FXML
+    private ListView<String> anagramsListView;
+
     /** Constructs an instance. */
     public DictionariesPane() {
         dictionaries = new SimpleListProperty<>(this, "dictionaries", FXCollections.observableArrayList());
         words = new SimpleListProperty<>(this, "words", FXCollections.observableArrayList());
         suggestions = new SimpleListProperty<>(this, "suggestions", FXCollections.observableArrayList());
+        anagramLetters = new SimpleStringProperty(this, "anagramLetters", "");
+        anagrams = new SimpleListProperty<>(this, "anagrams", FXCollections.observableArrayList());
         onSuggestionSelected = new SimpleObjectProperty<>(this, "onSuggestionSelected");
         FxmlLoaderHelper.load(this, ResourceBundle.getBundle(getClass().getName()));
     }
@@ -73,6 +92,7 @@ public final class DictionariesPane extends Accordion {
         initializeSearchTextField();
         initializeWordsListView();
         initializeSuggestionsListView();
+        initializeAnagrams();
     }
 
     /** Initializes titled panes: Make sure always one titled pane is expanded. */
@@ -129,6 +149,19 @@ public final class DictionariesPane extends Accordion {
         });
     }
 
+    /**
+     * Initializes anagrams: Anagram letters text field contains only upper case characters and is bound to
+     * {@link #anagramLetters}, anagrams list view displays {@link #anagrams}.
+     */
+    private void initializeAnagrams() {
+        anagramsTextField.setTextFormatter(new TextFormatter<>(change -> {
+            change.setText(change.getText().toUpperCase());
+            return change;
+        }));
+        anagramLetters.bind(anagramsTextField.textProperty());
+        anagramsListView.setItems(anagrams);
+    }
+
     /**
      * Returns the words to display.
      *
@@ -159,6 +192,24 @@ public final class DictionariesPane extends Accordion {
         return suggestions;
     }
 
+    /**
+     * Returns the letters whose anagrams are searched, as typed by user.
+     *
+     * @return the anagram letters
+     */
+    public ReadOnlyStringProperty anagramLettersProperty() {
+        return anagramLetters;
+    }
+
+    /**
+     * Returns the anagrams, i.e. the words made of the {@link #anagramLettersProperty() anagram letters}.
+     *
+     * @return the anagrams
+     */
+    public ListProperty<String> anagramsProperty() {
+        return anagrams;
+    }
+
     /**
      * Returns the "on suggestion selected" property.
      *
@@ -138,7 +138,7 @@ public final class CroiseurGuiApplication extends Application {
      * @param executor the background task executor
      * @throws IOException if loading from FXML files fails
      */
-    private static void loadComponents(final Stage stage, final SceneSwitcher sceneSwitcher, final Executor executor)
+    private void loadComponents(final Stage stage, final SceneSwitcher sceneSwitcher, final Executor executor)
             throws IOException {
 
         // Dependencies for construction: view model <- presenter <- use-cases <- controllers/views
@@ -147,6 +147,7 @@ public final class CroiseurGuiApplication extends Application {
 
         final Presenter presenter = new GuiPresenter(applicationViewModel);
         final CrosswordService crosswordService = CrosswordServiceLoader.load(presenter);
+        resources.add(crosswordService);
         loadWelcomeScreen(applicationViewModel, crosswordService, sceneSwitcher, executor);
         loadCrosswordEditor(applicationViewModel, crosswordService, sceneSwitcher, executor);
     }
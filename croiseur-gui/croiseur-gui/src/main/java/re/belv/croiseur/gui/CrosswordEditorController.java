@@ -191,7 +191,37 @@ final class CrosswordEditorController {
         view.dictionariesProperty().set(viewModel.dictionariesProperty());
         view.wordsProperty().set(viewModel.wordsProperty());
         view.suggestionsProperty().set(viewModel.suggestionsProperty());
+        view.anagramsProperty().set(viewModel.anagramsProperty());
+        viewModel.anagramLettersProperty().bind(view.anagramLettersProperty());
+        viewModel
+                .anagramLettersProperty()
+                .addListener((observable, oldLetters, newLetters) -> searchAnagrams(newLetters));
         viewModel.selectedDictionariesProperty().addListener(this::onSelectedDictionaryChange);
+        viewModel.suggestionFilterProperty().addListener((observable, oldFilter, newFilter) -> findSuggestions());
+        viewModel.wordsProperty().addListener((ListChangeListener<String>) change -> findSuggestions());
+        applicationViewModel
+                .crosswordGridViewModel()
+                .currentSlotPositionsProperty()
+                .addListener((ListChangeListener<GridCoord>) change -> findSuggestions());
+    }
+
+    /** Finds the suggestions for the current slot, ranked according to its crossing slots. */
+    private void findSuggestions() {
+        final DictionariesViewModel viewModel = applicationViewModel.dictionaryViewModel();
+        final CrosswordGridViewModel gridViewModel = applicationViewModel.crosswordGridViewModel();
+        dictionaryController.findSuggestions(viewModel, gridViewModel.currentSlotCrossings());
+    }
+
+    /**
+     * Searches the anagrams of the given letters in the selected dictionaries.
+     *
+     * @param letters the letters
+     */
+    private void searchAnagrams(final String letters) {
+        if (!letters.isBlank()) {
+            final DictionariesViewModel viewModel = applicationViewModel.dictionaryViewModel();
+            dictionaryController.searchAnagrams(viewModel.selectedDictionariesProperty(), letters);
+        }
     }
 
     /**
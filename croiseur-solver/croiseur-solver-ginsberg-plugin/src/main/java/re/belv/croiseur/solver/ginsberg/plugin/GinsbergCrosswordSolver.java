@@ -5,6 +5,7 @@
 
 package re.belv.croiseur.solver.ginsberg.plugin;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
@@ -13,6 +14,7 @@ import re.belv.croiseur.common.puzzle.PuzzleGrid;
 import re.belv.croiseur.spi.solver.CrosswordSolver;
 import re.belv.croiseur.spi.solver.Dictionary;
 import re.belv.croiseur.spi.solver.ProgressListener;
+import re.belv.croiseur.spi.solver.ProgressUpdate;
 import re.belv.croiseur.spi.solver.SolverResult;
 
 /**
@@ -45,10 +47,25 @@ public final class GinsbergCrosswordSolver implements CrosswordSolver {
             adapted.onInitialisationStart();
         }
 
+        @Override
+        public Duration notificationInterval() {
+            return adapted.notificationInterval();
+        }
+
         @Override
         public void onSolverProgressUpdate(final short completionPercentage) {
             adapted.onSolverProgressUpdate(completionPercentage);
         }
+
+        @Override
+        public void onSolverProgressUpdate(final re.belv.croiseur.solver.ginsberg.ProgressUpdate progressUpdate) {
+            adapted.onSolverProgressUpdate(new ProgressUpdate(
+                    progressUpdate.completionPercentage(),
+                    progressUpdate.bestCompletionPercentage(),
+                    progressUpdate.assignments(),
+                    progressUpdate.backtracks(),
+                    progressUpdate.assignmentsPerSecond()));
+        }
     }
 
     /** Adapts a {@link re.belv.croiseur.solver.ginsberg.SolverResult} to {@link SolverResult}. */
@@ -5,9 +5,14 @@
 
 package re.belv.croiseur.solver.ginsberg;
 
+import java.time.Duration;
+
 /** Progress listener. */
 public interface ProgressListener {
 
+    /** The default minimal interval between two progress updates. */
+    Duration DEFAULT_NOTIFICATION_INTERVAL = Duration.ofSeconds(1);
+
     /** A no-op listener. */
     ProgressListener DUMMY_LISTENER = new ProgressListener() {
                 // No overridden methods
@@ -23,10 +28,22 @@ public interface ProgressListener {
         // Do nothing per default
     }
 
+    /**
+     * The minimal interval between two progress updates wished by this listener.
+     *
+     * <p>Default value is one second.
+     *
+     * @return the minimal interval between two progress updates
+     */
+    default Duration notificationInterval() {
+        return DEFAULT_NOTIFICATION_INTERVAL;
+    }
+
     /**
      * Solver is looking for a solution.
      *
-     * <p>This method is called <em>every second</em> with the completion percentage.
+     * <p>This method is called approximately every {@link #notificationInterval()} with the completion percentage, by
+     * solvers which do not provide {@link #onSolverProgressUpdate(ProgressUpdate) detailed updates}.
      *
      * @param completionPercentage the completion percentage [0..100]; Percentage may decrease as solver is backtracking
      *     after a dead-end is reached
@@ -34,4 +51,18 @@ public interface ProgressListener {
     default void onSolverProgressUpdate(final short completionPercentage) {
         // Do nothing per default
     }
+
+    /**
+     * Solver is looking for a solution.
+     *
+     * <p>This method is called approximately every {@link #notificationInterval()} with detailed progress, by solvers
+     * able to provide it.
+     *
+     * <p>Default implementation calls {@link #onSolverProgressUpdate(short)} with the completion percentage.
+     *
+     * @param progressUpdate the detailed progress
+     */
+    default void onSolverProgressUpdate(final ProgressUpdate progressUpdate) {
+        onSolverProgressUpdate(progressUpdate.completionPercentage());
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.solver.ginsberg;
+
+/**
+ * A detailed solver progress update.
+ *
+ * @param completionPercentage the completion percentage [0..100]; Percentage may decrease as solver is backtracking
+ *     after a dead-end is reached
+ * @param bestCompletionPercentage the best completion percentage reached so far [0..100]
+ * @param assignments the number of slot assignments since solver start
+ * @param backtracks the number of slot unassignments since solver start
+ * @param assignmentsPerSecond the number of slot assignments per second since previous update
+ */
+public record ProgressUpdate(
+        short completionPercentage,
+        short bestCompletionPercentage,
+        long assignments,
+        long backtracks,
+        long assignmentsPerSecond) {
+
+    /**
+     * Validates fields.
+     *
+     * @param completionPercentage the completion percentage
+     * @param bestCompletionPercentage the best completion percentage reached so far
+     * @param assignments the number of slot assignments since solver start
+     * @param backtracks the number of slot unassignments since solver start
+     * @param assignmentsPerSecond the number of slot assignments per second since previous update
+     * @throws IllegalArgumentException if a percentage is not between 0 and 100 or if a count is negative
+     */
+    public ProgressUpdate {
+        if (completionPercentage < 0 || completionPercentage > 100) {
+            throw new IllegalArgumentException("Expected percentage between 0 and 100, got " + completionPercentage);
+        }
+        if (bestCompletionPercentage < completionPercentage || bestCompletionPercentage > 100) {
+            throw new IllegalArgumentException("Expected best percentage between " + completionPercentage
+                    + " and 100, got " + bestCompletionPercentage);
+        }
+        if (assignments < 0 || backtracks < 0 || assignmentsPerSecond < 0) {
+            throw new IllegalArgumentException("Expected positive counts, got " + assignments + ", " + backtracks
+                    + " and " + assignmentsPerSecond);
+        }
+    }
+}
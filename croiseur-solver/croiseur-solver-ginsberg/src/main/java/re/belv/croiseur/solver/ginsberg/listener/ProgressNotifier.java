@@ -5,27 +5,51 @@
 
 package re.belv.croiseur.solver.ginsberg.listener;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.Collection;
-import java.util.Collections;
 import re.belv.croiseur.solver.ginsberg.ProgressListener;
+import re.belv.croiseur.solver.ginsberg.ProgressUpdate;
 import re.belv.croiseur.solver.ginsberg.core.Slot;
 
-/** A {@link SolverListener} decorator that notifies progress to an external {@link ProgressListener}. */
+/**
+ * A {@link SolverListener} decorator that notifies progress to an external {@link ProgressListener}.
+ *
+ * <p>Progress is maintained incrementally and the clock is only read every {@value #CLOCK_CHECK_PERIOD} steps, so that
+ * notifying progress is cheap compared to the solving steps.
+ */
 public final class ProgressNotifier implements SolverListener {
 
-    /** Interval between two progress notifications. */
-    private static final Duration PROGRESS_NOTIFICATION_INTERVAL = Duration.ofSeconds(1);
+    /** The number of steps (assignments or unassignments) between two checks of the clock. A power of two. */
+    private static final int CLOCK_CHECK_PERIOD = 32;
+
+    /** The number of nanoseconds in a second. */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
 
-    /** All variables. */
-    private final Collection<Slot> slots;
+    /** The total number of slots. */
+    private final int slotCount;
 
     /** Progress listener. */
     private final ProgressListener progressListener;
 
-    /** Last time a progress indication has been published. */
-    private Instant lastProgressNotificationTime;
+    /** Interval between two progress notifications, in nanoseconds. */
+    private final long notificationInterval;
+
+    /** The number of instantiated slots. */
+    private int instantiatedSlotCount;
+
+    /** The maximal number of instantiated slots reached. */
+    private int bestInstantiatedSlotCount;
+
+    /** The number of assignments. */
+    private long assignments;
+
+    /** The number of unassignments. */
+    private long unassignments;
+
+    /** The number of assignments at last progress notification. */
+    private long lastNotificationAssignments;
+
+    /** Last time a progress indication has been published, as given by {@link System#nanoTime()}. */
+    private long lastNotificationTime;
 
     /**
      * Constructor.
@@ -34,33 +58,61 @@ public final class ProgressNotifier implements SolverListener {
      * @param aProgressListener the notification callback
      */
     public ProgressNotifier(final Collection<Slot> someSlots, final ProgressListener aProgressListener) {
-        slots = Collections.unmodifiableCollection(someSlots);
+        slotCount = someSlots.size();
         progressListener = aProgressListener;
-        lastProgressNotificationTime = Instant.EPOCH;
+        notificationInterval = aProgressListener.notificationInterval().toNanos();
+        // Pre-filled slots; Then maintained incrementally
+        instantiatedSlotCount =
+                (int) someSlots.stream().filter(Slot::isInstantiated).count();
+        bestInstantiatedSlotCount = instantiatedSlotCount;
+        lastNotificationTime = System.nanoTime() - notificationInterval;
     }
 
     @Override
     public void onUnassignment(final Slot slot, final String unassignedWord) {
+        instantiatedSlotCount--;
+        unassignments++;
         refresh();
     }
 
     @Override
     public void onAssignment(final Slot slot, final String word) {
+        instantiatedSlotCount++;
+        if (instantiatedSlotCount > bestInstantiatedSlotCount) {
+            bestInstantiatedSlotCount = instantiatedSlotCount;
+        }
+        assignments++;
         refresh();
     }
 
-    /** @return the completion percentage */
-    private short completionPercentage() {
-        final long slotSolved = slots.stream().filter(Slot::isInstantiated).count();
-        return (short) (100 * slotSolved / slots.size());
+    /**
+     * Returns the given number of instantiated slots as a percentage of the total number of slots.
+     *
+     * @param count the number of instantiated slots
+     * @return the completion percentage
+     */
+    private short percentageOf(final int count) {
+        return slotCount == 0 ? 100 : (short) (100 * count / slotCount);
     }
 
-    /** Refresh the statistics. */
+    /** Notifies progress if notification interval has elapsed. Reads the clock only every few steps. */
     private void refresh() {
-        final Instant now = Instant.now();
-        if (Duration.between(lastProgressNotificationTime, now).compareTo(PROGRESS_NOTIFICATION_INTERVAL) >= 0) {
-            lastProgressNotificationTime = now;
-            progressListener.onSolverProgressUpdate(completionPercentage());
+        if (((assignments + unassignments) & (CLOCK_CHECK_PERIOD - 1)) != 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long elapsed = now - lastNotificationTime;
+        if (elapsed >= notificationInterval) {
+            final long assignmentsPerSecond =
+                    elapsed == 0 ? 0 : (assignments - lastNotificationAssignments) * NANOS_PER_SECOND / elapsed;
+            lastNotificationTime = now;
+            lastNotificationAssignments = assignments;
+            progressListener.onSolverProgressUpdate(new ProgressUpdate(
+                    percentageOf(instantiatedSlotCount),
+                    percentageOf(bestInstantiatedSlotCount),
+                    assignments,
+                    unassignments,
+                    assignmentsPerSecond));
         }
     }
 }
@@ -0,0 +1,183 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.solver.ginsberg.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.solver.ginsberg.ProgressListener;
+import re.belv.croiseur.solver.ginsberg.ProgressUpdate;
+import re.belv.croiseur.solver.ginsberg.core.Slot;
+import re.belv.croiseur.solver.ginsberg.core.SlotIdentifier;
+
+/** Tests for {@link ProgressNotifier}. */
+final class ProgressNotifierTest {
+
+    /** A slot which is only instantiated or not. */
+    private record StubSlot(boolean isInstantiated) implements Slot {
+
+        @Override
+        public SlotIdentifier uid() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<String> value() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String asPattern() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<? extends Slot> connectedSlots() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int emptyBoxRatio() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void assign(final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String unassign() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isCompatibleWith(final String value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A listener recording the progress updates.
+     *
+     * @param notificationInterval the notification interval
+     * @param updates the recorded updates
+     */
+    private record RecordingListener(Duration notificationInterval, List<ProgressUpdate> updates)
+            implements ProgressListener {
+
+        /**
+         * Constructs an instance.
+         *
+         * @param notificationInterval the notification interval
+         */
+        RecordingListener(final Duration notificationInterval) {
+            this(notificationInterval, new ArrayList<>());
+        }
+
+        @Override
+        public void onSolverProgressUpdate(final ProgressUpdate progressUpdate) {
+            updates.add(progressUpdate);
+        }
+    }
+
+    /** Four slots, the first one pre-filled. */
+    private static final List<Slot> SLOTS =
+            List.of(new StubSlot(true), new StubSlot(false), new StubSlot(false), new StubSlot(false));
+
+    private static final StubSlot SLOT = new StubSlot(false);
+
+    @Test
+    void counts() {
+        final RecordingListener listener = new RecordingListener(Duration.ZERO);
+        final ProgressNotifier notifier = new ProgressNotifier(SLOTS, listener);
+
+        // 2 assignments then 2 backtracks, 8 times: 32 steps
+        for (int i = 0; i < 8; i++) {
+            notifier.onAssignment(SLOT, "A");
+            notifier.onAssignment(SLOT, "B");
+            notifier.onUnassignment(SLOT, "B");
+            notifier.onUnassignment(SLOT, "A");
+        }
+
+        assertEquals(1, listener.updates().size());
+        final ProgressUpdate update = listener.updates().getFirst();
+        assertEquals(25, update.completionPercentage());
+        assertEquals(75, update.bestCompletionPercentage());
+        assertEquals(16, update.assignments());
+        assertEquals(16, update.backtracks());
+    }
+
+    @Test
+    void clockCheckedEveryFewSteps() {
+        final RecordingListener listener = new RecordingListener(Duration.ZERO);
+        final ProgressNotifier notifier = new ProgressNotifier(SLOTS, listener);
+
+        for (int i = 0; i < 31; i++) {
+            step(notifier, i);
+        }
+        assertEquals(List.of(), listener.updates());
+
+        step(notifier, 31);
+        assertEquals(1, listener.updates().size());
+        assertEquals(16, listener.updates().getLast().assignments());
+        assertEquals(16, listener.updates().getLast().backtracks());
+
+        for (int i = 32; i < 64; i++) {
+            step(notifier, i);
+        }
+        assertEquals(2, listener.updates().size());
+        assertEquals(32, listener.updates().getLast().assignments());
+        assertEquals(32, listener.updates().getLast().backtracks());
+    }
+
+    @Test
+    void notificationInterval() {
+        final RecordingListener listener = new RecordingListener(Duration.ofHours(1L));
+        final ProgressNotifier notifier = new ProgressNotifier(SLOTS, listener);
+
+        for (int i = 0; i < 320; i++) {
+            step(notifier, i);
+        }
+
+        // First progress is notified as soon as clock is checked, next ones after the interval only
+        assertEquals(1, listener.updates().size());
+        assertEquals(16, listener.updates().getFirst().assignments());
+    }
+
+    @Test
+    void noSlot() {
+        final RecordingListener listener = new RecordingListener(Duration.ZERO);
+        final ProgressNotifier notifier = new ProgressNotifier(List.of(), listener);
+
+        for (int i = 0; i < 16; i++) {
+            notifier.onAssignment(SLOT, "A");
+            notifier.onUnassignment(SLOT, "A");
+        }
+
+        assertEquals(1, listener.updates().size());
+        assertEquals(100, listener.updates().getFirst().completionPercentage());
+    }
+
+    /**
+     * Performs the given step: An assignment for even steps, a backtrack for odd steps.
+     *
+     * @param notifier the notifier
+     * @param step the step number
+     */
+    private static void step(final ProgressNotifier notifier, final int step) {
+        if (step % 2 == 0) {
+            notifier.onAssignment(SLOT, "A");
+        } else {
+            notifier.onUnassignment(SLOT, "A");
+        }
+    }
+}
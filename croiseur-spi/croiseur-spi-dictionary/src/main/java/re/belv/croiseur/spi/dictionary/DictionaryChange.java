@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.spi.dictionary;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A change of a dictionary of a {@link DictionaryProvider}.
+ *
+ * @param type the type of change
+ * @param previous the dictionary before the change; {@code null} if dictionary has been added
+ * @param current the dictionary after the change; {@code null} if dictionary has been removed
+ * @param appendedWords the words appended to the previous dictionary, in dictionary order; Empty unless words have been
+ *     appended
+ */
+public record DictionaryChange(Type type, Dictionary previous, Dictionary current, List<String> appendedWords) {
+
+    /** The type of change. */
+    public enum Type {
+        /** A dictionary has been added. */
+        ADDED,
+        /** A dictionary has been removed. */
+        REMOVED,
+        /** A dictionary has been modified: Its details and its words may be entirely different. */
+        MODIFIED,
+        /**
+         * Words have been appended to a dictionary: The words of the current dictionary are the words of the previous
+         * dictionary, in the same order, followed by the appended words. Details are unchanged.
+         */
+        APPENDED
+    }
+
+    /**
+     * Validates fields.
+     *
+     * @param type the type of change
+     * @param previous the dictionary before the change
+     * @param current the dictionary after the change
+     * @param appendedWords the words appended to the previous dictionary
+     * @throws NullPointerException if a field required by the type of change is {@code null}
+     */
+    public DictionaryChange {
+        Objects.requireNonNull(type);
+        if (type != Type.ADDED) {
+            Objects.requireNonNull(previous);
+        }
+        if (type != Type.REMOVED) {
+            Objects.requireNonNull(current);
+        }
+        appendedWords = List.copyOf(appendedWords);
+    }
+
+    /**
+     * Creates the change of an added dictionary.
+     *
+     * @param current the added dictionary
+     * @return the change of an added dictionary
+     */
+    public static DictionaryChange added(final Dictionary current) {
+        return new DictionaryChange(Type.ADDED, null, current, List.of());
+    }
+
+    /**
+     * Creates the change of a removed dictionary.
+     *
+     * @param previous the removed dictionary
+     * @return the change of a removed dictionary
+     */
+    public static DictionaryChange removed(final Dictionary previous) {
+        return new DictionaryChange(Type.REMOVED, previous, null, List.of());
+    }
+
+    /**
+     * Creates the change of a modified dictionary.
+     *
+     * @param previous the dictionary before the change
+     * @param current the dictionary after the change
+     * @return the change of a modified dictionary
+     */
+    public static DictionaryChange modified(final Dictionary previous, final Dictionary current) {
+        return new DictionaryChange(Type.MODIFIED, previous, current, List.of());
+    }
+
+    /**
+     * Creates the change of a dictionary to which words have been appended.
+     *
+     * @param previous the dictionary before the change
+     * @param current the dictionary after the change
+     * @param appendedWords the appended words, in dictionary order
+     * @return the change of a dictionary to which words have been appended
+     */
+    public static DictionaryChange appended(
+            final Dictionary previous, final Dictionary current, final List<String> appendedWords) {
+        return new DictionaryChange(Type.APPENDED, previous, current, appendedWords);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.spi.dictionary;
+
+/** A listener of the changes of the dictionaries of a {@link DictionaryProvider}. */
+@FunctionalInterface
+public interface DictionaryChangeListener {
+
+    /**
+     * Called when a dictionary has changed.
+     *
+     * <p>Called from a thread of the provider, after the change is visible through {@link DictionaryProvider#get()}.
+     * Implementations shall return quickly.
+     *
+     * @param change the change
+     */
+    void dictionaryChanged(final DictionaryChange change);
+}
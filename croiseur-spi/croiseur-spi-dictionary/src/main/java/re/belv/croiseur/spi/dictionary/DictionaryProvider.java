@@ -45,4 +45,25 @@ public interface DictionaryProvider {
         }
         return first;
     }
+
+    /**
+     * Adds a listener of the changes of the dictionaries of this provider.
+     *
+     * <p>Note for implementers: Default implementation does nothing, i.e. changes are not notified. Local filesystem
+     * providers are expected to watch their dictionary files once a listener is added.
+     *
+     * @param listener the listener to add
+     */
+    default void addChangeListener(final DictionaryChangeListener listener) {
+        // Changes are not notified by default.
+    }
+
+    /**
+     * Removes a listener of the changes of the dictionaries of this provider.
+     *
+     * @param listener the listener to remove
+     */
+    default void removeChangeListener(final DictionaryChangeListener listener) {
+        // Changes are not notified by default.
+    }
 }
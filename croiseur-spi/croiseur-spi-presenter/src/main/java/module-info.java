@@ -6,6 +6,7 @@
 /** Interface definition for presenters. */
 module re.belv.croiseur.spi.presenter {
     requires transitive re.belv.croiseur.common;
+    requires java.logging;
 
     exports re.belv.croiseur.spi.presenter;
     exports re.belv.croiseur.spi.presenter.clue;
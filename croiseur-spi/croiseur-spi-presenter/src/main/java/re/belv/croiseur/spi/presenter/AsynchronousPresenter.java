@@ -0,0 +1,499 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.spi.presenter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
+import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
+import re.belv.croiseur.common.puzzle.PuzzleCodecDetails;
+import re.belv.croiseur.common.puzzle.SavedPuzzle;
+import re.belv.croiseur.spi.presenter.clue.ClueProviderDescription;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
+import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
+import re.belv.croiseur.spi.presenter.solver.SolverDescription;
+import re.belv.croiseur.spi.presenter.solver.SolverInitialisationState;
+import re.belv.croiseur.spi.presenter.solver.SolverProgress;
+import re.belv.croiseur.spi.presenter.solver.SolverResult;
+
+/**
+ * A {@link Presenter} which forwards solver progress events to another {@link Presenter} asynchronously, so that a slow
+ * presenter does not slow down the solver.
+ *
+ * <p>Solver progress and solver initialisation state events are put in a bounded queue, consumed by a dedicated thread.
+ * Consecutive progress events are coalesced: A progress event replaces the progress of the last queued event if it is a
+ * progress event too, so that only the latest progress is delivered without overtaking any other queued event. A
+ * progress event is dropped if the queue is full; Other queued events make the caller wait if the queue is full.
+ *
+ * <p>All other events (results, errors, etc.) are delivered synchronously, on the caller thread, once all queued events
+ * have been delivered: Their delivery is guaranteed and the order of events is preserved.
+ *
+ * <p>The encapsulated presenter is never called concurrently by this presenter.
+ *
+ * <p>The dispatching thread is stopped by {@link #close()}, after all queued events have been delivered. Events
+ * received after closing are delivered synchronously.
+ *
+ * <p>Dispatch metrics - delivered queued events, dropped progress events and dispatch latency - are logged at
+ * {@link Level#FINE} level after each synchronous delivery which followed queued events.
+ */
+public final class AsynchronousPresenter implements Presenter, AutoCloseable {
+
+    /** A queued progress event, whose progress is replaced by newer progress as long as it is the last queued event. */
+    private final class ProgressEvent implements Runnable {
+
+        /** The time at which the event has been queued, as given by {@link System#nanoTime()}. */
+        private final long enqueueTime;
+
+        /** The latest progress. Guarded by {@link AsynchronousPresenter#queueLock}. */
+        private SolverProgress progress;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param enqueueTimeArg the time at which the event has been queued
+         * @param progressArg the progress
+         */
+        ProgressEvent(final long enqueueTimeArg, final SolverProgress progressArg) {
+            enqueueTime = enqueueTimeArg;
+            progress = progressArg;
+        }
+
+        @Override
+        public void run() {
+            final SolverProgress latestProgress;
+            queueLock.lock();
+            try {
+                latestProgress = progress;
+            } finally {
+                queueLock.unlock();
+            }
+            dispatch(enqueueTime, () -> delegate.presentSolverProgress(latestProgress));
+        }
+    }
+
+    /** The system property defining the capacity of the queue of each presenter. */
+    static final String QUEUE_CAPACITY_SYSTEM_PROPERTY = "re.belv.croiseur.presenter.queue.capacity";
+
+    /** The default capacity of the queue. */
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(AsynchronousPresenter.class.getName());
+
+    /** The encapsulated presenter. */
+    private final Presenter delegate;
+
+    /** The capacity of the queue. */
+    private final int capacity;
+
+    /** The queued events. Guarded by {@link #queueLock}. */
+    private final Deque<Runnable> queue;
+
+    /** Guards the queue and the metrics. */
+    private final ReentrantLock queueLock;
+
+    /** Signalled when an event is queued. */
+    private final Condition notEmpty;
+
+    /** Signalled when an event is removed from the queue. */
+    private final Condition notFull;
+
+    /** Serializes the calls to the encapsulated presenter. Always acquired before {@link #queueLock}, if both. */
+    private final ReentrantLock deliveryLock;
+
+    /** The dispatching thread, started upon first queued event. Guarded by {@link #queueLock}. */
+    private Thread dispatcher;
+
+    /** Whether this presenter is closed. Guarded by {@link #queueLock}. */
+    private boolean closed;
+
+    /** The number of delivered queued events since last metrics report. Guarded by {@link #queueLock}. */
+    private long deliveredEvents;
+
+    /** The number of dropped progress events since last metrics report. Guarded by {@link #queueLock}. */
+    private long droppedProgressEvents;
+
+    /** The cumulated dispatch latency, in nanoseconds, since last metrics report. Guarded by {@link #queueLock}. */
+    private long totalDispatchLatency;
+
+    /** The maximal dispatch latency, in nanoseconds, since last metrics report. Guarded by {@link #queueLock}. */
+    private long maxDispatchLatency;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param delegateArg the encapsulated presenter
+     * @throws NullPointerException if given presenter is {@code null}
+     */
+    AsynchronousPresenter(final Presenter delegateArg) {
+        delegate = Objects.requireNonNull(delegateArg, "Presenter passed to asynchronous presenter shall not be null");
+        capacity = Math.max(Integer.getInteger(QUEUE_CAPACITY_SYSTEM_PROPERTY, DEFAULT_QUEUE_CAPACITY), 1);
+        queue = new ArrayDeque<>(capacity);
+        queueLock = new ReentrantLock();
+        notEmpty = queueLock.newCondition();
+        notFull = queueLock.newCondition();
+        deliveryLock = new ReentrantLock();
+    }
+
+    @Override
+    public void presentDictionaryProviders(final Collection<DictionaryProviderDetails> providers) {
+        deliver(() -> delegate.presentDictionaryProviders(providers));
+    }
+
+    @Override
+    public void presentDictionaries(final List<ProvidedDictionaryDetails> dictionaries) {
+        deliver(() -> delegate.presentDictionaries(dictionaries));
+    }
+
+    @Override
+    public void presentDictionaryEntries(final DictionaryContent content) {
+        deliver(() -> delegate.presentDictionaryEntries(content));
+    }
+
+    @Override
+    public void presentDictionarySearchResult(final DictionarySearchResult searchResult) {
+        deliver(() -> delegate.presentDictionarySearchResult(searchResult));
+    }
+
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        deliver(() -> delegate.presentDictionaryAnagrams(anagrams));
+    }
+
+    @Override
+    public void presentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
+        deliver(() -> delegate.presentDefaultDictionary(defaultDictionary));
+    }
+
+    @Override
+    public void presentDictionaryError(final String error) {
+        deliver(() -> delegate.presentDictionaryError(error));
+    }
+
+    @Override
+    public void presentAvailableSolvers(final List<SolverDescription> solverDescriptions) {
+        deliver(() -> delegate.presentAvailableSolvers(solverDescriptions));
+    }
+
+    @Override
+    public void presentSolverInitialisationState(final SolverInitialisationState solverInitialisationState) {
+        final long enqueueTime = System.nanoTime();
+        enqueue(() ->
+                dispatch(enqueueTime, () -> delegate.presentSolverInitialisationState(solverInitialisationState)));
+    }
+
+    @Override
+    public void presentSolverProgress(final SolverProgress progress) {
+        queueLock.lock();
+        try {
+            if (!closed) {
+                if (queue.peekLast() instanceof ProgressEvent lastEvent) {
+                    // Only latest progress is relevant
+                    lastEvent.progress = progress;
+                    droppedProgressEvents++;
+                } else if (queue.size() == capacity) {
+                    // Do not block solver for a mere progress update
+                    droppedProgressEvents++;
+                } else {
+                    enqueueLocked(new ProgressEvent(System.nanoTime(), progress));
+                }
+                return;
+            }
+        } finally {
+            queueLock.unlock();
+        }
+        deliver(() -> delegate.presentSolverProgress(progress));
+    }
+
+    @Override
+    public void presentSolverResult(final SolverResult result) {
+        deliver(() -> delegate.presentSolverResult(result));
+    }
+
+    @Override
+    public void presentSolverError(final String error) {
+        deliver(() -> delegate.presentSolverError(error));
+    }
+
+    @Override
+    public void presentSolverTimeout(final Duration timeBudget) {
+        deliver(() -> delegate.presentSolverTimeout(timeBudget));
+    }
+
+    @Override
+    public void presentBatchSolverResult(final long requestId, final SolverResult result) {
+        deliver(() -> delegate.presentBatchSolverResult(requestId, result));
+    }
+
+    @Override
+    public void presentBatchSolverError(final long requestId, final String error) {
+        deliver(() -> delegate.presentBatchSolverError(requestId, error));
+    }
+
+    @Override
+    public void presentBatchSolverTimeout(final long requestId, final Duration timeBudget) {
+        deliver(() -> delegate.presentBatchSolverTimeout(requestId, timeBudget));
+    }
+
+    @Override
+    public void presentAvailablePuzzles(final List<SavedPuzzle> puzzles) {
+        deliver(() -> delegate.presentAvailablePuzzles(puzzles));
+    }
+
+    @Override
+    public void presentLoadedPuzzle(final SavedPuzzle puzzle) {
+        deliver(() -> delegate.presentLoadedPuzzle(puzzle));
+    }
+
+    @Override
+    public void presentPuzzleRepositoryError(final String error) {
+        deliver(() -> delegate.presentPuzzleRepositoryError(error));
+    }
+
+    @Override
+    public void presentSavedPuzzle(final SavedPuzzle puzzle) {
+        deliver(() -> delegate.presentSavedPuzzle(puzzle));
+    }
+
+    @Override
+    public void presentDeletedAllPuzzles() {
+        deliver(delegate::presentDeletedAllPuzzles);
+    }
+
+    @Override
+    public void presentDeletedPuzzle(final long id) {
+        deliver(() -> delegate.presentDeletedPuzzle(id));
+    }
+
+    @Override
+    public void presentPuzzleDecoders(final List<PuzzleCodecDetails> decoders) {
+        deliver(() -> delegate.presentPuzzleDecoders(decoders));
+    }
+
+    @Override
+    public void presentPuzzleImportError(final String error) {
+        deliver(() -> delegate.presentPuzzleImportError(error));
+    }
+
+    @Override
+    public void presentPuzzleEncoders(final List<PuzzleCodecDetails> encoders) {
+        deliver(() -> delegate.presentPuzzleEncoders(encoders));
+    }
+
+    @Override
+    public void presentPuzzleExportError(final String error) {
+        deliver(() -> delegate.presentPuzzleExportError(error));
+    }
+
+    @Override
+    public void presentClueError(final String error) {
+        deliver(() -> delegate.presentClueError(error));
+    }
+
+    @Override
+    public void presentClueProviders(final List<ClueProviderDescription> clueProviderDescriptions) {
+        deliver(() -> delegate.presentClueProviders(clueProviderDescriptions));
+    }
+
+    @Override
+    public void presentClues(final Map<String, String> clues) {
+        deliver(() -> delegate.presentClues(clues));
+    }
+
+    /**
+     * Stops the dispatching thread, after having delivered all the queued events.
+     *
+     * <p>Events received after closing are delivered synchronously. Closing an already closed presenter has no effect.
+     */
+    @Override
+    public void close() {
+        deliveryLock.lock();
+        try {
+            drain();
+            queueLock.lock();
+            try {
+                closed = true;
+                notEmpty.signal();
+            } finally {
+                queueLock.unlock();
+            }
+            reportMetrics();
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Queues the given event, waiting for space to become available if needed, or delivers it synchronously if this
+     * presenter is closed.
+     *
+     * @param event the event to queue
+     */
+    private void enqueue(final Runnable event) {
+        queueLock.lock();
+        try {
+            while (queue.size() == capacity && !closed) {
+                notFull.awaitUninterruptibly();
+            }
+            if (!closed) {
+                enqueueLocked(event);
+                return;
+            }
+        } finally {
+            queueLock.unlock();
+        }
+        deliver(event);
+    }
+
+    /**
+     * Queues the given event. Caller must hold {@link #queueLock} and have verified queue is not full and presenter is
+     * not closed.
+     *
+     * @param event the event to queue
+     */
+    private void enqueueLocked(final Runnable event) {
+        queue.add(event);
+        notEmpty.signal();
+        if (dispatcher == null) {
+            dispatcher = Thread.ofPlatform()
+                    .name("croiseur-presenter-" + delegate.getClass().getSimpleName())
+                    .daemon()
+                    .start(this::dispatchLoop);
+        }
+    }
+
+    /**
+     * Delivers the given queued event to the encapsulated presenter, recording the dispatch latency.
+     *
+     * <p>Caller must hold {@link #deliveryLock}.
+     *
+     * @param enqueueTime the time at which the event has been queued, as given by {@link System#nanoTime()}
+     * @param delivery the delivery to the encapsulated presenter
+     */
+    private void dispatch(final long enqueueTime, final Runnable delivery) {
+        final long latency = System.nanoTime() - enqueueTime;
+        queueLock.lock();
+        try {
+            deliveredEvents++;
+            totalDispatchLatency += latency;
+            maxDispatchLatency = Math.max(maxDispatchLatency, latency);
+        } finally {
+            queueLock.unlock();
+        }
+        try {
+            delivery.run();
+        } catch (final RuntimeException e) {
+            // A failing presenter shall not stop the delivery of subsequent events
+            LOGGER.log(Level.WARNING, "Presenter failed to present event", e);
+        }
+    }
+
+    /**
+     * Retrieves the next queued event, if any.
+     *
+     * @return the next queued event or {@code null} if queue is empty
+     */
+    private Runnable poll() {
+        queueLock.lock();
+        try {
+            final Runnable event = queue.poll();
+            if (event != null) {
+                notFull.signal();
+            }
+            return event;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /** The dispatching thread loop: Delivers queued events, until this presenter is closed. */
+    private void dispatchLoop() {
+        while (true) {
+            queueLock.lock();
+            try {
+                while (queue.isEmpty()) {
+                    if (closed) {
+                        // Queue has been drained by close()
+                        return;
+                    }
+                    notEmpty.awaitUninterruptibly();
+                }
+            } finally {
+                queueLock.unlock();
+            }
+            deliveryLock.lock();
+            try {
+                // Queue may have been drained by a synchronous delivery in the meantime
+                final Runnable event = poll();
+                if (event != null) {
+                    event.run();
+                }
+            } finally {
+                deliveryLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Delivers the given event synchronously, after having delivered all the queued events.
+     *
+     * @param delivery the delivery to the encapsulated presenter
+     */
+    private void deliver(final Runnable delivery) {
+        deliveryLock.lock();
+        try {
+            drain();
+            reportMetrics();
+            delivery.run();
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Delivers all the queued events.
+     *
+     * <p>Caller must hold {@link #deliveryLock}.
+     */
+    private void drain() {
+        for (Runnable event = poll(); event != null; event = poll()) {
+            event.run();
+        }
+    }
+
+    /** Logs and resets the dispatch metrics, if any queued events has been processed since last report. */
+    private void reportMetrics() {
+        queueLock.lock();
+        try {
+            if (deliveredEvents == 0 && droppedProgressEvents == 0) {
+                return;
+            }
+            final long delivered = deliveredEvents;
+            final long dropped = droppedProgressEvents;
+            final Duration averageLatency = Duration.ofNanos(delivered == 0 ? 0 : totalDispatchLatency / delivered);
+            final Duration maxLatency = Duration.ofNanos(maxDispatchLatency);
+            LOGGER.fine(() -> "Presenter " + delegate.getClass().getName() + ": " + delivered
+                    + " queued events delivered (average latency: " + averageLatency.toNanos() / 1000 + " us, max: "
+                    + maxLatency.toNanos() / 1000 + " us), " + dropped + " progress events dropped");
+            deliveredEvents = 0;
+            droppedProgressEvents = 0;
+            totalDispatchLatency = 0;
+            maxDispatchLatency = 0;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package re.belv.croiseur.spi.presenter;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,7 @@ import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
 import re.belv.croiseur.common.puzzle.PuzzleCodecDetails;
 import re.belv.croiseur.common.puzzle.SavedPuzzle;
 import re.belv.croiseur.spi.presenter.clue.ClueProviderDescription;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 import re.belv.croiseur.spi.presenter.puzzle.PuzzlePresenter;
@@ -59,6 +61,11 @@ final class BroadcastingPresenter implements Presenter {
         presenters.forEach(p -> p.presentDictionarySearchResult(searchResult));
     }
 
+    @Override
+    public void presentDictionaryAnagrams(final DictionaryAnagrams anagrams) {
+        presenters.forEach(p -> p.presentDictionaryAnagrams(anagrams));
+    }
+
     @Override
     public void presentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
         presenters.forEach(p -> p.presentDefaultDictionary(defaultDictionary));
@@ -94,6 +101,26 @@ final class BroadcastingPresenter implements Presenter {
         presenters.forEach(p -> p.presentSolverError(error));
     }
 
+    @Override
+    public void presentSolverTimeout(final Duration timeBudget) {
+        presenters.forEach(p -> p.presentSolverTimeout(timeBudget));
+    }
+
+    @Override
+    public void presentBatchSolverResult(final long requestId, final SolverResult result) {
+        presenters.forEach(p -> p.presentBatchSolverResult(requestId, result));
+    }
+
+    @Override
+    public void presentBatchSolverError(final long requestId, final String error) {
+        presenters.forEach(p -> p.presentBatchSolverError(requestId, error));
+    }
+
+    @Override
+    public void presentBatchSolverTimeout(final long requestId, final Duration timeBudget) {
+        presenters.forEach(p -> p.presentBatchSolverTimeout(requestId, timeBudget));
+    }
+
     @Override
     public void presentAvailablePuzzles(final List<SavedPuzzle> puzzles) {
         presenters.forEach(p -> p.presentAvailablePuzzles(puzzles));
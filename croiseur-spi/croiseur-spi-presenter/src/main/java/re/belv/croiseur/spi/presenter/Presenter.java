@@ -30,4 +30,26 @@ public interface Presenter extends DictionaryPresenter, CluePresenter, PuzzlePre
     static Presenter broadcastingTo(final Iterable<? extends Presenter> presenters) {
         return new BroadcastingPresenter(presenters);
     }
+
+    /**
+     * Convenience method to construct a presenter forwarding solver progress to the given presenter asynchronously.
+     *
+     * <p>Solver progress and solver initialisation state are forwarded through a bounded queue, consumed by a dedicated
+     * thread, so that a slow presenter does not slow down the solver. Only the latest solver progress is forwarded if
+     * the given presenter is slower than the solver. All other calls are forwarded synchronously, once all previously
+     * queued calls have been forwarded, hence preserving the order of calls.
+     *
+     * <p>The returned presenter shall be {@link AsynchronousPresenter#close() closed} when no longer used, in order to
+     * stop its dispatching thread.
+     *
+     * <p>The capacity of the queue can be configured with the {@code re.belv.croiseur.presenter.queue.capacity} system
+     * property.
+     *
+     * @param presenter the presenter
+     * @return a new {@link Presenter} forwarding solver progress asynchronously to the given presenter
+     * @throws NullPointerException if given presenter is {@code null}
+     */
+    static AsynchronousPresenter asynchronous(final Presenter presenter) {
+        return new AsynchronousPresenter(presenter);
+    }
 }
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.spi.presenter.dictionary;
+
+import java.util.List;
+import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
+
+/**
+ * The words of a dictionary made of given letters.
+ *
+ * @param details details about the dictionary and its provider
+ * @param letters the letters the words are made of, as requested
+ * @param words the words found, in dictionary order; Can be empty but never {@code null}
+ */
+public record DictionaryAnagrams(ProvidedDictionaryDetails details, String letters, List<String> words) {
+    // Nothing to add.
+}
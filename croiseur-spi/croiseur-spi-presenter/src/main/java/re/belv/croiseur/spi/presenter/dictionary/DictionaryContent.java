@@ -5,15 +5,28 @@
 
 package re.belv.croiseur.spi.presenter.dictionary;
 
-import java.util.Set;
+import java.util.List;
 import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
 
 /**
  * The words of a dictionary for presentation purposes.
  *
+ * <p>Dictionary words are presented by chunks: A listing of the words of a dictionary is made of one or several
+ * consecutive chunks, the last one being flagged as such.
+ *
  * @param details details about the dictionary and its provider
- * @param words all the words inside the dictionary
+ * @param words a chunk of the words inside the dictionary; Can be empty but never {@code null}
+ * @param last whether this chunk is the last one of the listing
  */
-public record DictionaryContent(ProvidedDictionaryDetails details, Set<String> words) {
-    // Nothing to add.
+public record DictionaryContent(ProvidedDictionaryDetails details, List<String> words, boolean last) {
+
+    /**
+     * Constructs a dictionary content made of a single chunk.
+     *
+     * @param details details about the dictionary and its provider
+     * @param words all the listed words inside the dictionary; Can be empty but never {@code null}
+     */
+    public DictionaryContent(final ProvidedDictionaryDetails details, final List<String> words) {
+        this(details, words, true);
+    }
 }
@@ -30,12 +30,15 @@ public interface DictionaryPresenter {
     void presentDictionaries(final List<ProvidedDictionaryDetails> dictionaries);
 
     /**
-     * Presents the content of a dictionary.
+     * Presents a chunk of the content of a dictionary.
+     *
+     * <p>The content of a dictionary is presented by consecutive chunks, in order, so that a presenter can display the
+     * first words of a large dictionary without waiting for the others. The last chunk is flagged as such.
      *
      * <p>Dictionary word list is given as read from the dictionary: It may or may not be sorted. Presenter should sort
      * it when sort order is important.
      *
-     * @param content the dictionary content
+     * @param content the dictionary content chunk
      */
     void presentDictionaryEntries(final DictionaryContent content);
 
@@ -46,6 +49,13 @@ public interface DictionaryPresenter {
      */
     void presentDictionarySearchResult(final DictionarySearchResult searchResult);
 
+    /**
+     * Presents the words of a dictionary made of given letters.
+     *
+     * @param anagrams the words made of given letters
+     */
+    void presentDictionaryAnagrams(final DictionaryAnagrams anagrams);
+
     /**
      * Presents the default dictionary.
      *
@@ -10,8 +10,17 @@ import java.util.List;
 /**
  * A dictionary search result.
  *
- * @param words the words found; Can be empty but never {@code null}
+ * @param words the words found, in dictionary order; Can be empty but never {@code null}
+ * @param truncated whether more words match, beyond the requested ones
  */
-public record DictionarySearchResult(List<String> words) {
-    // Nothing to add.
+public record DictionarySearchResult(List<String> words, boolean truncated) {
+
+    /**
+     * Constructs a complete search result.
+     *
+     * @param words the words found, in dictionary order; Can be empty but never {@code null}
+     */
+    public DictionarySearchResult(final List<String> words) {
+        this(words, false);
+    }
 }
@@ -5,6 +5,7 @@
 
 package re.belv.croiseur.spi.presenter.solver;
 
+import java.time.Duration;
 import java.util.List;
 
 /** Solver-related presentation services. */
@@ -48,4 +49,52 @@ public interface SolverPresenter {
      */
     // TODO error should be a dedicated type
     void presentSolverError(final String error);
+
+    /**
+     * Presents the interruption of the solver due to the exhaustion of its time budget.
+     *
+     * <p>Default implementation calls {@link #presentSolverError(String)}.
+     *
+     * @param timeBudget the exhausted time budget
+     */
+    default void presentSolverTimeout(final Duration timeBudget) {
+        presentSolverError("Solver timed out after " + timeBudget.toMillis() + " ms");
+    }
+
+    /**
+     * Presents the result of a crossword solving request which is part of a batch.
+     *
+     * <p>Default implementation ignores the request identifier and calls {@link #presentSolverResult(SolverResult)}.
+     *
+     * @param requestId the position of the solving request in the batch, starting from 0
+     * @param result the solver result
+     */
+    default void presentBatchSolverResult(final long requestId, final SolverResult result) {
+        presentSolverResult(result);
+    }
+
+    /**
+     * Presents an error from the solver occurred when processing a crossword solving request which is part of a batch.
+     *
+     * <p>Default implementation ignores the request identifier and calls {@link #presentSolverError(String)}.
+     *
+     * @param requestId the position of the solving request in the batch, starting from 0
+     * @param error the error
+     */
+    default void presentBatchSolverError(final long requestId, final String error) {
+        presentSolverError(error);
+    }
+
+    /**
+     * Presents the interruption of the solver due to the exhaustion of its time budget, when processing a crossword
+     * solving request which is part of a batch.
+     *
+     * <p>Default implementation ignores the request identifier and calls {@link #presentSolverTimeout(Duration)}.
+     *
+     * @param requestId the position of the solving request in the batch, starting from 0
+     * @param timeBudget the exhausted time budget
+     */
+    default void presentBatchSolverTimeout(final long requestId, final Duration timeBudget) {
+        presentSolverTimeout(timeBudget);
+    }
 }
@@ -8,19 +8,49 @@ package re.belv.croiseur.spi.presenter.solver;
 /**
  * The solver progress.
  *
+ * <p>Solvers may not provide details beyond completion percentage: Unknown details are {@code 0}.
+ *
  * @param completionPercentage the completion percentage
+ * @param bestCompletionPercentage the best completion percentage reached so far, or {@code 0} if unknown
+ * @param assignments the number of slot assignments since solver start, or {@code 0} if unknown
+ * @param backtracks the number of slot unassignments since solver start, or {@code 0} if unknown
+ * @param assignmentsPerSecond the number of slot assignments per second since previous progress, or {@code 0} if
+ *     unknown
  */
 // TODO add intermediate solver result
-public record SolverProgress(short completionPercentage) {
+public record SolverProgress(
+        short completionPercentage,
+        short bestCompletionPercentage,
+        long assignments,
+        long backtracks,
+        long assignmentsPerSecond) {
 
     /**
-     * Validates field.
+     * Validates fields.
      *
      * @param completionPercentage the completion percentage
+     * @param bestCompletionPercentage the best completion percentage reached so far, or {@code 0} if unknown
+     * @param assignments the number of slot assignments since solver start, or {@code 0} if unknown
+     * @param backtracks the number of slot unassignments since solver start, or {@code 0} if unknown
+     * @param assignmentsPerSecond the number of slot assignments per second since previous progress, or {@code 0} if
+     *     unknown
      */
     public SolverProgress {
         if (completionPercentage < 0 || completionPercentage > 100) {
             throw new IllegalArgumentException("Expected percentage between 0 and 100, got " + completionPercentage);
         }
+        if (bestCompletionPercentage < 0 || bestCompletionPercentage > 100) {
+            throw new IllegalArgumentException(
+                    "Expected best percentage between 0 and 100, got " + bestCompletionPercentage);
+        }
+    }
+
+    /**
+     * Constructs a solver progress with only the completion percentage.
+     *
+     * @param completionPercentage the completion percentage
+     */
+    public SolverProgress(final short completionPercentage) {
+        this(completionPercentage, (short) 0, 0L, 0L, 0L);
     }
 }
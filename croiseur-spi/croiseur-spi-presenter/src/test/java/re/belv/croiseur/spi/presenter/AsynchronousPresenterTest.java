@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.spi.presenter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.spi.presenter.solver.SolverInitialisationState;
+import re.belv.croiseur.spi.presenter.solver.SolverProgress;
+
+/** Tests on {@link AsynchronousPresenter}. */
+final class AsynchronousPresenterTest {
+
+    /**
+     * An event received by the encapsulated presenter.
+     *
+     * @param argument the event argument
+     * @param thread the thread on which the event has been received
+     */
+    private record Event(Object argument, Thread thread) {}
+
+    /** The events received by the encapsulated presenter. */
+    private final List<Event> events = new ArrayList<>();
+
+    /** Released when the encapsulated presenter starts blocking on the presentation of {@link #blockingState}. */
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    /** Released to let the encapsulated presenter return from the presentation of {@link #blockingState}. */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /** The initialisation state whose presentation blocks until {@link #release} is released, if any. */
+    private SolverInitialisationState blockingState;
+
+    @Test
+    void progressIsCoalesced() throws InterruptedException {
+        blockingState = SolverInitialisationState.STARTED;
+        try (final AsynchronousPresenter presenter = Presenter.asynchronous(recordingPresenter())) {
+            presenter.presentSolverInitialisationState(SolverInitialisationState.STARTED);
+            for (short percentage = 1; percentage <= 50; percentage++) {
+                presenter.presentSolverProgress(new SolverProgress(percentage));
+            }
+            release.countDown();
+            presenter.presentSolverError("Error");
+        }
+
+        assertEquals(List.of(SolverInitialisationState.STARTED, new SolverProgress((short) 50), "Error"), arguments());
+    }
+
+    @Test
+    void progressDoesNotOvertakeInitialisationState() throws InterruptedException {
+        blockingState = SolverInitialisationState.STARTED;
+        try (final AsynchronousPresenter presenter = Presenter.asynchronous(recordingPresenter())) {
+            presenter.presentSolverInitialisationState(SolverInitialisationState.STARTED);
+            presenter.presentSolverProgress(new SolverProgress((short) 10));
+            presenter.presentSolverProgress(new SolverProgress((short) 20));
+            presenter.presentSolverInitialisationState(SolverInitialisationState.ENDED);
+            presenter.presentSolverProgress(new SolverProgress((short) 30));
+            release.countDown();
+            presenter.presentSolverError("Error");
+        }
+
+        assertEquals(
+                List.of(
+                        SolverInitialisationState.STARTED,
+                        new SolverProgress((short) 20),
+                        SolverInitialisationState.ENDED,
+                        new SolverProgress((short) 30),
+                        "Error"),
+                arguments());
+    }
+
+    @Test
+    void resultIsDeliveredAfterQueuedEvents() {
+        release.countDown();
+        try (final AsynchronousPresenter presenter = Presenter.asynchronous(recordingPresenter())) {
+            presenter.presentSolverInitialisationState(SolverInitialisationState.STARTED);
+            presenter.presentSolverProgress(new SolverProgress((short) 50));
+            presenter.presentSolverInitialisationState(SolverInitialisationState.ENDED);
+            presenter.presentSolverError("Error");
+
+            assertEquals(
+                    List.of(
+                            SolverInitialisationState.STARTED,
+                            new SolverProgress((short) 50),
+                            SolverInitialisationState.ENDED,
+                            "Error"),
+                    arguments());
+            assertEquals(Thread.currentThread(), lastEvent().thread());
+        }
+    }
+
+    @Test
+    void closeStopsDispatchingThread() throws InterruptedException {
+        blockingState = SolverInitialisationState.STARTED;
+        final AsynchronousPresenter presenter = Presenter.asynchronous(recordingPresenter());
+        presenter.presentSolverInitialisationState(SolverInitialisationState.STARTED);
+        blocked.await();
+        presenter.presentSolverProgress(new SolverProgress((short) 50));
+        release.countDown();
+
+        presenter.close();
+
+        assertEquals(List.of(SolverInitialisationState.STARTED, new SolverProgress((short) 50)), arguments());
+        final Thread dispatcher = events().getFirst().thread();
+        assertNotEquals(Thread.currentThread(), dispatcher);
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(dispatcher.isAlive());
+    }
+
+    @Test
+    void closedPresenterDeliversSynchronously() {
+        final AsynchronousPresenter presenter = Presenter.asynchronous(recordingPresenter());
+        presenter.close();
+        presenter.close();
+
+        presenter.presentSolverInitialisationState(SolverInitialisationState.STARTED);
+        presenter.presentSolverProgress(new SolverProgress((short) 50));
+
+        assertEquals(List.of(SolverInitialisationState.STARTED, new SolverProgress((short) 50)), arguments());
+        assertTrue(events().stream().allMatch(event -> event.thread() == Thread.currentThread()));
+    }
+
+    /**
+     * Creates a presenter recording the events it receives.
+     *
+     * @return a presenter recording the events it receives
+     */
+    private Presenter recordingPresenter() {
+        return (Presenter) Proxy.newProxyInstance(
+                Presenter.class.getClassLoader(), new Class<?>[] {Presenter.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "RecordingPresenter";
+                        };
+                    }
+                    final Object argument = args == null ? null : args[0];
+                    if (argument != null && argument == blockingState) {
+                        blocked.countDown();
+                        release.await();
+                    }
+                    synchronized (events) {
+                        events.add(new Event(argument, Thread.currentThread()));
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Returns a copy of the events received so far.
+     *
+     * @return a copy of the events received so far
+     */
+    private List<Event> events() {
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+
+    /**
+     * Returns the last event received.
+     *
+     * @return the last event received
+     */
+    private Event lastEvent() {
+        return events().getLast();
+    }
+
+    /**
+     * Returns the arguments of the events received so far.
+     *
+     * @return the arguments of the events received so far
+     */
+    private List<Object> arguments() {
+        return events().stream().map(Event::argument).toList();
+    }
+}
@@ -18,6 +18,7 @@ dependencies {
     testImplementation(libs.cucumber.junit.engine)
     testImplementation(libs.junit.platform.suite)
     testImplementation(libs.mockito)
+    testRuntimeOnly(project(":croiseur-dictionary:croiseur-dictionary-binary-plugin"))
     testRuntimeOnly(project(":croiseur-dictionary:croiseur-dictionary-hunspell-plugin"))
     testRuntimeOnly(project(":croiseur-dictionary:croiseur-dictionary-txt-plugin"))
     testRuntimeOnly(project(":croiseur-dictionary:croiseur-dictionary-xml-plugin"))
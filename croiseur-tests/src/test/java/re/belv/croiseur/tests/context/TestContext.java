@@ -146,8 +146,11 @@ public final class TestContext {
         puzzleRepositorySpy.verifyNoMoreInteractions();
     }
 
-    /** Resets the test context. */
+    /** Closes the crossword service, if any, and resets the test context. */
     void undeploy() {
+        if (crosswordService != null) {
+            crosswordService.close();
+        }
         crosswordService = null;
         puzzleRepositorySpy = null;
         presenterMock = null;
@@ -11,7 +11,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import org.mockito.ArgumentMatcher;
-import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 
 /** Allows creating custom {@link ArgumentMatcher}s related to dictionary presentation. */
@@ -66,28 +66,27 @@ final class DictionaryMatchers {
     }
 
     /**
-     * Allows creating a {@link DictionaryContent} matcher.
+     * Allows creating a {@link DictionarySearchResult} matcher.
      *
-     * @param numberOfEntries the expected number of entries
-     * @param firstEntries the expected first entries
+     * @param numberOfMatches the expected number of matches
+     * @param firstMatches the expected first matches
      * @return {@code null}
      */
-    static DictionaryContent dictionaryContentWith(final int numberOfEntries, final List<String> firstEntries) {
-        final Function<DictionaryContent, Collection<String>> property = DictionaryContent::words;
-        final var hasWords = new HasWords(numberOfEntries, firstEntries);
+    static DictionarySearchResult searchResultWith(final int numberOfMatches, final List<String> firstMatches) {
+        final Function<DictionarySearchResult, Collection<String>> property = DictionarySearchResult::words;
+        final var hasWords = new HasWords(numberOfMatches, firstMatches);
         return hasPropertyThat(property, hasWords);
     }
 
     /**
-     * Allows creating a {@link DictionarySearchResult} matcher.
+     * Allows creating a {@link DictionaryAnagrams} matcher.
      *
-     * @param numberOfMatches the expected number of matches
-     * @param firstMatches the expected first matches
+     * @param anagrams the expected anagrams
      * @return {@code null}
      */
-    static DictionarySearchResult searchResultWith(final int numberOfMatches, final List<String> firstMatches) {
-        final Function<DictionarySearchResult, Collection<String>> property = DictionarySearchResult::words;
-        final var hasWords = new HasWords(numberOfMatches, firstMatches);
+    static DictionaryAnagrams anagramsWith(final List<String> anagrams) {
+        final Function<DictionaryAnagrams, Collection<String>> property = DictionaryAnagrams::words;
+        final var hasWords = new HasWords(anagrams.size(), anagrams);
         return hasPropertyThat(property, hasWords);
     }
 
@@ -5,8 +5,11 @@
 
 package re.belv.croiseur.tests.dictionary;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
-import static re.belv.croiseur.tests.dictionary.DictionaryMatchers.dictionaryContentWith;
+import static re.belv.croiseur.tests.dictionary.DictionaryMatchers.anagramsWith;
 import static re.belv.croiseur.tests.dictionary.DictionaryMatchers.searchResultWith;
 
 import io.cucumber.java.en.Then;
@@ -14,14 +17,19 @@ import io.cucumber.java.en.When;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.OptionalInt;
+import org.mockito.ArgumentCaptor;
 import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
 import re.belv.croiseur.api.dictionary.DictionaryService;
 import re.belv.croiseur.api.dictionary.ListDictionariesRequest;
 import re.belv.croiseur.api.dictionary.ListDictionaryEntriesRequest;
+import re.belv.croiseur.api.dictionary.SearchDictionaryAnagramsRequest;
 import re.belv.croiseur.api.dictionary.SearchDictionaryEntriesRequest;
 import re.belv.croiseur.common.dictionary.DictionaryProviderDetails;
 import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
+import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 import re.belv.croiseur.tests.context.TestContext;
 
 /** Steps pertaining to the {@link DictionaryService}. */
@@ -51,6 +59,20 @@ public final class DictionarySteps {
         dictionaryService.listEntries(listDictionaryEntriesRequest);
     }
 
+    @When("user requests to display the {int}-letter entries of {string} provided by {string}, skipping {int} "
+            + "entries and limited to {int} entries")
+    public void whenDisplayEntriesPage(
+            final int length,
+            final String dictionary,
+            final String dictionaryProvider,
+            final int offset,
+            final int limit) {
+        final DictionaryIdentifier dictionaryIdentifier = new DictionaryIdentifier(dictionaryProvider, dictionary);
+        final ListDictionaryEntriesRequest listDictionaryEntriesRequest = ListDictionaryEntriesRequest.of(
+                dictionaryIdentifier, offset, OptionalInt.of(limit), OptionalInt.of(length));
+        dictionaryService.listEntries(listDictionaryEntriesRequest);
+    }
+
     @When("user requests to search the entries of {string} provided by {string} matching the "
             + "regular expression {string}")
     public void whenSearch(final String dictionary, final String dictionaryProvider, final String regex) {
@@ -60,6 +82,38 @@ public final class DictionarySteps {
         dictionaryService.searchEntries(searchDictionaryEntriesRequest);
     }
 
+    @When("user requests to search the entries of {string} provided by {string} matching the "
+            + "regular expression {string}, skipping {int} entries and limited to {int} entries")
+    public void whenSearchPage(
+            final String dictionary,
+            final String dictionaryProvider,
+            final String regex,
+            final int offset,
+            final int limit) {
+        final DictionaryIdentifier dictionaryIdentifier = new DictionaryIdentifier(dictionaryProvider, dictionary);
+        final SearchDictionaryEntriesRequest searchDictionaryEntriesRequest =
+                SearchDictionaryEntriesRequest.of(dictionaryIdentifier, regex, offset, OptionalInt.of(limit));
+        dictionaryService.searchEntries(searchDictionaryEntriesRequest);
+    }
+
+    @When("user requests to search the anagrams of {string} in {string} provided by {string}")
+    public void whenSearchAnagrams(final String letters, final String dictionary, final String dictionaryProvider) {
+        final DictionaryIdentifier dictionaryIdentifier = new DictionaryIdentifier(dictionaryProvider, dictionary);
+        final SearchDictionaryAnagramsRequest searchDictionaryAnagramsRequest =
+                SearchDictionaryAnagramsRequest.of(dictionaryIdentifier, letters);
+        dictionaryService.searchAnagrams(searchDictionaryAnagramsRequest);
+    }
+
+    @When("user requests to search the {int}-letter entries of {string} provided by {string} made of some of the "
+            + "letters {string}")
+    public void whenSearchPartialAnagrams(
+            final int length, final String dictionary, final String dictionaryProvider, final String letters) {
+        final DictionaryIdentifier dictionaryIdentifier = new DictionaryIdentifier(dictionaryProvider, dictionary);
+        final SearchDictionaryAnagramsRequest searchDictionaryAnagramsRequest =
+                SearchDictionaryAnagramsRequest.of(dictionaryIdentifier, letters, true, OptionalInt.of(length));
+        dictionaryService.searchAnagrams(searchDictionaryAnagramsRequest);
+    }
+
     @When("user requests to list the available dictionary providers")
     public void whenListDictionaryProviders() {
         dictionaryService.listProviders();
@@ -79,7 +133,14 @@ public final class DictionarySteps {
 
     @Then("the application presents {int} dictionary entries, the first ones being:")
     public void thenPresentDictionaryEntries(final int totalNumberOfEntries, final List<String> firstEntries) {
-        verify(presenterMock).presentDictionaryEntries(dictionaryContentWith(totalNumberOfEntries, firstEntries));
+        final List<String> entries = presentedDictionaryEntries();
+        assertEquals(totalNumberOfEntries, entries.size());
+        assertEquals(firstEntries, entries.subList(0, Math.min(firstEntries.size(), entries.size())));
+    }
+
+    @Then("the application presents the following dictionary entries:")
+    public void thenPresentDictionaryEntries(final List<String> entries) {
+        assertEquals(entries, presentedDictionaryEntries());
     }
 
     @Then("the application presents {int} dictionary entry matches, the first ones being:")
@@ -92,11 +153,31 @@ public final class DictionarySteps {
         thenPresentSearchResult(words.size(), words);
     }
 
+    @Then("the application presents the following dictionary entry matches, more entries matching:")
+    public void thenPresentTruncatedSearchResult(final List<String> words) {
+        verify(presenterMock).presentDictionarySearchResult(new DictionarySearchResult(words, true));
+    }
+
+    @Then("the application presents the following dictionary entry matches, no more entries matching:")
+    public void thenPresentCompleteSearchResult(final List<String> words) {
+        verify(presenterMock).presentDictionarySearchResult(new DictionarySearchResult(words, false));
+    }
+
     @Then("the application presents an empty dictionary search result")
     public void thenPresentSearchResult() {
         thenPresentSearchResult(Collections.emptyList());
     }
 
+    @Then("the application presents the following dictionary anagram(s):")
+    public void thenPresentAnagrams(final List<String> anagrams) {
+        verify(presenterMock).presentDictionaryAnagrams(anagramsWith(anagrams));
+    }
+
+    @Then("the application presents no dictionary anagram")
+    public void thenPresentNoAnagram() {
+        thenPresentAnagrams(Collections.emptyList());
+    }
+
     @Then("the application presents the following dictionaries:")
     public void thenPresentDictionaries(final List<ProvidedDictionaryDetails> dictionaries) {
         verify(presenterMock).presentDictionaries(dictionaries);
@@ -116,4 +197,17 @@ public final class DictionarySteps {
     public void thenPresentDefaultDictionary(final ProvidedDictionaryDetails defaultDictionary) {
         verify(presenterMock).presentDefaultDictionary(defaultDictionary);
     }
+
+    /**
+     * Collects the dictionary entries presented by chunks.
+     *
+     * @return the presented dictionary entries, in presentation order
+     */
+    private List<String> presentedDictionaryEntries() {
+        final ArgumentCaptor<DictionaryContent> chunks = ArgumentCaptor.forClass(DictionaryContent.class);
+        verify(presenterMock, atLeastOnce()).presentDictionaryEntries(chunks.capture());
+        final List<DictionaryContent> presentedChunks = chunks.getAllValues();
+        assertTrue(presentedChunks.get(presentedChunks.size() - 1).last(), "Last chunk shall be flagged as such");
+        return presentedChunks.stream().flatMap(chunk -> chunk.words().stream()).toList();
+    }
 }
@@ -5,18 +5,23 @@
 
 package re.belv.croiseur.tests.solver;
 
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static re.belv.croiseur.tests.solver.SolverMatchers.impossible;
 import static re.belv.croiseur.tests.solver.SolverMatchers.success;
 
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Random;
+import java.util.stream.Stream;
 import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
+import re.belv.croiseur.api.solver.BatchSolveRequest;
 import re.belv.croiseur.api.solver.SolveRequest;
 import re.belv.croiseur.api.solver.SolverService;
 import re.belv.croiseur.common.puzzle.PuzzleGrid;
@@ -117,6 +122,42 @@ public final class SolverSteps {
                 false /* do not save puzzle */);
     }
 
+    @When("^user requests to solve the following grid (\\d+) times in a batch" + OPTIONALLY_WITH_SOLVER
+            + AND_OPTIONALLY_WITH_DICTIONARY + AND_OPTIONALLY_WITH_RANDOMNESS + ":$")
+    public void whenSolveBatch(
+            final int times,
+            final String solver,
+            final String dictionary,
+            final String dictionaryProvider,
+            final Long randomSeed,
+            final PuzzleGrid puzzleGrid) {
+        final Stream<SolveRequest> requests = Stream.generate(() -> createSolveRequest(
+                        solver,
+                        dictionary,
+                        dictionaryProvider,
+                        randomSeed,
+                        puzzleGrid,
+                        false /* do not get clues */,
+                        false /* do not save puzzle */,
+                        null /* no time budget */))
+                .limit(times);
+        solverService.solveBatch(BatchSolveRequest.of(requests));
+    }
+
+    @When("^user requests to solve the following grid" + OPTIONALLY_WITH_SOLVER + " within (\\d+) milliseconds:$")
+    public void whenSolveWithTimeout(final String solver, final long timeout, final PuzzleGrid puzzleGrid) {
+        final SolveRequest solveRequest = createSolveRequest(
+                solver,
+                null /* default dictionary */,
+                null /* default dictionary */,
+                null /* no shuffle */,
+                puzzleGrid,
+                false /* do not get clues */,
+                false /* do not save puzzle */,
+                Duration.ofMillis(timeout));
+        solverService.solve(solveRequest);
+    }
+
     /**
      * Calls solver service.
      *
@@ -136,7 +177,34 @@ public final class SolverSteps {
             final PuzzleGrid puzzleGrid,
             final boolean withClues,
             final boolean savePuzzle) {
-        final SolveRequest solveRequest = new SolveRequest() {
+        final SolveRequest solveRequest = createSolveRequest(
+                solver, dictionary, dictionaryProvider, randomSeed, puzzleGrid, withClues, savePuzzle, null);
+        solverService.solve(solveRequest);
+    }
+
+    /**
+     * Creates a solve request.
+     *
+     * @param solver the solver name, if any, otherwise {@code null}
+     * @param dictionary the dictionary name, if any, otherwise {@code null}
+     * @param dictionaryProvider the dictionary provider, if any, otherwise {@code null}
+     * @param randomSeed the random seed, if any, otherwise {@code null}
+     * @param puzzleGrid the grid
+     * @param withClues whether to get clues for the solution, if any found
+     * @param savePuzzle whether to publish the given grid as a puzzle in repository
+     * @param timeout the solver time budget, if any, otherwise {@code null}
+     * @return the solve request
+     */
+    private static SolveRequest createSolveRequest(
+            final String solver,
+            final String dictionary,
+            final String dictionaryProvider,
+            final Long randomSeed,
+            final PuzzleGrid puzzleGrid,
+            final boolean withClues,
+            final boolean savePuzzle,
+            final Duration timeout) {
+        return new SolveRequest() {
 
             @Override
             public PuzzleGrid grid() {
@@ -166,11 +234,21 @@ public final class SolverSteps {
                 return Optional.ofNullable(randomSeed).map(Random::new);
             }
 
+            @Override
+            public OptionalLong dictionariesShuffleSeed() {
+                return randomSeed != null ? OptionalLong.of(randomSeed) : OptionalLong.empty();
+            }
+
             @Override
             public Optional<String> solver() {
                 return Optional.ofNullable(solver);
             }
 
+            @Override
+            public Optional<Duration> timeout() {
+                return Optional.ofNullable(timeout);
+            }
+
             @Override
             public SolverProgressNotificationMethod progress() {
                 return SolverProgressNotificationMethod.NONE;
@@ -181,7 +259,6 @@ public final class SolverSteps {
                 return withClues;
             }
         };
-        solverService.solve(solveRequest);
     }
 
     @Then("the application presents the following solvers:")
@@ -199,6 +276,26 @@ public final class SolverSteps {
         verify(presenterMock).presentSolverResult(success(solution.filled()));
     }
 
+    @Then(
+            "the application presents the following successful solver result for each of the {int} requests of the batch:")
+    public void thenPresentBatchSolverResultSuccess(final int times, final PuzzleGrid solution) {
+        for (long requestId = 0; requestId < times; requestId++) {
+            verify(presenterMock).presentBatchSolverResult(eq(requestId), success(solution.filled()));
+        }
+    }
+
+    @Then("the application presents the solver error {string} for each of the {int} requests of the batch")
+    public void thenBatchSolverError(final String error, final int times) {
+        for (long requestId = 0; requestId < times; requestId++) {
+            verify(presenterMock).presentBatchSolverError(requestId, error);
+        }
+    }
+
+    @Then("the application presents a solver timeout after {int} milliseconds")
+    public void thenPresentSolverTimeout(final int timeout) {
+        verify(presenterMock).presentSolverTimeout(Duration.ofMillis(timeout));
+    }
+
     @Then("the application presents the grid as impossible to solve")
     public void thenPresentSolverResultImpossible() {
         verify(presenterMock).presentSolverResult(impossible());
@@ -0,0 +1,29 @@
+# SPDX-FileCopyrightText: 2026 Antoine Belvire
+# SPDX-License-Identifier: GPL-3.0-or-later
+
+Feature: Search Dictionary Anagrams
+
+  The application offers a way to search for the dictionary words made of given letters, i.e. the
+  anagrams of these letters, optionally using only some of the letters.
+
+  Scenario: Search Dictionary Anagrams - All Letters
+
+    When user requests to search the anagrams of "LISTEN" in "The UK Advanced Cryptics Dictionary" provided by "Local Text Provider"
+    Then the application presents the following dictionary anagrams:
+      | ENLIST |
+      | INLETS |
+      | LETSIN |
+      | LISTEN |
+      | SILENT |
+      | TINSEL |
+
+  Scenario: Search Dictionary Anagrams - Some Letters, Given Length
+
+    When user requests to search the 8-letter entries of "The UK Advanced Cryptics Dictionary" provided by "Local Text Provider" made of some of the letters "SUNFLOWER"
+    Then the application presents the following dictionary anagram:
+      | FLEURONS |
+
+  Scenario: Search Dictionary Anagrams - No Anagram
+
+    When user requests to search the anagrams of "ABCDEFGHIJ" in "The UK Advanced Cryptics Dictionary" provided by "Local Text Provider"
+    Then the application presents no dictionary anagram
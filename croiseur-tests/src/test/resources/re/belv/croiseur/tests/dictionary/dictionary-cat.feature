@@ -47,3 +47,11 @@ Feature: Display Dictionary Content
       | DECIPHERERS       |
       | COLLOCATE         |
       | AQUAMARINES       |
+
+  Scenario: Display Dictionary Content - Page of Entries of Given Length
+
+    When user requests to display the 5-letter entries of "The UK Advanced Cryptics Dictionary" provided by "Local Text Provider", skipping 2 entries and limited to 3 entries
+    Then the application presents the following dictionary entries:
+      | ABACA |
+      | ABACI |
+      | ABACK |
@@ -54,3 +54,31 @@ Feature: Search Dictionary Content
 
     When user requests to search the entries of "General British English dictionary" provided by "Local XML Provider" matching the regular expression ".I.FLOW.R"
     Then the application presents an empty dictionary search result
+
+  Scenario: Search Dictionary Content - Character Sets
+
+    When user requests to search the entries of "General British English dictionary" provided by "Local XML Provider" matching the regular expression "[MS][AU][^F]FLOWER"
+    Then the application presents the following dictionary entry matches:
+      | SUNFLOWER |
+      | MAYFLOWER |
+
+  Scenario: Search Dictionary Content - Arbitrary Regular Expression
+
+    When user requests to search the entries of "General British English dictionary" provided by "Local XML Provider" matching the regular expression "^SUN(FLOWER|FISHES)$"
+    Then the application presents the following dictionary entry matches:
+      | SUNFISHES |
+      | SUNFLOWER |
+
+  Scenario: Search Dictionary Content - Page
+
+    When user requests to search the entries of "General British English dictionary" provided by "Local XML Provider" matching the regular expression ".......ER", skipping 2 entries and limited to 3 entries
+    Then the application presents the following dictionary entry matches, more entries matching:
+      | PROCEEDER |
+      | BOOTMAKER |
+      | PUPPETEER |
+
+  Scenario: Search Dictionary Content - Last Page
+
+    When user requests to search the entries of "General British English dictionary" provided by "Local XML Provider" matching the regular expression "...FLOW..", skipping 2 entries and limited to 5 entries
+    Then the application presents the following dictionary entry matches, no more entries matching:
+      | SAFFLOWER |
@@ -14,10 +14,11 @@ Feature: List Dictionary Providers
 
     When user requests to list the available dictionary providers
     Then the application presents the following dictionary providers:
-      | Provider                | Description                                                    |
-      | Local Hunspell Provider | Provides access to local dictionaries in the Hunspell format.  |
-      | Local Text Provider     | Provides access to local dictionaries in a simple text format. |
-      | Local XML Provider      | Provides access to local dictionaries in an XML format.        |
+      | Provider                | Description                                                       |
+      | Local Binary Provider   | Provides access to local dictionaries in a compact binary format. |
+      | Local Hunspell Provider | Provides access to local dictionaries in the Hunspell format.     |
+      | Local Text Provider     | Provides access to local dictionaries in a simple text format.    |
+      | Local XML Provider      | Provides access to local dictionaries in an XML format.           |
 
   @no-auto-deploy
   Scenario: List Dictionary Providers - No provider
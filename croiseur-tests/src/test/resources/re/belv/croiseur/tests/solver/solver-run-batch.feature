@@ -0,0 +1,27 @@
+# SPDX-FileCopyrightText: 2026 Antoine Belvire
+# SPDX-License-Identifier: GPL-3.0-or-later
+
+Feature: Run Solver - Batch
+
+  Several grids can be submitted at once to the solver service. Dictionaries are loaded once per
+  distinct set of requested dictionaries and grids are solved concurrently. Each result is
+  presented along with the position of the corresponding request in the batch.
+
+  Scenario: Run Solver - Batch - Same Grid Several Times
+
+    When user requests to solve the following grid 3 times in a batch with "Ginsberg" solver:
+      |  |  |  |
+      |  |  |  |
+      |  |  |  |
+    Then the application presents the following successful solver result for each of the 3 requests of the batch:
+      | D | C | M |
+      | E | P | A |
+      | S | A | Y |
+
+  Scenario: Run Solver - Batch - Unknown Dictionary
+
+    When user requests to solve the following grid 2 times in a batch with "Ginsberg" solver and with "Unknown" dictionary provided by "Unknown Provider":
+      |  |  |  |
+      |  |  |  |
+      |  |  |  |
+    Then the application presents the solver error "Dictionary not found" for each of the 2 requests of the batch
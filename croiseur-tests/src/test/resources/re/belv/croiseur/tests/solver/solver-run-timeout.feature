@@ -0,0 +1,34 @@
+# SPDX-FileCopyrightText: 2026 Antoine Belvire
+# SPDX-License-Identifier: GPL-3.0-or-later
+
+Feature: Run Solver - Timeout
+
+  A time budget can be given to the solver. Once exhausted, the solver is interrupted and the
+  application presents the timeout, which is distinct from the grid being impossible to solve.
+
+  Scenario: Run Solver - Timeout - Budget Not Exhausted
+
+    When user requests to solve the following grid with "Ginsberg" solver within 60000 milliseconds:
+      |  |  |  |
+      |  |  |  |
+      |  |  |  |
+    Then the application presents the following successful solver result:
+      | D | C | M |
+      | E | P | A |
+      | S | A | Y |
+
+  Scenario: Run Solver - Timeout - Budget Exhausted
+
+    When user requests to solve the following grid with "Ginsberg" solver within 100 milliseconds:
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+      |  |  |  |  |  |  |  |  |  |  |  |
+    Then the application presents a solver timeout after 100 milliseconds
@@ -30,6 +30,7 @@ module re.belv.croiseur {
     requires transitive re.belv.croiseur.spi.puzzle.codec;
     requires transitive re.belv.croiseur.spi.puzzle.repository;
     requires transitive re.belv.croiseur.spi.solver;
+    requires java.logging;
 
     // Uses plugins since plugins can be implicitly loaded in factory.
     uses ClueProvider;
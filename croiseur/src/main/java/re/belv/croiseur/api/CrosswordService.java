@@ -22,8 +22,12 @@ import re.belv.croiseur.spi.puzzle.repository.DummyPuzzleRepository;
 import re.belv.croiseur.spi.puzzle.repository.PuzzleRepository;
 import re.belv.croiseur.spi.solver.CrosswordSolver;
 
-/** Crossword services. */
-public interface CrosswordService {
+/**
+ * Crossword services.
+ *
+ * <p>Services shall be {@link #close() closed} when no longer used.
+ */
+public interface CrosswordService extends AutoCloseable {
 
     /**
      * Creates a new instance of {@link CrosswordService}.
@@ -37,7 +41,8 @@ public interface CrosswordService {
      * @param puzzleEncoders the puzzle encoders
      * @param puzzleRepository the puzzle repository; If puzzle repository service is not going to be used, then
      *     {@link DummyPuzzleRepository} can be passed here
-     * @param presenter the presenter
+     * @param presenter the presenter; Solver progress is forwarded to it asynchronously, see
+     *     {@link Presenter#asynchronous(Presenter)}
      * @return a new instance of {@link CrosswordService}
      */
     static CrosswordService create(
@@ -78,14 +83,14 @@ public interface CrosswordService {
         if (presenters.isEmpty()) {
             throw new IllegalStateException("Failed to instantiate crossword service: No presenter found");
         }
-        return create(
+        return new CrosswordServiceImpl(
                 dictionaryProviders,
                 solvers,
                 clueProviders,
                 puzzleDecoders,
                 puzzleEncoders,
                 puzzleRepository,
-                Presenter.broadcastingTo(presenters));
+                presenters);
     }
 
     /**
@@ -126,4 +131,11 @@ public interface CrosswordService {
      * @return the puzzle service
      */
     PuzzleService puzzleService();
+
+    /**
+     * Releases the resources held by this service, i.e. stops the threads forwarding events to the presenters, once all
+     * pending events have been presented.
+     */
+    @Override
+    void close();
 }
@@ -33,6 +33,8 @@ public interface DictionaryService {
     /**
      * Lists entries for a dictionary.
      *
+     * <p>Entries are presented by consecutive chunks, as they are read.
+     *
      * @param request the request
      * @see re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter#presentDictionaryEntries
      *     DictionaryPresenter#presentDictionaryEntries
@@ -48,6 +50,15 @@ public interface DictionaryService {
      */
     void searchEntries(final SearchDictionaryEntriesRequest request);
 
+    /**
+     * Searches words made of given letters inside a dictionary.
+     *
+     * @param request the request
+     * @see re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter#presentDictionaryAnagrams
+     *     DictionaryPresenter#presentDictionaryAnagrams
+     */
+    void searchAnagrams(final SearchDictionaryAnagramsRequest request);
+
     /**
      * Gets the default dictionary.
      *
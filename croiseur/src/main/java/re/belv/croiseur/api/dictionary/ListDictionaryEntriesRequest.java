@@ -6,8 +6,13 @@
 package re.belv.croiseur.api.dictionary;
 
 import java.util.Objects;
+import java.util.OptionalInt;
 
-/** The request to list entries for a specific dictionary. */
+/**
+ * The request to list entries for a specific dictionary.
+ *
+ * <p>Entries can be filtered by {@link #length()} and paginated using {@link #offset()} and {@link #limit()}.
+ */
 public interface ListDictionaryEntriesRequest {
 
     /**
@@ -21,10 +26,96 @@ public interface ListDictionaryEntriesRequest {
         return () -> dictionaryIdentifier;
     }
 
+    /**
+     * Creates a new {@link ListDictionaryEntriesRequest} from given information, requesting a page of the entries of
+     * the given length.
+     *
+     * @param dictionaryIdentifier the dictionary identifier
+     * @param offset the number of entries to skip
+     * @param limit the maximal number of entries to present, if any
+     * @param length the length of the entries to present, if any
+     * @return a new {@link ListDictionaryEntriesRequest}
+     * @throws IllegalArgumentException if offset, limit or length is negative
+     */
+    static ListDictionaryEntriesRequest of(
+            final DictionaryIdentifier dictionaryIdentifier,
+            final int offset,
+            final OptionalInt limit,
+            final OptionalInt length) {
+        Objects.requireNonNull(dictionaryIdentifier);
+        Objects.requireNonNull(limit);
+        Objects.requireNonNull(length);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must be positive, got " + offset);
+        }
+        if (limit.isPresent() && limit.getAsInt() < 0) {
+            throw new IllegalArgumentException("Limit must be positive, got " + limit.getAsInt());
+        }
+        if (length.isPresent() && length.getAsInt() < 0) {
+            throw new IllegalArgumentException("Length must be positive, got " + length.getAsInt());
+        }
+        return new ListDictionaryEntriesRequest() {
+
+            @Override
+            public DictionaryIdentifier dictionaryIdentifier() {
+                return dictionaryIdentifier;
+            }
+
+            @Override
+            public int offset() {
+                return offset;
+            }
+
+            @Override
+            public OptionalInt limit() {
+                return limit;
+            }
+
+            @Override
+            public OptionalInt length() {
+                return length;
+            }
+        };
+    }
+
     /**
      * Returns the identifier of the desired dictionary.
      *
      * @return the identifier of the desired dictionary
      */
     DictionaryIdentifier dictionaryIdentifier();
+
+    /**
+     * Returns the number of entries to skip.
+     *
+     * <p>Entries not matching {@link #length()} are not counted. Default implementation returns 0, i.e. no entry is
+     * skipped.
+     *
+     * @return the number of entries to skip
+     */
+    default int offset() {
+        return 0;
+    }
+
+    /**
+     * Returns the maximal number of entries to present, if any.
+     *
+     * <p>Default implementation returns an empty limit, i.e. all the entries are presented.
+     *
+     * @return the maximal number of entries to present, if any
+     */
+    default OptionalInt limit() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the length of the entries to present, in characters, if any.
+     *
+     * <p>Default implementation returns an empty length, i.e. entries of any length are presented.
+     *
+     * @return the length of the entries to present, if any
+     */
+    default OptionalInt length() {
+        return OptionalInt.empty();
+    }
 }
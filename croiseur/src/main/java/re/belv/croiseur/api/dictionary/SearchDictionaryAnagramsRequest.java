@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.api.dictionary;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * A request to search a given dictionary for words made of the given letters.
+ *
+ * <p>Letters are matched as given, e.g. a dictionary of upper case words shall be searched with upper case letters.
+ */
+public interface SearchDictionaryAnagramsRequest {
+
+    /**
+     * Creates a new {@link SearchDictionaryAnagramsRequest} for the anagrams of the given letters, i.e. the words using
+     * all the given letters.
+     *
+     * @param dictionaryIdentifier the dictionary identifier
+     * @param letters the letters
+     * @return a new {@link SearchDictionaryAnagramsRequest}
+     */
+    static SearchDictionaryAnagramsRequest of(final DictionaryIdentifier dictionaryIdentifier, final String letters) {
+        return of(dictionaryIdentifier, letters, false, OptionalInt.empty());
+    }
+
+    /**
+     * Creates a new {@link SearchDictionaryAnagramsRequest} from given information.
+     *
+     * @param dictionaryIdentifier the dictionary identifier
+     * @param letters the letters
+     * @param partial whether found words may use only some of the given letters
+     * @param length the length of the words to find, if any
+     * @return a new {@link SearchDictionaryAnagramsRequest}
+     * @throws IllegalArgumentException if length is negative
+     */
+    static SearchDictionaryAnagramsRequest of(
+            final DictionaryIdentifier dictionaryIdentifier,
+            final String letters,
+            final boolean partial,
+            final OptionalInt length) {
+        Objects.requireNonNull(dictionaryIdentifier);
+        Objects.requireNonNull(letters);
+        Objects.requireNonNull(length);
+        if (length.isPresent() && length.getAsInt() < 0) {
+            throw new IllegalArgumentException("Length must be positive, got " + length.getAsInt());
+        }
+        return new SearchDictionaryAnagramsRequest() {
+
+            @Override
+            public DictionaryIdentifier dictionaryIdentifier() {
+                return dictionaryIdentifier;
+            }
+
+            @Override
+            public String letters() {
+                return letters;
+            }
+
+            @Override
+            public boolean partial() {
+                return partial;
+            }
+
+            @Override
+            public OptionalInt length() {
+                return length;
+            }
+        };
+    }
+
+    /**
+     * Returns the dictionary identifier.
+     *
+     * @return the dictionary identifier
+     */
+    DictionaryIdentifier dictionaryIdentifier();
+
+    /**
+     * Returns the letters the found words shall be made of.
+     *
+     * <p>A letter given several times may be used as many times by found words.
+     *
+     * @return the letters the found words shall be made of
+     */
+    String letters();
+
+    /**
+     * Returns whether found words may use only some of the {@link #letters()}.
+     *
+     * <p>Default implementation returns {@code false}, i.e. found words are anagrams of the letters, using them all.
+     *
+     * @return whether found words may use only some of the letters
+     */
+    default boolean partial() {
+        return false;
+    }
+
+    /**
+     * Returns the length of the words to find, if any.
+     *
+     * <p>Default implementation returns an empty length, i.e. words of any length are found.
+     *
+     * @return the length of the words to find, if any
+     */
+    default OptionalInt length() {
+        return OptionalInt.empty();
+    }
+}
@@ -6,8 +6,14 @@
 package re.belv.croiseur.api.dictionary;
 
 import java.util.Objects;
+import java.util.OptionalInt;
 
-/** A request to search a given dictionary for words matching the given expression. */
+/**
+ * A request to search a given dictionary for words matching the given expression.
+ *
+ * <p>Matching words are presented in dictionary order. They can be paginated using {@link #offset()} and
+ * {@link #limit()}.
+ */
 public interface SearchDictionaryEntriesRequest {
 
     /**
@@ -19,8 +25,34 @@ public interface SearchDictionaryEntriesRequest {
      */
     static SearchDictionaryEntriesRequest of(
             final DictionaryIdentifier dictionaryIdentifier, final String searchExpression) {
+        return of(dictionaryIdentifier, searchExpression, 0, OptionalInt.empty());
+    }
+
+    /**
+     * Creates a new {@link SearchDictionaryEntriesRequest} from given information, requesting a page of the matching
+     * words.
+     *
+     * @param dictionaryIdentifier the dictionary identifier
+     * @param searchExpression the search expression; The given expression shall be a valid regular expression
+     * @param offset the number of matching words to skip
+     * @param limit the maximal number of matching words to present, if any
+     * @return a new {@link SearchDictionaryEntriesRequest}
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    static SearchDictionaryEntriesRequest of(
+            final DictionaryIdentifier dictionaryIdentifier,
+            final String searchExpression,
+            final int offset,
+            final OptionalInt limit) {
         Objects.requireNonNull(dictionaryIdentifier);
         Objects.requireNonNull(searchExpression);
+        Objects.requireNonNull(limit);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must be positive, got " + offset);
+        }
+        if (limit.isPresent() && limit.getAsInt() < 0) {
+            throw new IllegalArgumentException("Limit must be positive, got " + limit.getAsInt());
+        }
         return new SearchDictionaryEntriesRequest() {
 
             @Override
@@ -32,6 +64,16 @@ public interface SearchDictionaryEntriesRequest {
             public String searchExpression() {
                 return searchExpression;
             }
+
+            @Override
+            public int offset() {
+                return offset;
+            }
+
+            @Override
+            public OptionalInt limit() {
+                return limit;
+            }
         };
     }
 
@@ -51,4 +93,27 @@ public interface SearchDictionaryEntriesRequest {
      * @see java.util.regex.Pattern
      */
     String searchExpression();
+
+    /**
+     * Returns the number of matching words to skip.
+     *
+     * <p>Default implementation returns 0, i.e. no word is skipped.
+     *
+     * @return the number of matching words to skip
+     */
+    default int offset() {
+        return 0;
+    }
+
+    /**
+     * Returns the maximal number of matching words to present, if any.
+     *
+     * <p>Search stops as soon as enough words are found. Default implementation returns an empty limit, i.e. all the
+     * matching words are presented.
+     *
+     * @return the maximal number of matching words to present, if any
+     */
+    default OptionalInt limit() {
+        return OptionalInt.empty();
+    }
 }
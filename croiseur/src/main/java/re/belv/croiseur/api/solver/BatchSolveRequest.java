@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.api.solver;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A request to solve several crossword puzzles.
+ *
+ * <p>Requests of a batch are identified by their position in {@link #requests()}, starting from 0. This position is
+ * used as correlation identifier when presenting results.
+ *
+ * <p>Only the solving part of each {@link SolveRequest}, including its time budget, is honoured: Progress notification,
+ * clue generation and puzzle saving are not supported for batches and are ignored.
+ */
+public interface BatchSolveRequest {
+
+    /**
+     * Creates a new {@link BatchSolveRequest} from given information.
+     *
+     * @param requests the requests to process; The stream is closed once processed
+     * @param parallelism the maximum number of puzzles to solve concurrently
+     * @return a new {@link BatchSolveRequest}
+     * @throws IllegalArgumentException if parallelism is not strictly positive
+     */
+    static BatchSolveRequest of(final Stream<? extends SolveRequest> requests, final int parallelism) {
+        Objects.requireNonNull(requests);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Expected a strictly positive parallelism, got " + parallelism);
+        }
+        return new BatchSolveRequest() {
+            @Override
+            public Stream<? extends SolveRequest> requests() {
+                return requests;
+            }
+
+            @Override
+            public int parallelism() {
+                return parallelism;
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@link BatchSolveRequest} from given requests, using the default {@link #parallelism()}.
+     *
+     * @param requests the requests to process; The stream is closed once processed
+     * @return a new {@link BatchSolveRequest}
+     */
+    static BatchSolveRequest of(final Stream<? extends SolveRequest> requests) {
+        Objects.requireNonNull(requests);
+        return () -> requests;
+    }
+
+    /**
+     * The requests to process.
+     *
+     * <p>The stream is consumed lazily, as solving slots become available: It can be arbitrarily long.
+     *
+     * @return the requests to process
+     */
+    Stream<? extends SolveRequest> requests();
+
+    /**
+     * The maximum number of puzzles to solve concurrently.
+     *
+     * <p>Default value is the number of processors available to the Java virtual machine.
+     *
+     * @return the maximum number of puzzles to solve concurrently
+     */
+    default int parallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
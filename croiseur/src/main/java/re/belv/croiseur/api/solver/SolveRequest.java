@@ -5,23 +5,24 @@
 
 package re.belv.croiseur.api.solver;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Random;
 import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
 import re.belv.croiseur.common.puzzle.PuzzleGrid;
 import re.belv.croiseur.spi.presenter.solver.SolverPresenter;
+import re.belv.croiseur.spi.solver.ProgressListener;
 
 /** A request to solve a crossword puzzle. */
 public interface SolveRequest {
 
     /** Defines how progress should be notified to application for presentation. */
-    // TODO expand possibilities of notification, e.g. allows to define a certain refresh frequency; will
-    //  impact solver SPI
     enum SolverProgressNotificationMethod {
         /** Progress is never notified for presentation. */
         NONE,
-        /** Progress is periodically notified to presentation. */
+        /** Progress is periodically notified to presentation, see {@link #progressInterval()}. */
         PERIODICAL
     }
 
@@ -45,6 +46,20 @@ public interface SolveRequest {
      */
     Optional<Random> dictionariesShuffle();
 
+    /**
+     * The seed of the {@link #dictionariesShuffle() randomness source}, if known.
+     *
+     * <p>A request whose dictionaries are shuffled with a randomness source of unknown seed is not deterministic: Its
+     * result is never taken from nor stored to the solver result cache.
+     *
+     * <p>Default implementation returns an empty seed.
+     *
+     * @return the seed of the randomness source used to shuffle dictionaries, if any and if known
+     */
+    default OptionalLong dictionariesShuffleSeed() {
+        return OptionalLong.empty();
+    }
+
     /**
      * The grid to solve.
      *
@@ -61,6 +76,22 @@ public interface SolveRequest {
      */
     Optional<String> solver();
 
+    /**
+     * The time budget of the solver, if any.
+     *
+     * <p>The budget starts when the solver starts, i.e. once the dictionaries are loaded. When the budget is exhausted,
+     * the solver is interrupted and the timeout is presented with {@link SolverPresenter#presentSolverTimeout}: Timeout
+     * is not presented as an absence of solution.
+     *
+     * <p>Default implementation returns an empty budget, i.e. solver runs until completion or until the solving thread
+     * is interrupted.
+     *
+     * @return the time budget of the solver, if any
+     */
+    default Optional<Duration> timeout() {
+        return Optional.empty();
+    }
+
     /**
      * Defines how progress should be notified for presentation.
      *
@@ -70,6 +101,18 @@ public interface SolveRequest {
      */
     SolverProgressNotificationMethod progress();
 
+    /**
+     * The minimal interval between two progress notifications, when {@link #progress()} is
+     * {@link SolverProgressNotificationMethod#PERIODICAL}.
+     *
+     * <p>Solvers honour this interval on a best-effort basis. Default interval is one second.
+     *
+     * @return the minimal interval between two progress notifications
+     */
+    default Duration progressInterval() {
+        return ProgressListener.DEFAULT_NOTIFICATION_INTERVAL;
+    }
+
     /**
      * Whether to generate clues if solver finds a solution.
      *
@@ -34,4 +34,21 @@ public interface SolverService {
      * @see re.belv.croiseur.spi.presenter.solver.SolverPresenter#presentSolverError SolverPresenter#presentSolverError
      */
     void solve(final SolveRequest event);
+
+    /**
+     * Solves several puzzles concurrently.
+     *
+     * <p>Dictionaries are loaded once per distinct set of requested dictionaries and shared by all the puzzles
+     * requesting this set. Results are presented as soon as each puzzle is solved, hence not necessarily in request
+     * order, along with the position of the corresponding request in the batch.
+     *
+     * <p>This method returns when all the requests of the batch have been processed.
+     *
+     * @param request details about the puzzles to solve
+     * @see re.belv.croiseur.spi.presenter.solver.SolverPresenter#presentBatchSolverResult
+     *     SolverPresenter#presentBatchSolverResult
+     * @see re.belv.croiseur.spi.presenter.solver.SolverPresenter#presentBatchSolverError
+     *     SolverPresenter#presentBatchSolverError
+     */
+    void solveBatch(final BatchSolveRequest request);
 }
@@ -6,6 +6,7 @@
 package re.belv.croiseur.impl;
 
 import java.util.Collection;
+import java.util.List;
 import re.belv.croiseur.api.CrosswordService;
 import re.belv.croiseur.api.clue.ClueService;
 import re.belv.croiseur.api.dictionary.DictionaryService;
@@ -17,6 +18,7 @@ import re.belv.croiseur.impl.puzzle.PuzzleServiceImpl;
 import re.belv.croiseur.impl.solver.SolverServiceImpl;
 import re.belv.croiseur.spi.clue.ClueProvider;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
+import re.belv.croiseur.spi.presenter.AsynchronousPresenter;
 import re.belv.croiseur.spi.presenter.Presenter;
 import re.belv.croiseur.spi.puzzle.codec.PuzzleDecoder;
 import re.belv.croiseur.spi.puzzle.codec.PuzzleEncoder;
@@ -38,6 +40,9 @@ public final class CrosswordServiceImpl implements CrosswordService {
     /** The puzzle service. */
     private final PuzzleService puzzleService;
 
+    /** The asynchronous presenters wrapping the given ones, closed with this service. */
+    private final List<AsynchronousPresenter> presenters;
+
     /**
      * Constructor.
      *
@@ -47,7 +52,8 @@ public final class CrosswordServiceImpl implements CrosswordService {
      * @param puzzleDecoders the puzzle decoders
      * @param puzzleEncoders the puzzle encoders
      * @param puzzleRepository the puzzle repository
-     * @param presenter the publisher
+     * @param presenter the publisher; Events are forwarded to it asynchronously, see
+     *     {@link Presenter#asynchronous(Presenter)}
      */
     public CrosswordServiceImpl(
             final Collection<DictionaryProvider> dictionaryProviders,
@@ -57,6 +63,38 @@ public final class CrosswordServiceImpl implements CrosswordService {
             final Collection<PuzzleEncoder> puzzleEncoders,
             final PuzzleRepository puzzleRepository,
             final Presenter presenter) {
+        this(
+                dictionaryProviders,
+                solvers,
+                clueProviders,
+                puzzleDecoders,
+                puzzleEncoders,
+                puzzleRepository,
+                List.of(presenter));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionaryProviders the dictionary providers
+     * @param solvers the solvers
+     * @param clueProviders the clue providers
+     * @param puzzleDecoders the puzzle decoders
+     * @param puzzleEncoders the puzzle encoders
+     * @param puzzleRepository the puzzle repository
+     * @param presentersArg the publishers, events being broadcast to all of them; Each one is given its own
+     *     asynchronous queue, so that a slow publisher does not delay the others
+     */
+    public CrosswordServiceImpl(
+            final Collection<DictionaryProvider> dictionaryProviders,
+            final Collection<CrosswordSolver> solvers,
+            final Collection<ClueProvider> clueProviders,
+            final Collection<PuzzleDecoder> puzzleDecoders,
+            final Collection<PuzzleEncoder> puzzleEncoders,
+            final PuzzleRepository puzzleRepository,
+            final Collection<Presenter> presentersArg) {
+        presenters = presentersArg.stream().map(Presenter::asynchronous).toList();
+        final Presenter presenter = presenters.size() == 1 ? presenters.get(0) : Presenter.broadcastingTo(presenters);
         dictionaryService = new DictionaryServiceImpl(dictionaryProviders, presenter);
         solverService = new SolverServiceImpl(solvers, dictionaryProviders, clueProviders, puzzleRepository, presenter);
         clueService = new ClueServiceImpl(clueProviders, presenter);
@@ -82,4 +120,9 @@ public final class CrosswordServiceImpl implements CrosswordService {
     public PuzzleService puzzleService() {
         return puzzleService;
     }
+
+    @Override
+    public void close() {
+        presenters.forEach(AsynchronousPresenter::close);
+    }
 }
@@ -9,7 +9,9 @@ import java.util.Collection;
 import re.belv.croiseur.api.dictionary.DictionaryService;
 import re.belv.croiseur.api.dictionary.ListDictionariesRequest;
 import re.belv.croiseur.api.dictionary.ListDictionaryEntriesRequest;
+import re.belv.croiseur.api.dictionary.SearchDictionaryAnagramsRequest;
 import re.belv.croiseur.api.dictionary.SearchDictionaryEntriesRequest;
+import re.belv.croiseur.impl.dictionary.search.DictionaryIndexCache;
 import re.belv.croiseur.impl.dictionary.selection.DictionarySelector;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
 import re.belv.croiseur.spi.presenter.Presenter;
@@ -29,6 +31,9 @@ public final class DictionaryServiceImpl implements DictionaryService {
     /** The 'search dictionary entries' usecase. */
     private final SearchDictionaryEntriesUsecase searchDictionaryEntries;
 
+    /** The 'search dictionary anagrams' usecase. */
+    private final SearchDictionaryAnagramsUsecase searchDictionaryAnagrams;
+
     /** The 'show preferred dictionary' usecase. */
     private final GetDefaultDictionaryUsecase getDefaultDictionaryUsecase;
 
@@ -44,7 +49,13 @@ public final class DictionaryServiceImpl implements DictionaryService {
         listDictionariesUsecase = new ListDictionariesUsecase(dictionaryProvidersArg, presenterArg);
         final var dictionarySelector = new DictionarySelector(dictionaryProvidersArg);
         listDictionaryEntries = new ListDictionaryEntriesUsecase(dictionarySelector, presenterArg);
-        searchDictionaryEntries = new SearchDictionaryEntriesUsecase(dictionarySelector, presenterArg);
+        final var indexCache = DictionaryIndexCache.fromSystemProperties();
+        for (final DictionaryProvider provider : dictionaryProvidersArg) {
+            final String providerName = provider.details().name();
+            provider.addChangeListener(change -> indexCache.dictionaryChanged(providerName, change));
+        }
+        searchDictionaryEntries = new SearchDictionaryEntriesUsecase(dictionarySelector, indexCache, presenterArg);
+        searchDictionaryAnagrams = new SearchDictionaryAnagramsUsecase(dictionarySelector, indexCache, presenterArg);
         getDefaultDictionaryUsecase = new GetDefaultDictionaryUsecase(dictionarySelector, presenterArg);
     }
 
@@ -68,6 +79,11 @@ public final class DictionaryServiceImpl implements DictionaryService {
         searchDictionaryEntries.process(request);
     }
 
+    @Override
+    public void searchAnagrams(final SearchDictionaryAnagramsRequest request) {
+        searchDictionaryAnagrams.process(request);
+    }
+
     @Override
     public void getDefaultDictionary() {
         getDefaultDictionaryUsecase.process();
@@ -5,7 +5,11 @@
 
 package re.belv.croiseur.impl.dictionary;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import re.belv.croiseur.api.dictionary.ListDictionaryEntriesRequest;
 import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
 import re.belv.croiseur.common.util.Either;
@@ -14,9 +18,17 @@ import re.belv.croiseur.impl.dictionary.selection.SelectedDictionary;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryContent;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
 
-/** Lists the dictionary entries. */
+/**
+ * Lists the dictionary entries.
+ *
+ * <p>Entries are streamed to the presenter by chunks of {@value #CHUNK_SIZE} words, so that large dictionaries are
+ * never copied as a whole and presenters can display the first entries early.
+ */
 final class ListDictionaryEntriesUsecase {
 
+    /** The maximal number of words presented at once. */
+    private static final int CHUNK_SIZE = 16_384;
+
     /** The dictionary selector. */
     private final DictionarySelector dictionarySelector;
 
@@ -35,18 +47,6 @@ final class ListDictionaryEntriesUsecase {
         presenter = presenterArg;
     }
 
-    /**
-     * Reads the content of the given dictionary into a presentable {@link DictionaryContent}.
-     *
-     * @param selectedDictionary the selected dictionary
-     * @return the presentable content of the given dictionary
-     */
-    private static DictionaryContent readContent(final SelectedDictionary selectedDictionary) {
-        final ProvidedDictionaryDetails details = selectedDictionary.details();
-        final Set<String> words = selectedDictionary.words(); // actually read content here
-        return new DictionaryContent(details, words);
-    }
-
     /**
      * Processes the given {@link ListDictionaryEntriesRequest}.
      *
@@ -56,10 +56,52 @@ final class ListDictionaryEntriesUsecase {
         final Either<String, SelectedDictionary> dictionarySelection =
                 dictionarySelector.select(request.dictionaryIdentifier());
         if (dictionarySelection.isRight()) {
-            final DictionaryContent dictionaryContent = readContent(dictionarySelection.right());
-            presenter.presentDictionaryEntries(dictionaryContent);
+            final SelectedDictionary selectedDictionary = dictionarySelection.right();
+            final ProvidedDictionaryDetails details = selectedDictionary.details();
+            final Set<String> words = selectedDictionary.words(); // actually read content here
+            final Iterator<String> entries = entries(words, request).iterator();
+            List<String> chunk = nextChunk(entries);
+            while (entries.hasNext()) {
+                presenter.presentDictionaryEntries(new DictionaryContent(details, chunk, false));
+                chunk = nextChunk(entries);
+            }
+            presenter.presentDictionaryEntries(new DictionaryContent(details, chunk, true));
         } else {
             presenter.presentDictionaryError(dictionarySelection.left());
         }
     }
+
+    /**
+     * Filters and paginates the given words according to the given request.
+     *
+     * @param words the dictionary words
+     * @param request the request
+     * @return the requested entries, lazily evaluated
+     */
+    private static Stream<String> entries(final Set<String> words, final ListDictionaryEntriesRequest request) {
+        Stream<String> entries = words.stream();
+        if (request.length().isPresent()) {
+            final int length = request.length().getAsInt();
+            entries = entries.filter(word -> word.codePointCount(0, word.length()) == length);
+        }
+        entries = entries.skip(request.offset());
+        if (request.limit().isPresent()) {
+            entries = entries.limit(request.limit().getAsInt());
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the next chunk of entries.
+     *
+     * @param entries the entries
+     * @return the next chunk of entries, empty if there is no more entry
+     */
+    private static List<String> nextChunk(final Iterator<String> entries) {
+        final List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (chunk.size() < CHUNK_SIZE && entries.hasNext()) {
+            chunk.add(entries.next());
+        }
+        return chunk;
+    }
 }
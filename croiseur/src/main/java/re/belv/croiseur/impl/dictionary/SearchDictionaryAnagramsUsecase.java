@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.dictionary;
+
+import java.util.List;
+import re.belv.croiseur.api.dictionary.SearchDictionaryAnagramsRequest;
+import re.belv.croiseur.common.util.Either;
+import re.belv.croiseur.impl.dictionary.search.DictionaryIndexCache;
+import re.belv.croiseur.impl.dictionary.selection.DictionarySelector;
+import re.belv.croiseur.impl.dictionary.selection.SelectedDictionary;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryAnagrams;
+import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
+
+/**
+ * Searches dictionary words made of given letters.
+ *
+ * <p>Searches are answered from a letter multiset index of the selected dictionary, built on first search and then kept
+ * in cache along with the other indexes of the dictionary.
+ */
+final class SearchDictionaryAnagramsUsecase {
+
+    /** The dictionary selector. */
+    private final DictionarySelector dictionarySelector;
+
+    /** The dictionary index cache. */
+    private final DictionaryIndexCache indexCache;
+
+    /** The dictionary presenter. */
+    private final DictionaryPresenter presenter;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param dictionarySelectorArg the dictionary selector
+     * @param indexCacheArg the dictionary index cache
+     * @param dictionaryPresenterArg the dictionary presenter
+     */
+    SearchDictionaryAnagramsUsecase(
+            final DictionarySelector dictionarySelectorArg,
+            final DictionaryIndexCache indexCacheArg,
+            final DictionaryPresenter dictionaryPresenterArg) {
+        dictionarySelector = dictionarySelectorArg;
+        indexCache = indexCacheArg;
+        presenter = dictionaryPresenterArg;
+    }
+
+    /**
+     * Processes the given {@link SearchDictionaryAnagramsRequest}.
+     *
+     * @param request the request to process
+     */
+    void process(final SearchDictionaryAnagramsRequest request) {
+
+        final Either<String, SelectedDictionary> dictionarySelection =
+                dictionarySelector.select(request.dictionaryIdentifier());
+
+        if (dictionarySelection.isLeft()) {
+            presenter.presentDictionaryError(dictionarySelection.left());
+        } else {
+            final SelectedDictionary selectedDictionary = dictionarySelection.right();
+            final int minLength = request.length().orElse(0);
+            final int maxLength = request.length().orElse(Integer.MAX_VALUE);
+            final List<String> foundWords = indexCache
+                    .get(selectedDictionary)
+                    .searchAnagrams(request.letters(), request.partial(), minLength, maxLength);
+            final var anagrams = new DictionaryAnagrams(selectedDictionary.details(), request.letters(), foundWords);
+
+            presenter.presentDictionaryAnagrams(anagrams);
+        }
+    }
+}
@@ -5,20 +5,29 @@
 
 package re.belv.croiseur.impl.dictionary;
 
-import java.util.regex.Pattern;
 import re.belv.croiseur.api.dictionary.SearchDictionaryEntriesRequest;
 import re.belv.croiseur.common.util.Either;
+import re.belv.croiseur.impl.dictionary.search.DictionaryIndex;
+import re.belv.croiseur.impl.dictionary.search.DictionaryIndexCache;
+import re.belv.croiseur.impl.dictionary.search.SearchPattern;
 import re.belv.croiseur.impl.dictionary.selection.DictionarySelector;
 import re.belv.croiseur.impl.dictionary.selection.SelectedDictionary;
 import re.belv.croiseur.spi.presenter.dictionary.DictionaryPresenter;
 import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
 
-/** Searches dictionary entries. */
+/**
+ * Searches dictionary entries.
+ *
+ * <p>Searches are answered from an index of the selected dictionary, built on first search and then kept in cache.
+ */
 final class SearchDictionaryEntriesUsecase {
 
     /** The dictionary selector. */
     private final DictionarySelector dictionarySelector;
 
+    /** The dictionary index cache. */
+    private final DictionaryIndexCache indexCache;
+
     /** The dictionary presenter. */
     private final DictionaryPresenter presenter;
 
@@ -26,11 +35,15 @@ final class SearchDictionaryEntriesUsecase {
      * Constructs an instance.
      *
      * @param dictionarySelectorArg the dictionary selector
+     * @param indexCacheArg the dictionary index cache
      * @param dictionaryPresenterArg the dictionary presenter
      */
     SearchDictionaryEntriesUsecase(
-            final DictionarySelector dictionarySelectorArg, final DictionaryPresenter dictionaryPresenterArg) {
+            final DictionarySelector dictionarySelectorArg,
+            final DictionaryIndexCache indexCacheArg,
+            final DictionaryPresenter dictionaryPresenterArg) {
         dictionarySelector = dictionarySelectorArg;
+        indexCache = indexCacheArg;
         presenter = dictionaryPresenterArg;
     }
 
@@ -48,10 +61,10 @@ final class SearchDictionaryEntriesUsecase {
             presenter.presentDictionaryError(dictionarySelection.left());
         } else {
             final SelectedDictionary selectedDictionary = dictionarySelection.right();
-            final var regex = Pattern.compile(request.searchExpression()).asMatchPredicate();
-            final var foundWords =
-                    selectedDictionary.words().stream().filter(regex).toList();
-            final var searchResult = new DictionarySearchResult(foundWords);
+            final SearchPattern pattern = SearchPattern.compile(request.searchExpression());
+            final DictionaryIndex index = indexCache.get(selectedDictionary);
+            final DictionarySearchResult searchResult =
+                    index.search(pattern, request.offset(), request.limit().orElse(Integer.MAX_VALUE));
 
             presenter.presentDictionarySearchResult(searchResult);
         }
@@ -0,0 +1,338 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.dictionary.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An index of the words of a dictionary by letter multiset, answering anagram queries.
+ *
+ * <p>The signature of a word is the hash of the multiset of its letters: It does not depend on the order of the
+ * letters. Signatures are additive: The signature of a multiset is the sum of the hashes of its letters, so that the
+ * signatures of all the sub-multisets of a set of letters are enumerated cheaply.
+ *
+ * <p>Words are stored in a hash table keyed by signature, laid out as contiguous arrays: Looking up the anagrams of a
+ * multiset costs a hash computation and the scan of a few slots. Candidates are checked letter by letter, so that
+ * signature collisions never produce false anagrams.
+ *
+ * <p>The number of sub-multisets grows exponentially with the number of distinct letters: When it exceeds the number of
+ * indexed words, words are scanned instead, so that a search never costs more than a scan of the dictionary.
+ *
+ * <p>Instances are immutable, hence safe to use from several threads.
+ */
+final class AnagramIndex {
+
+    /** A large odd constant, used to mix hashes (64-bit golden ratio). */
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    /** The words, in dictionary order. */
+    private final String[] words;
+
+    /** The mask giving the bucket of a signature. */
+    private final int mask;
+
+    /** The start of each bucket in {@link #ordinals}, plus the end of the last bucket. */
+    private final int[] bucketStarts;
+
+    /** The ordinals of the words, by bucket then ascending. */
+    private final int[] ordinals;
+
+    /** The signatures of the words, in the same order as {@link #ordinals}. */
+    private final long[] signatures;
+
+    /** The length of the longest word, in letters. */
+    private final int longestWordLength;
+
+    /**
+     * Indexes the given words.
+     *
+     * @param wordsArg the words to index, in dictionary order
+     */
+    AnagramIndex(final String[] wordsArg) {
+        words = wordsArg;
+        longestWordLength = Arrays.stream(words)
+                .parallel()
+                .mapToInt(word -> word.codePointCount(0, word.length()))
+                .max()
+                .orElse(0);
+        final long[] wordSignatures = IntStream.range(0, words.length)
+                .parallel()
+                .mapToLong(ordinal -> signatureOf(words[ordinal]))
+                .toArray();
+
+        final int bucketCount = Integer.highestOneBit(Math.max(words.length, 1) * 2 - 1);
+        mask = bucketCount - 1;
+        bucketStarts = new int[bucketCount + 1];
+        for (final long signature : wordSignatures) {
+            bucketStarts[bucketOf(signature) + 1]++;
+        }
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+
+        ordinals = new int[words.length];
+        signatures = new long[words.length];
+        final int[] filled = Arrays.copyOf(bucketStarts, bucketCount);
+        for (int ordinal = 0; ordinal < words.length; ordinal++) {
+            final int slot = filled[bucketOf(wordSignatures[ordinal])]++;
+            ordinals[slot] = ordinal;
+            signatures[slot] = wordSignatures[ordinal];
+        }
+    }
+
+    /**
+     * Finds the words made of the given letters.
+     *
+     * @param letters the available letters
+     * @param partial whether words may use only some of the letters; If {@code false}, words use all the letters
+     * @param minLength the minimal length of the words, in letters
+     * @param maxLength the maximal length of the words, in letters
+     * @return the words made of the given letters, in dictionary order
+     */
+    List<String> search(final String letters, final boolean partial, final int minLength, final int maxLength) {
+        final int[] distinctLetters = letters.codePoints().distinct().toArray();
+        final int[] available = new int[distinctLetters.length];
+        letters.codePoints().forEach(letter -> available[indexOf(distinctLetters, letter)]++);
+        final int letterCount = letters.codePointCount(0, letters.length());
+
+        final int min = partial ? Math.max(minLength, 1) : Math.max(minLength, letterCount);
+        final int max = Math.min(Math.min(maxLength, letterCount), longestWordLength);
+        if (min > max) {
+            return List.of();
+        }
+        if (subMultisetCount(available) > words.length) {
+            return IntStream.range(0, words.length)
+                    .parallel()
+                    .filter(ordinal -> isMadeOf(words[ordinal], distinctLetters, available, min, max))
+                    .mapToObj(ordinal -> words[ordinal])
+                    .toList();
+        }
+        final List<Integer> found = new ArrayList<>();
+        new SubMultisetVisitor(distinctLetters, available, min, max, found).visit(0, 0, 0L);
+        return found.stream().sorted().map(ordinal -> words[ordinal]).toList();
+    }
+
+    /**
+     * Counts the sub-multisets of the multiset with the given letter counts.
+     *
+     * @param available the count of each distinct letter
+     * @return the number of sub-multisets, saturated at {@link Long#MAX_VALUE}
+     */
+    private static long subMultisetCount(final int[] available) {
+        long count = 1L;
+        for (final int letterCount : available) {
+            if (count > Long.MAX_VALUE / (letterCount + 1)) {
+                return Long.MAX_VALUE;
+            }
+            count *= letterCount + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether the given word has a length within the given bounds and uses at most the available letters.
+     *
+     * @param word the word
+     * @param distinctLetters the distinct letters
+     * @param available the available count of each distinct letter
+     * @param minLength the minimal length of the word, in letters
+     * @param maxLength the maximal length of the word, in letters
+     * @return {@code true} iff the given word has a length within the given bounds and uses at most the available
+     *     letters
+     */
+    private static boolean isMadeOf(
+            final String word,
+            final int[] distinctLetters,
+            final int[] available,
+            final int minLength,
+            final int maxLength) {
+        final int length = word.codePointCount(0, word.length());
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        final int[] unused = available.clone();
+        for (int i = 0; i < word.length(); ) {
+            final int letter = word.codePointAt(i);
+            final int index = indexOf(distinctLetters, letter);
+            if (index < 0 || unused[index] == 0) {
+                return false;
+            }
+            unused[index]--;
+            i += Character.charCount(letter);
+        }
+        return true;
+    }
+
+    /** Enumerates the sub-multisets of a multiset of letters and looks up their anagrams. */
+    private final class SubMultisetVisitor {
+
+        /** The distinct letters. */
+        private final int[] distinctLetters;
+
+        /** The available count of each distinct letter. */
+        private final int[] available;
+
+        /** The count of each distinct letter in the visited sub-multiset. */
+        private final int[] chosen;
+
+        /** The remaining count of letters after each distinct letter, included. */
+        private final int[] remaining;
+
+        /** The minimal size of the looked up sub-multisets. */
+        private final int minSize;
+
+        /** The maximal size of the looked up sub-multisets. */
+        private final int maxSize;
+
+        /** The ordinals of the found words. */
+        private final List<Integer> found;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param distinctLettersArg the distinct letters
+         * @param availableArg the available count of each distinct letter
+         * @param minSizeArg the minimal size of the looked up sub-multisets
+         * @param maxSizeArg the maximal size of the looked up sub-multisets
+         * @param foundArg the ordinals of the found words
+         */
+        SubMultisetVisitor(
+                final int[] distinctLettersArg,
+                final int[] availableArg,
+                final int minSizeArg,
+                final int maxSizeArg,
+                final List<Integer> foundArg) {
+            distinctLetters = distinctLettersArg;
+            available = availableArg;
+            chosen = new int[distinctLetters.length];
+            remaining = new int[distinctLetters.length + 1];
+            for (int i = distinctLetters.length - 1; i >= 0; i--) {
+                remaining[i] = remaining[i + 1] + available[i];
+            }
+            minSize = minSizeArg;
+            maxSize = maxSizeArg;
+            found = foundArg;
+        }
+
+        /**
+         * Visits the sub-multisets made of the given letter and the following ones.
+         *
+         * @param letter the index of the distinct letter to choose the count of
+         * @param size the size of the sub-multiset chosen so far
+         * @param signature the signature of the sub-multiset chosen so far
+         */
+        void visit(final int letter, final int size, final long signature) {
+            if (size + remaining[letter] < minSize) {
+                return;
+            }
+            if (letter == distinctLetters.length) {
+                lookup(signature);
+                return;
+            }
+            final long letterHash = hashOf(distinctLetters[letter]);
+            long chosenSignature = signature;
+            for (int count = 0; count <= available[letter] && size + count <= maxSize; count++) {
+                chosen[letter] = count;
+                visit(letter + 1, size + count, chosenSignature);
+                chosenSignature += letterHash;
+            }
+            chosen[letter] = 0;
+        }
+
+        /**
+         * Looks up the words of the visited sub-multiset.
+         *
+         * @param signature the signature of the visited sub-multiset
+         */
+        private void lookup(final long signature) {
+            final int bucket = bucketOf(signature);
+            for (int slot = bucketStarts[bucket]; slot < bucketStarts[bucket + 1]; slot++) {
+                if (signatures[slot] == signature && isMadeOfChosen(words[ordinals[slot]])) {
+                    found.add(ordinals[slot]);
+                }
+            }
+        }
+
+        /**
+         * Returns whether the given word is made of exactly the letters of the visited sub-multiset.
+         *
+         * @param word the word
+         * @return {@code true} iff the given word is made of exactly the letters of the visited sub-multiset
+         */
+        private boolean isMadeOfChosen(final String word) {
+            final int[] unused = chosen.clone();
+            for (int i = 0; i < word.length(); ) {
+                final int letter = word.codePointAt(i);
+                final int index = indexOf(distinctLetters, letter);
+                if (index < 0 || unused[index] == 0) {
+                    return false;
+                }
+                unused[index]--;
+                i += Character.charCount(letter);
+            }
+            return Arrays.stream(unused).allMatch(count -> count == 0);
+        }
+    }
+
+    /**
+     * Returns the bucket of the given signature.
+     *
+     * @param signature the signature
+     * @return the bucket of the given signature
+     */
+    private int bucketOf(final long signature) {
+        return (int) (signature ^ (signature >>> 32)) & mask;
+    }
+
+    /**
+     * Computes the signature of the given word, i.e. the hash of the multiset of its letters.
+     *
+     * @param word the word
+     * @return the signature of the given word
+     */
+    private static long signatureOf(final String word) {
+        long signature = 0L;
+        for (int i = 0; i < word.length(); ) {
+            final int letter = word.codePointAt(i);
+            signature += hashOf(letter);
+            i += Character.charCount(letter);
+        }
+        return signature;
+    }
+
+    /**
+     * Computes the hash of the given letter.
+     *
+     * @param letter the letter
+     * @return the hash of the given letter
+     */
+    private static long hashOf(final int letter) {
+        // Finalisation step of MurmurHash3, spreading letter bits over the whole hash
+        long hash = (letter + 1) * MIX;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Returns the index of the given letter in the given array.
+     *
+     * @param letters the letters
+     * @param letter the letter to find
+     * @return the index of the given letter in the given array, or -1 if not found
+     */
+    private static int indexOf(final int[] letters, final int letter) {
+        for (int i = 0; i < letters.length; i++) {
+            if (letters[i] == letter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.dictionary.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import re.belv.croiseur.spi.presenter.dictionary.DictionarySearchResult;
+
+/**
+ * An index of the words of a dictionary, answering {@link SearchPattern}s.
+ *
+ * <p>Words are grouped by length. The characters of the words of a given length are stored by position: The column of a
+ * position holds the character at this position of each word, contiguously. Positional patterns are answered by
+ * scanning only the words of the pattern length, comparing only the constrained positions, without evaluating the
+ * regular expression. Other patterns are answered by a parallel scan of the words whose length is compatible with the
+ * pattern.
+ *
+ * <p>Results are always in dictionary order and can be paginated: Search stops as soon as the requested page is
+ * complete.
+ *
+ * <p>Anagram queries are answered by an {@link AnagramIndex}, built on first anagram query only.
+ *
+ * <p>Words appended to an indexed dictionary are indexed {@link #append incrementally}: The index of the appended words
+ * is chained to the existing index, which is kept as is. Searches go through the chained indexes in order.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class DictionaryIndex {
+
+    /**
+     * The words of a given length.
+     *
+     * @param ordinals the ordinals of the words, i.e. their indices in dictionary order, ascending
+     * @param columns the characters of the words, by position then by word
+     */
+    private record Bucket(int[] ordinals, char[][] columns) {
+        // Nothing to add.
+    }
+
+    /** The maximal number of chained indexes, beyond which appending words rebuilds the index from scratch. */
+    private static final int MAX_CHAIN_LENGTH = 16;
+
+    /** The indexed words, in dictionary order. */
+    private final Collection<String> source;
+
+    /** The index of the words preceding the words of this index, or {@code null} if there are no such words. */
+    private final DictionaryIndex previous;
+
+    /** The number of chained indexes, including this one. */
+    private final int chainLength;
+
+    /** The total number of words, including those of the previous indexes. */
+    private final int size;
+
+    /** The words of this index, in dictionary order, excluding those of the previous indexes. */
+    private final String[] words;
+
+    /** The words made of positional characters, by length. Items are {@code null} for lengths without words. */
+    private final Bucket[] buckets;
+
+    /** The ordinals of the words containing characters which are not positional, ascending. */
+    private final int[] irregularWords;
+
+    /** The anagram index, built on first anagram query. */
+    private AnagramIndex anagramIndex;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param sourceArg the indexed words
+     * @param previousArg the index of the preceding words, or {@code null}
+     * @param wordsArg the words, in dictionary order
+     * @param bucketsArg the words made of positional characters, by length
+     * @param irregularWordsArg the ordinals of the words containing characters which are not positional
+     */
+    private DictionaryIndex(
+            final Collection<String> sourceArg,
+            final DictionaryIndex previousArg,
+            final String[] wordsArg,
+            final Bucket[] bucketsArg,
+            final int[] irregularWordsArg) {
+        source = sourceArg;
+        previous = previousArg;
+        chainLength = previous != null ? previous.chainLength + 1 : 1;
+        size = (previous != null ? previous.size : 0) + wordsArg.length;
+        words = wordsArg;
+        buckets = bucketsArg;
+        irregularWords = irregularWordsArg;
+    }
+
+    /**
+     * Indexes the given words.
+     *
+     * @param words the words to index, in dictionary order
+     * @return the index of the given words
+     */
+    public static DictionaryIndex of(final Collection<String> words) {
+        return of(words, null, words);
+    }
+
+    /**
+     * Indexes the given words, chained to the given index.
+     *
+     * @param source the indexed words, including those of the previous index
+     * @param previous the index of the preceding words, or {@code null}
+     * @param words the words to index, in dictionary order, excluding those of the previous index
+     * @return the index of the given words
+     */
+    private static DictionaryIndex of(
+            final Collection<String> source, final DictionaryIndex previous, final Collection<String> words) {
+        final String[] wordArray = words.toArray(String[]::new);
+
+        // First pass: Count words by length
+        final boolean[] regular = new boolean[wordArray.length];
+        int[] counts = new int[0];
+        int irregularCount = 0;
+        for (int i = 0; i < wordArray.length; i++) {
+            final String word = wordArray[i];
+            regular[i] = isPositional(word);
+            if (regular[i]) {
+                if (word.length() >= counts.length) {
+                    counts = Arrays.copyOf(counts, word.length() + 1);
+                }
+                counts[word.length()]++;
+            } else {
+                irregularCount++;
+            }
+        }
+
+        // Second pass: Fill buckets
+        final Bucket[] buckets = new Bucket[counts.length];
+        for (int length = 0; length < counts.length; length++) {
+            if (counts[length] > 0) {
+                buckets[length] = new Bucket(new int[counts[length]], new char[length][counts[length]]);
+            }
+        }
+        final int[] filled = new int[counts.length];
+        final int[] irregularWords = new int[irregularCount];
+        int irregularIndex = 0;
+        for (int i = 0; i < wordArray.length; i++) {
+            final String word = wordArray[i];
+            if (regular[i]) {
+                final Bucket bucket = buckets[word.length()];
+                final int position = filled[word.length()]++;
+                bucket.ordinals()[position] = i;
+                for (int column = 0; column < word.length(); column++) {
+                    bucket.columns()[column][position] = word.charAt(column);
+                }
+            } else {
+                irregularWords[irregularIndex++] = i;
+            }
+        }
+
+        return new DictionaryIndex(source, previous, wordArray, buckets, irregularWords);
+    }
+
+    /**
+     * Indexes the given words appended to the indexed words.
+     *
+     * <p>Only the appended words are indexed; This index is reused as is. If too many indexes are already chained, the
+     * whole words are indexed again, so that searches do not degrade.
+     *
+     * @param newSource the indexed words followed by the appended words, in dictionary order
+     * @param appendedWords the appended words, in dictionary order
+     * @return the index of the given words
+     */
+    public DictionaryIndex append(final Collection<String> newSource, final List<String> appendedWords) {
+        if (chainLength >= MAX_CHAIN_LENGTH) {
+            return of(newSource);
+        }
+        return of(newSource, this, appendedWords);
+    }
+
+    /**
+     * Returns whether this index has been built from the given words.
+     *
+     * @param wordsToCheck the words
+     * @return {@code true} if this index has been built from the given words, in the sense of reference equality
+     */
+    public boolean indexes(final Collection<String> wordsToCheck) {
+        return source == wordsToCheck && size == wordsToCheck.size();
+    }
+
+    /**
+     * Searches the words matching the given pattern.
+     *
+     * @param pattern the pattern
+     * @param offset the number of matching words to skip
+     * @param limit the maximal number of matching words to return
+     * @return the matching words, in dictionary order
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public DictionarySearchResult search(final SearchPattern pattern, final int offset, final int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Invalid pagination: offset " + offset + ", limit " + limit);
+        }
+        // One more match than requested tells whether result is truncated
+        final int needed = (int) Math.min((long) offset + limit + 1, Integer.MAX_VALUE);
+        final List<String> matches = find(pattern, needed);
+        final int from = Math.min(offset, matches.size());
+        final int to = (int) Math.min((long) offset + limit, matches.size());
+        return new DictionarySearchResult(new ArrayList<>(matches.subList(from, to)), matches.size() > to);
+    }
+
+    /**
+     * Finds the first words matching the given pattern, in this index and in the previous ones.
+     *
+     * @param pattern the pattern
+     * @param needed the number of matches after which search can stop
+     * @return the first matching words, in dictionary order
+     */
+    private List<String> find(final SearchPattern pattern, final int needed) {
+        final List<String> found = previous != null ? previous.find(pattern, needed) : new ArrayList<>();
+        if (found.size() < needed) {
+            final int stillNeeded = needed - found.size();
+            final int[] matches = pattern.positions()
+                    .map(positions -> searchPositional(pattern, positions, stillNeeded))
+                    .orElseGet(() -> scan(pattern, stillNeeded));
+            for (final int match : matches) {
+                found.add(words[match]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the words made of the given letters.
+     *
+     * @param letters the available letters
+     * @param partial whether words may use only some of the letters; If {@code false}, words use all the letters
+     * @param minLength the minimal length of the words, in letters
+     * @param maxLength the maximal length of the words, in letters
+     * @return the words made of the given letters, in dictionary order
+     */
+    public List<String> searchAnagrams(
+            final String letters, final boolean partial, final int minLength, final int maxLength) {
+        final List<String> anagrams = anagramIndex().search(letters, partial, minLength, maxLength);
+        if (previous == null) {
+            return anagrams;
+        }
+        final List<String> allAnagrams =
+                new ArrayList<>(previous.searchAnagrams(letters, partial, minLength, maxLength));
+        allAnagrams.addAll(anagrams);
+        return allAnagrams;
+    }
+
+    /**
+     * Returns the anagram index, building it if needed.
+     *
+     * @return the anagram index
+     */
+    private synchronized AnagramIndex anagramIndex() {
+        if (anagramIndex == null) {
+            anagramIndex = new AnagramIndex(words);
+        }
+        return anagramIndex;
+    }
+
+    /**
+     * Searches the words matching the given positional pattern.
+     *
+     * @param pattern the pattern
+     * @param positions the matchers of the positions of the pattern
+     * @param needed the number of matches after which search can stop
+     * @return the ordinals of the first matching words, ascending
+     */
+    private int[] searchPositional(final SearchPattern pattern, final List<IntPredicate> positions, final int needed) {
+        final int[] regularMatches = scanBucket(positions, needed);
+        final int[] irregularMatches = Arrays.stream(irregularWords)
+                .filter(ordinal -> pattern.matches(words[ordinal]))
+                .limit(needed)
+                .toArray();
+        return merge(regularMatches, irregularMatches, needed);
+    }
+
+    /**
+     * Scans the bucket of the words of the given pattern length.
+     *
+     * @param positions the matchers of the positions of the pattern
+     * @param needed the number of matches after which scan can stop
+     * @return the ordinals of the first matching words of the bucket, ascending
+     */
+    private int[] scanBucket(final List<IntPredicate> positions, final int needed) {
+        final int length = positions.size();
+        if (length >= buckets.length || buckets[length] == null) {
+            return new int[0];
+        }
+        final Bucket bucket = buckets[length];
+
+        final List<char[]> constrainedColumns = new ArrayList<>();
+        final List<IntPredicate> matchers = new ArrayList<>();
+        for (int position = 0; position < length; position++) {
+            if (positions.get(position) != null) {
+                constrainedColumns.add(bucket.columns()[position]);
+                matchers.add(positions.get(position));
+            }
+        }
+        final char[][] columns = constrainedColumns.toArray(char[][]::new);
+        final IntPredicate[] columnMatchers = matchers.toArray(IntPredicate[]::new);
+
+        final int[] ordinals = bucket.ordinals();
+        int[] matches = new int[Math.min(needed, Math.min(ordinals.length, 1024))];
+        int matchCount = 0;
+        for (int i = 0; i < ordinals.length && matchCount < needed; i++) {
+            if (matches(columns, columnMatchers, i)) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, (int) Math.min((long) matchCount * 2, needed));
+                }
+                matches[matchCount++] = ordinals[i];
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Returns whether the word at the given index of a bucket is matched.
+     *
+     * @param columns the constrained columns of the bucket
+     * @param matchers the matchers of the constrained columns
+     * @param index the word index in the bucket
+     * @return {@code true} iff the characters of the word in the constrained columns are matched
+     */
+    private static boolean matches(final char[][] columns, final IntPredicate[] matchers, final int index) {
+        for (int column = 0; column < columns.length; column++) {
+            if (!matchers[column].test(columns[column][index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans all the words, in parallel.
+     *
+     * @param pattern the pattern
+     * @param needed the number of matches after which scan can stop
+     * @return the ordinals of the first matching words, ascending
+     */
+    private int[] scan(final SearchPattern pattern, final int needed) {
+        return IntStream.range(0, words.length)
+                .parallel()
+                .filter(ordinal -> pattern.matches(words[ordinal]))
+                .limit(needed)
+                .toArray();
+    }
+
+    /**
+     * Merges the given ascending ordinals.
+     *
+     * @param first the first ordinals
+     * @param second the second ordinals
+     * @param needed the maximal number of merged ordinals
+     * @return the first merged ordinals, ascending
+     */
+    private static int[] merge(final int[] first, final int[] second, final int needed) {
+        if (second.length == 0) {
+            return first;
+        }
+        final int[] merged = new int[Math.min(first.length + second.length, needed)];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            merged[k] = j >= second.length || (i < first.length && first[i] < second[j]) ? first[i++] : second[j++];
+        }
+        return merged;
+    }
+
+    /**
+     * Returns whether the given word is made of positional characters only.
+     *
+     * @param word the word
+     * @return {@code true} if the given word is made of positional characters only
+     * @see SearchPattern#isPositional(char)
+     */
+    private static boolean isPositional(final String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!SearchPattern.isPositional(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.dictionary.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.dictionary.ProvidedDictionaryDetails;
+import re.belv.croiseur.impl.dictionary.selection.SelectedDictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryChange;
+
+/**
+ * A cache of dictionary indexes.
+ *
+ * <p>Indexes of the most recently searched dictionaries are kept in memory, in a least-recently-used cache. An index is
+ * rebuilt when the words of its dictionary are not the indexed ones anymore, e.g. after a dictionary has been reloaded.
+ *
+ * <p>The cache is notified of the {@link #dictionaryChanged changes} of the dictionaries: Only the index of a changed
+ * dictionary is discarded. When words have been appended to a dictionary, only the appended words are indexed.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class DictionaryIndexCache {
+
+    /** The system property defining the maximum number of indexes kept in memory. */
+    public static final String SIZE_SYSTEM_PROPERTY = "re.belv.croiseur.dictionary.index.cache.size";
+
+    /** The default maximum number of indexes kept in memory. */
+    private static final int DEFAULT_SIZE = 2;
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(DictionaryIndexCache.class.getName());
+
+    /** The indexes kept in memory, ordered by access. */
+    private final LinkedHashMap<ProvidedDictionaryDetails, DictionaryIndex> indexes;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param size the maximum number of indexes kept in memory; 0 disables the cache
+     * @throws IllegalArgumentException if size is negative
+     */
+    public DictionaryIndexCache(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Expected a positive cache size, got " + size);
+        }
+        indexes = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ProvidedDictionaryDetails, DictionaryIndex> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache configured with system property {@value #SIZE_SYSTEM_PROPERTY}.
+     *
+     * @return a cache configured with system property
+     */
+    public static DictionaryIndexCache fromSystemProperties() {
+        final int size = Integer.getInteger(SIZE_SYSTEM_PROPERTY, DEFAULT_SIZE);
+        return new DictionaryIndexCache(Math.max(size, 0));
+    }
+
+    /**
+     * Returns the index of the given dictionary, building it if needed.
+     *
+     * @param dictionary the dictionary
+     * @return the index of the given dictionary
+     */
+    public synchronized DictionaryIndex get(final SelectedDictionary dictionary) {
+        final Set<String> words = dictionary.words();
+        final DictionaryIndex cachedIndex = indexes.get(dictionary.details());
+        if (cachedIndex != null && cachedIndex.indexes(words)) {
+            return cachedIndex;
+        }
+        LOGGER.fine(() -> "Indexing dictionary " + dictionary.details());
+        final DictionaryIndex index = DictionaryIndex.of(words);
+        indexes.put(dictionary.details(), index);
+        return index;
+    }
+
+    /**
+     * Updates the cache after the given change of a dictionary of the given provider.
+     *
+     * <p>The index of the previous dictionary is discarded, unless words have been appended, in which case the index is
+     * extended with the appended words.
+     *
+     * @param providerName the name of the provider of the changed dictionary
+     * @param change the change
+     */
+    public synchronized void dictionaryChanged(final String providerName, final DictionaryChange change) {
+        if (change.type() == DictionaryChange.Type.ADDED) {
+            return;
+        }
+        final var previousKey =
+                new ProvidedDictionaryDetails(providerName, change.previous().details());
+        final DictionaryIndex previousIndex = indexes.remove(previousKey);
+        // Index holds previous words, hence checking them does not read the dictionary again
+        if (change.type() == DictionaryChange.Type.APPENDED
+                && previousIndex != null
+                && previousIndex.indexes(change.previous().words())) {
+            LOGGER.fine(() -> "Indexing " + change.appendedWords().size() + " words appended to " + previousKey);
+            final var currentKey =
+                    new ProvidedDictionaryDetails(providerName, change.current().details());
+            indexes.put(currentKey, previousIndex.append(change.current().words(), change.appendedWords()));
+        } else if (previousIndex != null) {
+            LOGGER.fine(() -> "Discarding index of changed dictionary " + previousKey);
+        }
+    }
+}
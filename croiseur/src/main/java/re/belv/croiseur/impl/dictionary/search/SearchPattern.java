@@ -0,0 +1,355 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.dictionary.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled search expression.
+ *
+ * <p>Search expressions are regular expressions, matched against whole words. Most of them are crossword patterns such
+ * as {@code A..LE} or {@code ^.{5}$}, i.e. a fixed number of characters, each of them being either a given character,
+ * any character or a character set. Such patterns are recognised so that they can be answered from a
+ * {@link DictionaryIndex}, without evaluating the regular expression on every word.
+ *
+ * <p>The bounds of the length of the matched words are computed for any sequence of characters, wildcards and character
+ * sets, quantified or not. They allow to skip words of irrelevant length before evaluating other regular expressions.
+ */
+public final class SearchPattern {
+
+    /** The maximal number of positions of a positional pattern. Longer patterns are not worth indexing. */
+    private static final int MAX_POSITIONS = 256;
+
+    /** The line terminators, which a wildcard does not match. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    /** The wildcard matcher. */
+    private static final IntPredicate ANY = character -> LINE_TERMINATORS.indexOf(character) < 0;
+
+    /** The full match predicate of the regular expression. */
+    private final Predicate<String> predicate;
+
+    /**
+     * The matchers of each character of the matched words, if expression is a positional pattern; {@code null} items
+     * match any character. Empty if expression is not a positional pattern.
+     */
+    private final Optional<List<IntPredicate>> positions;
+
+    /** The minimal length of the matched words, in code points. */
+    private final int minLength;
+
+    /** The maximal length of the matched words, in code points. */
+    private final int maxLength;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param predicateArg the full match predicate of the regular expression
+     * @param positionsArg the matchers of each character of the matched words, if expression is a positional pattern
+     * @param minLengthArg the minimal length of the matched words
+     * @param maxLengthArg the maximal length of the matched words
+     */
+    private SearchPattern(
+            final Predicate<String> predicateArg,
+            final Optional<List<IntPredicate>> positionsArg,
+            final int minLengthArg,
+            final int maxLengthArg) {
+        predicate = predicateArg;
+        positions = positionsArg;
+        minLength = minLengthArg;
+        maxLength = maxLengthArg;
+    }
+
+    /**
+     * Compiles the given search expression.
+     *
+     * @param expression the search expression, a regular expression
+     * @return the compiled search expression
+     * @throws java.util.regex.PatternSyntaxException if expression is not a valid regular expression
+     */
+    public static SearchPattern compile(final String expression) {
+        final Predicate<String> predicate = Pattern.compile(expression).asMatchPredicate();
+        return new Analyser(expression)
+                .analyse()
+                .map(analysis ->
+                        new SearchPattern(predicate, analysis.positions(), analysis.minLength(), analysis.maxLength()))
+                .orElseGet(() -> new SearchPattern(predicate, Optional.empty(), 0, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns whether the given word matches this pattern.
+     *
+     * @param word the word
+     * @return {@code true} iff the given word matches this pattern
+     */
+    public boolean matches(final String word) {
+        return word.length() >= minLength
+                && (word.length() <= maxLength || word.codePointCount(0, word.length()) <= maxLength)
+                && predicate.test(word);
+    }
+
+    /**
+     * Returns the matchers of each character of the matched words, if this pattern is positional.
+     *
+     * <p>A word made of characters which are neither surrogates nor line terminators matches this pattern if and only
+     * if it has as many characters as there are positions and each of its characters is matched by the matcher at the
+     * same position. {@code null} matchers match any character.
+     *
+     * @return the matchers of each character of the matched words, if this pattern is positional
+     */
+    Optional<List<IntPredicate>> positions() {
+        return positions;
+    }
+
+    /**
+     * Returns whether the given character may be a character of a word matched by a positional pattern.
+     *
+     * @param character the character
+     * @return {@code true} if the given character is neither a surrogate nor a line terminator
+     */
+    static boolean isPositional(final char character) {
+        return !Character.isSurrogate(character) && LINE_TERMINATORS.indexOf(character) < 0;
+    }
+
+    /**
+     * The analysis of a search expression.
+     *
+     * @param positions the matchers of each character of the matched words, if expression is a positional pattern
+     * @param minLength the minimal length of the matched words, in code points
+     * @param maxLength the maximal length of the matched words, in code points
+     */
+    private record Analysis(Optional<List<IntPredicate>> positions, int minLength, int maxLength) {
+        // Nothing to add.
+    }
+
+    /**
+     * Analyses a search expression, made of a sequence of quantified atoms: Characters, wildcards and character sets.
+     */
+    private static final class Analyser {
+
+        /** The analysed expression. */
+        private final String expression;
+
+        /** The matchers of the positions found so far, or {@code null} if expression is not positional. */
+        private List<IntPredicate> positions;
+
+        /** The current index in expression. */
+        private int index;
+
+        /** The end of the analysed part of the expression. */
+        private int end;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param expressionArg the expression to analyse
+         */
+        Analyser(final String expressionArg) {
+            expression = expressionArg;
+            positions = new ArrayList<>();
+        }
+
+        /**
+         * Analyses the expression.
+         *
+         * @return the analysis, or {@link Optional#empty()} if expression uses unsupported syntax
+         */
+        Optional<Analysis> analyse() {
+            // Words are matched as a whole: Boundary anchors are redundant
+            index = expression.startsWith("^") ? 1 : 0;
+            end = expression.length();
+            if (end > index && expression.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+                end--;
+            }
+            long minLength = 0;
+            long maxLength = 0;
+            while (index < end) {
+                final Optional<IntPredicate> atom = atom();
+                if (atom.isEmpty()) {
+                    return Optional.empty();
+                }
+                final int[] quantifier = quantifier();
+                if (quantifier.length == 0 || quantifier[0] > quantifier[1]) {
+                    return Optional.empty();
+                }
+                minLength += quantifier[0];
+                maxLength = quantifier[1] == Integer.MAX_VALUE ? Integer.MAX_VALUE : maxLength + quantifier[1];
+                if (positions != null && quantifier[0] == quantifier[1] && minLength <= MAX_POSITIONS) {
+                    final IntPredicate matcher = atom.get() == ANY ? null : atom.get();
+                    for (int i = 0; i < quantifier[0]; i++) {
+                        positions.add(matcher);
+                    }
+                } else {
+                    positions = null;
+                }
+            }
+            return Optional.of(new Analysis(
+                    Optional.ofNullable(positions).map(Collections::unmodifiableList),
+                    (int) Math.min(minLength, Integer.MAX_VALUE),
+                    (int) Math.min(maxLength, Integer.MAX_VALUE)));
+        }
+
+        /**
+         * Reads an atom.
+         *
+         * @return the matcher of the atom, or {@link Optional#empty()} if atom uses unsupported syntax
+         */
+        private Optional<IntPredicate> atom() {
+            final char character = expression.charAt(index++);
+            final Optional<IntPredicate> atom;
+            if (character == '.') {
+                atom = Optional.of(ANY);
+            } else if (character == '[') {
+                atom = characterSet();
+            } else if (character == '\\') {
+                atom = index < end && !Character.isLetterOrDigit(expression.charAt(index))
+                        ? literal(expression.charAt(index++))
+                        : Optional.empty();
+            } else if ("()|*+?{}^$]".indexOf(character) >= 0) {
+                atom = Optional.empty();
+            } else {
+                atom = literal(character);
+            }
+            return atom;
+        }
+
+        /**
+         * Creates the matcher of the given character.
+         *
+         * @param character the character
+         * @return the matcher of the given character, or {@link Optional#empty()} if character is not positional
+         */
+        private static Optional<IntPredicate> literal(final char character) {
+            return isPositional(character) ? Optional.of(c -> c == character) : Optional.empty();
+        }
+
+        /**
+         * Reads a character set, after its opening bracket.
+         *
+         * @return the matcher of the character set, or {@link Optional#empty()} if set uses unsupported syntax
+         */
+        private Optional<IntPredicate> characterSet() {
+            final boolean negated = index < end && expression.charAt(index) == '^';
+            if (negated) {
+                index++;
+            }
+            final StringBuilder members = new StringBuilder();
+            while (index < end && expression.charAt(index) != ']') {
+                final char first = expression.charAt(index++);
+                char last = first;
+                if (index + 1 < end && expression.charAt(index) == '-' && expression.charAt(index + 1) != ']') {
+                    last = expression.charAt(index + 1);
+                    index += 2;
+                }
+                if (!isSetMember(first) || !isSetMember(last) || last < first) {
+                    return Optional.empty();
+                }
+                for (char member = first; member <= last; member++) {
+                    members.append(member);
+                }
+            }
+            if (index >= end || members.isEmpty()) {
+                return Optional.empty();
+            }
+            index++;
+            final String set = members.toString();
+            return Optional.of(negated ? c -> set.indexOf(c) < 0 : c -> set.indexOf(c) >= 0);
+        }
+
+        /**
+         * Returns whether the given character can be a plain member of a character set.
+         *
+         * @param character the character
+         * @return {@code true} if the given character can be a plain member of a character set
+         */
+        private static boolean isSetMember(final char character) {
+            return "[]\\&-^".indexOf(character) < 0 && isPositional(character);
+        }
+
+        /**
+         * Reads the quantifier following an atom, if any.
+         *
+         * @return the minimal and maximal number of repetitions of the atom, or an empty array if quantifier uses
+         *     unsupported syntax
+         */
+        private int[] quantifier() {
+            if (index >= end) {
+                return new int[] {1, 1};
+            }
+            final int[] quantifier;
+            switch (expression.charAt(index)) {
+                case '?' -> quantifier = new int[] {0, 1};
+                case '*' -> quantifier = new int[] {0, Integer.MAX_VALUE};
+                case '+' -> quantifier = new int[] {1, Integer.MAX_VALUE};
+                case '{' -> quantifier = repetitions();
+                default -> {
+                    return new int[] {1, 1};
+                }
+            }
+            index++;
+            // Reluctant and possessive quantifiers match the same words
+            if (index < end && "?+".indexOf(expression.charAt(index)) >= 0) {
+                index++;
+            }
+            return quantifier;
+        }
+
+        /**
+         * Reads a repetition quantifier: {@code {n}}, {@code {n,}} or {@code {n,m}}.
+         *
+         * <p>Index is left on the closing brace.
+         *
+         * @return the minimal and maximal number of repetitions, or an empty array if quantifier is malformed
+         */
+        private int[] repetitions() {
+            final int closing = expression.indexOf('}', index);
+            if (closing < 0 || closing >= end) {
+                return new int[0];
+            }
+            final String content = expression.substring(index + 1, closing);
+            final int comma = content.indexOf(',');
+            final String min = comma < 0 ? content : content.substring(0, comma);
+            final String max = comma < 0 ? content : content.substring(comma + 1);
+            if (!isNumber(min) || !(isNumber(max) || (comma >= 0 && max.isEmpty()))) {
+                return new int[0];
+            }
+            final int minValue = Integer.parseInt(min);
+            final int maxValue = max.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(max);
+            index = closing;
+            return new int[] {minValue, maxValue};
+        }
+
+        /**
+         * Returns whether the given string is a small decimal number.
+         *
+         * @param string the string
+         * @return {@code true} if the given string is a small decimal number
+         */
+        private static boolean isNumber(final String string) {
+            return !string.isEmpty() && string.length() <= 6 && string.chars().allMatch(c -> c >= '0' && c <= '9');
+        }
+
+        /**
+         * Returns whether the character at the given index is escaped.
+         *
+         * @param characterIndex the character index
+         * @return {@code true} if the character at the given index is preceded by an odd number of backslashes
+         */
+        private boolean isEscaped(final int characterIndex) {
+            int backslashes = 0;
+            for (int i = characterIndex - 1; i >= 0 && expression.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+            return backslashes % 2 == 1;
+        }
+    }
+}
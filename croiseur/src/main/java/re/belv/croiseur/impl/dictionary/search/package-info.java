@@ -0,0 +1,7 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+/** Indexed search of dictionary words, shared by the dictionary use-cases. */
+package re.belv.croiseur.impl.dictionary.search;
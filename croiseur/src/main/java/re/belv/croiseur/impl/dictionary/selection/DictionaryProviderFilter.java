@@ -203,9 +203,15 @@ public final class DictionaryProviderFilter implements UnaryOperator<Collection<
                 providerFilter.or(other.providerFilter), dictionaryFilter.or(other.dictionaryFilter));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Providers are queried in parallel, so that the discovery of the dictionaries of a provider does not wait for
+     * the others. The order of the given providers is preserved.
+     */
     @Override
     public Collection<DictionaryProvider> apply(final Collection<DictionaryProvider> providers) {
-        return providers.stream()
+        return providers.parallelStream()
                 .filter(providerFilter)
                 .map(provider -> new FilteredDictionaryProvider(provider, dictionaryFilter))
                 .filter(provider -> !provider.get().isEmpty())
@@ -0,0 +1,252 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
+import re.belv.croiseur.api.solver.BatchSolveRequest;
+import re.belv.croiseur.api.solver.SolveRequest;
+import re.belv.croiseur.common.util.Either;
+import re.belv.croiseur.impl.solver.cache.DictionaryFingerprint;
+import re.belv.croiseur.impl.solver.cache.SolverResultCache;
+import re.belv.croiseur.impl.solver.cache.SolverResultCacheKey;
+import re.belv.croiseur.impl.solver.postrun.SolverResultConverter;
+import re.belv.croiseur.impl.solver.prerun.DictionaryLoader;
+import re.belv.croiseur.impl.solver.prerun.ShuffledSolverDictionary;
+import re.belv.croiseur.spi.dictionary.DictionaryProvider;
+import re.belv.croiseur.spi.presenter.solver.SolverPresenter;
+import re.belv.croiseur.spi.presenter.solver.SolverResult;
+import re.belv.croiseur.spi.solver.CrosswordSolver;
+import re.belv.croiseur.spi.solver.Dictionary;
+
+/** Solve batch usecase. */
+final class SolveBatchUsecase {
+
+    /**
+     * The outcome of a request of the batch.
+     *
+     * @param requestId the position of the request in the batch
+     * @param result either an error message or the presentable solver result
+     * @param exhaustedTimeBudget the time budget of the request if solver has been interrupted because of its
+     *     exhaustion, otherwise {@code null}
+     */
+    private record Outcome(long requestId, Either<String, SolverResult> result, Duration exhaustedTimeBudget) {
+
+        /**
+         * Creates the outcome of a request whose solver has not been interrupted because of its time budget.
+         *
+         * @param requestId the position of the request in the batch
+         * @param result either an error message or the presentable solver result
+         * @return the outcome
+         */
+        static Outcome of(final long requestId, final Either<String, SolverResult> result) {
+            return new Outcome(requestId, result, null);
+        }
+
+        /**
+         * Creates the outcome of a request whose solver has been interrupted because of its time budget.
+         *
+         * @param requestId the position of the request in the batch
+         * @param timeBudget the exhausted time budget
+         * @return the outcome
+         */
+        static Outcome timeout(final long requestId, final Duration timeBudget) {
+            return new Outcome(requestId, Either.leftOf("Timeout"), timeBudget);
+        }
+    }
+
+    /**
+     * The number of requests which may be waiting for an available solving thread, per solving thread. Pulling more
+     * requests from the batch would only consume memory.
+     */
+    private static final int PENDING_REQUESTS_PER_THREAD = 2;
+
+    /** The crossword solvers indexed by names. */
+    private final Map<String, CrosswordSolver> solvers;
+
+    /** The dictionary loader. */
+    private final DictionaryLoader dictionaryLoader;
+
+    /** The solver result cache. */
+    private final SolverResultCache resultCache;
+
+    /** The presenter. */
+    private final SolverPresenter presenter;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param solversArg the solvers
+     * @param dictionaryProvidersArg the dictionary providers
+     * @param resultCacheArg the solver result cache
+     * @param presenterArg the presenter
+     */
+    SolveBatchUsecase(
+            final Collection<CrosswordSolver> solversArg,
+            final Collection<DictionaryProvider> dictionaryProvidersArg,
+            final SolverResultCache resultCacheArg,
+            final SolverPresenter presenterArg) {
+        solvers = solversArg.stream().collect(toMap(CrosswordSolver::name, Function.identity()));
+        dictionaryLoader = new DictionaryLoader(dictionaryProvidersArg);
+        resultCache = resultCacheArg;
+        presenter = presenterArg;
+    }
+
+    /**
+     * Processes the given {@link BatchSolveRequest}.
+     *
+     * <p>Requests are pulled from the batch and prepared on the calling thread, then solved on a dedicated pool.
+     * Outcomes are presented on the calling thread as soon as they are available, so that presenter does not need to be
+     * thread-safe.
+     *
+     * @param batch the batch to process
+     */
+    void process(final BatchSolveRequest batch) {
+        final int parallelism = batch.parallelism();
+        final int maxInFlightRequests = parallelism * (1 + PENDING_REQUESTS_PER_THREAD);
+        final Map<List<DictionaryIdentifier>, Optional<Dictionary>> preparedDictionaries = new HashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final CompletionService<Outcome> completionService = new ExecutorCompletionService<>(executor);
+        try (final Stream<? extends SolveRequest> requests = batch.requests()) {
+            final Iterator<? extends SolveRequest> requestIterator = requests.iterator();
+            long requestId = 0;
+            int inFlightRequests = 0;
+            while (requestIterator.hasNext()) {
+                final SolveRequest request = requestIterator.next();
+                final long id = requestId++;
+
+                final Optional<CrosswordSolver> optSolver = selectSolver(request);
+                if (optSolver.isEmpty()) {
+                    presenter.presentBatchSolverError(id, "Solver not found");
+                    continue;
+                }
+
+                final Optional<Dictionary> optDictionary = preparedDictionaries.computeIfAbsent(
+                        List.copyOf(request.dictionaries()), dictionaryLoader::load);
+                if (optDictionary.isEmpty()) {
+                    presenter.presentBatchSolverError(id, "Dictionary not found");
+                    continue;
+                }
+
+                final Optional<SolverResultCacheKey> cacheKey = resultCache.isEnabled()
+                        ? SolverResultCacheKey.of(
+                                request, optSolver.get().name(), () -> DictionaryFingerprint.of(optDictionary.get()))
+                        : Optional.empty();
+                final Optional<SolverResult> cachedResult = cacheKey.flatMap(resultCache::get);
+                if (cachedResult.isPresent()) {
+                    presenter.presentBatchSolverResult(id, cachedResult.get());
+                    continue;
+                }
+
+                if (inFlightRequests == maxInFlightRequests) {
+                    presentNextOutcome(completionService);
+                    inFlightRequests--;
+                }
+                completionService.submit(() -> solve(id, optSolver.get(), request, optDictionary.get(), cacheKey));
+                inFlightRequests++;
+            }
+            for (; inFlightRequests > 0; inFlightRequests--) {
+                presentNextOutcome(completionService);
+            }
+        } catch (final InterruptedException e) {
+            // Do not present an error as interruption is likely to have been triggered by user
+            Thread.currentThread().interrupt();
+        } finally {
+            // Interrupts running solvers, if any (interruption or unexpected exception)
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Selects the solver to use given request parameters.
+     *
+     * @param request the solve request
+     * @return the solver to use
+     */
+    private Optional<CrosswordSolver> selectSolver(final SolveRequest request) {
+        return request.solver().map(solvers::get).or(solvers.values().stream()::findFirst);
+    }
+
+    /**
+     * Waits for the next outcome and presents it.
+     *
+     * @param completionService the completion service
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void presentNextOutcome(final CompletionService<Outcome> completionService) throws InterruptedException {
+        final Outcome outcome;
+        try {
+            outcome = completionService.take().get();
+        } catch (final ExecutionException e) {
+            // Should not happen, solving task catches all exceptions
+            throw new IllegalStateException(e.getCause());
+        }
+        if (outcome.exhaustedTimeBudget() != null) {
+            presenter.presentBatchSolverTimeout(outcome.requestId(), outcome.exhaustedTimeBudget());
+        } else if (outcome.result().isRight()) {
+            presenter.presentBatchSolverResult(
+                    outcome.requestId(), outcome.result().right());
+        } else {
+            presenter.presentBatchSolverError(
+                    outcome.requestId(), outcome.result().left());
+        }
+    }
+
+    /**
+     * Solves a request of the batch, handling potential exceptions.
+     *
+     * @param requestId the request position in the batch
+     * @param solver the solver to run
+     * @param request the request
+     * @param dictionary the prepared dictionary, shared with other requests
+     * @param cacheKey the key to cache result with, if request is deterministic
+     * @return the outcome
+     */
+    private Outcome solve(
+            final long requestId,
+            final CrosswordSolver solver,
+            final SolveRequest request,
+            final Dictionary dictionary,
+            final Optional<SolverResultCacheKey> cacheKey) {
+        final Dictionary requestDictionary = request.dictionariesShuffle()
+                .<Dictionary>map(random -> new ShuffledSolverDictionary(dictionary, random))
+                .orElse(dictionary);
+        final SolverTimeout timeout = SolverTimeout.start(request.timeout());
+        try {
+            final re.belv.croiseur.spi.solver.SolverResult result = solver.solve(request.grid(), requestDictionary);
+            final SolverResult presentableResult = SolverResultConverter.toPresentable(result, request.grid());
+            cacheKey.ifPresent(key -> resultCache.put(key, presentableResult));
+            return Outcome.of(requestId, Either.rightOf(presentableResult));
+        } catch (final InterruptedException e) {
+            if (timeout.stop()) {
+                return Outcome.timeout(requestId, request.timeout().get());
+            }
+            // Pool is shutting down, outcome won't be presented
+            Thread.currentThread().interrupt();
+            return Outcome.of(requestId, Either.leftOf("Interrupted"));
+        } catch (final Exception e) {
+            // Exception comes from only one solver plugin on only one request, it should not stop the whole batch.
+            return Outcome.of(requestId, Either.leftOf(String.valueOf(e.getMessage())));
+        } finally {
+            timeout.stop();
+        }
+    }
+}
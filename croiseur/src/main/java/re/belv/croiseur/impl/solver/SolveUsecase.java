@@ -7,6 +7,7 @@ package re.belv.croiseur.impl.solver;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -22,6 +23,9 @@ import re.belv.croiseur.common.puzzle.PuzzleGrid;
 import re.belv.croiseur.common.puzzle.SavedPuzzle;
 import re.belv.croiseur.impl.clue.shared.SafeClueProvider;
 import re.belv.croiseur.impl.puzzle.persistence.shared.SafePuzzleRepository;
+import re.belv.croiseur.impl.solver.cache.DictionaryFingerprint;
+import re.belv.croiseur.impl.solver.cache.SolverResultCache;
+import re.belv.croiseur.impl.solver.cache.SolverResultCacheKey;
 import re.belv.croiseur.impl.solver.postrun.SolverResultConverter;
 import re.belv.croiseur.impl.solver.prerun.DictionaryLoader;
 import re.belv.croiseur.impl.solver.prerun.ProgressListenerFactory;
@@ -53,6 +57,9 @@ final class SolveUsecase {
     /** The presenter. */
     private final Presenter presenter;
 
+    /** The solver result cache. */
+    private final SolverResultCache resultCache;
+
     /** A factory to create {@link ProgressListener}s from {@link SolveRequest}s. */
     private final ProgressListenerFactory progressListenerFactory;
 
@@ -61,6 +68,9 @@ final class SolveUsecase {
      *
      * @param solversArg the solvers
      * @param dictionaryProvidersArg the dictionary providers
+     * @param clueProvidersArg the clue providers
+     * @param puzzleRepositoryArg the puzzle repository
+     * @param resultCacheArg the solver result cache
      * @param presenterArg the presenter
      */
     SolveUsecase(
@@ -68,12 +78,14 @@ final class SolveUsecase {
             final Collection<DictionaryProvider> dictionaryProvidersArg,
             final Collection<ClueProvider> clueProvidersArg,
             final PuzzleRepository puzzleRepositoryArg,
+            final SolverResultCache resultCacheArg,
             final Presenter presenterArg) {
         solvers = solversArg.stream().collect(toMap(CrosswordSolver::name, Function.identity()));
         clueProvider = new SafeClueProvider(clueProvidersArg, presenterArg);
         puzzleRepository = new SafePuzzleRepository(puzzleRepositoryArg, presenterArg);
         dictionaryLoader = new DictionaryLoader(dictionaryProvidersArg);
         progressListenerFactory = new ProgressListenerFactory(presenterArg);
+        resultCache = resultCacheArg;
         presenter = presenterArg;
     }
 
@@ -98,14 +110,11 @@ final class SolveUsecase {
 
         final Optional<SavedPuzzle> savedPuzzle = optionallySavePuzzle(event);
 
-        final Dictionary dictionary = optionallyShuffledDictionary(event, optDictionary.get());
-        final ProgressListener progressListener = progressListenerFactory.from(event.progress());
-        final Optional<SolverResult> optResult = runSolver(optSolver.get(), event.grid(), dictionary, progressListener);
+        final Optional<re.belv.croiseur.spi.presenter.solver.SolverResult> optResult =
+                getCachedResultOrSolve(event, optSolver.get(), optDictionary.get());
 
         if (optResult.isPresent()) {
-            final SolverResult solverResult = optResult.get();
-            final re.belv.croiseur.spi.presenter.solver.SolverResult presentableResult =
-                    SolverResultConverter.toPresentable(solverResult, event.grid());
+            final re.belv.croiseur.spi.presenter.solver.SolverResult presentableResult = optResult.get();
             presenter.presentSolverResult(presentableResult);
             final Map<String, String> clues = optionallyGetClues(event, presentableResult);
             optionallyPresentClues(clues);
@@ -137,6 +146,36 @@ final class SolveUsecase {
         return puzzleRepository.create(puzzleToSave);
     }
 
+    /**
+     * Returns the result for the given request from the result cache, if request is deterministic and its result has
+     * been cached; Otherwise, runs the solver and caches the result, if request is deterministic.
+     *
+     * @param event the solve request
+     * @param solver the solver to run
+     * @param dictionary the non-shuffled dictionary
+     * @return the presentable solver result, if any
+     */
+    private Optional<re.belv.croiseur.spi.presenter.solver.SolverResult> getCachedResultOrSolve(
+            final SolveRequest event, final CrosswordSolver solver, final Dictionary dictionary) {
+
+        final Optional<SolverResultCacheKey> cacheKey = resultCache.isEnabled()
+                ? SolverResultCacheKey.of(event, solver.name(), () -> DictionaryFingerprint.of(dictionary))
+                : Optional.empty();
+        final Optional<re.belv.croiseur.spi.presenter.solver.SolverResult> cachedResult =
+                cacheKey.flatMap(resultCache::get);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+
+        final Dictionary shuffledDictionary = optionallyShuffledDictionary(event, dictionary);
+        final ProgressListener progressListener = progressListenerFactory.from(event);
+        final Optional<re.belv.croiseur.spi.presenter.solver.SolverResult> result = runSolver(
+                        solver, event.grid(), shuffledDictionary, progressListener, event.timeout())
+                .map(solverResult -> SolverResultConverter.toPresentable(solverResult, event.grid()));
+        cacheKey.ifPresent(key -> result.ifPresent(r -> resultCache.put(key, r)));
+        return result;
+    }
+
     /**
      * Returns a dictionary shuffled with the request's randomness source, if any, otherwise returns the given
      * dictionary as is.
@@ -159,18 +198,25 @@ final class SolveUsecase {
      * @param puzzle the puzzle to solve
      * @param dictionary the dictionary to use
      * @param progressListener the progress listener
+     * @param timeBudget the solver time budget, if any
      */
     private Optional<SolverResult> runSolver(
             final CrosswordSolver solver,
             final PuzzleGrid puzzle,
             final Dictionary dictionary,
-            final ProgressListener progressListener) {
+            final ProgressListener progressListener,
+            final Optional<Duration> timeBudget) {
+        final SolverTimeout timeout = SolverTimeout.start(timeBudget);
         try {
             final SolverResult result = solver.solve(puzzle, dictionary, progressListener);
             return Optional.of(result);
         } catch (final InterruptedException e) {
-            // Do not present an error as interruption is likely to have been triggered by user
-            Thread.currentThread().interrupt();
+            if (timeout.stop()) {
+                presenter.presentSolverTimeout(timeBudget.get());
+            } else {
+                // Do not present an error as interruption is likely to have been triggered by user
+                Thread.currentThread().interrupt();
+            }
             return Optional.empty();
         } catch (final Exception e) {
             /*
@@ -179,6 +225,8 @@ final class SolveUsecase {
              */
             presenter.presentSolverError(e.getMessage());
             return Optional.empty();
+        } finally {
+            timeout.stop();
         }
     }
 
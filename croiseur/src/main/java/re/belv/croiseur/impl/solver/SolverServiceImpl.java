@@ -6,8 +6,10 @@
 package re.belv.croiseur.impl.solver;
 
 import java.util.Collection;
+import re.belv.croiseur.api.solver.BatchSolveRequest;
 import re.belv.croiseur.api.solver.SolveRequest;
 import re.belv.croiseur.api.solver.SolverService;
+import re.belv.croiseur.impl.solver.cache.SolverResultCache;
 import re.belv.croiseur.spi.clue.ClueProvider;
 import re.belv.croiseur.spi.dictionary.DictionaryProvider;
 import re.belv.croiseur.spi.presenter.Presenter;
@@ -23,6 +25,9 @@ public final class SolverServiceImpl implements SolverService {
     /** The 'solve' usecase. */
     private final SolveUsecase solveUsecase;
 
+    /** The 'solve batch' usecase. */
+    private final SolveBatchUsecase solveBatchUsecase;
+
     /**
      * Constructs an instance.
      *
@@ -40,7 +45,10 @@ public final class SolverServiceImpl implements SolverService {
             final PuzzleRepository puzzleRepository,
             final Presenter presenter) {
         listSolversUsecase = new ListSolversUsecase(solvers, presenter);
-        solveUsecase = new SolveUsecase(solvers, dictionaryProviders, clueProviders, puzzleRepository, presenter);
+        final SolverResultCache resultCache = SolverResultCache.fromSystemProperties();
+        solveUsecase =
+                new SolveUsecase(solvers, dictionaryProviders, clueProviders, puzzleRepository, resultCache, presenter);
+        solveBatchUsecase = new SolveBatchUsecase(solvers, dictionaryProviders, resultCache, presenter);
     }
 
     @Override
@@ -52,4 +60,9 @@ public final class SolverServiceImpl implements SolverService {
     public void solve(final SolveRequest event) {
         solveUsecase.process(event);
     }
+
+    @Override
+    public void solveBatch(final BatchSolveRequest request) {
+        solveBatchUsecase.process(request);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the time budget of a solver run by interrupting the solving thread once the budget is exhausted.
+ *
+ * <p>Solvers are expected to respond to thread interruption, hence to stop shortly after the budget is exhausted.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * final SolverTimeout timeout = SolverTimeout.start(request.timeout());
+ * try {
+ *     result = solver.solve(grid, dictionary);
+ * } catch (final InterruptedException e) {
+ *     if (timeout.stop()) {
+ *         // Time budget exhausted
+ *     }
+ * } finally {
+ *     timeout.stop();
+ * }
+ * }</pre>
+ */
+final class SolverTimeout {
+
+    /** The state of the timeout. */
+    private enum State {
+        /** Time budget is not exhausted yet, solving thread will be interrupted upon exhaustion. */
+        RUNNING,
+        /** Time budget has been exhausted, solving thread has been interrupted. */
+        EXPIRED,
+        /** Solver run has completed before the exhaustion of the time budget. */
+        STOPPED
+    }
+
+    /** The scheduler of the interruptions, shared by all solver runs. */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "croiseur-solver-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** A timeout which never expires, used when solver run has no time budget. */
+    private static final SolverTimeout NONE = new SolverTimeout(null);
+
+    /** The solving thread. */
+    private final Thread solvingThread;
+
+    /** The scheduled interruption, or {@code null} if there is no time budget. */
+    private ScheduledFuture<?> interruption;
+
+    /** The state. Guarded by {@code this}. */
+    private State state;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param solvingThreadArg the solving thread, or {@code null} if there is no time budget
+     */
+    private SolverTimeout(final Thread solvingThreadArg) {
+        solvingThread = solvingThreadArg;
+        state = State.RUNNING;
+    }
+
+    /**
+     * Starts the countdown of the given time budget for the current thread.
+     *
+     * @param timeBudget the time budget, if any
+     * @return the started timeout
+     */
+    static SolverTimeout start(final Optional<Duration> timeBudget) {
+        if (timeBudget.isEmpty()) {
+            return NONE;
+        }
+        final SolverTimeout timeout = new SolverTimeout(Thread.currentThread());
+        final long timeBudgetInNanos = Math.max(timeBudget.get().toNanos(), 0L);
+        timeout.interruption = SCHEDULER.schedule(timeout::expire, timeBudgetInNanos, TimeUnit.NANOSECONDS);
+        return timeout;
+    }
+
+    /**
+     * Stops the countdown. Idempotent.
+     *
+     * <p>Must be called from the solving thread. If time budget has been exhausted, the interrupted status of the
+     * solving thread is cleared, since interruption has been triggered by this timeout.
+     *
+     * @return {@code true} if the time budget has been exhausted before this timeout was stopped
+     */
+    boolean stop() {
+        if (solvingThread == null) {
+            return false;
+        }
+        synchronized (this) {
+            if (state == State.RUNNING) {
+                state = State.STOPPED;
+                interruption.cancel(false);
+            } else if (state == State.EXPIRED) {
+                // Clears interruption triggered by expiration, thread may be reused (e.g. pool thread)
+                Thread.interrupted();
+            }
+            return state == State.EXPIRED;
+        }
+    }
+
+    /** Interrupts the solving thread, unless solver run has already completed. */
+    private synchronized void expire() {
+        if (state == State.RUNNING) {
+            state = State.EXPIRED;
+            solvingThread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import re.belv.croiseur.impl.solver.prerun.CompositeSolverDictionary;
+import re.belv.croiseur.spi.solver.Dictionary;
+
+/**
+ * Computes dictionary fingerprints.
+ *
+ * <p>Computing a fingerprint requires iterating over all the words of the dictionary. Fingerprints of the last
+ * {@value #MEMO_SIZE} word collections are thus memoised, by collection identity: Loaded dictionaries usually return
+ * the same collection at each call to {@link Dictionary#words()}, a new one if their content changed. Collections are
+ * weakly referenced, so that memoisation does not retain unloaded dictionaries.
+ *
+ * <p>The fingerprint of a {@link CompositeSolverDictionary} combines the fingerprints of its dictionaries, since its
+ * merged words are a new collection at each load: Memoisation thus applies to each dictionary, and merged words are
+ * never iterated.
+ */
+public final class DictionaryFingerprint {
+
+    /**
+     * A memoised fingerprint.
+     *
+     * @param words the fingerprinted words
+     * @param fingerprint the fingerprint
+     */
+    private record Memo(WeakReference<Collection<String>> words, long fingerprint) {
+        // Nothing to add.
+    }
+
+    /** A large odd constant, used to mix hashes (64-bit golden ratio). */
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    /** The maximal number of memoised fingerprints. */
+    private static final int MEMO_SIZE = 16;
+
+    /** The memoised fingerprints, most recently used first. Guarded by itself. */
+    private static final Deque<Memo> MEMOS = new ArrayDeque<>(MEMO_SIZE);
+
+    /** Private constructor to prevent instantiation, static methods only. */
+    private DictionaryFingerprint() {
+        // Nothing to do.
+    }
+
+    /**
+     * Computes the fingerprint of the given dictionary.
+     *
+     * <p>Fingerprint depends on the words and on their iteration order, since solver results depend on both. It is
+     * stable across executions.
+     *
+     * @param dictionary the dictionary
+     * @return the fingerprint of the given dictionary
+     */
+    public static long of(final Dictionary dictionary) {
+        if (dictionary instanceof CompositeSolverDictionary composite
+                && composite.dictionaries().size() > 1) {
+            long fingerprint = 0L;
+            for (final Dictionary member : composite.dictionaries()) {
+                fingerprint = mix(fingerprint, of(member));
+            }
+            return fingerprint ^ composite.dictionaries().size();
+        }
+        return memoised(dictionary.words());
+    }
+
+    /**
+     * Returns the memoised fingerprint of the given words, computing it if not memoised.
+     *
+     * @param words the words
+     * @return the fingerprint of the given words
+     */
+    private static long memoised(final Collection<String> words) {
+        synchronized (MEMOS) {
+            final Iterator<Memo> it = MEMOS.iterator();
+            while (it.hasNext()) {
+                final Memo memo = it.next();
+                final Collection<String> memoWords = memo.words().get();
+                if (memoWords == words) {
+                    it.remove();
+                    MEMOS.addFirst(memo);
+                    return memo.fingerprint();
+                }
+                if (memoWords == null) {
+                    it.remove();
+                }
+            }
+        }
+        final long fingerprint = compute(words);
+        synchronized (MEMOS) {
+            if (MEMOS.size() == MEMO_SIZE) {
+                MEMOS.removeLast();
+            }
+            MEMOS.addFirst(new Memo(new WeakReference<>(words), fingerprint));
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Computes the fingerprint of the given words.
+     *
+     * @param words the words
+     * @return the fingerprint of the given words
+     */
+    private static long compute(final Collection<String> words) {
+        long fingerprint = 0L;
+        long count = 0L;
+        for (final String word : words) {
+            // String#hashCode algorithm is part of its specification, hence stable across executions
+            fingerprint = mix(fingerprint, word.hashCode());
+            count++;
+        }
+        return fingerprint ^ count;
+    }
+
+    /**
+     * Mixes the given value into the given fingerprint.
+     *
+     * @param fingerprint the fingerprint
+     * @param value the value
+     * @return the new fingerprint
+     */
+    private static long mix(final long fingerprint, final long value) {
+        final long mixed = (fingerprint + value) * MIX;
+        return mixed ^ (mixed >>> 29);
+    }
+}
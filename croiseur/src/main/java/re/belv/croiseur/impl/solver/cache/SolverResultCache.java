@@ -0,0 +1,289 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import re.belv.croiseur.common.puzzle.GridPosition;
+import re.belv.croiseur.common.puzzle.PuzzleGrid;
+import re.belv.croiseur.spi.presenter.solver.SolverResult;
+
+/**
+ * A cache of solver results.
+ *
+ * <p>Results are kept in memory, in a least-recently-used cache. They are also optionally persisted in a directory, so
+ * that they survive the application. Both tiers are disabled by default.
+ *
+ * <p>Hit and miss counts are logged at {@link Level#FINE} level on each lookup.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class SolverResultCache {
+
+    /** The system property defining the maximum number of results kept in memory. 0, the default, disables it. */
+    public static final String SIZE_SYSTEM_PROPERTY = "re.belv.croiseur.solver.cache.size";
+
+    /** The system property defining the directory where results are persisted. Results are not persisted if unset. */
+    public static final String PATH_SYSTEM_PROPERTY = "re.belv.croiseur.solver.cache.path";
+
+    /** The default maximum number of results kept in memory: In-memory cache is disabled by default. */
+    private static final int DEFAULT_SIZE = 0;
+
+    /** The extension of the persisted results. */
+    private static final String FILE_EXTENSION = ".result";
+
+    /** Logger. */
+    private static final Logger LOGGER = Logger.getLogger(SolverResultCache.class.getName());
+
+    /** The results kept in memory, ordered by access. */
+    private final LinkedHashMap<SolverResultCacheKey, SolverResult> memory;
+
+    /** The directory where results are persisted, or {@code null} if results are not persisted. */
+    private final Path directory;
+
+    /** The maximum number of results kept in memory. */
+    private final int size;
+
+    /** The number of cache hits. */
+    private long hits;
+
+    /** The number of cache misses. */
+    private long misses;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param sizeArg the maximum number of results kept in memory; 0 disables the in-memory cache
+     * @param directoryArg the directory where results are persisted, or {@code null} if results shall not be persisted
+     * @throws IllegalArgumentException if size is negative
+     */
+    public SolverResultCache(final int sizeArg, final Path directoryArg) {
+        if (sizeArg < 0) {
+            throw new IllegalArgumentException("Expected a positive cache size, got " + sizeArg);
+        }
+        size = sizeArg;
+        directory = directoryArg;
+        memory = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<SolverResultCacheKey, SolverResult> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache configured with system properties {@value #SIZE_SYSTEM_PROPERTY} and
+     * {@value #PATH_SYSTEM_PROPERTY}.
+     *
+     * @return a cache configured with system properties
+     */
+    public static SolverResultCache fromSystemProperties() {
+        final int size = Integer.getInteger(SIZE_SYSTEM_PROPERTY, DEFAULT_SIZE);
+        final String path = System.getProperty(PATH_SYSTEM_PROPERTY, "");
+        return new SolverResultCache(Math.max(size, 0), path.isEmpty() ? null : Path.of(path));
+    }
+
+    /**
+     * Whether this cache is enabled, i.e. if results can be kept in memory or persisted.
+     *
+     * <p>Callers may use this to avoid computing keys when not needed.
+     *
+     * @return {@code true} if this cache is enabled
+     */
+    public boolean isEnabled() {
+        return size > 0 || directory != null;
+    }
+
+    /**
+     * Retrieves the result for the given key, if any.
+     *
+     * @param key the key
+     * @return the result for the given key, if any
+     */
+    public Optional<SolverResult> get(final SolverResultCacheKey key) {
+        SolverResult result;
+        synchronized (memory) {
+            result = memory.get(key);
+        }
+        if (result == null) {
+            result = read(key);
+            if (result != null) {
+                putInMemory(key, result);
+            }
+        }
+        recordLookup(result != null);
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Stores the result for the given key.
+     *
+     * @param key the key
+     * @param result the result
+     */
+    public void put(final SolverResultCacheKey key, final SolverResult result) {
+        putInMemory(key, result);
+        write(key, result);
+    }
+
+    /**
+     * Updates the hit/miss counters.
+     *
+     * @param hit whether lookup was a hit
+     */
+    private synchronized void recordLookup(final boolean hit) {
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+        }
+        final long hitCount = hits;
+        final long missCount = misses;
+        LOGGER.fine(() -> "Solver result cache " + (hit ? "hit" : "miss") + " (hits: " + hitCount + ", misses: "
+                + missCount + ")");
+    }
+
+    /**
+     * Stores the result in memory, if in-memory cache is enabled.
+     *
+     * @param key the key
+     * @param result the result
+     */
+    private void putInMemory(final SolverResultCacheKey key, final SolverResult result) {
+        if (size > 0) {
+            synchronized (memory) {
+                memory.put(key, result);
+            }
+        }
+    }
+
+    /**
+     * Reads the persisted result for the given key, if any.
+     *
+     * @param key the key
+     * @return the persisted result or {@code null} if none or if persistence is disabled
+     */
+    private SolverResult read(final SolverResultCacheKey key) {
+        if (directory == null) {
+            return null;
+        }
+        final Path file = directory.resolve(key.digest() + FILE_EXTENSION);
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!in.readUTF().equals(key.toCanonicalString())) {
+                // Digest collision, very unlikely
+                return null;
+            }
+            final boolean isSuccess = in.readBoolean();
+            final int width = in.readInt();
+            final int height = in.readInt();
+            final Set<GridPosition> shaded = readPositions(in);
+            final int filledCount = in.readInt();
+            final Map<GridPosition, Character> filled = new HashMap<>();
+            for (int i = 0; i < filledCount; i++) {
+                filled.put(new GridPosition(in.readInt(), in.readInt()), in.readChar());
+            }
+            final Set<GridPosition> unsolvableBoxes = readPositions(in);
+            return new SolverResult(isSuccess, new PuzzleGrid(width, height, shaded, filled), unsolvableBoxes);
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | RuntimeException e) {
+            // Cache is a best effort, an unreadable entry is just a miss
+            LOGGER.log(Level.WARNING, "Failed to read cached solver result " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Persists the result for the given key, if persistence is enabled.
+     *
+     * @param key the key
+     * @param result the result
+     */
+    private void write(final SolverResultCacheKey key, final SolverResult result) {
+        if (directory == null) {
+            return;
+        }
+        final Path file = directory.resolve(key.digest() + FILE_EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file then move it, so that readers never see partially written entries
+            final Path temporaryFile = Files.createTempFile(directory, key.digest(), ".tmp");
+            try {
+                try (final var out =
+                        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                    out.writeUTF(key.toCanonicalString());
+                    out.writeBoolean(result.isSuccess());
+                    final PuzzleGrid grid = result.grid();
+                    out.writeInt(grid.width());
+                    out.writeInt(grid.height());
+                    writePositions(out, grid.shaded());
+                    out.writeInt(grid.filled().size());
+                    for (final Map.Entry<GridPosition, Character> box :
+                            grid.filled().entrySet()) {
+                        out.writeInt(box.getKey().x());
+                        out.writeInt(box.getKey().y());
+                        out.writeChar(box.getValue());
+                    }
+                    writePositions(out, result.unsolvableBoxes());
+                }
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // No-op if move succeeded
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (final IOException e) {
+            // Cache is a best effort, failing to persist an entry should not fail the solve
+            LOGGER.log(Level.WARNING, "Failed to persist solver result " + file, e);
+        }
+    }
+
+    /**
+     * Reads a set of positions.
+     *
+     * @param in the input
+     * @return the read positions
+     * @throws IOException if read fails
+     */
+    private static Set<GridPosition> readPositions(final DataInputStream in) throws IOException {
+        final int count = in.readInt();
+        final Set<GridPosition> positions = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            positions.add(new GridPosition(in.readInt(), in.readInt()));
+        }
+        return positions;
+    }
+
+    /**
+     * Writes a set of positions.
+     *
+     * @param out the output
+     * @param positions the positions to write
+     * @throws IOException if write fails
+     */
+    private static void writePositions(final DataOutputStream out, final Set<GridPosition> positions)
+            throws IOException {
+        out.writeInt(positions.size());
+        for (final GridPosition position : positions) {
+            out.writeInt(position.x());
+            out.writeInt(position.y());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.cache;
+
+import static re.belv.croiseur.common.puzzle.GridPosition.at;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import re.belv.croiseur.api.solver.SolveRequest;
+import re.belv.croiseur.common.puzzle.GridPosition;
+import re.belv.croiseur.common.puzzle.PuzzleGrid;
+
+/**
+ * Identifies a deterministic solve.
+ *
+ * @param grid the canonical representation of the grid to solve
+ * @param dictionaryFingerprint the fingerprint of the dictionary words, in iteration order
+ * @param solver the solver name
+ * @param shuffleSeed the seed used to shuffle the dictionary, if any
+ */
+public record SolverResultCacheKey(String grid, long dictionaryFingerprint, String solver, OptionalLong shuffleSeed) {
+
+    /**
+     * Validates fields.
+     *
+     * @param grid the canonical representation of the grid to solve
+     * @param dictionaryFingerprint the fingerprint of the dictionary words, in iteration order
+     * @param solver the solver name
+     * @param shuffleSeed the seed used to shuffle the dictionary, if any
+     */
+    public SolverResultCacheKey {
+        Objects.requireNonNull(grid);
+        Objects.requireNonNull(solver);
+        Objects.requireNonNull(shuffleSeed);
+    }
+
+    /**
+     * Creates the key identifying the given request, if request is deterministic.
+     *
+     * @param request the solve request
+     * @param solver the name of the solver selected for the request
+     * @param dictionaryFingerprint the fingerprint of the dictionary selected for the request, before shuffle; Only
+     *     computed if request is deterministic
+     * @return the key identifying the given request, or {@link Optional#empty()} if request is not deterministic, i.e.
+     *     if dictionary is shuffled with an unknown seed
+     * @see DictionaryFingerprint
+     */
+    public static Optional<SolverResultCacheKey> of(
+            final SolveRequest request, final String solver, final LongSupplier dictionaryFingerprint) {
+        final OptionalLong shuffleSeed = request.dictionariesShuffleSeed();
+        if (request.dictionariesShuffle().isPresent() && shuffleSeed.isEmpty()) {
+            return Optional.empty();
+        }
+        final String grid = canonical(request.grid());
+        return Optional.of(new SolverResultCacheKey(grid, dictionaryFingerprint.getAsLong(), solver, shuffleSeed));
+    }
+
+    /**
+     * Returns the canonical representation of the given grid, i.e. its rows separated by a ',' where shaded boxes are
+     * represented by a '#' and empty boxes by a '.'.
+     *
+     * @param grid the grid
+     * @return the canonical representation of the given grid
+     */
+    private static String canonical(final PuzzleGrid grid) {
+        final StringBuilder sb = new StringBuilder(grid.height() * (grid.width() + 1));
+        for (int row = 0; row < grid.height(); row++) {
+            if (row > 0) {
+                sb.append(',');
+            }
+            for (int column = 0; column < grid.width(); column++) {
+                final GridPosition position = at(column, row);
+                if (grid.shaded().contains(position)) {
+                    sb.append('#');
+                } else {
+                    sb.append(grid.filled().getOrDefault(position, '.'));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a textual representation of this key, which is stable across executions.
+     *
+     * @return a textual representation of this key
+     */
+    String toCanonicalString() {
+        final String seed = shuffleSeed.isPresent() ? Long.toString(shuffleSeed.getAsLong()) : "-";
+        return grid + '|' + Long.toHexString(dictionaryFingerprint) + '|' + solver + '|' + seed;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the {@link #toCanonicalString() canonical representation} of this key, as an
+     * hexadecimal string.
+     *
+     * @return the digest of this key
+     */
+    String digest() {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = messageDigest.digest(toCanonicalString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+/** Memoisation of solver results, shared by the solving use-cases. */
+package re.belv.croiseur.impl.solver.cache;
@@ -5,37 +5,71 @@
 
 package re.belv.croiseur.impl.solver.prerun;
 
-import static java.util.stream.Collectors.toCollection;
-
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
+import re.belv.croiseur.common.dictionary.WordSet;
 import re.belv.croiseur.spi.solver.Dictionary;
 
-/** A dictionary collecting results of several dictionaries. */
-final class CompositeSolverDictionary implements Dictionary {
+/**
+ * A dictionary collecting results of several dictionaries.
+ *
+ * <p>Words of several dictionaries are merged on first access only, so that a dictionary whose words are never read,
+ * e.g. because solver result is cached, costs nothing.
+ */
+public final class CompositeSolverDictionary implements Dictionary {
+
+    /** The collected dictionaries. */
+    private final List<Dictionary> dictionaries;
 
-    /** The words of the dictionary. */
-    private final Collection<String> words;
+    /** The words of the dictionary, lazily merged. */
+    private volatile Collection<String> words;
 
     /**
      * Constructs an instance.
      *
-     * @param dictionaries the dictionaries
+     * @param dictionariesArg the dictionaries
      */
-    CompositeSolverDictionary(final List<Dictionary> dictionaries) {
-        if (dictionaries.size() == 1) {
-            // Avoid creating a new collection when only one dictionary wrapped
-            words = dictionaries.get(0).words();
-        } else {
-            words = dictionaries.stream()
-                    .flatMap(dictionary -> dictionary.words().stream())
-                    .collect(toCollection(LinkedHashSet::new));
-        }
+    CompositeSolverDictionary(final List<Dictionary> dictionariesArg) {
+        dictionaries = List.copyOf(dictionariesArg);
+    }
+
+    /**
+     * Returns the collected dictionaries.
+     *
+     * @return the collected dictionaries, in the order their words are merged
+     */
+    public List<Dictionary> dictionaries() {
+        return dictionaries;
     }
 
     @Override
     public Collection<String> words() {
-        return words;
+        Collection<String> result = words;
+        if (result == null) {
+            synchronized (this) {
+                result = words;
+                if (result == null) {
+                    result = merge();
+                    words = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merges the words of the collected dictionaries.
+     *
+     * @return the words of the collected dictionaries
+     */
+    private Collection<String> merge() {
+        if (dictionaries.size() == 1) {
+            // Avoid creating a new collection when only one dictionary wrapped
+            return dictionaries.get(0).words();
+        }
+        // Words of pooled dictionaries are merged by id, without being copied
+        final WordSet.Builder union = WordSet.builder();
+        dictionaries.forEach(dictionary -> union.addAll(dictionary.words()));
+        return union.build();
     }
 }
@@ -5,13 +5,13 @@
 
 package re.belv.croiseur.impl.solver.prerun;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.time.Duration;
 import re.belv.croiseur.api.solver.SolveRequest;
 import re.belv.croiseur.spi.presenter.solver.SolverInitialisationState;
 import re.belv.croiseur.spi.presenter.solver.SolverPresenter;
 import re.belv.croiseur.spi.presenter.solver.SolverProgress;
 import re.belv.croiseur.spi.solver.ProgressListener;
+import re.belv.croiseur.spi.solver.ProgressUpdate;
 
 /** A {@link ProgressListener} factory. */
 public final class ProgressListenerFactory {
@@ -22,13 +22,23 @@ public final class ProgressListenerFactory {
         /** The presenter. */
         private final SolverPresenter presenter;
 
+        /** The minimal interval between two progress notifications. */
+        private final Duration notificationInterval;
+
         /**
          * Constructs an instance.
          *
          * @param presenterArg the presenter
+         * @param notificationIntervalArg the minimal interval between two progress notifications
          */
-        ProgressListenerImpl(final SolverPresenter presenterArg) {
+        ProgressListenerImpl(final SolverPresenter presenterArg, final Duration notificationIntervalArg) {
             presenter = presenterArg;
+            notificationInterval = notificationIntervalArg;
+        }
+
+        @Override
+        public Duration notificationInterval() {
+            return notificationInterval;
         }
 
         @Override
@@ -45,10 +55,20 @@ public final class ProgressListenerFactory {
         public void onSolverProgressUpdate(final short completionPercentage) {
             presenter.presentSolverProgress(new SolverProgress(completionPercentage));
         }
+
+        @Override
+        public void onSolverProgressUpdate(final ProgressUpdate progressUpdate) {
+            presenter.presentSolverProgress(new SolverProgress(
+                    progressUpdate.completionPercentage(),
+                    progressUpdate.bestCompletionPercentage(),
+                    progressUpdate.assignments(),
+                    progressUpdate.backtracks(),
+                    progressUpdate.assignmentsPerSecond()));
+        }
     }
 
-    /** Listeners. */
-    private final Map<SolveRequest.SolverProgressNotificationMethod, ProgressListener> listeners;
+    /** The solver presenter. */
+    private final SolverPresenter solverPresenter;
 
     /**
      * Constructs an instance.
@@ -56,19 +76,19 @@ public final class ProgressListenerFactory {
      * @param solverPresenterArg the solver presenter instance
      */
     public ProgressListenerFactory(final SolverPresenter solverPresenterArg) {
-        listeners = new EnumMap<>(SolveRequest.SolverProgressNotificationMethod.class);
-        listeners.put(SolveRequest.SolverProgressNotificationMethod.NONE, ProgressListener.DUMMY_LISTENER);
-        listeners.put(
-                SolveRequest.SolverProgressNotificationMethod.PERIODICAL, new ProgressListenerImpl(solverPresenterArg));
+        solverPresenter = solverPresenterArg;
     }
 
     /**
-     * Creates a {@link ProgressListener} from given notification kind.
+     * Creates a {@link ProgressListener} honouring the progress notification settings of the given request.
      *
-     * @param kind the desired notification kind
-     * @return a {@link ProgressListener} from given notification kind
+     * @param request the solve request
+     * @return a {@link ProgressListener} honouring the progress notification settings of the given request
      */
-    public ProgressListener from(final SolveRequest.SolverProgressNotificationMethod kind) {
-        return listeners.get(kind);
+    public ProgressListener from(final SolveRequest request) {
+        return switch (request.progress()) {
+            case NONE -> ProgressListener.DUMMY_LISTENER;
+            case PERIODICAL -> new ProgressListenerImpl(solverPresenter, request.progressInterval());
+        };
     }
 }
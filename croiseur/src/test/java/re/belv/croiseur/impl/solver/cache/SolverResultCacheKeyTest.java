@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static re.belv.croiseur.common.puzzle.GridPosition.at;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.api.dictionary.DictionaryIdentifier;
+import re.belv.croiseur.api.solver.SolveRequest;
+import re.belv.croiseur.common.puzzle.PuzzleGrid;
+
+/** Tests on {@link SolverResultCacheKey}. */
+final class SolverResultCacheKeyTest {
+
+    /**
+     * A solve request.
+     *
+     * @param grid the grid
+     * @param dictionariesShuffle the shuffle, if any
+     * @param dictionariesShuffleSeed the shuffle seed, if any
+     */
+    private record Request(PuzzleGrid grid, Optional<Random> dictionariesShuffle, OptionalLong dictionariesShuffleSeed)
+            implements SolveRequest {
+
+        @Override
+        public Collection<DictionaryIdentifier> dictionaries() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<String> solver() {
+            return Optional.empty();
+        }
+
+        @Override
+        public SolverProgressNotificationMethod progress() {
+            return SolverProgressNotificationMethod.NONE;
+        }
+
+        @Override
+        public boolean withClues() {
+            return false;
+        }
+
+        @Override
+        public boolean savePuzzle() {
+            return false;
+        }
+    }
+
+    private static final PuzzleGrid GRID = new PuzzleGrid(3, 2, Set.of(at(1, 0)), Map.of(at(0, 0), 'A', at(2, 1), 'C'));
+
+    @Test
+    void of_notShuffled() {
+        final Request request = new Request(GRID, Optional.empty(), OptionalLong.empty());
+
+        final Optional<SolverResultCacheKey> key = SolverResultCacheKey.of(request, "Ginsberg", () -> 42L);
+
+        assertEquals(Optional.of(new SolverResultCacheKey("A#.,..C", 42L, "Ginsberg", OptionalLong.empty())), key);
+    }
+
+    @Test
+    void of_shuffledWithSeed() {
+        final Request request = new Request(GRID, Optional.of(new Random(7L)), OptionalLong.of(7L));
+
+        final Optional<SolverResultCacheKey> key = SolverResultCacheKey.of(request, "Ginsberg", () -> 42L);
+
+        assertEquals(Optional.of(new SolverResultCacheKey("A#.,..C", 42L, "Ginsberg", OptionalLong.of(7L))), key);
+    }
+
+    @Test
+    void of_shuffledWithoutSeed() {
+        final Request request = new Request(GRID, Optional.of(new Random()), OptionalLong.empty());
+        final LongSupplier fingerprint = () -> {
+            throw new AssertionError("Fingerprint shall not be computed for a non-deterministic request");
+        };
+
+        assertEquals(Optional.empty(), SolverResultCacheKey.of(request, "Ginsberg", fingerprint));
+    }
+
+    @Test
+    void toCanonicalString() {
+        final SolverResultCacheKey key = new SolverResultCacheKey("A#.,..C", 255L, "Ginsberg", OptionalLong.of(7L));
+        final SolverResultCacheKey unseededKey =
+                new SolverResultCacheKey("A#.,..C", 255L, "Ginsberg", OptionalLong.empty());
+
+        assertEquals("A#.,..C|ff|Ginsberg|7", key.toCanonicalString());
+        assertEquals("A#.,..C|ff|Ginsberg|-", unseededKey.toCanonicalString());
+    }
+
+    @Test
+    void digest() {
+        final SolverResultCacheKey key = new SolverResultCacheKey("A#.,..C", 42L, "Ginsberg", OptionalLong.empty());
+
+        assertEquals(key.digest(), new SolverResultCacheKey("A#.,..C", 42L, "Ginsberg", OptionalLong.empty()).digest());
+        assertNotEquals(
+                key.digest(),
+                new SolverResultCacheKey("A#.,..C", 42L, "Crossword Composer", OptionalLong.empty()).digest());
+        assertNotEquals(
+                key.digest(), new SolverResultCacheKey("A#.,..C", 43L, "Ginsberg", OptionalLong.empty()).digest());
+        assertTrue(key.digest().matches("[0-9a-f]{64}"));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static re.belv.croiseur.common.puzzle.GridPosition.at;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import re.belv.croiseur.common.puzzle.PuzzleGrid;
+import re.belv.croiseur.spi.presenter.solver.SolverResult;
+
+/** Tests on {@link SolverResultCache}. */
+final class SolverResultCacheTest {
+
+    private static final SolverResultCacheKey KEY =
+            new SolverResultCacheKey("..,#.", 42L, "Ginsberg", OptionalLong.empty());
+
+    private static final SolverResultCacheKey OTHER_KEY =
+            new SolverResultCacheKey("..,#.", 42L, "Ginsberg", OptionalLong.of(7L));
+
+    private static final SolverResult RESULT = new SolverResult(
+            true,
+            new PuzzleGrid(2, 2, Set.of(at(0, 1)), Map.of(at(0, 0), 'A', at(1, 0), 'B', at(1, 1), 'C')),
+            Set.of());
+
+    private static final SolverResult FAILURE =
+            new SolverResult(false, new PuzzleGrid(2, 2, Set.of(), Map.of()), Set.of(at(1, 1)));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void get_miss() {
+        final SolverResultCache cache = new SolverResultCache(2, null);
+
+        assertEquals(Optional.empty(), cache.get(KEY));
+    }
+
+    @Test
+    void get_hitInMemory() {
+        final SolverResultCache cache = new SolverResultCache(2, null);
+        cache.put(KEY, RESULT);
+        cache.put(OTHER_KEY, FAILURE);
+
+        assertEquals(Optional.of(RESULT), cache.get(KEY));
+        assertEquals(Optional.of(FAILURE), cache.get(OTHER_KEY));
+    }
+
+    @Test
+    void get_leastRecentlyUsedEvicted() {
+        final SolverResultCache cache = new SolverResultCache(1, null);
+        cache.put(KEY, RESULT);
+        cache.put(OTHER_KEY, FAILURE);
+
+        assertEquals(Optional.empty(), cache.get(KEY));
+        assertEquals(Optional.of(FAILURE), cache.get(OTHER_KEY));
+    }
+
+    @Test
+    void get_hitOnDisk() {
+        new SolverResultCache(0, directory).put(KEY, RESULT);
+        new SolverResultCache(0, directory).put(OTHER_KEY, FAILURE);
+
+        final SolverResultCache cache = new SolverResultCache(0, directory);
+
+        assertEquals(Optional.of(RESULT), cache.get(KEY));
+        assertEquals(Optional.of(FAILURE), cache.get(OTHER_KEY));
+    }
+
+    @Test
+    void get_corruptEntry() throws IOException {
+        new SolverResultCache(0, directory).put(KEY, RESULT);
+        Files.write(directory.resolve(KEY.digest() + ".result"), new byte[] {0, 5, 'H', 'E'});
+
+        assertEquals(Optional.empty(), new SolverResultCache(0, directory).get(KEY));
+    }
+
+    @Test
+    void disabled() {
+        final SolverResultCache cache = new SolverResultCache(0, null);
+        cache.put(KEY, RESULT);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(Optional.empty(), cache.get(KEY));
+    }
+
+    @Test
+    void enabled() {
+        assertTrue(new SolverResultCache(1, null).isEnabled());
+        assertTrue(new SolverResultCache(0, directory).isEnabled());
+    }
+
+    @Test
+    void fromSystemProperties_disabledByDefault() {
+        assertFalse(SolverResultCache.fromSystemProperties().isEnabled());
+    }
+}
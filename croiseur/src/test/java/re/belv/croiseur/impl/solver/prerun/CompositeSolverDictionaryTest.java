@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: 2026 Antoine Belvire
+ * SPDX-License-Identifier: GPL-3.0-or-later
+ */
+
+package re.belv.croiseur.impl.solver.prerun;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import re.belv.croiseur.common.dictionary.WordSet;
+import re.belv.croiseur.impl.solver.cache.DictionaryFingerprint;
+import re.belv.croiseur.spi.solver.Dictionary;
+
+/** Tests on {@link CompositeSolverDictionary} and on its {@link DictionaryFingerprint}. */
+final class CompositeSolverDictionaryTest {
+
+    private static final WordSet HELLO = WordSet.copyOf(List.of("HELLO", "WORLD"));
+
+    private static final WordSet BONJOUR = WordSet.copyOf(List.of("BONJOUR", "MONDE", "HELLO"));
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    void words_single() {
+        final CompositeSolverDictionary dictionary = new CompositeSolverDictionary(List.of(counting(HELLO)));
+
+        assertSame(HELLO, dictionary.words());
+    }
+
+    @Test
+    void words_merged() {
+        final CompositeSolverDictionary dictionary =
+                new CompositeSolverDictionary(List.of(counting(HELLO), counting(BONJOUR)));
+
+        assertEquals(0, reads.get());
+        assertEquals(List.of("HELLO", "WORLD", "BONJOUR", "MONDE"), List.copyOf(dictionary.words()));
+        assertSame(dictionary.words(), dictionary.words());
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void fingerprint_single() {
+        final CompositeSolverDictionary dictionary = new CompositeSolverDictionary(List.of(counting(HELLO)));
+
+        assertEquals(DictionaryFingerprint.of(() -> HELLO), DictionaryFingerprint.of(dictionary));
+    }
+
+    @Test
+    void fingerprint_mergedWordsNotIterated() {
+        final Dictionary hello = () -> HELLO;
+        final Dictionary bonjour = () -> BONJOUR;
+        final CompositeSolverDictionary dictionary = new CompositeSolverDictionary(List.of(hello, bonjour));
+        final CompositeSolverDictionary reloadedDictionary = new CompositeSolverDictionary(List.of(hello, bonjour));
+
+        final long fingerprint = DictionaryFingerprint.of(dictionary);
+
+        assertEquals(fingerprint, DictionaryFingerprint.of(reloadedDictionary));
+        assertNotEquals(fingerprint, DictionaryFingerprint.of(new CompositeSolverDictionary(List.of(bonjour, hello))));
+        assertNotEquals(fingerprint, DictionaryFingerprint.of(new CompositeSolverDictionary(List.of(hello))));
+        assertEquals(0, reads.get());
+    }
+
+    /**
+     * Returns a dictionary of the given words, counting its reads in {@link #reads}.
+     *
+     * @param words the words
+     * @return a dictionary of the given words
+     */
+    private Dictionary counting(final Collection<String> words) {
+        return () -> {
+            reads.incrementAndGet();
+            return words;
+        };
+    }
+}
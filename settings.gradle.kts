@@ -25,6 +25,8 @@ include("croiseur-spi:croiseur-spi-puzzle-repository")
 include("croiseur-spi:croiseur-spi-solver")
 
 // Dictionary codecs/data/plugins/tools
+include("croiseur-dictionary:croiseur-dictionary-binary-codec")
+include("croiseur-dictionary:croiseur-dictionary-binary-plugin")
 include("croiseur-dictionary:croiseur-dictionary-common")
 include("croiseur-dictionary:croiseur-dictionary-example-plugin")
 include("croiseur-dictionary:croiseur-dictionary-hunspell-codec")